@@ -0,0 +1,91 @@
+#!/bin/bash
+
+# =============================================
+# Comparativa imagen JVM (AOT + CDS) vs imagen nativa (GraalVM):
+# tiempo de arranque, RSS en reposo y tras carga, y throughput en régimen estacionario.
+# Requiere docker-compose, jq y Maven (módulo load-tests).
+# Uso (desde la raíz del repositorio): backend-api/scripts/comparar-jvm-native.sh [segundos-carga]
+# Resultado: backend-api/target/comparacion-jvm-native.md
+# =============================================
+
+set -e
+
+DURACION="${1:-60}"
+TASA="${TASA:-200}"
+BASE_URL="http://localhost:${API_PORT:-8080}"
+SALIDA="backend-api/target/comparacion-jvm-native.md"
+CONTENEDOR="universidad-api"
+
+esperar_salud() {
+    for _ in $(seq 1 600); do
+        if curl -f -s "$BASE_URL/actuator/health" > /dev/null 2>&1; then
+            return 0
+        fi
+        sleep 0.1
+    done
+    echo "La API no respondió a tiempo" >&2
+    return 1
+}
+
+rss_mb() {
+    # Memoria residente del contenedor según docker stats (p. ej. "123.4MiB / 1GiB")
+    docker stats --no-stream --format '{{.MemUsage}}' "$CONTENEDOR" | awk '{print $1}'
+}
+
+medir() {
+    local variante="$1"; shift
+    local compose=(docker-compose "$@")
+    
+    echo "==> [$variante] construyendo imagen" >&2
+    "${compose[@]}" build universidad-api > /dev/null
+    "${compose[@]}" up -d postgres-db > /dev/null
+    "${compose[@]}" rm -sf universidad-api > /dev/null
+    
+    echo "==> [$variante] arrancando" >&2
+    local inicio fin
+    inicio=$(date +%s%N)
+    "${compose[@]}" up -d --no-deps universidad-api > /dev/null
+    esperar_salud
+    fin=$(date +%s%N)
+    local arranque_ms=$(( (fin - inicio) / 1000000 ))
+    local listo_s
+    listo_s=$(curl -s "$BASE_URL/actuator/metrics/application.ready.time" | jq -r '.measurements[0].value')
+    sleep 2
+    local rss_reposo
+    rss_reposo=$(rss_mb)
+    
+    echo "==> [$variante] pruebas de humo" >&2
+    backend-api/scripts/smoke-test.sh "$BASE_URL" > /dev/null
+    
+    echo "==> [$variante] carga estacionaria ${DURACION}s a ${TASA} usuarios/s" >&2
+    (cd load-tests && mvn -B -q gatling:test -DbaseUrl="$BASE_URL" -Dtasa="$TASA" \
+        -DrampaSegundos=10 -DduracionSegundos="$DURACION" -Dcarreras=2000 \
+        -Dgatling.failOnError=false > /dev/null)
+    local informe
+    informe=$(ls -td load-tests/target/gatling/catalogosimulation-* | head -1)
+    local rps p99
+    rps=$(jq -r '.stats.meanNumberOfRequestsPerSecond.total' "$informe/js/stats.json")
+    p99=$(jq -r '.stats.percentiles4.total' "$informe/js/stats.json")
+    local rss_carga
+    rss_carga=$(rss_mb)
+    
+    echo "| $variante | $arranque_ms | $listo_s | $rss_reposo | $rss_carga | $rps | $p99 |"
+}
+
+mkdir -p backend-api/target
+{
+    echo "# Comparativa JVM vs nativo"
+    echo ""
+    echo "- Fecha: $(date -u +%Y-%m-%dT%H:%M:%SZ)"
+    echo "- Commit: $(git rev-parse --short HEAD)"
+    echo "- Host: $(uname -srm), $(nproc) CPU"
+    echo "- Carga: CatalogoSimulation, ${TASA} usuarios/s durante ${DURACION}s"
+    echo ""
+    echo "| Imagen | Arranque hasta health UP (ms) | application.ready.time (s) | RSS en reposo | RSS tras carga | Throughput (req/s) | p99 (ms) |"
+    echo "|--------|------------------------------:|---------------------------:|--------------:|---------------:|-------------------:|---------:|"
+    medir "JVM (AOT + CDS)" -f docker-compose.yml
+    medir "Nativa (GraalVM)" -f docker-compose.yml -f docker-compose.native.yml
+} | tee "$SALIDA"
+
+echo "" >&2
+echo "Resultados guardados en $SALIDA" >&2
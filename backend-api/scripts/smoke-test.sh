@@ -0,0 +1,96 @@
+#!/bin/bash
+
+# =============================================
+# Pruebas de humo contra una instancia en marcha (JVM o binario nativo).
+# Recorre los endpoints que ejercitan las pistas de la imagen nativa:
+# Jackson (DTOs y errores), MapStruct, Hibernate (lazy), Flyway, springdoc y actuator.
+# Uso: ./smoke-test.sh [URL_BASE]
+# =============================================
+
+set -u
+
+BASE_URL="${1:-http://localhost:8080}"
+SUFIJO="$(date +%s)-$$"
+FALLOS=0
+TOTAL=0
+
+if ! command -v jq > /dev/null 2>&1; then
+    echo "Se requiere jq para las pruebas de humo"
+    exit 1
+fi
+
+# comprobar <descripción> <estado esperado> <método> <ruta> [cuerpo] [filtro jq que debe ser true]
+comprobar() {
+    local descripcion="$1" esperado="$2" metodo="$3" ruta="$4" cuerpo="${5:-}" filtro="${6:-}"
+    local respuesta estado json
+    TOTAL=$((TOTAL + 1))
+    
+    if [ -n "$cuerpo" ]; then
+        respuesta=$(curl -s -w '\n%{http_code}' -X "$metodo" -H 'Content-Type: application/json' \
+            -d "$cuerpo" "$BASE_URL$ruta")
+    else
+        respuesta=$(curl -s -w '\n%{http_code}' -X "$metodo" "$BASE_URL$ruta")
+    fi
+    estado=$(echo "$respuesta" | tail -n1)
+    json=$(echo "$respuesta" | sed '$d')
+    
+    if [ "$estado" != "$esperado" ]; then
+        echo "FALLO  $descripcion: esperado $esperado, obtenido $estado"
+        echo "       $json" | head -c 500; echo
+        FALLOS=$((FALLOS + 1))
+        return 1
+    fi
+    if [ -n "$filtro" ] && [ "$(echo "$json" | jq -r "$filtro" 2>/dev/null)" != "true" ]; then
+        echo "FALLO  $descripcion: la respuesta no cumple $filtro"
+        echo "       $json" | head -c 500; echo
+        FALLOS=$((FALLOS + 1))
+        return 1
+    fi
+    echo "OK     $descripcion"
+    ULTIMA_RESPUESTA="$json"
+}
+
+ULTIMA_RESPUESTA=""
+
+comprobar "actuator health" 200 GET "/actuator/health" "" '.status == "UP"'
+comprobar "actuator info (build-info)" 200 GET "/actuator/info" "" '.build.version != null'
+comprobar "OpenAPI (springdoc)" 200 GET "/api-docs" "" '.paths | has("/api/v1/carreras")'
+comprobar "Swagger UI" 200 GET "/swagger-ui/index.html"
+
+# Datos sembrados por Flyway (V3)
+comprobar "listar facultades" 200 GET "/api/v1/facultades" "" 'length > 0 and (.[0].facultadId != null)'
+comprobar "listar carreras (facultad lazy)" 200 GET "/api/v1/carreras" "" 'length > 0 and (.[0].nombreFacultad != null)'
+comprobar "GraphQL facultades con carreras (lotes)" 200 POST "/graphql" \
+    '{"query":"{ facultades { nombre carrerasActivas { nombre facultad { nombre } } } }"}' \
+    '(.errors == null) and (.data.facultades | length > 0)'
+comprobar "GraphQL límite de profundidad" 200 POST "/graphql" \
+    '{"query":"{ facultades { carreras { facultad { carreras { facultad { carreras { nombre } } } } } } }"}' \
+    '.errors | length > 0'
+
+# Ciclo de escritura completo
+comprobar "crear facultad" 201 POST "/api/v1/facultades" \
+    "{\"nombre\":\"Humo $SUFIJO\",\"descripcion\":\"Prueba de humo\",\"ubicacion\":\"Campus\",\"decano\":\"Decano Humo\",\"activo\":true}" \
+    '.facultadId != null and .fechaRegistro != null'
+FACULTAD_ID=$(echo "$ULTIMA_RESPUESTA" | jq -r '.facultadId')
+
+comprobar "crear carrera" 201 POST "/api/v1/carreras" \
+    "{\"nombre\":\"Carrera humo $SUFIJO\",\"descripcion\":\"Prueba de humo\",\"duracionSemestres\":10,\"tituloOtorgado\":\"Titulado\",\"activo\":true,\"facultadId\":$FACULTAD_ID}" \
+    ".facultadId == $FACULTAD_ID"
+CARRERA_ID=$(echo "$ULTIMA_RESPUESTA" | jq -r '.carreraId')
+
+comprobar "obtener carrera" 200 GET "/api/v1/carreras/$CARRERA_ID" "" ".carreraId == $CARRERA_ID"
+comprobar "carreras por facultad" 200 GET "/api/v1/carreras/facultad/$FACULTAD_ID" "" 'length == 1'
+comprobar "actualizar carrera" 200 PUT "/api/v1/carreras/$CARRERA_ID" \
+    "{\"nombre\":\"Carrera humo $SUFIJO\",\"descripcion\":\"Actualizada\",\"duracionSemestres\":8,\"tituloOtorgado\":\"Titulado\",\"activo\":true,\"facultadId\":$FACULTAD_ID}" \
+    '.duracionSemestres == 8'
+
+# Errores (ErrorResponse serializado por Jackson)
+comprobar "validación 400" 400 POST "/api/v1/carreras" '{"nombre":""}' '.details != null'
+comprobar "no encontrado 404" 404 GET "/api/v1/carreras/999999999" "" '.status == 404'
+
+comprobar "eliminar carrera" 204 DELETE "/api/v1/carreras/$CARRERA_ID"
+comprobar "eliminar facultad" 204 DELETE "/api/v1/facultades/$FACULTAD_ID"
+
+echo ""
+echo "Pruebas de humo: $((TOTAL - FALLOS))/$TOTAL correctas"
+[ "$FALLOS" -eq 0 ]
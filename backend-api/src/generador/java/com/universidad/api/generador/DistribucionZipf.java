@@ -0,0 +1,29 @@
+package com.universidad.api.generador;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Muestreo de índices 0..n-1 con probabilidad proporcional a 1/(k+1)^s.
+ * Reparte las carreras entre facultades de tamaño muy desigual, como en un catálogo real
+ * (unas pocas facultades grandes y una cola larga de pequeñas).
+ */
+final class DistribucionZipf {
+    
+    private final double[] acumulada;
+    
+    DistribucionZipf(int n, double exponente) {
+        acumulada = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1.0 / Math.pow(k + 1, exponente);
+            acumulada[k] = total;
+        }
+    }
+    
+    int muestra(SplittableRandom aleatorio) {
+        double u = aleatorio.nextDouble() * acumulada[acumulada.length - 1];
+        int posicion = Arrays.binarySearch(acumulada, u);
+        return Math.min(posicion >= 0 ? posicion : -posicion - 1, acumulada.length - 1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.universidad.api.generador;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Envía filas a COPY ... FROM STDIN (FORMAT csv) en bloques de ~1 MB.
+ * Las filas se generan sobre la marcha: la memoria no crece con el número de filas.
+ * Si no se llama a terminar() (p. ej. por una excepción), close() cancela el COPY.
+ */
+final class EscritorCopy implements AutoCloseable {
+    
+    private static final int TAMANIO_BLOQUE = 1 << 20;
+    
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(TAMANIO_BLOQUE + 4096);
+    
+    EscritorCopy(CopyManager copyManager, String tabla, String columnas) throws SQLException {
+        this.copyIn = copyManager.copyIn("COPY " + tabla + " (" + columnas + ") FROM STDIN (FORMAT csv)");
+    }
+    
+    void fila(Object... valores) throws SQLException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            anexar(valores[i]);
+        }
+        buffer.append('\n');
+        if (buffer.length() >= TAMANIO_BLOQUE) {
+            volcar();
+        }
+    }
+    
+    /**
+     * @return Filas insertadas según PostgreSQL
+     */
+    long terminar() throws SQLException {
+        volcar();
+        return copyIn.endCopy();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+    
+    // En CSV un campo vacío sin comillas es NULL; los textos van siempre entre comillas
+    private void anexar(Object valor) {
+        if (valor == null) {
+            return;
+        }
+        if (valor instanceof String texto) {
+            buffer.append('"').append(texto.replace("\"", "\"\"")).append('"');
+        } else {
+            buffer.append(valor);
+        }
+    }
+    
+    private void volcar() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
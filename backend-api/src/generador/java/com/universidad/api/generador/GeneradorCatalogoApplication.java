@@ -0,0 +1,24 @@
+package com.universidad.api.generador;
+
+import com.universidad.api.UniversidadApiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Punto de entrada del generador de catálogo: mvn -Pgenerador test-compile exec:exec
+ * Carga sobre la base configurada (spring.datasource.url o SPRING_DATASOURCE_URL), tras aplicar
+ * las migraciones pendientes.
+ */
+public final class GeneradorCatalogoApplication {
+    
+    private GeneradorCatalogoApplication() {
+    }
+    
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(new SpringApplicationBuilder(UniversidadApiApplication.class)
+                .profiles("generador")
+                .web(WebApplicationType.NONE)
+                .run(args)));
+    }
+}
@@ -0,0 +1,205 @@
+package com.universidad.api.generador;
+
+import com.universidad.api.generador.VocabularioCatalogo.Area;
+import com.universidad.api.generador.VocabularioCatalogo.Disciplina;
+import com.universidad.api.generador.VocabularioCatalogo.Variante;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de catálogo sintético de gran volumen (perfil generador).
+ * - N facultades y M carreras con nombres, descripciones y títulos verosímiles
+ * - Tamaño de facultad sesgado (Zipf): pocas facultades concentran la mayoría de carreras
+ * - Respeta chk_duracion_semestres y la unicidad de nombres (llevan el ID como código)
+ * - Toma los IDs de cada lote de COPY con nextval de la secuencia, así que la API puede seguir en
+ *   marcha (sus inserciones intercalan valores, no colisionan) y otra carga posterior tampoco
+ * - Carga con COPY en lotes confirmados por separado: millones de filas tardan minutos
+ * - Con la misma semilla genera siempre el mismo catálogo
+ */
+@Slf4j
+@Component
+@Profile("generador")
+public class GeneradorCatalogoRunner implements ApplicationRunner {
+    
+    private static final String COLUMNAS_FACULTAD =
+            "facultad_id, nombre, descripcion, ubicacion, decano, fecha_registro, activo";
+    private static final String COLUMNAS_CARRERA =
+            "carrera_id, facultad_id, nombre, descripcion, duracion_semestres, titulo_otorgado, fecha_registro, activo";
+    
+    private final DataSource dataSource;
+    private final int facultades;
+    private final long carreras;
+    private final int tamanioLote;
+    private final long semilla;
+    private final double exponenteZipf;
+    private final boolean vaciar;
+    
+    public GeneradorCatalogoRunner(DataSource dataSource,
+                                   @Value("${universidad.generador.facultades:200}") int facultades,
+                                   @Value("${universidad.generador.carreras:1000000}") long carreras,
+                                   @Value("${universidad.generador.tamanio-lote:100000}") int tamanioLote,
+                                   @Value("${universidad.generador.semilla:42}") long semilla,
+                                   @Value("${universidad.generador.exponente-zipf:1.1}") double exponenteZipf,
+                                   @Value("${universidad.generador.vaciar:false}") boolean vaciar) {
+        this.dataSource = dataSource;
+        this.facultades = facultades;
+        this.carreras = carreras;
+        this.tamanioLote = tamanioLote;
+        this.semilla = semilla;
+        this.exponenteZipf = exponenteZipf;
+        this.vaciar = vaciar;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (facultades <= 0 && carreras > 0) {
+            throw new IllegalArgumentException("Para generar carreras hace falta al menos una facultad");
+        }
+        SplittableRandom aleatorio = new SplittableRandom(semilla);
+        LocalDateTime ahora = LocalDateTime.now();
+        long inicio = System.nanoTime();
+    
+        try (Connection conexion = dataSource.getConnection()) {
+            conexion.setAutoCommit(false);
+            CopyManager copyManager = conexion.unwrap(PGConnection.class).getCopyAPI();
+            if (vaciar) {
+                ejecutar(conexion, "TRUNCATE carrera, facultad RESTART IDENTITY");
+                log.warn("Catálogo vaciado antes de generar");
+            }
+    
+            long[] facultadIds = tomarIds(conexion, "facultad", "facultad_id", facultades);
+            int[] areaPorFacultad = cargarFacultades(conexion, copyManager, facultadIds, aleatorio, ahora);
+    
+            cargarCarreras(conexion, copyManager, facultadIds, areaPorFacultad, aleatorio, ahora);
+    
+            conexion.setAutoCommit(true);
+            ejecutar(conexion, "ANALYZE facultad");
+            ejecutar(conexion, "ANALYZE carrera");
+        }
+        log.info("Catálogo generado: {} facultades y {} carreras en {} s",
+                facultades, carreras, (System.nanoTime() - inicio) / 1_000_000_000);
+    }
+    
+    private int[] cargarFacultades(Connection conexion, CopyManager copyManager, long[] facultadIds,
+                                   SplittableRandom aleatorio, LocalDateTime ahora) throws SQLException {
+        int[] areaPorFacultad = new int[facultades];
+        try (EscritorCopy copy = new EscritorCopy(copyManager, "facultad", COLUMNAS_FACULTAD)) {
+            for (int i = 0; i < facultades; i++) {
+                long id = facultadIds[i];
+                areaPorFacultad[i] = aleatorio.nextInt(VocabularioCatalogo.AREAS.size());
+                Area area = VocabularioCatalogo.AREAS.get(areaPorFacultad[i]);
+                String sede = VocabularioCatalogo.sede(aleatorio);
+                copy.fila(id,
+                        VocabularioCatalogo.nombreFacultad(area, sede, id),
+                        VocabularioCatalogo.descripcionFacultad(area, sede, aleatorio),
+                        VocabularioCatalogo.ubicacion(sede, aleatorio),
+                        VocabularioCatalogo.decano(aleatorio),
+                        VocabularioCatalogo.fechaRegistro(ahora, aleatorio),
+                        aleatorio.nextInt(100) >= 5);
+            }
+            copy.terminar();
+        }
+        conexion.commit();
+        log.info("Facultades cargadas: {}", facultades);
+        return areaPorFacultad;
+    }
+    
+    private void cargarCarreras(Connection conexion, CopyManager copyManager, long[] facultadIds,
+                                int[] areaPorFacultad, SplittableRandom aleatorio, LocalDateTime ahora) throws SQLException {
+        if (carreras == 0) {
+            return;
+        }
+        DistribucionZipf tamanioFacultad = new DistribucionZipf(facultades, exponenteZipf);
+        long cargadas = 0;
+        long inicio = System.nanoTime();
+        while (cargadas < carreras) {
+            int lote = (int) Math.min(tamanioLote, carreras - cargadas);
+            long[] ids = tomarIds(conexion, "carrera", "carrera_id", lote);
+            try (EscritorCopy copy = new EscritorCopy(copyManager, "carrera", COLUMNAS_CARRERA)) {
+                for (int i = 0; i < lote; i++) {
+                    long id = ids[i];
+                    int facultad = tamanioFacultad.muestra(aleatorio);
+                    Area area = VocabularioCatalogo.AREAS.get(areaPorFacultad[facultad]);
+                    Disciplina disciplina = VocabularioCatalogo.elegir(area.disciplinas(), aleatorio);
+                    Variante variante = VocabularioCatalogo.variante(aleatorio);
+                    copy.fila(id,
+                            facultadIds[facultad],
+                            VocabularioCatalogo.nombreCarrera(disciplina, variante, id),
+                            VocabularioCatalogo.descripcionCarrera(disciplina, area, aleatorio),
+                            VocabularioCatalogo.semestres(disciplina, variante),
+                            VocabularioCatalogo.titulo(disciplina, variante),
+                            VocabularioCatalogo.fechaRegistro(ahora, aleatorio),
+                            aleatorio.nextInt(100) >= 8);
+                }
+                copy.terminar();
+            }
+            conexion.commit();
+            cargadas += lote;
+            double segundos = Math.max((System.nanoTime() - inicio) / 1e9, 0.001);
+            log.info("Carreras cargadas: {}/{} ({} filas/s)", cargadas, carreras, Math.round(cargadas / segundos));
+        }
+    }
+    
+    /**
+     * Toma {@code cantidad} IDs de la secuencia de la tabla como lo hace la API (optimizador pooled, V9):
+     * cada nextval devuelve el último ID de un bloque de tantos como el incremento de la secuencia.
+     * nextval es atómico, así que las inserciones concurrentes se quedan con otros bloques; los IDs
+     * no son necesariamente contiguos y el resto del último bloque queda como hueco.
+     */
+    private static long[] tomarIds(Connection conexion, String tabla, String columna, int cantidad) throws SQLException {
+        long incremento = incrementoSecuencia(conexion, tabla, columna);
+        long[] ids = new long[cantidad];
+        int tomados = 0;
+        try (PreparedStatement sentencia = conexion.prepareStatement(
+                "SELECT nextval(pg_get_serial_sequence(?, ?)) FROM generate_series(1, ?)")) {
+            sentencia.setString(1, tabla);
+            sentencia.setString(2, columna);
+            // Se repite solo si un bloque sale recortado (secuencia recién creada, que empieza en 1)
+            while (tomados < cantidad) {
+                sentencia.setLong(3, (cantidad - tomados + incremento - 1) / incremento);
+                try (ResultSet bloques = sentencia.executeQuery()) {
+                    while (bloques.next()) {
+                        long ultimo = bloques.getLong(1);
+                        for (long id = Math.max(ultimo - incremento + 1, 1); id <= ultimo && tomados < cantidad; id++) {
+                            ids[tomados++] = id;
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+    
+    private static long incrementoSecuencia(Connection conexion, String tabla, String columna) throws SQLException {
+        try (PreparedStatement sentencia = conexion.prepareStatement(
+                "SELECT seqincrement FROM pg_sequence WHERE seqrelid = pg_get_serial_sequence(?, ?)::regclass")) {
+            sentencia.setString(1, tabla);
+            sentencia.setString(2, columna);
+            try (ResultSet incremento = sentencia.executeQuery()) {
+                incremento.next();
+                return incremento.getLong(1);
+            }
+        }
+    }
+    
+    private static void ejecutar(Connection conexion, String sql) throws SQLException {
+        try (Statement sentencia = conexion.createStatement()) {
+            sentencia.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.universidad.api.generador;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Vocabulario con el que se generan facultades y carreras verosímiles.
+ * Cada área agrupa carreras con su título y duración habituales; las variantes (menciones,
+ * modalidades) multiplican las combinaciones y alteran la duración dentro de chk_duracion_semestres.
+ * Los nombres llevan el ID reservado como código, de modo que son únicos también entre cargas.
+ */
+final class VocabularioCatalogo {
+    
+    record Disciplina(String nombre, String titulo, int semestres, String tema) {
+    }
+    
+    record Area(String nombre, List<Disciplina> disciplinas) {
+    }
+    
+    record Variante(String sufijo, int semestresExtra, double peso) {
+    }
+    
+    static final List<Area> AREAS = List.of(
+            new Area("Ingeniería", List.of(
+                    new Disciplina("Ingeniería de Sistemas", "Ingeniero(a) de Sistemas", 10, "arquitectura de software"),
+                    new Disciplina("Ingeniería Civil", "Ingeniero(a) Civil", 10, "estructuras y obras hidráulicas"),
+                    new Disciplina("Ingeniería Industrial", "Ingeniero(a) Industrial", 10, "gestión de operaciones"),
+                    new Disciplina("Ingeniería Mecánica", "Ingeniero(a) Mecánico(a)", 10, "diseño de máquinas"),
+                    new Disciplina("Ingeniería Electrónica", "Ingeniero(a) Electrónico(a)", 10, "sistemas embebidos"),
+                    new Disciplina("Ingeniería Ambiental", "Ingeniero(a) Ambiental", 10, "tratamiento de residuos"),
+                    new Disciplina("Ingeniería de Software", "Ingeniero(a) de Software", 10, "desarrollo ágil"),
+                    new Disciplina("Ingeniería Mecatrónica", "Ingeniero(a) Mecatrónico(a)", 10, "robótica industrial"),
+                    new Disciplina("Ingeniería de Minas", "Ingeniero(a) de Minas", 10, "planeamiento minero"))),
+            new Area("Ciencias de la Salud", List.of(
+                    new Disciplina("Medicina Humana", "Médico(a) Cirujano(a)", 14, "atención primaria"),
+                    new Disciplina("Enfermería", "Licenciado(a) en Enfermería", 10, "cuidados intensivos"),
+                    new Disciplina("Odontología", "Cirujano(a) Dentista", 12, "salud bucal"),
+                    new Disciplina("Obstetricia", "Obstetra", 10, "salud materno-perinatal"),
+                    new Disciplina("Nutrición", "Licenciado(a) en Nutrición", 10, "nutrición clínica"),
+                    new Disciplina("Tecnología Médica", "Licenciado(a) Tecnólogo(a) Médico(a)", 10, "laboratorio clínico"))),
+            new Area("Ciencias Económicas", List.of(
+                    new Disciplina("Economía", "Economista", 10, "políticas públicas"),
+                    new Disciplina("Contabilidad", "Contador(a) Público(a)", 10, "auditoría y tributación"),
+                    new Disciplina("Administración de Empresas", "Licenciado(a) en Administración", 10, "dirección estratégica"),
+                    new Disciplina("Finanzas", "Licenciado(a) en Finanzas", 10, "mercados de capitales"),
+                    new Disciplina("Negocios Internacionales", "Licenciado(a) en Negocios Internacionales", 10, "comercio exterior"),
+                    new Disciplina("Marketing", "Licenciado(a) en Marketing", 8, "comportamiento del consumidor"))),
+            new Area("Derecho y Ciencias Políticas", List.of(
+                    new Disciplina("Derecho", "Abogado(a)", 12, "derecho constitucional"),
+                    new Disciplina("Ciencia Política", "Licenciado(a) en Ciencia Política", 10, "análisis electoral"),
+                    new Disciplina("Relaciones Internacionales", "Licenciado(a) en Relaciones Internacionales", 10, "diplomacia"))),
+            new Area("Humanidades", List.of(
+                    new Disciplina("Filosofía", "Licenciado(a) en Filosofía", 10, "ética aplicada"),
+                    new Disciplina("Historia", "Licenciado(a) en Historia", 10, "historia regional"),
+                    new Disciplina("Literatura", "Licenciado(a) en Literatura", 10, "crítica literaria"),
+                    new Disciplina("Lingüística", "Licenciado(a) en Lingüística", 10, "lenguas originarias"),
+                    new Disciplina("Traducción e Interpretación", "Licenciado(a) en Traducción", 10, "interpretación simultánea"))),
+            new Area("Ciencias", List.of(
+                    new Disciplina("Matemática", "Licenciado(a) en Matemática", 10, "modelamiento matemático"),
+                    new Disciplina("Física", "Licenciado(a) en Física", 10, "física computacional"),
+                    new Disciplina("Química", "Químico(a)", 10, "química analítica"),
+                    new Disciplina("Biología", "Biólogo(a)", 10, "biodiversidad"),
+                    new Disciplina("Estadística", "Licenciado(a) en Estadística", 10, "ciencia de datos"))),
+            new Area("Educación", List.of(
+                    new Disciplina("Educación Inicial", "Licenciado(a) en Educación Inicial", 10, "desarrollo infantil"),
+                    new Disciplina("Educación Primaria", "Licenciado(a) en Educación Primaria", 10, "didáctica"),
+                    new Disciplina("Educación Secundaria", "Licenciado(a) en Educación Secundaria", 10, "evaluación del aprendizaje"),
+                    new Disciplina("Educación Física", "Licenciado(a) en Educación Física", 10, "entrenamiento deportivo"))),
+            new Area("Arquitectura y Urbanismo", List.of(
+                    new Disciplina("Arquitectura", "Arquitecto(a)", 10, "diseño arquitectónico"),
+                    new Disciplina("Urbanismo", "Licenciado(a) en Urbanismo", 10, "planificación territorial"),
+                    new Disciplina("Diseño de Interiores", "Licenciado(a) en Diseño de Interiores", 8, "espacios comerciales"))),
+            new Area("Artes", List.of(
+                    new Disciplina("Música", "Licenciado(a) en Música", 10, "composición"),
+                    new Disciplina("Artes Plásticas", "Licenciado(a) en Artes Plásticas", 10, "escultura"),
+                    new Disciplina("Diseño Gráfico", "Licenciado(a) en Diseño Gráfico", 8, "identidad visual"),
+                    new Disciplina("Artes Escénicas", "Licenciado(a) en Artes Escénicas", 10, "dirección teatral"))),
+            new Area("Ciencias Sociales", List.of(
+                    new Disciplina("Psicología", "Psicólogo(a)", 12, "psicología clínica"),
+                    new Disciplina("Sociología", "Sociólogo(a)", 10, "investigación social"),
+                    new Disciplina("Antropología", "Antropólogo(a)", 10, "etnografía"),
+                    new Disciplina("Trabajo Social", "Licenciado(a) en Trabajo Social", 10, "intervención comunitaria"),
+                    new Disciplina("Ciencias de la Comunicación", "Licenciado(a) en Comunicación", 10, "periodismo digital")))
+    );
+    
+    // La mayoría de carreras no tiene variante; las menciones y modalidades son la cola
+    private static final List<Variante> VARIANTES = List.of(
+            new Variante("", 0, 0.55),
+            new Variante(" - Modalidad Semipresencial", 1, 0.12),
+            new Variante(" - Modalidad Virtual", 1, 0.10),
+            new Variante(" para Profesionales que Trabajan", -2, 0.08),
+            new Variante(" con mención en Investigación", 1, 0.06),
+            new Variante(" con mención en Gestión", 0, 0.05),
+            new Variante(" - Programa Técnico", -4, 0.04)
+    );
+    
+    private static final List<String> SEDES = List.of(
+            "Lima", "Arequipa", "Cusco", "Trujillo", "Piura", "Chiclayo", "Huancayo", "Iquitos", "Puno", "Tacna");
+    
+    private static final List<String> NOMBRES = List.of(
+            "Ana", "Carlos", "María", "José", "Lucía", "Jorge", "Rosa", "Luis", "Carmen", "Miguel",
+            "Patricia", "Ricardo", "Elena", "Fernando", "Isabel", "Andrés", "Sofía", "Raúl", "Gabriela", "Víctor");
+    
+    private static final List<String> APELLIDOS = List.of(
+            "García", "Rodríguez", "Quispe", "Flores", "Sánchez", "Ramírez", "Torres", "Mamani", "Vargas", "Rojas",
+            "Castillo", "Mendoza", "Huamán", "Chávez", "Díaz", "Gutiérrez", "Paredes", "Salazar", "Cárdenas", "Vega");
+    
+    private static final List<String> APERTURAS = List.of(
+            "Forma profesionales en %s",
+            "Programa orientado a la formación integral en %s",
+            "Prepara especialistas en %s",
+            "Carrera acreditada que desarrolla competencias en %s");
+    
+    private static final List<String> CIERRES = List.of(
+            "Incluye prácticas preprofesionales en instituciones públicas y privadas.",
+            "El plan de estudios combina cursos teóricos, talleres y proyectos aplicados.",
+            "Cuenta con laboratorios especializados y convenios de intercambio internacional.",
+            "Los egresados se insertan en el sector productivo, la consultoría y la investigación.",
+            "Promueve la investigación formativa y la responsabilidad social universitaria.",
+            "");
+    
+    private static final double[] PESOS_VARIANTES = VARIANTES.stream().mapToDouble(Variante::peso).toArray();
+    
+    private VocabularioCatalogo() {
+    }
+    
+    static String nombreFacultad(Area area, String sede, long id) {
+        return "Facultad de " + area.nombre() + " - Sede " + sede + " (cód. " + id + ")";
+    }
+    
+    static String descripcionFacultad(Area area, String sede, SplittableRandom aleatorio) {
+        return ("Facultad de " + area.nombre() + " de la sede " + sede + ". " + elegir(CIERRES, aleatorio)).strip();
+    }
+    
+    static String ubicacion(String sede, SplittableRandom aleatorio) {
+        return "Campus " + sede + ", Pabellón " + (char) ('A' + aleatorio.nextInt(12));
+    }
+    
+    static String decano(SplittableRandom aleatorio) {
+        return (aleatorio.nextBoolean() ? "Dr. " : "Dra. ") + elegir(NOMBRES, aleatorio) + " "
+                + elegir(APELLIDOS, aleatorio) + " " + elegir(APELLIDOS, aleatorio);
+    }
+    
+    static String sede(SplittableRandom aleatorio) {
+        return elegir(SEDES, aleatorio);
+    }
+    
+    static Variante variante(SplittableRandom aleatorio) {
+        double u = aleatorio.nextDouble();
+        for (int i = 0; i < PESOS_VARIANTES.length; i++) {
+            u -= PESOS_VARIANTES[i];
+            if (u < 0) {
+                return VARIANTES.get(i);
+            }
+        }
+        return VARIANTES.get(0);
+    }
+    
+    /**
+     * Nombre único de como mucho 100 caracteres (VARCHAR(100)): se recorta la parte descriptiva, nunca el código.
+     */
+    static String nombreCarrera(Disciplina disciplina, Variante variante, long id) {
+        String codigo = " (cód. " + id + ")";
+        String base = disciplina.nombre() + variante.sufijo();
+        return base.substring(0, Math.min(base.length(), 100 - codigo.length())) + codigo;
+    }
+    
+    static String descripcionCarrera(Disciplina disciplina, Area area, SplittableRandom aleatorio) {
+        return (String.format(elegir(APERTURAS, aleatorio), disciplina.nombre().toLowerCase())
+                + " con énfasis en " + disciplina.tema()
+                + " y " + elegir(area.disciplinas(), aleatorio).tema() + ". "
+                + elegir(CIERRES, aleatorio)).strip();
+    }
+    
+    /**
+     * Duración dentro de chk_duracion_semestres (1..20).
+     */
+    static int semestres(Disciplina disciplina, Variante variante) {
+        return Math.max(1, Math.min(20, disciplina.semestres() + variante.semestresExtra()));
+    }
+    
+    static String titulo(Disciplina disciplina, Variante variante) {
+        return variante.semestresExtra() <= -4 ? "Técnico(a) en " + disciplina.nombre() : disciplina.titulo();
+    }
+    
+    static LocalDateTime fechaRegistro(LocalDateTime ahora, SplittableRandom aleatorio) {
+        return ahora.minusMinutes(aleatorio.nextLong(10L * 365 * 24 * 60)).withNano(0);
+    }
+    
+    static <T> T elegir(List<T> opciones, SplittableRandom aleatorio) {
+        return opciones.get(aleatorio.nextInt(opciones.size()));
+    }
+}
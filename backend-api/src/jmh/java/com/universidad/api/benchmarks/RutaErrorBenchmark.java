@@ -0,0 +1,94 @@
+package com.universidad.api.benchmarks;
+
+import com.universidad.api.application.exceptions.RecursoNoEncontradoException;
+import com.universidad.api.infrastructure.web.exceptions.ErrorResponse;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coste de un 404 por búsqueda de ID inexistente, sin contar la consulta.
+ * - legado: EntityNotFoundException con traza completa y mensaje concatenado (flujo anterior)
+ * - sinTraza: RecursoNoEncontradoException (sin traza, mensaje perezoso) lanzada en el controlador
+ * - optional: el servicio devuelve Optional.empty() y no se lanza nada hasta el borde
+ *
+ * "profundidad" simula los marcos de Spring MVC, filtros y proxies que hay bajo el servicio;
+ * con -prof gc se ve además cuánto asigna cada variante por petición.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RutaErrorBenchmark {
+    
+    @Param({"50", "150"})
+    int profundidad;
+    
+    private final Long id = 987_654L;
+    
+    @Benchmark
+    public ErrorResponse legado() {
+        try {
+            return apilar(profundidad, this::buscarLegado);
+        } catch (EntityNotFoundException ex) {
+            return respuesta(ex.getMessage());
+        }
+    }
+    
+    @Benchmark
+    public ErrorResponse sinTraza() {
+        try {
+            return apilar(profundidad, this::buscarSinTraza);
+        } catch (RecursoNoEncontradoException ex) {
+            return respuesta(ex.getMessage());
+        }
+    }
+    
+    @Benchmark
+    public ErrorResponse optional() {
+        Optional<ErrorResponse> encontrado = apilar(profundidad, this::buscarOptional);
+        return encontrado.orElseGet(() -> respuesta(new RecursoNoEncontradoException("carrera", "ID", id).getMessage()));
+    }
+    
+    private ErrorResponse buscarLegado() {
+        throw new EntityNotFoundException("Carrera no encontrada con ID: " + id);
+    }
+    
+    private ErrorResponse buscarSinTraza() {
+        throw new RecursoNoEncontradoException("carrera", "ID", id);
+    }
+    
+    private Optional<ErrorResponse> buscarOptional() {
+        return Optional.empty();
+    }
+    
+    private static ErrorResponse respuesta(String mensaje) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(404)
+                .error("Entity Not Found")
+                .message(mensaje)
+                .path("/api/entity-not-found")
+                .build();
+    }
+    
+    // Recursión no inlineable en su totalidad: deja "profundidad" marcos reales en la pila
+    private static <T> T apilar(int restantes, Supplier<T> fondo) {
+        return restantes == 0 ? fondo.get() : apilar(restantes - 1, fondo);
+    }
+}
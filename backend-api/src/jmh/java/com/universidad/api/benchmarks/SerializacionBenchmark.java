@@ -0,0 +1,121 @@
+package com.universidad.api.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.universidad.api.application.dto.CarreraResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de listados grandes de carreras.
+ * - legado: bean mutable con @JsonFormat y Jackson por reflexión (DTO anterior)
+ * - records: record inmutable con FechaHoraSerializer
+ * - recordsBlackbird: record + Blackbird, como el ObjectMapper de la aplicación
+ *
+ * Con -prof gc, gc.alloc.rate.norm (B/op) dividido por "tamanio" da los bytes asignados por elemento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacionBenchmark {
+    
+    @Param({"1000", "10000"})
+    int tamanio;
+    
+    private List<CarreraLegado> legado;
+    private List<CarreraResponseDTO> records;
+    private ObjectWriter writerReflexion;
+    private ObjectWriter writerBlackbird;
+    private final OutputStream descarte = OutputStream.nullOutputStream();
+    
+    @Setup
+    public void preparar() {
+        legado = new ArrayList<>(tamanio);
+        records = new ArrayList<>(tamanio);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 10, 30);
+        for (int i = 0; i < tamanio; i++) {
+            LocalDateTime fecha = base.plusMinutes(i);
+            legado.add(new CarreraLegado((long) i, "Carrera " + i, "Descripción de la carrera " + i, 10,
+                    "Titulado " + i, fecha, true, (long) (i % 50), "Facultad " + (i % 50)));
+            records.add(new CarreraResponseDTO((long) i, "Carrera " + i, "Descripción de la carrera " + i, 10,
+                    "Titulado " + i, fecha, true, (long) (i % 50), "Facultad " + (i % 50)));
+        }
+        
+        // Equivalente a la configuración por defecto de Spring Boot
+        ObjectMapper reflexion = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+        ObjectMapper blackbird = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+        writerReflexion = reflexion.writerFor(reflexion.getTypeFactory()
+                .constructCollectionType(List.class, Object.class));
+        writerBlackbird = blackbird.writerFor(blackbird.getTypeFactory()
+                .constructCollectionType(List.class, Object.class));
+    }
+    
+    @Benchmark
+    public void legado() throws IOException {
+        writerReflexion.writeValue(descarte, legado);
+    }
+    
+    @Benchmark
+    public void records() throws IOException {
+        writerReflexion.writeValue(descarte, records);
+    }
+    
+    @Benchmark
+    public void recordsBlackbird() throws IOException {
+        writerBlackbird.writeValue(descarte, records);
+    }
+    
+    /**
+     * Copia del CarreraResponseDTO anterior (bean Lombok con @JsonFormat) como referencia.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class CarreraLegado {
+        private Long carreraId;
+        private String nombre;
+        private String descripcion;
+        private Integer duracionSemestres;
+        private String tituloOtorgado;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime fechaRegistro;
+        private Boolean activo;
+        private Long facultadId;
+        private String nombreFacultad;
+    }
+}
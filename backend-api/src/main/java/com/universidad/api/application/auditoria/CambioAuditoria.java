@@ -0,0 +1,29 @@
+package com.universidad.api.application.auditoria;
+
+import com.universidad.api.application.events.TipoCambio;
+import com.universidad.api.application.events.TipoRecurso;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Registro de auditoría de una mutación del catálogo: quién cambió qué campos de qué recurso y cuándo.
+ * Se publica desde los servicios dentro de la transacción y solo se encola para su escritura
+ * si la transacción se confirma.
+ */
+@Value
+@Builder
+public class CambioAuditoria {
+    
+    String institucion;
+    TipoRecurso recurso;
+    Long recursoId;
+    TipoCambio operacion;
+    String usuario;
+    List<CampoModificado> campos;
+    
+    @Builder.Default
+    Instant fecha = Instant.now();
+}
@@ -0,0 +1,7 @@
+package com.universidad.api.application.auditoria;
+
+/**
+ * Valor de un campo antes y después de un cambio (null si no tenía valor).
+ */
+public record CampoModificado(String campo, String anterior, String nuevo) {
+}
@@ -0,0 +1,60 @@
+package com.universidad.api.application.auditoria;
+
+import com.universidad.api.domain.entities.Carrera;
+import com.universidad.api.domain.entities.Facultad;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Instantáneas de los campos auditados de cada entidad y su diferencia.
+ * Se toman antes y después de aplicar el cambio, dentro de la transacción del servicio;
+ * la relación con la facultad se representa por su ID para no inicializar proxies lazy.
+ */
+public final class InstantaneaAuditoria {
+    
+    private InstantaneaAuditoria() {
+    }
+    
+    public static Map<String, Object> de(Carrera carrera) {
+        Map<String, Object> campos = new LinkedHashMap<>(8);
+        campos.put("nombre", carrera.getNombre());
+        campos.put("descripcion", carrera.getDescripcion());
+        campos.put("duracionSemestres", carrera.getDuracionSemestres());
+        campos.put("tituloOtorgado", carrera.getTituloOtorgado());
+        campos.put("facultadId", carrera.getFacultadId());
+        campos.put("activo", carrera.getActivo());
+        return campos;
+    }
+    
+    public static Map<String, Object> de(Facultad facultad) {
+        Map<String, Object> campos = new LinkedHashMap<>(8);
+        campos.put("nombre", facultad.getNombre());
+        campos.put("descripcion", facultad.getDescripcion());
+        campos.put("ubicacion", facultad.getUbicacion());
+        campos.put("decano", facultad.getDecano());
+        campos.put("activo", facultad.getActivo());
+        return campos;
+    }
+    
+    /**
+     * Campos cuyo valor difiere entre ambas instantáneas; en una creación {@code antes} está vacío.
+     */
+    public static List<CampoModificado> diferencias(Map<String, Object> antes, Map<String, Object> despues) {
+        List<CampoModificado> campos = new ArrayList<>();
+        despues.forEach((campo, nuevo) -> {
+            Object anterior = antes.get(campo);
+            if (!Objects.equals(anterior, nuevo)) {
+                campos.add(new CampoModificado(campo, texto(anterior), texto(nuevo)));
+            }
+        });
+        return campos;
+    }
+    
+    private static String texto(Object valor) {
+        return valor != null ? valor.toString() : null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.universidad.api.application.auditoria;
+
+/**
+ * Usuario que origina la solicitud en curso, para atribuir los cambios auditados.
+ * Lo establece el filtro web al inicio de cada solicitud y lo limpia al terminar.
+ */
+public final class UsuarioActual {
+    
+    public static final String ANONIMO = "anonimo";
+    
+    private static final ThreadLocal<String> USUARIO = new ThreadLocal<>();
+    
+    private UsuarioActual() {
+    }
+    
+    public static String obtener() {
+        String usuario = USUARIO.get();
+        return usuario != null ? usuario : ANONIMO;
+    }
+    
+    public static void establecer(String usuario) {
+        USUARIO.set(usuario);
+    }
+    
+    public static void limpiar() {
+        USUARIO.remove();
+    }
+}
@@ -0,0 +1,19 @@
+package com.universidad.api.application.cache;
+
+import java.util.Optional;
+
+/**
+ * Caché local (por nodo) de facultades usada por el servicio de carreras.
+ * Sigue el principio DIP - los servicios dependen de esta abstracción y no del mecanismo de coherencia.
+ */
+public interface FacultadCache {
+    
+    /**
+     * Obtiene el resumen de una facultad desde la caché.
+     * Un resultado vacío no implica que la facultad no exista: puede que la caché no esté
+     * sincronizada o que la facultad sea muy reciente, por lo que el llamador debe consultar el repositorio.
+     * @param facultadId ID de la facultad
+     * @return Optional con el resumen si está en caché
+     */
+    Optional<FacultadResumen> obtener(Long facultadId);
+}
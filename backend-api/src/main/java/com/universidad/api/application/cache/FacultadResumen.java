@@ -0,0 +1,10 @@
+package com.universidad.api.application.cache;
+
+/**
+ * Datos mínimos de una facultad necesarios para validar y mapear carreras.
+ * @param facultadId ID de la facultad
+ * @param nombre Nombre de la facultad
+ * @param activo Estado activo de la facultad
+ */
+public record FacultadResumen(Long facultadId, String nombre, boolean activo) {
+}
@@ -0,0 +1,169 @@
+package com.universidad.api.application.concurrency;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Ejecución simultánea de lecturas independientes con un plazo común (fan-out).
+ * - Cada consulta corre en un hilo propio y en su propia transacción de solo lectura, con su
+ *   propia conexión del pool: la respuesta tarda lo que la consulta más lenta, no la suma
+ * - Al vencer universidad.consultas-paralelas.plazo-ms las consultas pendientes se cancelan y se
+ *   informan como tales; la transacción tiene el mismo plazo (redondeado a segundos), así que
+ *   la base de datos también abandona la sentencia
+ * - La institución y la traza de la solicitud se propagan a los hilos
+ * - Cola acotada: si el ejecutor está lleno se rechaza al instante como indisponibilidad (503)
+ *
+ * Métrica: universidad.consultas.paralelas{resultado=completada|vencida}.
+ */
+@Component
+public class ConsultasParalelas {
+    
+    private static final ContextSnapshotFactory CONTEXTO = ContextSnapshotFactory.builder().build();
+    
+    private final TransactionTemplate lectura;
+    private final ThreadPoolExecutor ejecutor;
+    private final long plazoMs;
+    private final Counter completadas;
+    private final Counter vencidas;
+    
+    public ConsultasParalelas(PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${universidad.consultas-paralelas.plazo-ms:2000}") long plazoMs,
+                              @Value("${universidad.consultas-paralelas.hilos:8}") int hilos) {
+        this.plazoMs = plazoMs;
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+        this.lectura.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(plazoMs + 999)));
+        AtomicInteger contador = new AtomicInteger();
+        this.ejecutor = new ThreadPoolExecutor(hilos, hilos, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(hilos * 4),
+                tarea -> {
+                    Thread hilo = new Thread(tarea, "consulta-paralela-" + contador.incrementAndGet());
+                    hilo.setDaemon(true);
+                    return hilo;
+                });
+        this.ejecutor.allowCoreThreadTimeOut(true);
+        this.completadas = consultas(meterRegistry, "completada");
+        this.vencidas = consultas(meterRegistry, "vencida");
+    }
+    
+    /**
+     * Ejecuta las consultas a la vez y espera como mucho el plazo común.
+     * Un error en una consulta se propaga tal cual; las que no terminan a tiempo no son un error.
+     * @param consultas Consultas por nombre
+     * @return Resultados de las consultas terminadas a tiempo y nombres de las pendientes
+     */
+    public Resultados ejecutar(Map<String, Supplier<?>> consultas) {
+        List<String> nombres = new ArrayList<>(consultas.keySet());
+        List<Callable<Object>> tareas = new ArrayList<>(nombres.size());
+        ContextSnapshot contexto = CONTEXTO.captureAll();
+        for (String nombre : nombres) {
+            Supplier<?> consulta = consultas.get(nombre);
+            tareas.add(contexto.wrap(() -> lectura.execute(status -> consulta.get())));
+        }
+    
+        List<Future<Object>> futuros;
+        try {
+            futuros = ejecutor.invokeAll(tareas, plazoMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            throw new DataAccessResourceFailureException("Consultas paralelas saturadas", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Consultas paralelas interrumpidas", ex);
+        }
+    
+        Map<String, Object> valores = new HashMap<>();
+        List<String> pendientes = new ArrayList<>();
+        for (int i = 0; i < futuros.size(); i++) {
+            Future<Object> futuro = futuros.get(i);
+            if (futuro.isCancelled()) {
+                vencidas.increment();
+                pendientes.add(nombres.get(i));
+                continue;
+            }
+            completadas.increment();
+            valores.put(nombres.get(i), resultado(futuro));
+        }
+        return new Resultados(valores, Collections.unmodifiableList(pendientes));
+    }
+    
+    private static Object resultado(Future<Object> futuro) {
+        try {
+            return futuro.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Consultas paralelas interrumpidas", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    private static Counter consultas(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("universidad.consultas.paralelas")
+                .description("Consultas ejecutadas en paralelo con plazo común")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    void cerrar() {
+        ejecutor.shutdownNow();
+    }
+    
+    /**
+     * Resultado de un fan-out.
+     */
+    public static final class Resultados {
+    
+        private final Map<String, Object> valores;
+        private final List<String> pendientes;
+    
+        private Resultados(Map<String, Object> valores, List<String> pendientes) {
+            this.valores = valores;
+            this.pendientes = pendientes;
+        }
+    
+        /**
+         * @return Resultado de la consulta, o null si no terminó a tiempo
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T obtener(String nombre) {
+            return (T) valores.get(nombre);
+        }
+    
+        /**
+         * @return Nombres de las consultas que no terminaron dentro del plazo
+         */
+        public List<String> getPendientes() {
+            return pendientes;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.universidad.api.application.concurrency;
+
+import com.universidad.api.application.instituciones.InstitucionActual;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalescencia de lecturas idénticas concurrentes (single-flight).
+ * Mientras una consulta para una clave está en curso, las peticiones concurrentes con la
+ * misma clave esperan y comparten su resultado (o su excepción) en lugar de ir a la base de datos.
+ * No es una caché: la entrada se elimina en cuanto la consulta termina. Solo se comparten
+ * lecturas de la misma institución.
+ *
+ * La consulta líder se ejecuta en su propia transacción de solo lectura, de modo que las
+ * peticiones que esperan no ocupan conexiones del pool. Por eso los métodos de servicio que
+ * la usan no deben abrir transacción propia.
+ *
+ * Métricas: {@code universidad.lecturas.ejecutadas} y {@code universidad.lecturas.coalescidas},
+ * etiquetadas por operación.
+ */
+@Component
+public class SingleFlight {
+    
+    private final Map<Clave, CompletableFuture<Object>> enVuelo = new ConcurrentHashMap<>();
+    private final Map<String, Contadores> contadores = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate lectura;
+    
+    public SingleFlight(MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.meterRegistry = meterRegistry;
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+    }
+    
+    /**
+     * Ejecuta la consulta o se une a una ejecución en curso con la misma operación y clave.
+     * @param operacion Nombre de la operación (p. ej. "carrera.obtenerPorId")
+     * @param clave Argumento que identifica la lectura
+     * @param consulta Consulta a ejecutar si no hay otra en vuelo
+     * @return Resultado compartido de la consulta
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T ejecutar(String operacion, Object clave, Supplier<T> consulta) {
+        Contadores contador = contadores.computeIfAbsent(operacion, this::registrarContadores);
+        Clave k = new Clave(InstitucionActual.obtener(), operacion, clave);
+        CompletableFuture<Object> propio = new CompletableFuture<>();
+        CompletableFuture<Object> existente = enVuelo.putIfAbsent(k, propio);
+        
+        if (existente != null) {
+            contador.coalescidas().increment();
+            return (T) esperar(existente);
+        }
+        
+        contador.ejecutadas().increment();
+        try {
+            T resultado = lectura.execute(status -> consulta.get());
+            propio.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error ex) {
+            propio.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            enVuelo.remove(k, propio);
+        }
+    }
+    
+    private Object esperar(CompletableFuture<Object> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+    
+    private Contadores registrarContadores(String operacion) {
+        return new Contadores(
+            Counter.builder("universidad.lecturas.ejecutadas")
+                .description("Lecturas ejecutadas contra la base de datos")
+                .tag("operacion", operacion)
+                .register(meterRegistry),
+            Counter.builder("universidad.lecturas.coalescidas")
+                .description("Lecturas resueltas uniéndose a una consulta idéntica en curso")
+                .tag("operacion", operacion)
+                .register(meterRegistry));
+    }
+    
+    private record Clave(String institucion, String operacion, Object valor) {
+    }
+    
+    private record Contadores(Counter ejecutadas, Counter coalescidas) {
+    }
+}
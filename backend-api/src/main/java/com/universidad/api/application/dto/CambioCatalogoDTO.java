@@ -0,0 +1,39 @@
+package com.universidad.api.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.universidad.api.application.events.TipoCambio;
+import com.universidad.api.application.events.TipoRecurso;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambio de una facultad o carrera con el estado actual del recurso.
+ * Varios cambios seguidos del mismo recurso se entregan como uno solo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Cambio de un recurso del catálogo")
+public class CambioCatalogoDTO {
+    
+    @Schema(description = "Recurso modificado", example = "CARRERA")
+    private TipoRecurso recurso;
+    
+    @Schema(description = "ID del recurso", example = "12")
+    private Long id;
+    
+    @Schema(description = "CREADO si el recurso es posterior a la marca, DESACTIVADO si está inactivo; "
+            + "en otro caso ACTUALIZADO", example = "ACTUALIZADO")
+    private TipoCambio tipo;
+    
+    @Schema(description = "Estado actual de la facultad (sin carreras)")
+    private FacultadResponseDTO facultad;
+    
+    @Schema(description = "Estado actual de la carrera")
+    private CarreraResponseDTO carrera;
+}
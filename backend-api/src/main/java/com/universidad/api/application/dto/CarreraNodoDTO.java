@@ -0,0 +1,18 @@
+package com.universidad.api.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista plana de una carrera para el endpoint GraphQL.
+ * Solo lleva el ID de la facultad: la facultad se resuelve por lotes si la consulta la pide.
+ */
+public record CarreraNodoDTO(
+        Long carreraId,
+        String nombre,
+        String descripcion,
+        Integer duracionSemestres,
+        String tituloOtorgado,
+        LocalDateTime fechaRegistro,
+        Boolean activo,
+        Long facultadId) {
+}
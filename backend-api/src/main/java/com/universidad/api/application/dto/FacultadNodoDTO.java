@@ -0,0 +1,17 @@
+package com.universidad.api.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista plana de una facultad para el endpoint GraphQL.
+ * No incluye las carreras: se resuelven por lotes solo si la consulta las pide.
+ */
+public record FacultadNodoDTO(
+        Long facultadId,
+        String nombre,
+        String descripcion,
+        String ubicacion,
+        String decano,
+        LocalDateTime fechaRegistro,
+        Boolean activo) {
+}
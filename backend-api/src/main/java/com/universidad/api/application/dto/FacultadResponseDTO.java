@@ -1,11 +1,8 @@
 package com.universidad.api.application.dto;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.universidad.api.application.serialization.FechaHoraSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,36 +13,33 @@ import java.util.List;
  * - Define la estructura de datos que retorna la API
  * - Separa la representación externa de la entidad interna
  * - Controla qué información se expone al cliente
+ * - Record inmutable: MapStruct lo construye directamente por su constructor canónico
  */
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
 @Schema(description = "Respuesta de Facultad")
-public class FacultadResponseDTO {
-    
-    @Schema(description = "ID único de la facultad", example = "1")
-    private Long facultadId;
-    
-    @Schema(description = "Nombre de la facultad", example = "Facultad de Ingeniería")
-    private String nombre;
-    
-    @Schema(description = "Descripción detallada de la facultad")
-    private String descripcion;
-    
-    @Schema(description = "Ubicación física de la facultad", example = "Edificio Central, Piso 3")
-    private String ubicacion;
-    
-    @Schema(description = "Nombre del decano actual", example = "Dr. Juan Pérez")
-    private String decano;
-    
-    @Schema(description = "Fecha de registro de la facultad")
-    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-    private LocalDateTime fechaRegistro;
-    
-    @Schema(description = "Estado activo de la facultad", example = "true")
-    private Boolean activo;
-    
-    @Schema(description = "Lista de carreras asociadas a la facultad")
-    private List<CarreraResponseDTO> carreras;
-}
\ No newline at end of file
+public record FacultadResponseDTO(
+        
+        @Schema(description = "ID único de la facultad", example = "1")
+        Long facultadId,
+        
+        @Schema(description = "Nombre de la facultad", example = "Facultad de Ingeniería")
+        String nombre,
+        
+        @Schema(description = "Descripción detallada de la facultad")
+        String descripcion,
+        
+        @Schema(description = "Ubicación física de la facultad", example = "Edificio Central, Piso 3")
+        String ubicacion,
+        
+        @Schema(description = "Nombre del decano actual", example = "Dr. Juan Pérez")
+        String decano,
+        
+        @Schema(description = "Fecha de registro de la facultad", type = "string", example = "2024-01-15 10:30:00")
+        @JsonSerialize(using = FechaHoraSerializer.class)
+        LocalDateTime fechaRegistro,
+        
+        @Schema(description = "Estado activo de la facultad", example = "true")
+        Boolean activo,
+        
+        @Schema(description = "Lista de carreras asociadas a la facultad")
+        List<CarreraResponseDTO> carreras) {
+}
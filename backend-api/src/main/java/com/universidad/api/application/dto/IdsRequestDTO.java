@@ -0,0 +1,35 @@
+package com.universidad.api.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de solicitud para obtener varios recursos por ID en una sola llamada.
+ * Sigue el principio SRP - solo transporta la lista de IDs solicitados.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Solicitud de obtención múltiple por ID")
+public class IdsRequestDTO {
+    
+    /** Máximo de IDs por solicitud en el cuerpo (POST). */
+    public static final int MAXIMO_IDS = 1000;
+    
+    /** Máximo de IDs por solicitud en la URL (GET), limitado por la longitud de la URL. */
+    public static final int MAXIMO_IDS_URL = 100;
+    
+    @NotEmpty(message = "Debe indicar al menos un ID")
+    @Size(max = MAXIMO_IDS, message = "No se pueden solicitar más de " + MAXIMO_IDS + " IDs")
+    @Schema(description = "IDs solicitados; la respuesta respeta este orden", example = "[3, 1, 2]", required = true)
+    private List<@NotNull(message = "Los IDs no pueden ser nulos") Long> ids;
+}
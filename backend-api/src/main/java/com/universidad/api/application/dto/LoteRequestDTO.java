@@ -0,0 +1,32 @@
+package com.universidad.api.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de solicitud de un lote de operaciones de escritura, ejecutadas en orden y en una sola transacción.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lote de operaciones sobre facultades y carreras")
+public class LoteRequestDTO {
+    
+    /** Máximo de operaciones por lote. */
+    public static final int MAXIMO_OPERACIONES = 500;
+    
+    @NotEmpty(message = "Debe indicar al menos una operación")
+    @Size(max = MAXIMO_OPERACIONES, message = "No se pueden enviar más de " + MAXIMO_OPERACIONES + " operaciones")
+    @Schema(description = "Operaciones, en el orden en que se ejecutan", required = true)
+    private List<@NotNull(message = "Las operaciones no pueden ser nulas") @Valid OperacionLoteDTO> operaciones;
+}
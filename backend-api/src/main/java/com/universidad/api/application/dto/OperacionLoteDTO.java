@@ -0,0 +1,51 @@
+package com.universidad.api.application.dto;
+
+import com.universidad.api.application.events.TipoRecurso;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Una operación de un lote. Los datos van en el campo del recurso (facultad o carrera) y se
+ * validan al ejecutar la operación, después de resolver las referencias a IDs creados antes
+ * en el mismo lote.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Operación de un lote")
+public class OperacionLoteDTO {
+    
+    @NotNull(message = "La operación es obligatoria")
+    @Schema(description = "Operación a ejecutar", example = "CREAR", required = true)
+    private TipoOperacionLote operacion;
+    
+    @NotNull(message = "El recurso es obligatorio")
+    @Schema(description = "Recurso afectado", example = "CARRERA", required = true)
+    private TipoRecurso recurso;
+    
+    @Size(max = 50, message = "La referencia no puede exceder 50 caracteres")
+    @Schema(description = "Nombre con el que las operaciones posteriores se refieren al recurso creado", example = "fac-ingenieria")
+    private String referencia;
+    
+    @Schema(description = "ID del recurso a actualizar o desactivar", example = "1")
+    private Long id;
+    
+    @Schema(description = "Alternativa a id: referencia de un recurso creado antes en el lote", example = "fac-ingenieria")
+    private String idRef;
+    
+    @Schema(description = "Solo carreras: referencia de la facultad creada antes en el lote, en lugar de facultadId",
+            example = "fac-ingenieria")
+    private String facultadRef;
+    
+    @Schema(description = "Datos de la facultad (CREAR y ACTUALIZAR de FACULTAD)")
+    private FacultadRequestDTO facultad;
+    
+    @Schema(description = "Datos de la carrera (CREAR y ACTUALIZAR de CARRERA)")
+    private CarreraRequestDTO carrera;
+}
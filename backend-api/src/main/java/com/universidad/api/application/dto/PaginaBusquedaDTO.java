@@ -0,0 +1,39 @@
+package com.universidad.api.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta paginada de la búsqueda de texto completo.
+ * Sigue el principio SRP - solo transporta una página de resultados.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados de la búsqueda de texto completo")
+public class PaginaBusquedaDTO {
+    
+    @Schema(description = "Consulta realizada", example = "software")
+    private String consulta;
+    
+    @Schema(description = "Número de página (desde 0)", example = "0")
+    private int pagina;
+    
+    @Schema(description = "Tamaño de página", example = "20")
+    private int tamanio;
+    
+    @Schema(description = "Total de coincidencias", example = "42")
+    private long total;
+    
+    @Schema(description = "Total de páginas", example = "3")
+    private int totalPaginas;
+    
+    @Schema(description = "Coincidencias ordenadas por relevancia")
+    private List<ResultadoBusquedaDTO> resultados;
+}
@@ -0,0 +1,32 @@
+package com.universidad.api.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de la sincronización incremental: una página de cambios y la marca para pedir la siguiente.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de cambios del catálogo")
+public class PaginaCambiosDTO {
+    
+    @Schema(description = "Marca recibida; vacía en la primera sincronización", example = "MTIzNDUuMi40Mg")
+    private String desde;
+    
+    @Schema(description = "Marca a enviar en la siguiente solicitud (desde)", example = "MTI0MDEuMS43")
+    private String siguiente;
+    
+    @Schema(description = "Hay más cambios: pedir la siguiente página de inmediato", example = "false")
+    private boolean hayMas;
+    
+    @Schema(description = "Cambios en orden de confirmación; en una misma transacción, facultades antes que carreras")
+    private List<CambioCatalogoDTO> cambios;
+}
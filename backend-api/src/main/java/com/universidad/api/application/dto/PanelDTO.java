@@ -0,0 +1,45 @@
+package com.universidad.api.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.universidad.api.application.cache.FacultadResumen;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta del panel: lo que las páginas de inicio y de carreras necesitan para mostrarse,
+ * en una sola respuesta. Las secciones que no llegaron a tiempo se omiten y se listan en incompleto.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Datos combinados para las páginas del frontend")
+public class PanelDTO {
+    
+    @Schema(description = "Facultades (ID, nombre y estado) ordenadas por nombre, sin sus carreras")
+    private List<FacultadResumen> facultades;
+    
+    @Schema(description = "Todas las carreras; solo si se pidieron")
+    private List<CarreraResponseDTO> carreras;
+    
+    @Schema(description = "Total de facultades", example = "5")
+    private Long totalFacultades;
+    
+    @Schema(description = "Facultades activas", example = "5")
+    private Long facultadesActivas;
+    
+    @Schema(description = "Total de carreras", example = "10")
+    private Long totalCarreras;
+    
+    @Schema(description = "Carreras activas", example = "10")
+    private Long carrerasActivas;
+    
+    @Schema(description = "Secciones que no respondieron dentro del plazo", example = "[]")
+    private List<String> incompleto;
+}
@@ -0,0 +1,36 @@
+package com.universidad.api.application.dto;
+
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta para una coincidencia de la búsqueda de texto completo.
+ * Sigue el principio SRP - solo transporta los datos de una coincidencia.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Coincidencia de la búsqueda de texto completo")
+public class ResultadoBusquedaDTO {
+    
+    @Schema(description = "Tipo de recurso", example = "CARRERA")
+    private TipoCoincidencia tipo;
+    
+    @Schema(description = "ID del recurso", example = "1")
+    private Long id;
+    
+    @Schema(description = "Nombre del recurso", example = "Ingeniería de Sistemas")
+    private String nombre;
+    
+    @Schema(description = "Extracto de la descripción con los términos resaltados (HTML escapado con <mark>)",
+            example = "Carrera enfocada en el desarrollo de <mark>software</mark> y sistemas")
+    private String fragmento;
+    
+    @Schema(description = "Puntuación de relevancia", example = "0.42")
+    private Double relevancia;
+}
@@ -0,0 +1,32 @@
+package com.universidad.api.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de un lote. El lote se aplica completo o no se aplica: si una operación
+ * falla, todas se revierten y el resto se informa con estado 424.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de un lote de operaciones")
+public class ResultadoLoteDTO {
+    
+    @Schema(description = "true si todas las operaciones se confirmaron", example = "true")
+    private boolean aplicado;
+    
+    @Schema(description = "Resultados en el orden de las operaciones")
+    private List<ResultadoOperacionDTO> resultados;
+    
+    @Schema(description = "Motivo del fallo si no puede atribuirse a una operación concreta")
+    private String error;
+}
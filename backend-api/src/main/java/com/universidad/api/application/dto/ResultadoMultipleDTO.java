@@ -0,0 +1,28 @@
+package com.universidad.api.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para obtenciones múltiples por ID.
+ * Los recursos encontrados se devuelven en el orden solicitado y los IDs inexistentes
+ * se informan aparte, sin que la solicitud falle.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de una obtención múltiple por ID")
+public class ResultadoMultipleDTO<T> {
+    
+    @Schema(description = "Recursos encontrados, en el orden de los IDs solicitados")
+    private List<T> encontrados;
+    
+    @Schema(description = "IDs solicitados que no existen", example = "[99]")
+    private List<Long> noEncontrados;
+}
@@ -0,0 +1,38 @@
+package com.universidad.api.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una operación de un lote, con el estado HTTP que tendría como solicitud individual.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de una operación del lote")
+public class ResultadoOperacionDTO {
+    
+    @Schema(description = "Posición de la operación en el lote", example = "0")
+    private int indice;
+    
+    @Schema(description = "Estado HTTP de la operación; 424 si no se aplicó porque falló otra", example = "201")
+    private int estado;
+    
+    @Schema(description = "ID del recurso creado, actualizado o desactivado", example = "12")
+    private Long id;
+    
+    @Schema(description = "Referencia indicada en la operación", example = "fac-ingenieria")
+    private String referencia;
+    
+    @Schema(description = "Recurso resultante (FacultadResponseDTO o CarreraResponseDTO); vacío al desactivar")
+    private Object datos;
+    
+    @Schema(description = "Motivo del fallo")
+    private String error;
+}
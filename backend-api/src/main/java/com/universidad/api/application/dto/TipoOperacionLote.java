@@ -0,0 +1,10 @@
+package com.universidad.api.application.dto;
+
+/**
+ * Operaciones admitidas en un lote. DESACTIVAR es la eliminación lógica de los endpoints DELETE.
+ */
+public enum TipoOperacionLote {
+    CREAR,
+    ACTUALIZAR,
+    DESACTIVAR
+}
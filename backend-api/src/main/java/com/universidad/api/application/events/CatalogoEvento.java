@@ -0,0 +1,28 @@
+package com.universidad.api.application.events;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Evento de aplicación que describe una mutación del catálogo (carrera o facultad).
+ * Se publica desde los servicios dentro de la transacción y los consumidores
+ * lo reciben únicamente después del commit.
+ */
+@Value
+@Builder
+public class CatalogoEvento {
+    
+    TipoRecurso recurso;
+    TipoCambio tipo;
+    Long id;
+    
+    /**
+     * Estado del recurso tras el cambio (DTO de respuesta), o null en desactivaciones.
+     */
+    Object datos;
+    
+    @Builder.Default
+    Instant fecha = Instant.now();
+}
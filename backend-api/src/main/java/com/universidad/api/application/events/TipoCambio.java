@@ -0,0 +1,11 @@
+package com.universidad.api.application.events;
+
+/**
+ * Tipos de cambio que se publican sobre el catálogo.
+ * La eliminación es lógica, por eso se publica como DESACTIVADO.
+ */
+public enum TipoCambio {
+    CREADO,
+    ACTUALIZADO,
+    DESACTIVADO
+}
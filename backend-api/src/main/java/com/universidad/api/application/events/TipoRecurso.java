@@ -0,0 +1,9 @@
+package com.universidad.api.application.events;
+
+/**
+ * Recursos del catálogo que generan eventos de cambio.
+ */
+public enum TipoRecurso {
+    CARRERA,
+    FACULTAD
+}
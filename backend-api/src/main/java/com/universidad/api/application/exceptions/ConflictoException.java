@@ -0,0 +1,12 @@
+package com.universidad.api.application.exceptions;
+
+/**
+ * La operación choca con el estado actual del catálogo (nombre duplicado, facultad inactiva).
+ * Se traduce a 409. Sin traza de pila: es una regla de negocio, no un fallo.
+ */
+public class ConflictoException extends RuntimeException {
+    
+    public ConflictoException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,12 @@
+package com.universidad.api.application.exceptions;
+
+/**
+ * La marca de sincronización recibida no es una emitida por la API.
+ * Se traduce a 400. Sin traza de pila: es un error del cliente, no un fallo.
+ */
+public class MarcaInvalidaException extends RuntimeException {
+    
+    public MarcaInvalidaException(String message) {
+        super(message, null, false, false);
+    }
+}
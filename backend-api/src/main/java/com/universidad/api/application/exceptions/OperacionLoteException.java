@@ -0,0 +1,27 @@
+package com.universidad.api.application.exceptions;
+
+/**
+ * Falló una operación de un lote y se revirtió el lote completo.
+ * La causa es el error que habría devuelto la operación como solicitud individual
+ * (404, 409, 400); el índice es -1 si el fallo no corresponde a una operación concreta
+ * (restricción detectada al enviar las escrituras a la base de datos).
+ */
+public class OperacionLoteException extends RuntimeException {
+    
+    private final int indice;
+    private final int operaciones;
+    
+    public OperacionLoteException(int indice, int operaciones, RuntimeException causa) {
+        super(causa.getMessage(), causa, false, false);
+        this.indice = indice;
+        this.operaciones = operaciones;
+    }
+    
+    public int getIndice() {
+        return indice;
+    }
+    
+    public int getOperaciones() {
+        return operaciones;
+    }
+}
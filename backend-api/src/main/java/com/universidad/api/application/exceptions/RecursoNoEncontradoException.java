@@ -0,0 +1,31 @@
+package com.universidad.api.application.exceptions;
+
+/**
+ * El recurso solicitado no existe. Se traduce a 404.
+ * Es un resultado esperado (rastreadores, clientes con IDs obsoletos), no un fallo:
+ * - Sin traza de pila ni supresiones: crearla no recorre la pila
+ * - El mensaje se compone solo si alguien lo pide (respuesta o log), no al lanzarla
+ */
+public class RecursoNoEncontradoException extends RuntimeException {
+    
+    private final String recurso;
+    private final String criterio;
+    private final transient Object valor;
+    
+    /**
+     * @param recurso Tipo de recurso (p. ej. "carrera")
+     * @param criterio Campo por el que se buscó (p. ej. "ID")
+     * @param valor Valor buscado
+     */
+    public RecursoNoEncontradoException(String recurso, String criterio, Object valor) {
+        super(null, null, false, false);
+        this.recurso = recurso;
+        this.criterio = criterio;
+        this.valor = valor;
+    }
+    
+    @Override
+    public String getMessage() {
+        return "No se encontró " + recurso + " con " + criterio + ": " + valor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.universidad.api.application.instituciones;
+
+/**
+ * Institución (universidad) a la que pertenece el trabajo en curso en el hilo actual.
+ * La establece el filtro web en cada solicitud y, en los hilos propios de la aplicación
+ * (escritores y escuchas en segundo plano), el propio componente antes de acceder a datos.
+ * Sin institución establecida se trabaja con la principal.
+ */
+public final class InstitucionActual {
+    
+    public static final String PRINCIPAL = "principal";
+    
+    private static final ThreadLocal<String> INSTITUCION = new ThreadLocal<>();
+    
+    private InstitucionActual() {
+    }
+    
+    public static String obtener() {
+        String institucion = INSTITUCION.get();
+        return institucion != null ? institucion : PRINCIPAL;
+    }
+    
+    public static void establecer(String institucion) {
+        INSTITUCION.set(institucion);
+    }
+    
+    public static void limpiar() {
+        INSTITUCION.remove();
+    }
+}
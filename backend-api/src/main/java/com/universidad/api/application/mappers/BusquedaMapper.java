@@ -0,0 +1,28 @@
+package com.universidad.api.application.mappers;
+
+import com.universidad.api.application.dto.ResultadoBusquedaDTO;
+import com.universidad.api.domain.busqueda.Coincidencia;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Mapper para los resultados de la búsqueda de texto completo.
+ */
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface BusquedaMapper {
+    
+    /**
+     * Convierte una coincidencia del repositorio a DTO de respuesta.
+     */
+    ResultadoBusquedaDTO toDTO(Coincidencia coincidencia);
+    
+    /**
+     * Convierte una lista de coincidencias a lista de DTOs de respuesta.
+     */
+    List<ResultadoBusquedaDTO> toDTOList(List<Coincidencia> coincidencias);
+}
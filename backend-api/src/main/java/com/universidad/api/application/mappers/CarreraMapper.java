@@ -26,6 +26,14 @@ public interface CarreraMapper {
     @Mapping(target = "nombreFacultad", source = "facultad.nombre")
     CarreraResponseDTO toResponseDTO(Carrera carrera);
     
+    /**
+     * Convierte una entidad Carrera a DTO de respuesta con el nombre de facultad ya resuelto.
+     * Evita inicializar la relación lazy con la facultad cuando el nombre viene de la caché.
+     */
+    @Mapping(target = "facultadId", source = "carrera.facultad.facultadId")
+    @Mapping(target = "nombreFacultad", source = "nombreFacultad")
+    CarreraResponseDTO toResponseDTO(Carrera carrera, String nombreFacultad);
+    
     /**
      * Convierte una lista de entidades Carrera a lista de DTOs de respuesta.
      */
@@ -0,0 +1,31 @@
+package com.universidad.api.application.mappers;
+
+import com.universidad.api.application.dto.CarreraNodoDTO;
+import com.universidad.api.application.dto.FacultadNodoDTO;
+import com.universidad.api.domain.entities.Carrera;
+import com.universidad.api.domain.entities.Facultad;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Mapper de entidades a las vistas planas del endpoint GraphQL.
+ * No toca las relaciones lazy: solo lee el ID de la facultad, que el proxy conoce sin inicializarse.
+ */
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface CatalogoNodoMapper {
+    
+    FacultadNodoDTO toNodo(Facultad facultad);
+    
+    List<FacultadNodoDTO> toFacultadNodos(List<Facultad> facultades);
+    
+    @Mapping(target = "facultadId", source = "facultad.facultadId")
+    CarreraNodoDTO toNodo(Carrera carrera);
+    
+    List<CarreraNodoDTO> toCarreraNodos(List<Carrera> carreras);
+}
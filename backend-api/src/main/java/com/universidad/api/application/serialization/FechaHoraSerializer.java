@@ -0,0 +1,48 @@
+package com.universidad.api.application.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Serializa LocalDateTime con el formato "yyyy-MM-dd HH:mm:ss" de las respuestas de la API.
+ * Sustituye a @JsonFormat(pattern = ...): escribe los dígitos directamente en un búfer por hilo
+ * en lugar de pasar por DateTimeFormatter, que crea un StringBuilder y un String por fecha.
+ */
+public class FechaHoraSerializer extends StdSerializer<LocalDateTime> {
+    
+    private static final int LONGITUD = 19;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[LONGITUD]);
+    
+    public FechaHoraSerializer() {
+        super(LocalDateTime.class);
+    }
+    
+    @Override
+    public void serialize(LocalDateTime fecha, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = BUFFER.get();
+        escribir(buffer, 0, fecha.getYear(), 4);
+        buffer[4] = '-';
+        escribir(buffer, 5, fecha.getMonthValue(), 2);
+        buffer[7] = '-';
+        escribir(buffer, 8, fecha.getDayOfMonth(), 2);
+        buffer[10] = ' ';
+        escribir(buffer, 11, fecha.getHour(), 2);
+        buffer[13] = ':';
+        escribir(buffer, 14, fecha.getMinute(), 2);
+        buffer[16] = ':';
+        escribir(buffer, 17, fecha.getSecond(), 2);
+        // El generador copia los caracteres a su propio búfer
+        generator.writeString(buffer, 0, LONGITUD);
+    }
+    
+    private static void escribir(char[] buffer, int posicion, int valor, int digitos) {
+        for (int i = posicion + digitos - 1; i >= posicion; i--) {
+            buffer[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.universidad.api.application.services;
+
+import com.universidad.api.application.dto.PaginaBusquedaDTO;
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+
+/**
+ * Interfaz del servicio de búsqueda de texto completo sobre el catálogo.
+ * Sigue el principio ISP (Interface Segregation Principle) y DIP (Dependency Inversion Principle).
+ */
+public interface BusquedaService {
+    
+    /**
+     * Busca carreras y facultades por nombre, título otorgado y descripción.
+     * @param consulta Texto de búsqueda
+     * @param tipo Tipo de recurso; null para buscar en carreras y facultades
+     * @param soloActivos Si es true solo se devuelven recursos activos
+     * @param pagina Número de página (desde 0)
+     * @param tamanio Tamaño de página
+     * @return Página de resultados ordenados por relevancia con fragmentos resaltados
+     */
+    PaginaBusquedaDTO buscar(String consulta, TipoCoincidencia tipo, boolean soloActivos, int pagina, int tamanio);
+}
@@ -0,0 +1,18 @@
+package com.universidad.api.application.services;
+
+import com.universidad.api.application.dto.PaginaCambiosDTO;
+
+/**
+ * Interfaz del servicio de sincronización incremental del catálogo.
+ * Sigue el principio ISP (Interface Segregation Principle) y DIP (Dependency Inversion Principle).
+ */
+public interface CambiosService {
+    
+    /**
+     * Obtiene las facultades y carreras creadas, actualizadas o desactivadas después de una marca.
+     * @param desde Marca devuelta por la solicitud anterior (siguiente); null para recorrer todo el catálogo
+     * @param tamanio Número máximo de cambios
+     * @return Página de cambios con la marca para continuar
+     */
+    PaginaCambiosDTO obtenerDesde(String desde, int tamanio);
+}
@@ -2,8 +2,10 @@ package com.universidad.api.application.services;
 
 import com.universidad.api.application.dto.CarreraRequestDTO;
 import com.universidad.api.application.dto.CarreraResponseDTO;
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Interfaz del servicio de Carrera.
@@ -21,9 +23,16 @@ public interface CarreraService {
     /**
      * Obtiene una carrera por ID.
      * @param id ID de la carrera
-     * @return DTO con los datos de la carrera
+     * @return DTO con los datos de la carrera, vacío si no existe
      */
-    CarreraResponseDTO obtenerPorId(Long id);
+    Optional<CarreraResponseDTO> obtenerPorId(Long id);
+    
+    /**
+     * Obtiene varias carreras por ID con una sola consulta.
+     * @param ids IDs solicitados (los duplicados se ignoran)
+     * @return Carreras encontradas en el orden solicitado e IDs inexistentes
+     */
+    ResultadoMultipleDTO<CarreraResponseDTO> obtenerPorIds(List<Long> ids);
     
     /**
      * Obtiene todas las carreras.
@@ -68,9 +77,9 @@ public interface CarreraService {
     /**
      * Busca una carrera por nombre.
      * @param nombre Nombre a buscar
-     * @return DTO con la carrera encontrada si existe
+     * @return DTO con la carrera encontrada, vacío si no existe
      */
-    CarreraResponseDTO buscarPorNombre(String nombre);
+    Optional<CarreraResponseDTO> buscarPorNombre(String nombre);
     
     /**
      * Busca carreras por duración en semestres.
@@ -0,0 +1,61 @@
+package com.universidad.api.application.services;
+
+import com.universidad.api.application.dto.CarreraNodoDTO;
+import com.universidad.api.application.dto.FacultadNodoDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Interfaz del servicio de lectura del catálogo como grafo (endpoint GraphQL).
+ * Las operaciones por lotes reciben todas las claves de un nivel de la consulta
+ * y las resuelven con una única consulta SQL.
+ */
+public interface CatalogoGrafoService {
+    
+    /**
+     * Lista las facultades sin sus carreras.
+     * @param soloActivas Si es true solo se devuelven facultades activas
+     * @return Facultades ordenadas por ID
+     */
+    List<FacultadNodoDTO> listarFacultades(boolean soloActivas);
+    
+    /**
+     * Obtiene una facultad sin sus carreras.
+     * @param id ID de la facultad
+     * @return Facultad encontrada, vacío si no existe
+     */
+    Optional<FacultadNodoDTO> obtenerFacultad(Long id);
+    
+    /**
+     * Lista las carreras sin resolver su facultad.
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @param facultadId ID de la facultad; null para todas
+     * @return Carreras encontradas
+     */
+    List<CarreraNodoDTO> listarCarreras(boolean soloActivas, Long facultadId);
+    
+    /**
+     * Obtiene una carrera sin resolver su facultad.
+     * @param id ID de la carrera
+     * @return Carrera encontrada, vacío si no existe
+     */
+    Optional<CarreraNodoDTO> obtenerCarrera(Long id);
+    
+    /**
+     * Obtiene las carreras de varias facultades con una sola consulta.
+     * @param facultadIds IDs de facultad
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @return Carreras agrupadas por ID de facultad; las facultades sin carreras no aparecen
+     */
+    Map<Long, List<CarreraNodoDTO>> carrerasPorFacultades(Collection<Long> facultadIds, boolean soloActivas);
+    
+    /**
+     * Obtiene varias facultades por ID con una sola consulta.
+     * @param ids IDs de facultad
+     * @return Facultades encontradas indexadas por ID
+     */
+    Map<Long, FacultadNodoDTO> facultadesPorIds(Collection<Long> ids);
+}
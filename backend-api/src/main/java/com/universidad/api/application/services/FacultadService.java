@@ -2,8 +2,10 @@ package com.universidad.api.application.services;
 
 import com.universidad.api.application.dto.FacultadRequestDTO;
 import com.universidad.api.application.dto.FacultadResponseDTO;
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Interfaz del servicio de Facultad - Patrón MVC.
@@ -24,9 +26,16 @@ public interface FacultadService {
     /**
      * Obtiene una facultad por ID.
      * @param id ID de la facultad
-     * @return DTO con los datos de la facultad
+     * @return DTO con los datos de la facultad, vacío si no existe
      */
-    FacultadResponseDTO obtenerPorId(Long id);
+    Optional<FacultadResponseDTO> obtenerPorId(Long id);
+    
+    /**
+     * Obtiene varias facultades por ID con una sola consulta.
+     * @param ids IDs solicitados (los duplicados se ignoran)
+     * @return Facultades encontradas en el orden solicitado e IDs inexistentes
+     */
+    ResultadoMultipleDTO<FacultadResponseDTO> obtenerPorIds(List<Long> ids);
     
     /**
      * Obtiene todas las facultades.
@@ -57,9 +66,9 @@ public interface FacultadService {
     /**
      * Busca facultades por nombre.
      * @param nombre Nombre a buscar
-     * @return DTO con la facultad encontrada si existe
+     * @return DTO con la facultad encontrada, vacío si no existe
      */
-    FacultadResponseDTO buscarPorNombre(String nombre);
+    Optional<FacultadResponseDTO> buscarPorNombre(String nombre);
     
     /**
      * Busca facultades por decano.
@@ -0,0 +1,19 @@
+package com.universidad.api.application.services;
+
+import com.universidad.api.application.dto.LoteRequestDTO;
+import com.universidad.api.application.dto.ResultadoLoteDTO;
+
+/**
+ * Servicio de lotes de escritura sobre facultades y carreras.
+ */
+public interface LoteService {
+    
+    /**
+     * Ejecuta las operaciones en orden y en una sola transacción.
+     * @param lote Operaciones; pueden referirse a recursos creados antes en el mismo lote
+     * @return Resultado de cada operación
+     * @throws com.universidad.api.application.exceptions.OperacionLoteException si una operación
+     *         falla; el lote completo se revierte
+     */
+    ResultadoLoteDTO ejecutar(LoteRequestDTO lote);
+}
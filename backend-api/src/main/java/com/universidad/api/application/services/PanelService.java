@@ -0,0 +1,17 @@
+package com.universidad.api.application.services;
+
+import com.universidad.api.application.dto.PanelDTO;
+
+/**
+ * Interfaz del servicio del panel (datos combinados para el frontend).
+ * Sigue el principio ISP (Interface Segregation Principle) y DIP (Dependency Inversion Principle).
+ */
+public interface PanelService {
+    
+    /**
+     * Obtiene facultades, conteos y, si se piden, carreras con consultas simultáneas.
+     * @param incluirCarreras Si es true se incluye el listado completo de carreras
+     * @return Panel con las secciones que respondieron dentro del plazo
+     */
+    PanelDTO obtener(boolean incluirCarreras);
+}
@@ -0,0 +1,50 @@
+package com.universidad.api.application.services.impl;
+
+import com.universidad.api.application.dto.PaginaBusquedaDTO;
+import com.universidad.api.application.mappers.BusquedaMapper;
+import com.universidad.api.application.services.BusquedaService;
+import com.universidad.api.domain.busqueda.PaginaCoincidencias;
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+import com.universidad.api.domain.repositories.BusquedaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Implementación del servicio de búsqueda de texto completo.
+ * Sigue los principios SOLID:
+ * - SRP: Responsabilidad única de buscar en el catálogo
+ * - DIP: Depende de la abstracción BusquedaRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BusquedaServiceImpl implements BusquedaService {
+    
+    private final BusquedaRepository busquedaRepository;
+    private final BusquedaMapper busquedaMapper;
+    
+    @Override
+    public PaginaBusquedaDTO buscar(String consulta, TipoCoincidencia tipo, boolean soloActivos,
+                                    int pagina, int tamanio) {
+        log.info("Buscando '{}' (tipo: {}, página: {}, tamaño: {})", consulta, tipo, pagina, tamanio);
+        
+        Set<TipoCoincidencia> tipos = tipo != null ? EnumSet.of(tipo) : EnumSet.allOf(TipoCoincidencia.class);
+        PaginaCoincidencias resultado = busquedaRepository.buscar(
+                consulta.trim(), tipos, soloActivos, pagina * tamanio, tamanio);
+        
+        return PaginaBusquedaDTO.builder()
+                .consulta(consulta)
+                .pagina(pagina)
+                .tamanio(tamanio)
+                .total(resultado.total())
+                .totalPaginas((int) ((resultado.total() + tamanio - 1) / tamanio))
+                .resultados(busquedaMapper.toDTOList(resultado.coincidencias()))
+                .build();
+    }
+}
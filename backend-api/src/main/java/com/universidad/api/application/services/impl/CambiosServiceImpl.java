@@ -0,0 +1,117 @@
+package com.universidad.api.application.services.impl;
+
+import com.universidad.api.application.dto.CambioCatalogoDTO;
+import com.universidad.api.application.dto.PaginaCambiosDTO;
+import com.universidad.api.application.events.TipoCambio;
+import com.universidad.api.application.events.TipoRecurso;
+import com.universidad.api.application.exceptions.MarcaInvalidaException;
+import com.universidad.api.application.mappers.CarreraMapper;
+import com.universidad.api.application.mappers.FacultadMapper;
+import com.universidad.api.application.services.CambiosService;
+import com.universidad.api.domain.cambios.CambioCatalogo;
+import com.universidad.api.domain.cambios.MarcaCambios;
+import com.universidad.api.domain.repositories.CambiosRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Implementación del servicio de sincronización incremental.
+ * - La marca es opaca para el cliente: codifica transacción, recurso e ID del último cambio entregado
+ * - Se pide un cambio más que el tamaño de página para saber si hay más sin contar
+ * - Si no hay cambios nuevos la marca devuelta es la recibida
+ * - Sin transacción: la consulta es una sola sentencia y una marca inválida se rechaza sin ocupar conexión
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CambiosServiceImpl implements CambiosService {
+    
+    private static final Base64.Encoder CODIFICADOR = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODIFICADOR = Base64.getUrlDecoder();
+    
+    private final CambiosRepository cambiosRepository;
+    private final FacultadMapper facultadMapper;
+    private final CarreraMapper carreraMapper;
+    
+    @Override
+    public PaginaCambiosDTO obtenerDesde(String desde, int tamanio) {
+        MarcaCambios marca = desde == null || desde.isBlank() ? MarcaCambios.INICIO : decodificar(desde.strip());
+        log.info("Obteniendo cambios desde {} (tamaño: {})", marca, tamanio);
+        
+        List<CambioCatalogo> encontrados = cambiosRepository.buscarDesde(marca, tamanio + 1);
+        boolean hayMas = encontrados.size() > tamanio;
+        List<CambioCatalogo> pagina = hayMas ? encontrados.subList(0, tamanio) : encontrados;
+        
+        List<CambioCatalogoDTO> cambios = new ArrayList<>(pagina.size());
+        for (CambioCatalogo cambio : pagina) {
+            cambios.add(toDTO(cambio, marca));
+        }
+        MarcaCambios siguiente = pagina.isEmpty() ? marca : pagina.get(pagina.size() - 1).marca();
+        
+        return PaginaCambiosDTO.builder()
+                .desde(desde)
+                .siguiente(codificar(siguiente))
+                .hayMas(hayMas)
+                .cambios(cambios)
+                .build();
+    }
+    
+    private CambioCatalogoDTO toDTO(CambioCatalogo cambio, MarcaCambios desde) {
+        boolean facultad = cambio.facultad() != null;
+        boolean activo = facultad ? cambio.facultad().getActivo() : cambio.carrera().getActivo();
+        TipoCambio tipo;
+        if (!activo) {
+            tipo = TipoCambio.DESACTIVADO;
+        } else if (creadoDespues(cambio, desde)) {
+            tipo = TipoCambio.CREADO;
+        } else {
+            tipo = TipoCambio.ACTUALIZADO;
+        }
+        
+        return CambioCatalogoDTO.builder()
+                .recurso(facultad ? TipoRecurso.FACULTAD : TipoRecurso.CARRERA)
+                .id(cambio.marca().id())
+                .tipo(tipo)
+                .facultad(facultad ? facultadMapper.toResponseDTO(cambio.facultad()) : null)
+                .carrera(facultad ? null : carreraMapper.toResponseDTO(cambio.carrera()))
+                .build();
+    }
+    
+    // Creado en una transacción posterior a la marca, o en la de la marca pero detrás de ella (aún no entregado)
+    private static boolean creadoDespues(CambioCatalogo cambio, MarcaCambios desde) {
+        if (cambio.cambioCreacion() != desde.cambio()) {
+            return cambio.cambioCreacion() > desde.cambio();
+        }
+        MarcaCambios marca = cambio.marca();
+        return marca.orden() > desde.orden() || (marca.orden() == desde.orden() && marca.id() > desde.id());
+    }
+    
+    private static String codificar(MarcaCambios marca) {
+        String texto = marca.cambio() + "." + marca.orden() + "." + marca.id();
+        return CODIFICADOR.encodeToString(texto.getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private static MarcaCambios decodificar(String marca) {
+        try {
+            String[] partes = new String(DECODIFICADOR.decode(marca), StandardCharsets.US_ASCII).split("\\.");
+            if (partes.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            MarcaCambios resultado = new MarcaCambios(
+                    Long.parseLong(partes[0]), Integer.parseInt(partes[1]), Long.parseLong(partes[2]));
+            if (resultado.cambio() < MarcaCambios.INICIO.cambio() || resultado.orden() < 0
+                    || resultado.orden() > MarcaCambios.ORDEN_CARRERA || resultado.id() < 0) {
+                throw new IllegalArgumentException();
+            }
+            return resultado;
+        } catch (IllegalArgumentException ex) {
+            throw new MarcaInvalidaException("Marca de sincronización inválida: " + marca);
+        }
+    }
+}
@@ -1,20 +1,42 @@
 package com.universidad.api.application.services.impl;
 
+import com.universidad.api.application.auditoria.CambioAuditoria;
+import com.universidad.api.application.auditoria.InstantaneaAuditoria;
+import com.universidad.api.application.auditoria.UsuarioActual;
+import com.universidad.api.application.cache.FacultadCache;
+import com.universidad.api.application.cache.FacultadResumen;
+import com.universidad.api.application.concurrency.SingleFlight;
 import com.universidad.api.application.dto.CarreraRequestDTO;
 import com.universidad.api.application.dto.CarreraResponseDTO;
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
+import com.universidad.api.application.events.CatalogoEvento;
+import com.universidad.api.application.events.TipoCambio;
+import com.universidad.api.application.events.TipoRecurso;
+import com.universidad.api.application.exceptions.ConflictoException;
+import com.universidad.api.application.exceptions.RecursoNoEncontradoException;
+import com.universidad.api.application.instituciones.InstitucionActual;
 import com.universidad.api.application.mappers.CarreraMapper;
 import com.universidad.api.application.services.CarreraService;
 import com.universidad.api.domain.entities.Carrera;
-import com.universidad.api.domain.entities.Facultad;
 import com.universidad.api.domain.repositories.CarreraRepository;
 import com.universidad.api.domain.repositories.FacultadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de Carrera.
@@ -23,7 +45,10 @@ import java.util.List;
  * - OCP: Abierto para extensión a través de la interfaz
  * - LSP: Implementa correctamente la interfaz CarreraService
  * - ISP: Interfaz segregada específica para carreras
- * - DIP: Depende de abstracciones (CarreraRepository, FacultadRepository, CarreraMapper)
+ * - DIP: Depende de abstracciones (CarreraRepository, FacultadRepository, CarreraMapper, FacultadCache)
+ *
+ * Las validaciones de facultad y el nombre de facultad de las respuestas se resuelven
+ * contra la near-cache de facultades, recurriendo al repositorio solo si no hay dato en caché.
  */
 @Slf4j
 @Service
@@ -34,6 +59,9 @@ public class CarreraServiceImpl implements CarreraService {
     private final CarreraRepository carreraRepository;
     private final FacultadRepository facultadRepository;
     private final CarreraMapper carreraMapper;
+    private final FacultadCache facultadCache;
+    private final SingleFlight singleFlight;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public CarreraResponseDTO crear(CarreraRequestDTO requestDTO) {
@@ -42,44 +70,70 @@ public class CarreraServiceImpl implements CarreraService {
         
         // Validar que no exista una carrera con el mismo nombre
         if (carreraRepository.existsByNombreIgnoreCase(requestDTO.getNombre())) {
-            throw new IllegalArgumentException(
+            throw new ConflictoException(
                 "Ya existe una carrera con el nombre: " + requestDTO.getNombre()
             );
         }
         
         // Validar que exista la facultad
-        Facultad facultad = facultadRepository.findById(requestDTO.getFacultadId())
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró facultad con ID: " + requestDTO.getFacultadId()
-            ));
+        FacultadResumen facultad = obtenerFacultad(requestDTO.getFacultadId());
         
         // Validar que la facultad esté activa
-        if (!facultad.getActivo()) {
-            throw new IllegalArgumentException(
+        if (!facultad.activo()) {
+            throw new ConflictoException(
                 "No se puede crear una carrera en una facultad inactiva"
             );
         }
         
         Carrera carrera = carreraMapper.toEntity(requestDTO);
-        carrera.setFacultad(facultad);
+        carrera.setFacultad(facultadRepository.getReferenceById(facultad.facultadId()));
         
         Carrera carreraGuardada = carreraRepository.save(carrera);
         
         log.info("Carrera creada exitosamente con ID: {}", carreraGuardada.getCarreraId());
-        return carreraMapper.toResponseDTO(carreraGuardada);
+        CarreraResponseDTO response = carreraMapper.toResponseDTO(carreraGuardada, facultad.nombre());
+        publicarEvento(TipoCambio.CREADO, carreraGuardada.getCarreraId(), response);
+        auditar(TipoCambio.CREADO, carreraGuardada.getCarreraId(), Map.of(), InstantaneaAuditoria.de(carreraGuardada));
+        return response;
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public CarreraResponseDTO obtenerPorId(Long id) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<CarreraResponseDTO> obtenerPorId(Long id) {
         log.info("Obteniendo carrera por ID: {}", id);
         
-        Carrera carrera = carreraRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró carrera con ID: " + id
-            ));
-            
-        return carreraMapper.toResponseDTO(carrera);
+        // Lecturas concurrentes del mismo ID comparten una única consulta
+        return singleFlight.ejecutar("carrera.obtenerPorId", id,
+            () -> carreraRepository.findById(id).map(this::toResponseDTO));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ResultadoMultipleDTO<CarreraResponseDTO> obtenerPorIds(List<Long> ids) {
+        Set<Long> solicitados = ids.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        log.info("Obteniendo {} carreras por ID", solicitados.size());
+        
+        // Una sola consulta para todos los IDs; el orden se reconstruye a partir de la solicitud
+        Map<Long, Carrera> carreras = carreraRepository.findAllByIdAny(solicitados).stream()
+            .collect(Collectors.toMap(Carrera::getCarreraId, Function.identity()));
+        
+        List<CarreraResponseDTO> encontradas = new ArrayList<>(carreras.size());
+        List<Long> noEncontradas = new ArrayList<>();
+        for (Long id : solicitados) {
+            Carrera carrera = carreras.get(id);
+            if (carrera != null) {
+                encontradas.add(toResponseDTO(carrera));
+            } else {
+                noEncontradas.add(id);
+            }
+        }
+        
+        return ResultadoMultipleDTO.<CarreraResponseDTO>builder()
+            .encontrados(encontradas)
+            .noEncontrados(noEncontradas)
+            .build();
     }
     
     @Override
@@ -88,7 +142,7 @@ public class CarreraServiceImpl implements CarreraService {
         log.info("Obteniendo todas las carreras");
         
         List<Carrera> carreras = carreraRepository.findAll();
-        return carreraMapper.toResponseDTOList(carreras);
+        return toResponseDTOList(carreras);
     }
     
     @Override
@@ -97,7 +151,7 @@ public class CarreraServiceImpl implements CarreraService {
         log.info("Obteniendo carreras activas");
         
         List<Carrera> carreras = carreraRepository.findByActivoTrue();
-        return carreraMapper.toResponseDTOList(carreras);
+        return toResponseDTOList(carreras);
     }
     
     @Override
@@ -106,14 +160,12 @@ public class CarreraServiceImpl implements CarreraService {
         log.info("Obteniendo carreras de facultad ID: {}", facultadId);
         
         // Validar que exista la facultad
-        if (!facultadRepository.existsById(facultadId)) {
-            throw new EntityNotFoundException(
-                "No se encontró facultad con ID: " + facultadId
-            );
+        if (!existeFacultad(facultadId)) {
+            throw new RecursoNoEncontradoException("facultad", "ID", facultadId);
         }
         
         List<Carrera> carreras = carreraRepository.findByFacultad_FacultadId(facultadId);
-        return carreraMapper.toResponseDTOList(carreras);
+        return toResponseDTOList(carreras);
     }
     
     @Override
@@ -122,14 +174,12 @@ public class CarreraServiceImpl implements CarreraService {
         log.info("Obteniendo carreras activas de facultad ID: {}", facultadId);
         
         // Validar que exista la facultad
-        if (!facultadRepository.existsById(facultadId)) {
-            throw new EntityNotFoundException(
-                "No se encontró facultad con ID: " + facultadId
-            );
+        if (!existeFacultad(facultadId)) {
+            throw new RecursoNoEncontradoException("facultad", "ID", facultadId);
         }
         
         List<Carrera> carreras = carreraRepository.findByFacultad_FacultadIdAndActivoTrue(facultadId);
-        return carreraMapper.toResponseDTOList(carreras);
+        return toResponseDTOList(carreras);
     }
     
     @Override
@@ -137,14 +187,13 @@ public class CarreraServiceImpl implements CarreraService {
         log.info("Actualizando carrera ID: {} con datos: {}", id, requestDTO.getNombre());
         
         Carrera carreraExistente = carreraRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró carrera con ID: " + id
-            ));
+            .orElseThrow(() -> new RecursoNoEncontradoException("carrera", "ID", id));
+        Map<String, Object> antes = InstantaneaAuditoria.de(carreraExistente);
         
         // Validar que no exista otra carrera con el mismo nombre
         if (carreraRepository.existsByNombreIgnoreCaseAndCarreraIdNot(
             requestDTO.getNombre(), id)) {
-            throw new IllegalArgumentException(
+            throw new ConflictoException(
                 "Ya existe otra carrera con el nombre: " + requestDTO.getNombre()
             );
         }
@@ -153,25 +202,25 @@ public class CarreraServiceImpl implements CarreraService {
         if (requestDTO.getFacultadId() != null && 
             !requestDTO.getFacultadId().equals(carreraExistente.getFacultadId())) {
             
-            Facultad nuevaFacultad = facultadRepository.findById(requestDTO.getFacultadId())
-                .orElseThrow(() -> new EntityNotFoundException(
-                    "No se encontró facultad con ID: " + requestDTO.getFacultadId()
-                ));
+            FacultadResumen nuevaFacultad = obtenerFacultad(requestDTO.getFacultadId());
                 
-            if (!nuevaFacultad.getActivo()) {
-                throw new IllegalArgumentException(
+            if (!nuevaFacultad.activo()) {
+                throw new ConflictoException(
                     "No se puede asignar una carrera a una facultad inactiva"
                 );
             }
             
-            carreraExistente.setFacultad(nuevaFacultad);
+            carreraExistente.setFacultad(facultadRepository.getReferenceById(nuevaFacultad.facultadId()));
         }
         
         carreraMapper.updateEntityFromDTO(requestDTO, carreraExistente);
         Carrera carreraActualizada = carreraRepository.save(carreraExistente);
         
         log.info("Carrera actualizada exitosamente: {}", carreraActualizada.getCarreraId());
-        return carreraMapper.toResponseDTO(carreraActualizada);
+        CarreraResponseDTO response = toResponseDTO(carreraActualizada);
+        publicarEvento(TipoCambio.ACTUALIZADO, carreraActualizada.getCarreraId(), response);
+        auditar(TipoCambio.ACTUALIZADO, id, antes, InstantaneaAuditoria.de(carreraActualizada));
+        return response;
     }
     
     @Override
@@ -179,28 +228,28 @@ public class CarreraServiceImpl implements CarreraService {
         log.info("Eliminando carrera ID: {}", id);
         
         Carrera carrera = carreraRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró carrera con ID: " + id
-            ));
+            .orElseThrow(() -> new RecursoNoEncontradoException("carrera", "ID", id));
         
         // Eliminación lógica
+        Map<String, Object> antes = InstantaneaAuditoria.de(carrera);
         carrera.setActivo(false);
         carreraRepository.save(carrera);
+        publicarEvento(TipoCambio.DESACTIVADO, id, null);
+        auditar(TipoCambio.DESACTIVADO, id, antes, InstantaneaAuditoria.de(carrera));
         
         log.info("Carrera eliminada (desactivada) exitosamente: {}", id);
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public CarreraResponseDTO buscarPorNombre(String nombre) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<CarreraResponseDTO> buscarPorNombre(String nombre) {
         log.info("Buscando carrera por nombre: {}", nombre);
         
-        Carrera carrera = carreraRepository.findByNombreIgnoreCase(nombre)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró carrera con nombre: " + nombre
-            ));
-            
-        return carreraMapper.toResponseDTO(carrera);
+        // Lecturas concurrentes del mismo nombre comparten una única consulta; la búsqueda no
+        // distingue mayúsculas, así que "Sistemas" y "sistemas" son la misma clave
+        String buscado = nombre.strip();
+        return singleFlight.ejecutar("carrera.buscarPorNombre", buscado.toLowerCase(Locale.ROOT),
+            () -> carreraRepository.findByNombreIgnoreCase(buscado).map(this::toResponseDTO));
     }
     
     @Override
@@ -209,6 +258,62 @@ public class CarreraServiceImpl implements CarreraService {
         log.info("Buscando carreras por duración: {} semestres", duracion);
         
         List<Carrera> carreras = carreraRepository.findByDuracionSemestres(duracion);
-        return carreraMapper.toResponseDTOList(carreras);
+        return toResponseDTOList(carreras);
+    }
+    
+    /**
+     * Publica el cambio como evento de aplicación; los oyentes lo reciben tras el commit.
+     */
+    private void publicarEvento(TipoCambio tipo, Long id, CarreraResponseDTO datos) {
+        eventPublisher.publishEvent(CatalogoEvento.builder()
+                .recurso(TipoRecurso.CARRERA)
+                .tipo(tipo)
+                .id(id)
+                .datos(datos)
+                .build());
+    }
+    
+    /**
+     * Publica los campos modificados para la auditoría; se escriben de forma asíncrona tras el commit.
+     */
+    private void auditar(TipoCambio tipo, Long id, Map<String, Object> antes, Map<String, Object> despues) {
+        eventPublisher.publishEvent(CambioAuditoria.builder()
+                .institucion(InstitucionActual.obtener())
+                .recurso(TipoRecurso.CARRERA)
+                .recursoId(id)
+                .operacion(tipo)
+                .usuario(UsuarioActual.obtener())
+                .campos(InstantaneaAuditoria.diferencias(antes, despues))
+                .build());
+    }
+    
+    /**
+     * Obtiene los datos de la facultad desde la near-cache o, si no está, desde el repositorio.
+     */
+    private FacultadResumen obtenerFacultad(Long facultadId) {
+        return facultadCache.obtener(facultadId)
+            .or(() -> facultadRepository.findById(facultadId)
+                .map(f -> new FacultadResumen(f.getFacultadId(), f.getNombre(), f.getActivo())))
+            .orElseThrow(() -> new RecursoNoEncontradoException("facultad", "ID", facultadId));
+    }
+    
+    private boolean existeFacultad(Long facultadId) {
+        return facultadCache.obtener(facultadId).isPresent() || facultadRepository.existsById(facultadId);
+    }
+    
+    /**
+     * Mapea una carrera tomando el nombre de la facultad de la caché, sin inicializar la relación lazy.
+     */
+    private CarreraResponseDTO toResponseDTO(Carrera carrera) {
+        String nombreFacultad = facultadCache.obtener(carrera.getFacultadId())
+            .map(FacultadResumen::nombre)
+            .orElseGet(carrera::getNombreFacultad);
+        return carreraMapper.toResponseDTO(carrera, nombreFacultad);
+    }
+    
+    private List<CarreraResponseDTO> toResponseDTOList(List<Carrera> carreras) {
+        return carreras.stream()
+            .map(this::toResponseDTO)
+            .toList();
     }
 }
\ No newline at end of file
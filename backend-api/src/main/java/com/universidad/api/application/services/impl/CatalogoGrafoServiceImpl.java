@@ -0,0 +1,90 @@
+package com.universidad.api.application.services.impl;
+
+import com.universidad.api.application.dto.CarreraNodoDTO;
+import com.universidad.api.application.dto.FacultadNodoDTO;
+import com.universidad.api.application.mappers.CatalogoNodoMapper;
+import com.universidad.api.application.services.CatalogoGrafoService;
+import com.universidad.api.domain.entities.Carrera;
+import com.universidad.api.domain.entities.Facultad;
+import com.universidad.api.domain.repositories.CarreraRepository;
+import com.universidad.api.domain.repositories.FacultadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del servicio de lectura del catálogo como grafo.
+ * Sigue los principios SOLID:
+ * - SRP: Solo lecturas planas y por lotes; las relaciones las compone la capa GraphQL
+ * - DIP: Depende de las abstracciones de repositorio
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CatalogoGrafoServiceImpl implements CatalogoGrafoService {
+    
+    private final FacultadRepository facultadRepository;
+    private final CarreraRepository carreraRepository;
+    private final CatalogoNodoMapper catalogoNodoMapper;
+    
+    @Override
+    public List<FacultadNodoDTO> listarFacultades(boolean soloActivas) {
+        List<Facultad> facultades = soloActivas
+                ? facultadRepository.findByActivoTrue()
+                : facultadRepository.findAll(Sort.by("facultadId"));
+        return catalogoNodoMapper.toFacultadNodos(facultades);
+    }
+    
+    @Override
+    public Optional<FacultadNodoDTO> obtenerFacultad(Long id) {
+        return facultadRepository.findById(id).map(catalogoNodoMapper::toNodo);
+    }
+    
+    @Override
+    public List<CarreraNodoDTO> listarCarreras(boolean soloActivas, Long facultadId) {
+        List<Carrera> carreras;
+        if (facultadId != null) {
+            carreras = soloActivas
+                    ? carreraRepository.findByFacultad_FacultadIdAndActivoTrue(facultadId)
+                    : carreraRepository.findByFacultad_FacultadId(facultadId);
+        } else {
+            carreras = soloActivas
+                    ? carreraRepository.findByActivoTrue()
+                    : carreraRepository.findAll(Sort.by("carreraId"));
+        }
+        return catalogoNodoMapper.toCarreraNodos(carreras);
+    }
+    
+    @Override
+    public Optional<CarreraNodoDTO> obtenerCarrera(Long id) {
+        return carreraRepository.findById(id).map(catalogoNodoMapper::toNodo);
+    }
+    
+    @Override
+    public Map<Long, List<CarreraNodoDTO>> carrerasPorFacultades(Collection<Long> facultadIds, boolean soloActivas) {
+        log.debug("Cargando carreras de {} facultades en lote (soloActivas: {})", facultadIds.size(), soloActivas);
+        
+        return carreraRepository.findAllByFacultadIdAny(facultadIds, soloActivas).stream()
+                .map(catalogoNodoMapper::toNodo)
+                .collect(Collectors.groupingBy(CarreraNodoDTO::facultadId));
+    }
+    
+    @Override
+    public Map<Long, FacultadNodoDTO> facultadesPorIds(Collection<Long> ids) {
+        log.debug("Cargando {} facultades en lote", ids.size());
+        
+        return facultadRepository.findAllByIdAny(ids).stream()
+                .map(catalogoNodoMapper::toNodo)
+                .collect(Collectors.toMap(FacultadNodoDTO::facultadId, Function.identity()));
+    }
+}
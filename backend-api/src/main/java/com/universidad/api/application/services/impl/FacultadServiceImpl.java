@@ -1,18 +1,39 @@
 package com.universidad.api.application.services.impl;
 
+import com.universidad.api.application.auditoria.CambioAuditoria;
+import com.universidad.api.application.auditoria.InstantaneaAuditoria;
+import com.universidad.api.application.auditoria.UsuarioActual;
+import com.universidad.api.application.concurrency.SingleFlight;
 import com.universidad.api.application.dto.FacultadRequestDTO;
 import com.universidad.api.application.dto.FacultadResponseDTO;
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
+import com.universidad.api.application.events.CatalogoEvento;
+import com.universidad.api.application.events.TipoCambio;
+import com.universidad.api.application.events.TipoRecurso;
+import com.universidad.api.application.exceptions.ConflictoException;
+import com.universidad.api.application.exceptions.RecursoNoEncontradoException;
+import com.universidad.api.application.instituciones.InstitucionActual;
 import com.universidad.api.application.mappers.FacultadMapper;
 import com.universidad.api.application.services.FacultadService;
 import com.universidad.api.domain.entities.Facultad;
 import com.universidad.api.domain.repositories.FacultadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de Facultad - Patrón MVC.
@@ -32,6 +53,10 @@ public class FacultadServiceImpl implements FacultadService {
     private final FacultadRepository facultadRepository;
     // Inyección de dependencia del Mapper (transformación de datos)
     private final FacultadMapper facultadMapper;
+    // Coalescencia de lecturas idénticas concurrentes
+    private final SingleFlight singleFlight;
+    // Publicación de eventos de cambio del catálogo
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public FacultadResponseDTO crear(FacultadRequestDTO requestDTO) {
@@ -39,7 +64,7 @@ public class FacultadServiceImpl implements FacultadService {
         
         // Validar que no exista una facultad con el mismo nombre
         if (facultadRepository.existsByNombreIgnoreCase(requestDTO.getNombre())) {
-            throw new IllegalArgumentException(
+            throw new ConflictoException(
                 "Ya existe una facultad con el nombre: " + requestDTO.getNombre()
             );
         }
@@ -48,20 +73,49 @@ public class FacultadServiceImpl implements FacultadService {
         Facultad facultadGuardada = facultadRepository.save(facultad);
         
         log.info("Facultad creada exitosamente con ID: {}", facultadGuardada.getFacultadId());
-        return facultadMapper.toResponseDTO(facultadGuardada);
+        FacultadResponseDTO response = facultadMapper.toResponseDTO(facultadGuardada);
+        publicarEvento(TipoCambio.CREADO, facultadGuardada.getFacultadId(), response);
+        auditar(TipoCambio.CREADO, facultadGuardada.getFacultadId(), Map.of(), InstantaneaAuditoria.de(facultadGuardada));
+        return response;
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public FacultadResponseDTO obtenerPorId(Long id) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<FacultadResponseDTO> obtenerPorId(Long id) {
         log.info("Obteniendo facultad por ID: {}", id);
         
-        Facultad facultad = facultadRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró facultad con ID: " + id
-            ));
-            
-        return facultadMapper.toResponseDTO(facultad);
+        // Lecturas concurrentes del mismo ID comparten una única consulta
+        return singleFlight.ejecutar("facultad.obtenerPorId", id,
+            () -> facultadRepository.findById(id).map(facultadMapper::toResponseDTO));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ResultadoMultipleDTO<FacultadResponseDTO> obtenerPorIds(List<Long> ids) {
+        Set<Long> solicitados = ids.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        log.info("Obteniendo {} facultades por ID", solicitados.size());
+        
+        // Una sola consulta para todos los IDs; el orden se reconstruye a partir de la solicitud
+        Map<Long, Facultad> facultades = facultadRepository.findAllByIdAny(solicitados).stream()
+            .collect(Collectors.toMap(Facultad::getFacultadId, Function.identity()));
+        
+        List<FacultadResponseDTO> encontradas = new ArrayList<>(facultades.size());
+        List<Long> noEncontradas = new ArrayList<>();
+        for (Long id : solicitados) {
+            Facultad facultad = facultades.get(id);
+            if (facultad != null) {
+                encontradas.add(facultadMapper.toResponseDTO(facultad));
+            } else {
+                noEncontradas.add(id);
+            }
+        }
+        
+        return ResultadoMultipleDTO.<FacultadResponseDTO>builder()
+            .encontrados(encontradas)
+            .noEncontrados(noEncontradas)
+            .build();
     }
     
     @Override
@@ -87,14 +141,13 @@ public class FacultadServiceImpl implements FacultadService {
         log.info("Actualizando facultad ID: {} con datos: {}", id, requestDTO.getNombre());
         
         Facultad facultadExistente = facultadRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró facultad con ID: " + id
-            ));
+            .orElseThrow(() -> new RecursoNoEncontradoException("facultad", "ID", id));
+        Map<String, Object> antes = InstantaneaAuditoria.de(facultadExistente);
         
         // Validar que no exista otra facultad con el mismo nombre
         if (facultadRepository.existsByNombreIgnoreCaseAndFacultadIdNot(
             requestDTO.getNombre(), id)) {
-            throw new IllegalArgumentException(
+            throw new ConflictoException(
                 "Ya existe otra facultad con el nombre: " + requestDTO.getNombre()
             );
         }
@@ -103,7 +156,10 @@ public class FacultadServiceImpl implements FacultadService {
         Facultad facultadActualizada = facultadRepository.save(facultadExistente);
         
         log.info("Facultad actualizada exitosamente: {}", facultadActualizada.getFacultadId());
-        return facultadMapper.toResponseDTO(facultadActualizada);
+        FacultadResponseDTO response = facultadMapper.toResponseDTO(facultadActualizada);
+        publicarEvento(TipoCambio.ACTUALIZADO, facultadActualizada.getFacultadId(), response);
+        auditar(TipoCambio.ACTUALIZADO, id, antes, InstantaneaAuditoria.de(facultadActualizada));
+        return response;
     }
     
     @Override
@@ -111,28 +167,28 @@ public class FacultadServiceImpl implements FacultadService {
         log.info("Eliminando facultad ID: {}", id);
         
         Facultad facultad = facultadRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró facultad con ID: " + id
-            ));
+            .orElseThrow(() -> new RecursoNoEncontradoException("facultad", "ID", id));
         
         // Eliminación lógica
+        Map<String, Object> antes = InstantaneaAuditoria.de(facultad);
         facultad.setActivo(false);
         facultadRepository.save(facultad);
+        publicarEvento(TipoCambio.DESACTIVADO, id, null);
+        auditar(TipoCambio.DESACTIVADO, id, antes, InstantaneaAuditoria.de(facultad));
         
         log.info("Facultad eliminada (desactivada) exitosamente: {}", id);
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public FacultadResponseDTO buscarPorNombre(String nombre) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<FacultadResponseDTO> buscarPorNombre(String nombre) {
         log.info("Buscando facultad por nombre: {}", nombre);
         
-        Facultad facultad = facultadRepository.findByNombreIgnoreCase(nombre)
-            .orElseThrow(() -> new EntityNotFoundException(
-                "No se encontró facultad con nombre: " + nombre
-            ));
-            
-        return facultadMapper.toResponseDTO(facultad);
+        // Lecturas concurrentes del mismo nombre comparten una única consulta; la búsqueda no
+        // distingue mayúsculas, así que "Sistemas" y "sistemas" son la misma clave
+        String buscado = nombre.strip();
+        return singleFlight.ejecutar("facultad.buscarPorNombre", buscado.toLowerCase(Locale.ROOT),
+            () -> facultadRepository.findByNombreIgnoreCase(buscado).map(facultadMapper::toResponseDTO));
     }
     
     @Override
@@ -143,4 +199,30 @@ public class FacultadServiceImpl implements FacultadService {
         List<Facultad> facultades = facultadRepository.findByDecanoContainingIgnoreCase(decano);
         return facultadMapper.toResponseDTOList(facultades);
     }
+    
+    /**
+     * Publica el cambio como evento de aplicación; los oyentes lo reciben tras el commit.
+     */
+    private void publicarEvento(TipoCambio tipo, Long id, FacultadResponseDTO datos) {
+        eventPublisher.publishEvent(CatalogoEvento.builder()
+                .recurso(TipoRecurso.FACULTAD)
+                .tipo(tipo)
+                .id(id)
+                .datos(datos)
+                .build());
+    }
+    
+    /**
+     * Publica los campos modificados para la auditoría; se escriben de forma asíncrona tras el commit.
+     */
+    private void auditar(TipoCambio tipo, Long id, Map<String, Object> antes, Map<String, Object> despues) {
+        eventPublisher.publishEvent(CambioAuditoria.builder()
+                .institucion(InstitucionActual.obtener())
+                .recurso(TipoRecurso.FACULTAD)
+                .recursoId(id)
+                .operacion(tipo)
+                .usuario(UsuarioActual.obtener())
+                .campos(InstantaneaAuditoria.diferencias(antes, despues))
+                .build());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,295 @@
+package com.universidad.api.application.services.impl;
+
+import com.universidad.api.application.dto.CarreraRequestDTO;
+import com.universidad.api.application.dto.CarreraResponseDTO;
+import com.universidad.api.application.dto.FacultadRequestDTO;
+import com.universidad.api.application.dto.FacultadResponseDTO;
+import com.universidad.api.application.dto.LoteRequestDTO;
+import com.universidad.api.application.dto.OperacionLoteDTO;
+import com.universidad.api.application.dto.ResultadoLoteDTO;
+import com.universidad.api.application.dto.ResultadoOperacionDTO;
+import com.universidad.api.application.events.TipoRecurso;
+import com.universidad.api.application.exceptions.ConflictoException;
+import com.universidad.api.application.exceptions.OperacionLoteException;
+import com.universidad.api.application.exceptions.RecursoNoEncontradoException;
+import com.universidad.api.application.services.CarreraService;
+import com.universidad.api.application.services.FacultadService;
+import com.universidad.api.application.services.LoteService;
+import com.universidad.api.domain.entities.Carrera;
+import com.universidad.api.domain.entities.Facultad;
+import com.universidad.api.domain.repositories.CarreraRepository;
+import com.universidad.api.domain.repositories.FacultadRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementación del servicio de lotes.
+ * - Cada operación se delega en FacultadService o CarreraService, con las mismas validaciones,
+ *   eventos y auditoría que su endpoint individual (eventos y auditoría se emiten tras el commit)
+ * - Todo el lote es una transacción: un solo commit y, si una operación falla, nada se aplica
+ * - Durante el lote las consultas de validación no vacían el contexto de persistencia; los
+ *   INSERT y UPDATE se envían juntos al final, agrupados en lotes JDBC (hibernate.jdbc.batch_size).
+ *   Los IDs se conocen antes del INSERT gracias a las secuencias por bloques (V9)
+ * - Como esas consultas no ven lo pendiente del propio lote, los nombres repetidos dentro del
+ *   lote se comprueban aquí, en memoria
+ * - Un nombre que el lote dejó libre al renombrar sigue ocupado para la base: antes de reutilizarlo
+ *   se envían las escrituras pendientes, para que la comprobación del servicio vea el renombrado
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LoteServiceImpl implements LoteService {
+    
+    // Estado HTTP que tendría cada operación como solicitud individual
+    private static final int CREADA = 201;
+    private static final int ACTUALIZADA = 200;
+    private static final int DESACTIVADA = 204;
+    
+    private final FacultadService facultadService;
+    private final CarreraService carreraService;
+    private final FacultadRepository facultadRepository;
+    private final CarreraRepository carreraRepository;
+    private final Validator validator;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public ResultadoLoteDTO ejecutar(LoteRequestDTO lote) {
+        List<OperacionLoteDTO> operaciones = lote.getOperaciones();
+        log.info("Ejecutando lote de {} operaciones", operaciones.size());
+    
+        entityManager.setFlushMode(FlushModeType.COMMIT);
+        EstadoLote estado = new EstadoLote();
+        List<ResultadoOperacionDTO> resultados = new ArrayList<>(operaciones.size());
+        for (int i = 0; i < operaciones.size(); i++) {
+            try {
+                resultados.add(ejecutar(i, operaciones.get(i), estado));
+            } catch (RecursoNoEncontradoException | EntityNotFoundException | ConflictoException
+                     | ConstraintViolationException | IllegalArgumentException | DataIntegrityViolationException ex) {
+                log.info("Lote revertido: la operación {} falló: {}", i, ex.getMessage());
+                throw new OperacionLoteException(i, operaciones.size(), ex);
+            }
+        }
+    
+        // Envía las escrituras dentro del método: una restricción violada se informa como fallo del lote
+        try {
+            facultadRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            log.info("Lote revertido al enviar las escrituras: {}", ex.getMostSpecificCause().getMessage());
+            throw new OperacionLoteException(-1, operaciones.size(), ex);
+        }
+    
+        log.info("Lote de {} operaciones aplicado", operaciones.size());
+        return ResultadoLoteDTO.builder()
+            .aplicado(true)
+            .resultados(resultados)
+            .build();
+    }
+    
+    private ResultadoOperacionDTO ejecutar(int indice, OperacionLoteDTO operacion, EstadoLote estado) {
+        return switch (operacion.getRecurso()) {
+            case FACULTAD -> ejecutarFacultad(indice, operacion, estado);
+            case CARRERA -> ejecutarCarrera(indice, operacion, estado);
+        };
+    }
+    
+    private ResultadoOperacionDTO ejecutarFacultad(int indice, OperacionLoteDTO operacion, EstadoLote estado) {
+        switch (operacion.getOperacion()) {
+            case CREAR -> {
+                FacultadRequestDTO datos = validar(operacion.getFacultad(), "facultad");
+                estado.comprobarNombre(TipoRecurso.FACULTAD, datos.getNombre(), null);
+                enviarSiLiberado(estado, TipoRecurso.FACULTAD, datos.getNombre());
+                FacultadResponseDTO creada = facultadService.crear(datos);
+                estado.registrar(operacion, TipoRecurso.FACULTAD, creada.facultadId(), datos.getNombre());
+                return resultado(indice, CREADA, creada.facultadId(), operacion, creada);
+            }
+            case ACTUALIZAR -> {
+                Long id = estado.resolverId(operacion, TipoRecurso.FACULTAD);
+                FacultadRequestDTO datos = validar(operacion.getFacultad(), "facultad");
+                estado.comprobarNombre(TipoRecurso.FACULTAD, datos.getNombre(), id);
+                enviarSiLiberado(estado, TipoRecurso.FACULTAD, datos.getNombre());
+                String anterior = facultadRepository.findById(id).map(Facultad::getNombre).orElse(null);
+                FacultadResponseDTO actualizada = facultadService.actualizar(id, datos);
+                estado.renombrar(TipoRecurso.FACULTAD, id, anterior, datos.getNombre());
+                return resultado(indice, ACTUALIZADA, id, operacion, actualizada);
+            }
+            case DESACTIVAR -> {
+                Long id = estado.resolverId(operacion, TipoRecurso.FACULTAD);
+                facultadService.eliminar(id);
+                return resultado(indice, DESACTIVADA, id, operacion, null);
+            }
+            default -> throw new IllegalArgumentException("Operación no admitida: " + operacion.getOperacion());
+        }
+    }
+    
+    private ResultadoOperacionDTO ejecutarCarrera(int indice, OperacionLoteDTO operacion, EstadoLote estado) {
+        switch (operacion.getOperacion()) {
+            case CREAR -> {
+                CarreraRequestDTO datos = validar(conFacultad(operacion, estado), "carrera");
+                estado.comprobarNombre(TipoRecurso.CARRERA, datos.getNombre(), null);
+                enviarSiLiberado(estado, TipoRecurso.CARRERA, datos.getNombre());
+                CarreraResponseDTO creada = carreraService.crear(datos);
+                estado.registrar(operacion, TipoRecurso.CARRERA, creada.carreraId(), datos.getNombre());
+                return resultado(indice, CREADA, creada.carreraId(), operacion, creada);
+            }
+            case ACTUALIZAR -> {
+                Long id = estado.resolverId(operacion, TipoRecurso.CARRERA);
+                CarreraRequestDTO datos = validar(conFacultad(operacion, estado), "carrera");
+                estado.comprobarNombre(TipoRecurso.CARRERA, datos.getNombre(), id);
+                enviarSiLiberado(estado, TipoRecurso.CARRERA, datos.getNombre());
+                String anterior = carreraRepository.findById(id).map(Carrera::getNombre).orElse(null);
+                CarreraResponseDTO actualizada = carreraService.actualizar(id, datos);
+                estado.renombrar(TipoRecurso.CARRERA, id, anterior, datos.getNombre());
+                return resultado(indice, ACTUALIZADA, id, operacion, actualizada);
+            }
+            case DESACTIVAR -> {
+                Long id = estado.resolverId(operacion, TipoRecurso.CARRERA);
+                carreraService.eliminar(id);
+                return resultado(indice, DESACTIVADA, id, operacion, null);
+            }
+            default -> throw new IllegalArgumentException("Operación no admitida: " + operacion.getOperacion());
+        }
+    }
+    
+    // Los servicios comprueban el nombre en la base, que no ve los renombrados pendientes del lote
+    private void enviarSiLiberado(EstadoLote estado, TipoRecurso recurso, String nombre) {
+        if (estado.liberado(recurso, nombre)) {
+            facultadRepository.flush();
+            estado.enviado();
+        }
+    }
+    
+    private static CarreraRequestDTO conFacultad(OperacionLoteDTO operacion, EstadoLote estado) {
+        CarreraRequestDTO datos = operacion.getCarrera();
+        if (datos != null && operacion.getFacultadRef() != null) {
+            datos.setFacultadId(estado.referencia(operacion.getFacultadRef(), TipoRecurso.FACULTAD));
+        }
+        return datos;
+    }
+    
+    // Las restricciones de los DTO se comprueban aquí y no en el controlador: facultadId puede venir por referencia
+    private <T> T validar(T datos, String campo) {
+        if (datos == null) {
+            throw new IllegalArgumentException("Faltan los datos de " + campo);
+        }
+        Set<ConstraintViolation<T>> violaciones = validator.validate(datos);
+        if (!violaciones.isEmpty()) {
+            throw new ConstraintViolationException(violaciones);
+        }
+        return datos;
+    }
+    
+    private static ResultadoOperacionDTO resultado(int indice, int estado, Long id,
+                                                   OperacionLoteDTO operacion, Object datos) {
+        return ResultadoOperacionDTO.builder()
+            .indice(indice)
+            .estado(estado)
+            .id(id)
+            .referencia(operacion.getReferencia())
+            .datos(datos)
+            .build();
+    }
+    
+    /**
+     * Referencias y nombres de los recursos creados o renombrados en el lote en curso.
+     */
+    private static final class EstadoLote {
+    
+        private final Map<String, Referencia> referencias = new HashMap<>();
+        // Por recurso: nombre en minúsculas → ID, e ID → nombre, de lo escrito en el lote
+        private final Map<TipoRecurso, Map<String, Long>> idsPorNombre = new EnumMap<>(TipoRecurso.class);
+        private final Map<TipoRecurso, Map<Long, String>> nombresPorId = new EnumMap<>(TipoRecurso.class);
+        // Por recurso: nombres en minúsculas que el lote dejó libres y aún no se enviaron a la base
+        private final Map<TipoRecurso, Set<String>> liberados = new EnumMap<>(TipoRecurso.class);
+    
+        Long resolverId(OperacionLoteDTO operacion, TipoRecurso recurso) {
+            if (operacion.getIdRef() != null) {
+                return referencia(operacion.getIdRef(), recurso);
+            }
+            if (operacion.getId() == null) {
+                throw new IllegalArgumentException("Debe indicar id o idRef");
+            }
+            return operacion.getId();
+        }
+    
+        Long referencia(String nombre, TipoRecurso recurso) {
+            Referencia referencia = referencias.get(nombre);
+            if (referencia == null || referencia.recurso() != recurso) {
+                throw new IllegalArgumentException("Referencia desconocida: '" + nombre + "' no es una "
+                        + recurso.name().toLowerCase(Locale.ROOT) + " creada antes en el lote");
+            }
+            return referencia.id();
+        }
+    
+        void comprobarNombre(TipoRecurso recurso, String nombre, Long id) {
+            Long existente = idsPorNombre.getOrDefault(recurso, Map.of()).get(clave(nombre));
+            if (existente != null && !existente.equals(id)) {
+                throw new ConflictoException("Ya existe una " + recurso.name().toLowerCase(Locale.ROOT)
+                        + " con el nombre: " + nombre);
+            }
+        }
+    
+        void registrar(OperacionLoteDTO operacion, TipoRecurso recurso, Long id, String nombre) {
+            String referencia = operacion.getReferencia();
+            if (referencia != null && referencias.putIfAbsent(referencia, new Referencia(recurso, id)) != null) {
+                throw new IllegalArgumentException("Referencia repetida en el lote: " + referencia);
+            }
+            renombrar(recurso, id, null, nombre);
+        }
+    
+        /**
+         * @param anteriorEnBase nombre del recurso antes de la operación (null si se creó en ella)
+         */
+        void renombrar(TipoRecurso recurso, Long id, String anteriorEnBase, String nombre) {
+            String anterior = nombresPorId.computeIfAbsent(recurso, r -> new HashMap<>()).put(id, clave(nombre));
+            Map<String, Long> ids = idsPorNombre.computeIfAbsent(recurso, r -> new HashMap<>());
+            if (anterior != null) {
+                ids.remove(anterior, id);
+            }
+            ids.put(clave(nombre), id);
+    
+            Set<String> libres = liberados.computeIfAbsent(recurso, r -> new HashSet<>());
+            if (anteriorEnBase != null) {
+                libres.add(clave(anteriorEnBase));
+            }
+            libres.remove(clave(nombre));
+        }
+    
+        boolean liberado(TipoRecurso recurso, String nombre) {
+            return liberados.getOrDefault(recurso, Set.of()).contains(clave(nombre));
+        }
+    
+        // Tras enviar las escrituras la base ya ve libres los nombres liberados
+        void enviado() {
+            liberados.clear();
+        }
+    
+        private static String clave(String nombre) {
+            return nombre.toLowerCase(Locale.ROOT);
+        }
+    
+        private record Referencia(TipoRecurso recurso, Long id) {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.universidad.api.application.services.impl;
+
+import com.universidad.api.application.cache.FacultadResumen;
+import com.universidad.api.application.concurrency.ConsultasParalelas;
+import com.universidad.api.application.dto.PanelDTO;
+import com.universidad.api.application.services.CarreraService;
+import com.universidad.api.application.services.PanelService;
+import com.universidad.api.domain.repositories.CarreraRepository;
+import com.universidad.api.domain.repositories.FacultadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Implementación del servicio del panel.
+ * - Las secciones son independientes: se consultan a la vez con {@link ConsultasParalelas}, cada una
+ *   en su transacción, bajo un plazo común
+ * - Las facultades se leen sin sus carreras: al desplegable le basta el resumen
+ * - Sin transacción propia: la abren las consultas en sus hilos
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PanelServiceImpl implements PanelService {
+    
+    private static final String FACULTADES = "facultades";
+    private static final String CARRERAS = "carreras";
+    private static final String CONTEO_FACULTADES = "conteoFacultades";
+    private static final String CONTEO_CARRERAS = "conteoCarreras";
+    
+    private final ConsultasParalelas consultasParalelas;
+    private final FacultadRepository facultadRepository;
+    private final CarreraRepository carreraRepository;
+    private final CarreraService carreraService;
+    
+    @Override
+    public PanelDTO obtener(boolean incluirCarreras) {
+        log.info("Obteniendo panel (carreras: {})", incluirCarreras);
+        
+        Map<String, Supplier<?>> consultas = new LinkedHashMap<>();
+        consultas.put(FACULTADES, () -> facultadRepository.findAll(Sort.by("nombre")).stream()
+                .map(f -> new FacultadResumen(f.getFacultadId(), f.getNombre(), Boolean.TRUE.equals(f.getActivo())))
+                .toList());
+        consultas.put(CONTEO_FACULTADES,
+                () -> new Conteo(facultadRepository.count(), facultadRepository.countByActivoTrue()));
+        consultas.put(CONTEO_CARRERAS,
+                () -> new Conteo(carreraRepository.count(), carreraRepository.countByActivoTrue()));
+        if (incluirCarreras) {
+            consultas.put(CARRERAS, carreraService::obtenerTodas);
+        }
+        
+        ConsultasParalelas.Resultados resultados = consultasParalelas.ejecutar(consultas);
+        if (!resultados.getPendientes().isEmpty()) {
+            log.warn("Panel incompleto, sin respuesta a tiempo: {}", resultados.getPendientes());
+        }
+        
+        Conteo facultades = resultados.obtener(CONTEO_FACULTADES);
+        Conteo carreras = resultados.obtener(CONTEO_CARRERAS);
+        List<FacultadResumen> resumen = resultados.obtener(FACULTADES);
+        return PanelDTO.builder()
+                .facultades(resumen)
+                .carreras(resultados.obtener(CARRERAS))
+                .totalFacultades(facultades != null ? facultades.total() : null)
+                .facultadesActivas(facultades != null ? facultades.activos() : null)
+                .totalCarreras(carreras != null ? carreras.total() : null)
+                .carrerasActivas(carreras != null ? carreras.activos() : null)
+                .incompleto(resultados.getPendientes())
+                .build();
+    }
+    
+    private record Conteo(long total, long activos) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.universidad.api.domain.busqueda;
+
+/**
+ * Recurso del catálogo que coincide con una búsqueda de texto completo.
+ * @param tipo Tipo de recurso
+ * @param id ID del recurso
+ * @param nombre Nombre del recurso
+ * @param fragmento Extracto de la descripción con los términos resaltados
+ * @param relevancia Puntuación de relevancia (mayor es más relevante)
+ */
+public record Coincidencia(TipoCoincidencia tipo, Long id, String nombre, String fragmento, double relevancia) {
+}
@@ -0,0 +1,11 @@
+package com.universidad.api.domain.busqueda;
+
+import java.util.List;
+
+/**
+ * Página de coincidencias ordenadas por relevancia.
+ * @param coincidencias Coincidencias de la página
+ * @param total Total de coincidencias de la búsqueda
+ */
+public record PaginaCoincidencias(List<Coincidencia> coincidencias, long total) {
+}
@@ -0,0 +1,9 @@
+package com.universidad.api.domain.busqueda;
+
+/**
+ * Tipo de recurso del catálogo sobre el que se busca.
+ */
+public enum TipoCoincidencia {
+    CARRERA,
+    FACULTAD
+}
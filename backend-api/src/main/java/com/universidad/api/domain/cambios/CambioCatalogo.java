@@ -0,0 +1,15 @@
+package com.universidad.api.domain.cambios;
+
+import com.universidad.api.domain.entities.Carrera;
+import com.universidad.api.domain.entities.Facultad;
+
+/**
+ * Estado actual de una facultad o carrera escrita después de una marca.
+ * Las entidades no están gestionadas por JPA: la carrera solo trae el ID y el nombre de su facultad.
+ * @param marca Posición del cambio en el recorrido
+ * @param cambioCreacion ID de la transacción que creó el recurso
+ * @param facultad Facultad modificada, o null si el cambio es de una carrera
+ * @param carrera Carrera modificada, o null si el cambio es de una facultad
+ */
+public record CambioCatalogo(MarcaCambios marca, long cambioCreacion, Facultad facultad, Carrera carrera) {
+}
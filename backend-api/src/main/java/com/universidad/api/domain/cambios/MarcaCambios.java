@@ -0,0 +1,17 @@
+package com.universidad.api.domain.cambios;
+
+/**
+ * Posición en el recorrido de cambios del catálogo: los cambios se ordenan por transacción,
+ * recurso (facultades antes que carreras) e ID.
+ * @param cambio ID de la transacción del último cambio entregado
+ * @param orden Recurso del último cambio entregado (ORDEN_FACULTAD u ORDEN_CARRERA)
+ * @param id ID del último recurso entregado
+ */
+public record MarcaCambios(long cambio, int orden, long id) {
+    
+    public static final int ORDEN_FACULTAD = 1;
+    public static final int ORDEN_CARRERA = 2;
+    
+    /** Antes de cualquier cambio: la primera sincronización recorre todo el catálogo */
+    public static final MarcaCambios INICIO = new MarcaCambios(-1, 0, 0);
+}
@@ -22,7 +22,9 @@ import java.time.LocalDateTime;
 public class Carrera {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Bloques de 50 IDs (V9): el ID se asigna sin INSERT y las inserciones se agrupan en lotes JDBC
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carrera_seq")
+    @SequenceGenerator(name = "carrera_seq", sequenceName = "carrera_carrera_id_seq", allocationSize = 50)
     @Column(name = "carrera_id")
     private Long carreraId;
     
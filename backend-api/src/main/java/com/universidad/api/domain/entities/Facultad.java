@@ -27,7 +27,9 @@ import java.util.List;
 public class Facultad {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Bloques de 50 IDs (V9): el ID se asigna sin INSERT y las inserciones se agrupan en lotes JDBC
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "facultad_seq")
+    @SequenceGenerator(name = "facultad_seq", sequenceName = "facultad_facultad_id_seq", allocationSize = 50)
     @Column(name = "facultad_id")
     private Long facultadId;
     
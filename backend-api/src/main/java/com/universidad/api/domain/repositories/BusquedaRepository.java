@@ -0,0 +1,25 @@
+package com.universidad.api.domain.repositories;
+
+import com.universidad.api.domain.busqueda.PaginaCoincidencias;
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+
+import java.util.Set;
+
+/**
+ * Repositorio de búsqueda de texto completo sobre el catálogo.
+ * Sigue el principio DIP - el dominio define el contrato y la infraestructura lo implementa.
+ */
+public interface BusquedaRepository {
+    
+    /**
+     * Busca carreras y/o facultades cuyo nombre, título o descripción coincidan con la consulta.
+     * @param consulta Texto de búsqueda (admite "frases", OR y -exclusiones)
+     * @param tipos Tipos de recurso en los que buscar
+     * @param soloActivos Si es true solo se consideran recursos activos
+     * @param desplazamiento Número de coincidencias a omitir
+     * @param limite Número máximo de coincidencias a devolver
+     * @return Página de coincidencias ordenadas por relevancia descendente
+     */
+    PaginaCoincidencias buscar(String consulta, Set<TipoCoincidencia> tipos, boolean soloActivos,
+                               int desplazamiento, int limite);
+}
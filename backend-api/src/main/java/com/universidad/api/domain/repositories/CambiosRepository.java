@@ -0,0 +1,21 @@
+package com.universidad.api.domain.repositories;
+
+import com.universidad.api.domain.cambios.CambioCatalogo;
+import com.universidad.api.domain.cambios.MarcaCambios;
+
+import java.util.List;
+
+/**
+ * Repositorio de los cambios del catálogo para la sincronización incremental.
+ * Sigue el principio DIP - el dominio define el contrato y la infraestructura lo implementa.
+ */
+public interface CambiosRepository {
+    
+    /**
+     * Busca las facultades y carreras escritas después de una marca, solo de transacciones terminadas.
+     * @param desde Marca del último cambio ya entregado
+     * @param limite Número máximo de cambios a devolver
+     * @return Cambios ordenados por marca, con el estado actual de cada recurso
+     */
+    List<CambioCatalogo> buscarDesde(MarcaCambios desde, int limite);
+}
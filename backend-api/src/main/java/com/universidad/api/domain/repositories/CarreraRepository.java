@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,12 +17,58 @@ import java.util.Optional;
 @Repository
 public interface CarreraRepository extends JpaRepository<Carrera, Long> {
     
+    /**
+     * Busca carreras por ID en una sola consulta (= ANY(array)).
+     * El arreglo se enlaza como un único parámetro bigint[], así el texto SQL es el mismo
+     * para cualquier cantidad de IDs y el plan preparado se reutiliza.
+     * @param ids Arreglo de IDs
+     * @return Carreras encontradas, sin orden garantizado
+     */
+    @Query(value = "SELECT * FROM carrera WHERE carrera_id = ANY(:ids)", nativeQuery = true)
+    List<Carrera> findAllByIdArreglo(@Param("ids") Long[] ids);
+    
+    /**
+     * Busca carreras por ID en una sola consulta.
+     * @param ids IDs a buscar
+     * @return Carreras encontradas, sin orden garantizado
+     */
+    default List<Carrera> findAllByIdAny(Collection<Long> ids) {
+        return findAllByIdArreglo(ids.toArray(Long[]::new));
+    }
+    
+    /**
+     * Busca las carreras de varias facultades en una sola consulta (= ANY(array)).
+     * @param facultadIds Arreglo de IDs de facultad
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @return Carreras de las facultades indicadas, ordenadas por nombre
+     */
+    @Query(value = "SELECT * FROM carrera WHERE facultad_id = ANY(:facultadIds) " +
+                   "AND (:soloActivas = false OR activo = true) ORDER BY nombre", nativeQuery = true)
+    List<Carrera> findAllByFacultadIdArreglo(@Param("facultadIds") Long[] facultadIds,
+                                             @Param("soloActivas") boolean soloActivas);
+    
+    /**
+     * Busca las carreras de varias facultades en una sola consulta.
+     * @param facultadIds IDs de facultad
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @return Carreras de las facultades indicadas, ordenadas por nombre
+     */
+    default List<Carrera> findAllByFacultadIdAny(Collection<Long> facultadIds, boolean soloActivas) {
+        return findAllByFacultadIdArreglo(facultadIds.toArray(Long[]::new), soloActivas);
+    }
+    
     /**
      * Busca carreras activas.
      * @return Lista de carreras activas
      */
     List<Carrera> findByActivoTrue();
     
+    /**
+     * Cuenta las carreras activas.
+     * @return Número de carreras activas
+     */
+    long countByActivoTrue();
+    
     /**
      * Busca carreras por facultad.
      * @param facultadId ID de la facultad
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,12 +21,37 @@ import java.util.Optional;
 @Repository
 public interface FacultadRepository extends JpaRepository<Facultad, Long> {
     
+    /**
+     * Busca facultades por ID en una sola consulta (= ANY(array)).
+     * El arreglo se enlaza como un único parámetro bigint[], así el texto SQL es el mismo
+     * para cualquier cantidad de IDs y el plan preparado se reutiliza.
+     * @param ids Arreglo de IDs
+     * @return Facultades encontradas, sin orden garantizado
+     */
+    @Query(value = "SELECT * FROM facultad WHERE facultad_id = ANY(:ids)", nativeQuery = true)
+    List<Facultad> findAllByIdArreglo(@Param("ids") Long[] ids);
+    
+    /**
+     * Busca facultades por ID en una sola consulta.
+     * @param ids IDs a buscar
+     * @return Facultades encontradas, sin orden garantizado
+     */
+    default List<Facultad> findAllByIdAny(Collection<Long> ids) {
+        return findAllByIdArreglo(ids.toArray(Long[]::new));
+    }
+    
     /**
      * Busca facultades activas.
      * @return Lista de facultades activas
      */
     List<Facultad> findByActivoTrue();
     
+    /**
+     * Cuenta las facultades activas.
+     * @return Número de facultades activas
+     */
+    long countByActivoTrue();
+    
     /**
      * Busca una facultad por nombre (case-insensitive).
      * @param nombre Nombre de la facultad
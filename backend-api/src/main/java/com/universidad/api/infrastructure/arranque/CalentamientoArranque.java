@@ -0,0 +1,232 @@
+package com.universidad.api.infrastructure.arranque;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.application.instituciones.InstitucionActual;
+import com.universidad.api.application.services.CarreraService;
+import com.universidad.api.application.services.FacultadService;
+import com.universidad.api.infrastructure.instituciones.FuenteInstitucion;
+import com.universidad.api.infrastructure.instituciones.RegistroInstituciones;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calentamiento de la instancia antes de recibir tráfico.
+ * Tras el arranque, en un hilo propio y por cada institución:
+ * - Abre a la vez todas las conexiones del pool de Hikari (universidad.arranque.calentamiento.conexiones)
+ * - Repite las lecturas principales de FacultadService y CarreraService (por ID, múltiples, por
+ *   nombre, inexistentes) y serializa sus respuestas, para que el JIT compile servicios, mappers,
+ *   Hibernate y Jackson y se llene la caché de planes de consulta; listados y carreras por facultad
+ *   se ejecutan una vez
+ * - Usa como muestra unos pocos IDs y nombres reales, leídos con consultas acotadas
+ *
+ * Mientras dura, el indicador de salud "calentamiento" (grupo readiness) está DOWN. El calentamiento
+ * es una optimización: si falla o supera duracion-maxima-ms, la instancia se declara lista igualmente.
+ * Los logs INFO de los servicios se silencian mientras dura.
+ *
+ * Métrica: universidad.arranque.calentamiento (duración).
+ */
+@Slf4j
+@Component
+public class CalentamientoArranque {
+    
+    private static final String PAQUETE_SERVICIOS = "com.universidad.api.application.services";
+    private static final String MUESTRA_FACULTADES =
+            "SELECT facultad_id, nombre FROM facultad WHERE activo ORDER BY facultad_id LIMIT 10";
+    private static final String MUESTRA_CARRERAS =
+            "SELECT carrera_id, nombre FROM carrera WHERE activo ORDER BY carrera_id LIMIT 20";
+    
+    public enum Estado {
+        PENDIENTE,
+        EN_CURSO,
+        COMPLETADO,
+        FALLIDO,
+        /** Deshabilitado o ejecución de entrenamiento CDS */
+        OMITIDO
+    }
+    
+    private final RegistroInstituciones registroInstituciones;
+    private final FacultadService facultadService;
+    private final CarreraService carreraService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LoggingSystem loggingSystem;
+    private final Timer duracion;
+    private final boolean habilitado;
+    private final boolean entrenamientoCds;
+    private final int iteraciones;
+    private final int conexiones;
+    private final long duracionMaximaMs;
+    
+    private volatile Estado estado = Estado.PENDIENTE;
+    private volatile long inicio;
+    private volatile long milisegundos;
+    private volatile String error;
+    
+    public CalentamientoArranque(RegistroInstituciones registroInstituciones,
+                                 FacultadService facultadService,
+                                 CarreraService carreraService,
+                                 JdbcTemplate jdbcTemplate,
+                                 ObjectMapper objectMapper,
+                                 LoggingSystem loggingSystem,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${universidad.arranque.calentamiento.habilitado:true}") boolean habilitado,
+                                 @Value("${universidad.arranque.entrenamiento-cds:false}") boolean entrenamientoCds,
+                                 @Value("${universidad.arranque.calentamiento.iteraciones:200}") int iteraciones,
+                                 @Value("${universidad.arranque.calentamiento.conexiones:0}") int conexiones,
+                                 @Value("${universidad.arranque.calentamiento.duracion-maxima-ms:60000}") long duracionMaximaMs) {
+        this.registroInstituciones = registroInstituciones;
+        this.facultadService = facultadService;
+        this.carreraService = carreraService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.loggingSystem = loggingSystem;
+        this.duracion = Timer.builder("universidad.arranque.calentamiento")
+                .description("Duración del calentamiento previo a recibir tráfico")
+                .register(meterRegistry);
+        this.habilitado = habilitado;
+        this.entrenamientoCds = entrenamientoCds;
+        this.iteraciones = iteraciones;
+        this.conexiones = conexiones;
+        this.duracionMaximaMs = duracionMaximaMs;
+    }
+    
+    public Estado getEstado() {
+        return estado;
+    }
+    
+    /**
+     * Duración del calentamiento: la transcurrida si sigue en curso.
+     */
+    public long getMilisegundos() {
+        return estado == Estado.EN_CURSO ? System.currentTimeMillis() - inicio : milisegundos;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public boolean terminado() {
+        return estado != Estado.PENDIENTE && estado != Estado.EN_CURSO;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitado || entrenamientoCds) {
+            estado = Estado.OMITIDO;
+            return;
+        }
+        inicio = System.currentTimeMillis();
+        estado = Estado.EN_CURSO;
+        Thread hilo = new Thread(this::calentar, "calentamiento");
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+    
+    private void calentar() {
+        log.info("Calentamiento iniciado: {} iteraciones por institución", iteraciones);
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(duracionMaximaMs);
+        LoggerConfiguration nivelServicios = loggingSystem.getLoggerConfiguration(PAQUETE_SERVICIOS);
+        loggingSystem.setLogLevel(PAQUETE_SERVICIOS, LogLevel.WARN);
+        Estado resultado = Estado.COMPLETADO;
+        try {
+            for (FuenteInstitucion fuente : registroInstituciones.getFuentes()) {
+                InstitucionActual.establecer(fuente.institucion());
+                try {
+                    llenarPool(fuente);
+                    ejercitarLecturas(limite);
+                } finally {
+                    InstitucionActual.limpiar();
+                }
+            }
+        } catch (RuntimeException | SQLException e) {
+            resultado = Estado.FALLIDO;
+            error = e.getMessage();
+            log.warn("Calentamiento interrumpido, la instancia se declara lista sin completarlo: {}", e.getMessage());
+        } finally {
+            loggingSystem.setLogLevel(PAQUETE_SERVICIOS,
+                    nivelServicios != null ? nivelServicios.getConfiguredLevel() : null);
+            milisegundos = System.currentTimeMillis() - inicio;
+            duracion.record(milisegundos, TimeUnit.MILLISECONDS);
+            estado = resultado;
+        }
+        log.info("Calentamiento {} en {} ms", resultado.name().toLowerCase(Locale.ROOT), milisegundos);
+    }
+    
+    // Conexiones abiertas a la vez: el pool queda lleno y las primeras solicitudes no pagan el handshake
+    private void llenarPool(FuenteInstitucion fuente) throws SQLException {
+        int cantidad = conexiones > 0 ? conexiones : fuente.pool().getMaximumPoolSize();
+        List<Connection> abiertas = new ArrayList<>(cantidad);
+        try {
+            for (int i = 0; i < cantidad; i++) {
+                abiertas.add(fuente.pool().getConnection());
+            }
+        } finally {
+            for (Connection conexion : abiertas) {
+                conexion.close();
+            }
+        }
+    }
+    
+    private void ejercitarLecturas(long limite) {
+        List<Long> facultades = new ArrayList<>();
+        List<String> nombresFacultades = new ArrayList<>();
+        jdbcTemplate.query(MUESTRA_FACULTADES, fila -> {
+            facultades.add(fila.getLong("facultad_id"));
+            nombresFacultades.add(fila.getString("nombre"));
+        });
+        List<Long> carreras = new ArrayList<>();
+        List<String> nombresCarreras = new ArrayList<>();
+        jdbcTemplate.query(MUESTRA_CARRERAS, fila -> {
+            carreras.add(fila.getLong("carrera_id"));
+            nombresCarreras.add(fila.getString("nombre"));
+        });
+    
+        // Listados: una sola vez, su coste depende del tamaño del catálogo
+        serializar(facultadService.obtenerActivas());
+        if (!facultades.isEmpty()) {
+            serializar(carreraService.obtenerActivasPorFacultad(facultades.get(0)));
+        }
+    
+        for (int i = 0; i < iteraciones && System.nanoTime() < limite; i++) {
+            if (!facultades.isEmpty()) {
+                facultadService.obtenerPorId(facultades.get(i % facultades.size())).ifPresent(this::serializar);
+                facultadService.buscarPorNombre(nombresFacultades.get(i % nombresFacultades.size()))
+                        .ifPresent(this::serializar);
+                serializar(facultadService.obtenerPorIds(facultades));
+            }
+            if (!carreras.isEmpty()) {
+                carreraService.obtenerPorId(carreras.get(i % carreras.size())).ifPresent(this::serializar);
+                carreraService.buscarPorNombre(nombresCarreras.get(i % nombresCarreras.size()))
+                        .ifPresent(this::serializar);
+                serializar(carreraService.obtenerPorIds(carreras));
+            }
+            // Camino de los 404
+            facultadService.obtenerPorId(-1L - i);
+            carreraService.obtenerPorId(-1L - i);
+        }
+    }
+    
+    private void serializar(Object respuesta) {
+        try {
+            objectMapper.writeValueAsBytes(respuesta);
+        } catch (Exception e) {
+            log.debug("Calentamiento: no se pudo serializar {}: {}", respuesta.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.universidad.api.infrastructure.arranque;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indicador "calentamiento": DOWN hasta que {@link CalentamientoArranque} termina.
+ * Forma parte del grupo readiness (/actuator/health/readiness): el balanceador y el healthcheck
+ * de Docker no envían tráfico a una instancia en frío.
+ */
+@Component
+public class CalentamientoHealthIndicator implements HealthIndicator {
+    
+    private final CalentamientoArranque calentamiento;
+    
+    public CalentamientoHealthIndicator(CalentamientoArranque calentamiento) {
+        this.calentamiento = calentamiento;
+    }
+    
+    @Override
+    public Health health() {
+        Health.Builder salud = calentamiento.terminado() ? Health.up() : Health.down();
+        salud.withDetail("estado", calentamiento.getEstado())
+                .withDetail("milisegundos", calentamiento.getMilisegundos());
+        if (calentamiento.getError() != null) {
+            salud.withDetail("error", calentamiento.getError());
+        }
+        return salud.build();
+    }
+}
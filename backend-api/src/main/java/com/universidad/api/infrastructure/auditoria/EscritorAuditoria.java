@@ -0,0 +1,207 @@
+package com.universidad.api.infrastructure.auditoria;
+
+import com.universidad.api.application.auditoria.CambioAuditoria;
+import com.universidad.api.application.auditoria.CampoModificado;
+import com.universidad.api.application.instituciones.InstitucionActual;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escritura asíncrona y por lotes del registro de auditoría.
+ * - Recibe los {@link CambioAuditoria} después del commit: las escrituras del catálogo no
+ *   pagan ningún viaje adicional a la base de datos y los cambios revertidos no se auditan
+ * - Los encola en una cola acotada; si está llena se espera brevemente y, si sigue llena, el
+ *   registro se vuelca al log de errores (no se pierde en silencio) y se cuenta como descartado
+ * - Un único hilo vacía la cola en lotes JDBC (una fila por campo modificado) sobre la tabla
+ *   append-only auditoria_catalogo, con reintentos ante fallos transitorios; cada cambio se
+ *   escribe en la base de datos (o esquema) de su institución. Un error no previsto en un lote
+ *   lo da por fallido, pero el hilo sigue vaciando la cola
+ * - Al cerrar la aplicación se deja de aceptar trabajo y se espera a que la cola se vacíe
+ *
+ * Métricas: universidad.auditoria.cola, universidad.auditoria.escritura (latencia por lote)
+ * y universidad.auditoria.registros{resultado}.
+ */
+@Slf4j
+@Component
+public class EscritorAuditoria {
+    
+    private static final String INSERTAR = """
+            INSERT INTO auditoria_catalogo
+                (recurso, recurso_id, operacion, campo, valor_anterior, valor_nuevo, usuario, fecha)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int INTENTOS = 3;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<CambioAuditoria> cola;
+    private final int tamanioLote;
+    private final long esperaEncolarMs;
+    private final long esperaCierreMs;
+    private final Timer escritura;
+    private final Counter escritos;
+    private final Counter descartados;
+    private final Counter fallidos;
+    private final Thread escritor;
+    private volatile boolean detenido;
+    
+    public EscritorAuditoria(JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${universidad.auditoria.capacidad-cola:10000}") int capacidadCola,
+                             @Value("${universidad.auditoria.tamanio-lote:500}") int tamanioLote,
+                             @Value("${universidad.auditoria.espera-encolar-ms:50}") long esperaEncolarMs,
+                             @Value("${universidad.auditoria.espera-cierre-ms:10000}") long esperaCierreMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cola = new ArrayBlockingQueue<>(capacidadCola);
+        this.tamanioLote = tamanioLote;
+        this.esperaEncolarMs = esperaEncolarMs;
+        this.esperaCierreMs = esperaCierreMs;
+        
+        Gauge.builder("universidad.auditoria.cola", cola, BlockingQueue::size)
+                .description("Cambios auditados pendientes de escribir")
+                .register(meterRegistry);
+        this.escritura = Timer.builder("universidad.auditoria.escritura")
+                .description("Latencia de escritura de cada lote de auditoría")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.escritos = registros(meterRegistry, "escrito");
+        this.descartados = registros(meterRegistry, "descartado");
+        this.fallidos = registros(meterRegistry, "fallido");
+        
+        this.escritor = new Thread(this::escribir, "auditoria-escritor");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+    
+    /**
+     * Encola un cambio confirmado.
+     * fallbackExecution permite auditar también cambios realizados fuera de una transacción.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alConfirmarCambio(CambioAuditoria cambio) {
+        if (cambio.getCampos().isEmpty()) {
+            return;
+        }
+        boolean encolado;
+        try {
+            encolado = cola.offer(cambio, esperaEncolarMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            encolado = false;
+        }
+        if (!encolado) {
+            descartados.increment();
+            log.error("Cola de auditoría llena, cambio no registrado en base de datos: {}", cambio);
+        }
+    }
+    
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        detenido = true;
+        escritor.join(esperaCierreMs);
+        if (escritor.isAlive()) {
+            log.error("La auditoría no terminó de escribirse al cerrar: {} cambios pendientes", cola.size());
+        }
+    }
+    
+    private void escribir() {
+        List<CambioAuditoria> lote = new ArrayList<>(tamanioLote);
+        while (!detenido || !cola.isEmpty()) {
+            try {
+                CambioAuditoria primero = cola.poll(200, TimeUnit.MILLISECONDS);
+                if (primero == null) {
+                    continue;
+                }
+                // Con poca carga se escribe cada cambio enseguida; con mucha, los lotes se llenan solos
+                lote.add(primero);
+                cola.drainTo(lote, tamanioLote - 1);
+                for (Map.Entry<String, List<CambioAuditoria>> grupo : porInstitucion(lote).entrySet()) {
+                    InstitucionActual.establecer(grupo.getKey());
+                    try {
+                        volcar(grupo.getValue());
+                    } catch (RuntimeException ex) {
+                        // Un fallo no previsto (p. ej. institución sin base de datos) no debe parar el hilo:
+                        // el resto de lotes y los cambios siguientes se siguen escribiendo
+                        log.error("Error inesperado escribiendo {} cambios de auditoría de la institución {}",
+                                grupo.getValue().size(), grupo.getKey(), ex);
+                        registrarFallidos(grupo.getValue());
+                    } finally {
+                        InstitucionActual.limpiar();
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+    
+    private void volcar(List<CambioAuditoria> lote) throws InterruptedException {
+        List<Object[]> filas = new ArrayList<>(lote.size() * 2);
+        for (CambioAuditoria cambio : lote) {
+            Timestamp fecha = Timestamp.from(cambio.getFecha());
+            for (CampoModificado campo : cambio.getCampos()) {
+                filas.add(new Object[] {
+                        cambio.getRecurso().name(), cambio.getRecursoId(), cambio.getOperacion().name(),
+                        campo.campo(), campo.anterior(), campo.nuevo(), cambio.getUsuario(), fecha});
+            }
+        }
+        
+        for (int intento = 1; intento <= INTENTOS; intento++) {
+            long inicio = System.nanoTime();
+            try {
+                jdbcTemplate.batchUpdate(INSERTAR, filas);
+                escritura.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                escritos.increment(lote.size());
+                return;
+            } catch (DataAccessException ex) {
+                log.warn("Fallo escribiendo {} cambios de auditoría (intento {}/{}): {}",
+                        lote.size(), intento, INTENTOS, ex.getMessage());
+                if (intento < INTENTOS) {
+                    Thread.sleep(500L * intento);
+                }
+            }
+        }
+        registrarFallidos(lote);
+    }
+    
+    private void registrarFallidos(List<CambioAuditoria> lote) {
+        fallidos.increment(lote.size());
+        lote.forEach(cambio -> log.error("Cambio de auditoría no registrado en base de datos: {}", cambio));
+    }
+    
+    private static Map<String, List<CambioAuditoria>> porInstitucion(List<CambioAuditoria> lote) {
+        Map<String, List<CambioAuditoria>> grupos = new LinkedHashMap<>();
+        for (CambioAuditoria cambio : lote) {
+            grupos.computeIfAbsent(cambio.getInstitucion(), institucion -> new ArrayList<>()).add(cambio);
+        }
+        return grupos;
+    }
+    
+    private static Counter registros(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("universidad.auditoria.registros")
+                .description("Cambios auditados por resultado de la escritura")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,189 @@
+package com.universidad.api.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.application.cache.FacultadResumen;
+import com.universidad.api.infrastructure.instituciones.FuenteInstitucion;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Réplica local de las facultades de una institución, alimentada por LISTEN/NOTIFY.
+ * - Escucha el canal con una conexión dedicada (fuera del pool de Hikari) a la base de datos
+ *   de la institución y, si tiene esquema propio, con search_path en ese esquema
+ * - Tras cada (re)conexión se recarga la tabla completa, ya que las notificaciones
+ *   emitidas mientras no había escucha se pierden
+ * - Varias instituciones pueden compartir base de datos (y canal): se descartan las
+ *   notificaciones de tablas de otro esquema
+ * - Cada facultad guarda su versión de fila (V11): las notificaciones y la aplicación local tras el
+ *   commit llegan en cualquier orden, y solo se aplica un estado más nuevo que el guardado
+ */
+@Slf4j
+class EscuchaFacultades {
+    
+    private static final long ESPERA_NOTIFICACION_MS = 5000;
+    private static final long REINTENTO_MAXIMO_MS = 30000;
+    
+    private final FuenteInstitucion fuente;
+    private final ObjectMapper objectMapper;
+    private final String canal;
+    
+    private final Map<Long, Entrada> facultades = new ConcurrentHashMap<>();
+    private volatile boolean sincronizada;
+    private volatile boolean detenida;
+    private volatile Connection conexion;
+    private volatile String esquema;
+    private Thread escucha;
+    
+    EscuchaFacultades(FuenteInstitucion fuente, ObjectMapper objectMapper, String canal) {
+        this.fuente = fuente;
+        this.objectMapper = objectMapper;
+        this.canal = canal;
+    }
+    
+    Optional<FacultadResumen> obtener(Long facultadId) {
+        if (!sincronizada) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(facultades.get(facultadId)).map(Entrada::resumen);
+    }
+    
+    /**
+     * Aplica un estado confirmado si su versión es posterior a la guardada.
+     */
+    void aplicar(FacultadResumen resumen, long version) {
+        facultades.merge(resumen.facultadId(), new Entrada(resumen, version),
+                (actual, nueva) -> nueva.version() > actual.version() ? nueva : actual);
+    }
+    
+    void iniciar() {
+        escucha = new Thread(this::escuchar, "facultad-near-cache-" + fuente.institucion());
+        escucha.setDaemon(true);
+        escucha.start();
+    }
+    
+    void detener() {
+        detenida = true;
+        sincronizada = false;
+        cerrarConexion();
+        if (escucha != null) {
+            escucha.interrupt();
+        }
+    }
+    
+    private void escuchar() {
+        long espera = 1000;
+        while (!detenida) {
+            try (Connection con = DriverManager.getConnection(
+                    fuente.pool().getJdbcUrl(),
+                    fuente.pool().getUsername(),
+                    fuente.pool().getPassword())) {
+                conexion = con;
+                try (Statement stmt = con.createStatement()) {
+                    if (fuente.esquema() != null) {
+                        stmt.execute("SET search_path TO " + fuente.esquema() + ", public");
+                    }
+                    try (ResultSet rs = stmt.executeQuery("SELECT current_schema()")) {
+                        rs.next();
+                        esquema = rs.getString(1);
+                    }
+                    stmt.execute("LISTEN " + canal);
+                }
+                
+                // LISTEN antes de recargar: ningún cambio confirmado queda entre ambos pasos
+                recargar(con);
+                sincronizada = true;
+                espera = 1000;
+                log.info("Near-cache de facultades de '{}' sincronizada: {} facultades, canal '{}'",
+                        fuente.institucion(), facultades.size(), canal);
+                
+                PGConnection pgConnection = con.unwrap(PGConnection.class);
+                while (!detenida) {
+                    PGNotification[] notificaciones = pgConnection.getNotifications((int) ESPERA_NOTIFICACION_MS);
+                    if (notificaciones != null) {
+                        for (PGNotification notificacion : notificaciones) {
+                            aplicar(notificacion.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                sincronizada = false;
+                if (!detenida) {
+                    log.warn("Escucha de cambios de facultades de '{}' interrumpida, reintento en {} ms: {}",
+                            fuente.institucion(), espera, ex.getMessage());
+                    dormir(espera);
+                    espera = Math.min(espera * 2, REINTENTO_MAXIMO_MS);
+                }
+            } finally {
+                conexion = null;
+            }
+        }
+    }
+    
+    // La recarga reemplaza sin comparar versiones: un estado más nuevo confirmado después de la
+    // lectura llega igualmente como notificación, porque LISTEN se hizo antes
+    private void recargar(Connection con) throws SQLException {
+        Map<Long, Entrada> cargadas = new ConcurrentHashMap<>();
+        try (Statement stmt = con.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT facultad_id, nombre, activo, version FROM facultad")) {
+            while (rs.next()) {
+                long id = rs.getLong("facultad_id");
+                FacultadResumen resumen = new FacultadResumen(id, rs.getString("nombre"), rs.getBoolean("activo"));
+                cargadas.put(id, new Entrada(resumen, rs.getLong("version")));
+            }
+        }
+        facultades.keySet().retainAll(cargadas.keySet());
+        facultades.putAll(cargadas);
+    }
+    
+    private void aplicar(String payload) {
+        try {
+            JsonNode nodo = objectMapper.readTree(payload);
+            JsonNode esquemaOrigen = nodo.get("esquema");
+            if (esquemaOrigen != null && !esquemaOrigen.asText().equals(esquema)) {
+                return;
+            }
+            long id = nodo.get("id").asLong();
+            aplicar(new FacultadResumen(id, nodo.get("nombre").asText(), nodo.get("activo").asBoolean()),
+                    nodo.get("version").asLong());
+        } catch (Exception ex) {
+            // Notificación ilegible: se fuerza una reconexión para recargar desde cero
+            log.warn("Notificación de facultad inválida '{}': {}", payload, ex.getMessage());
+            sincronizada = false;
+            cerrarConexion();
+        }
+    }
+    
+    private void cerrarConexion() {
+        Connection con = conexion;
+        if (con != null) {
+            try {
+                con.close();
+            } catch (SQLException ex) {
+                log.debug("Error cerrando conexión de escucha: {}", ex.getMessage());
+            }
+        }
+    }
+    
+    private void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            detenida = true;
+        }
+    }
+    
+    private record Entrada(FacultadResumen resumen, long version) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.universidad.api.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.application.cache.FacultadCache;
+import com.universidad.api.application.cache.FacultadResumen;
+import com.universidad.api.application.events.CatalogoEvento;
+import com.universidad.api.application.events.TipoRecurso;
+import com.universidad.api.application.instituciones.InstitucionActual;
+import com.universidad.api.infrastructure.instituciones.FuenteInstitucion;
+import com.universidad.api.infrastructure.instituciones.RegistroInstituciones;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-cache de facultades (id → nombre, activo) mantenida coherente entre réplicas
+ * mediante LISTEN/NOTIFY de PostgreSQL.
+ * - Un trigger sobre la tabla facultad publica cada INSERT/UPDATE en el canal configurado
+ * - Cada institución tiene su propia réplica y su propia escucha ({@link EscuchaFacultades}),
+ *   y las consultas se resuelven contra la de la institución en curso
+ * - Mientras la escucha no está activa la caché se declara no sincronizada y no responde,
+ *   de modo que los servicios consultan directamente el repositorio
+ * - Tampoco responde por las facultades escritas en la transacción en curso (p. ej. desactivada
+ *   antes en el mismo lote): hasta el commit tiene su estado anterior, y el repositorio devuelve
+ *   la entidad pendiente del contexto de persistencia
+ * - Tras el commit aplica en este nodo lo escrito, sin esperar a la notificación. Lleva la versión
+ *   de fila (V11), como las notificaciones, y no pisa un estado más nuevo de otra réplica
+ */
+@Slf4j
+@Component
+public class FacultadNearCache implements FacultadCache {
+    
+    // Estado que confirma la transacción, leído con su propia conexión antes del commit
+    private static final String ESTADO_CONFIRMADO =
+            "SELECT facultad_id, nombre, activo, version FROM facultad WHERE facultad_id = ANY(:ids)";
+    
+    private final RegistroInstituciones registroInstituciones;
+    private final ObjectMapper objectMapper;
+    private final String canal;
+    private final boolean habilitada;
+    
+    private final Map<String, EscuchaFacultades> escuchas = new ConcurrentHashMap<>();
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public FacultadNearCache(RegistroInstituciones registroInstituciones,
+                             ObjectMapper objectMapper,
+                             @Value("${universidad.cache.facultades.canal:facultad_cambios}") String canal,
+                             @Value("${universidad.cache.facultades.habilitada:true}") boolean habilitada) {
+        this.registroInstituciones = registroInstituciones;
+        this.objectMapper = objectMapper;
+        this.canal = canal;
+        this.habilitada = habilitada;
+    }
+    
+    @Override
+    public Optional<FacultadResumen> obtener(Long facultadId) {
+        EscuchaFacultades escucha = escuchas.get(InstitucionActual.obtener());
+        if (escucha == null || facultadId == null || escritasEnTransaccion().contains(facultadId)) {
+            return Optional.empty();
+        }
+        return escucha.obtener(facultadId);
+    }
+    
+    /**
+     * Arranca una escucha por institución una vez que la aplicación está lista.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitada) {
+            log.info("Near-cache de facultades deshabilitada");
+            return;
+        }
+        for (FuenteInstitucion fuente : registroInstituciones.getFuentes()) {
+            EscuchaFacultades escucha = new EscuchaFacultades(fuente, objectMapper, canal);
+            escuchas.put(fuente.institucion(), escucha);
+            escucha.iniciar();
+        }
+    }
+    
+    /**
+     * Anota las facultades que la transacción en curso escribe; los eventos se publican en el
+     * momento de la escritura, antes del commit.
+     */
+    @EventListener
+    public void alEscribir(CatalogoEvento evento) {
+        EscuchaFacultades escucha = escuchas.get(InstitucionActual.obtener());
+        if (evento.getRecurso() != TipoRecurso.FACULTAD || evento.getId() == null || escucha == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        EscriturasTransaccion escrituras = (EscriturasTransaccion) TransactionSynchronizationManager.getResource(this);
+        if (escrituras == null) {
+            escrituras = new EscriturasTransaccion(escucha);
+            TransactionSynchronizationManager.bindResource(this, escrituras);
+            TransactionSynchronizationManager.registerSynchronization(escrituras);
+        }
+        escrituras.ids.add(evento.getId());
+    }
+    
+    private Set<Long> escritasEnTransaccion() {
+        EscriturasTransaccion escrituras = (EscriturasTransaccion) TransactionSynchronizationManager.getResource(this);
+        return escrituras != null ? escrituras.ids : Set.of();
+    }
+    
+    @PreDestroy
+    public void detener() {
+        escuchas.values().forEach(EscuchaFacultades::detener);
+    }
+    
+    /**
+     * Facultades escritas en una transacción y su estado confirmado.
+     */
+    private final class EscriturasTransaccion implements TransactionSynchronization {
+    
+        private final EscuchaFacultades escucha;
+        private final Set<Long> ids = new HashSet<>();
+        private List<Object[]> confirmadas = List.of();
+    
+        EscriturasTransaccion(EscuchaFacultades escucha) {
+            this.escucha = escucha;
+        }
+    
+        // Las filas ya están bloqueadas por la transacción: lo leído es exactamente lo que se confirma
+        @Override
+        @SuppressWarnings("unchecked")
+        public void beforeCommit(boolean readOnly) {
+            // En un lote las escrituras siguen pendientes hasta el commit (FlushModeType.COMMIT)
+            entityManager.flush();
+            confirmadas = entityManager.createNativeQuery(ESTADO_CONFIRMADO)
+                    .setParameter("ids", ids.toArray(Long[]::new))
+                    .getResultList();
+        }
+    
+        @Override
+        public void afterCommit() {
+            for (Object[] fila : confirmadas) {
+                long id = ((Number) fila[0]).longValue();
+                escucha.aplicar(new FacultadResumen(id, (String) fila[1], (Boolean) fila[2]),
+                        ((Number) fila[3]).longValue());
+            }
+        }
+    
+        @Override
+        public void afterCompletion(int estado) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(FacultadNearCache.this);
+        }
+    }
+}
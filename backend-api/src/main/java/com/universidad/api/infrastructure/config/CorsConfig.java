@@ -5,22 +5,25 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 /**
  * Configuración CORS simple usando filtro personalizado.
+ * Se registra antes que el control de admisión para que las respuestas 503 también lleven cabeceras CORS.
  */
 @Slf4j
 @Configuration
 public class CorsConfig {
     
     @Bean
-    public OncePerRequestFilter corsFilter() {
-        return new OncePerRequestFilter() {
+    public FilterRegistrationBean<OncePerRequestFilter> corsFilter() {
+        FilterRegistrationBean<OncePerRequestFilter> registro = new FilterRegistrationBean<>(new OncePerRequestFilter() {
             @Override
             protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
                     throws ServletException, IOException {
@@ -31,6 +34,7 @@ public class CorsConfig {
                 response.setHeader("Access-Control-Allow-Origin", "*");
                 response.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
                 response.setHeader("Access-Control-Allow-Headers", "*");
+                response.setHeader("Access-Control-Expose-Headers", "Retry-After, Idempotent-Replayed");
                 response.setHeader("Access-Control-Max-Age", "3600");
                 
                 // Manejar peticiones OPTIONS (preflight)
@@ -41,6 +45,8 @@ public class CorsConfig {
                 
                 filterChain.doFilter(request, response);
             }
-        };
+        });
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registro;
     }
 }
\ No newline at end of file
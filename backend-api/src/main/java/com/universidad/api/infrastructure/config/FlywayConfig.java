@@ -0,0 +1,48 @@
+package com.universidad.api.infrastructure.config;
+
+import com.universidad.api.infrastructure.instituciones.FuenteInstitucion;
+import com.universidad.api.infrastructure.instituciones.RegistroInstituciones;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de las migraciones Flyway.
+ * Con AOT la autoconfiguración de Flyway queda fijada en el build, así que
+ * spring.flyway.enabled=false ya no la desactiva en tiempo de ejecución: la ejecución de
+ * entrenamiento del archivo CDS (sin base de datos) omite la migración con esta propiedad.
+ *
+ * Las migraciones se aplican a cada institución con su propio pool y, si lo tiene, en su
+ * propio esquema (que Flyway crea) con su tabla de historial.
+ */
+@Configuration
+@Slf4j
+public class FlywayConfig {
+    
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            RegistroInstituciones registroInstituciones,
+            @Value("${universidad.arranque.entrenamiento-cds:false}") boolean entrenamientoCds) {
+        return flyway -> {
+            if (entrenamientoCds) {
+                log.info("Ejecución de entrenamiento CDS: se omiten las migraciones");
+                return;
+            }
+            for (FuenteInstitucion fuente : registroInstituciones.getFuentes()) {
+                FluentConfiguration configuracion = Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(fuente.pool());
+                if (fuente.esquema() != null) {
+                    configuracion.schemas(fuente.esquema());
+                }
+                MigrateResult resultado = configuracion.load().migrate();
+                log.info("Migraciones de la institución '{}': {} aplicadas", fuente.institucion(), resultado.migrationsExecuted);
+            }
+        };
+    }
+}
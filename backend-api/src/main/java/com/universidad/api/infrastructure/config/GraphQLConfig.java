@@ -0,0 +1,42 @@
+package com.universidad.api.infrastructure.config;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLTypeUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Límites de las consultas GraphQL para proteger el pool de conexiones.
+ * - Profundidad: cada nivel de relaciones anidadas cuesta una consulta SQL por lotes.
+ * - Complejidad: cada campo cuesta 1 y los campos de lista multiplican por un factor de
+ *   abanico estimado el coste de sus hijos, lo que acota las filas que puede materializar una consulta.
+ * Las consultas que superan un límite se rechazan antes de ejecutarse (sin tocar la base de datos).
+ */
+@Slf4j
+@Configuration
+public class GraphQLConfig {
+    
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${universidad.graphql.profundidad-maxima:5}") int profundidadMaxima) {
+        return new MaxQueryDepthInstrumentation(profundidadMaxima);
+    }
+    
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${universidad.graphql.complejidad-maxima:1000}") int complejidadMaxima,
+            @Value("${universidad.graphql.factor-listas:10}") int factorListas) {
+        log.info("Límites GraphQL: complejidad máxima {}, factor de listas {}", complejidadMaxima, factorListas);
+        
+        FieldComplexityCalculator calculadora = (entorno, complejidadHijos) -> {
+            boolean esLista = GraphQLTypeUtil.isList(
+                    GraphQLTypeUtil.unwrapNonNull(entorno.getFieldDefinition().getType()));
+            return esLista ? 1 + complejidadHijos * factorListas : 1 + complejidadHijos;
+        };
+        return new MaxQueryComplexityInstrumentation(complejidadMaxima, calculadora);
+    }
+}
@@ -0,0 +1,121 @@
+package com.universidad.api.infrastructure.config;
+
+import com.universidad.api.application.instituciones.InstitucionActual;
+import com.universidad.api.infrastructure.instituciones.FuenteInstitucion;
+import com.universidad.api.infrastructure.instituciones.InstitucionRoutingDataSource;
+import com.universidad.api.infrastructure.instituciones.InstitucionesProperties;
+import com.universidad.api.infrastructure.instituciones.RegistroInstituciones;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Enrutado de datos por institución (varias universidades en un mismo despliegue).
+ * - Un pool de Hikari por institución, con la configuración de spring.datasource.hikari.*
+ *   y su propia url, credenciales, esquema y tamaño máximo si se declaran
+ * - Las instituciones con esquema propio fijan search_path a "esquema, public" al abrir cada
+ *   conexión: las tablas son las suyas y las extensiones compartidas siguen visibles
+ * - La institución en curso se propaga a los hilos de ejecución de GraphQL (context-propagation)
+ * Sin "universidad.instituciones.fuentes" el despliegue sigue siendo de una sola institución.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(InstitucionesProperties.class)
+public class InstitucionesConfig {
+    
+    private static final Pattern IDENTIFICADOR = Pattern.compile("[a-z][a-z0-9_]{0,39}");
+    
+    public InstitucionesConfig() {
+        ContextRegistry.getInstance().registerThreadLocalAccessor("universidad.institucion",
+                InstitucionActual::obtener, InstitucionActual::establecer, InstitucionActual::limpiar);
+    }
+    
+    @Bean
+    public RegistroInstituciones registroInstituciones(DataSourceProperties dataSourceProperties,
+                                                       InstitucionesProperties instituciones,
+                                                       Environment environment,
+                                                       MeterRegistry meterRegistry) {
+        Map<String, InstitucionesProperties.Fuente> declaradas = new LinkedHashMap<>();
+        declaradas.put(InstitucionActual.PRINCIPAL, new InstitucionesProperties.Fuente());
+        declaradas.putAll(instituciones.getFuentes());
+        
+        List<FuenteInstitucion> fuentes = new ArrayList<>(declaradas.size());
+        declaradas.forEach((institucion, fuente) -> {
+            validarIdentificador("institución", institucion);
+            if (StringUtils.hasText(fuente.getEsquema())) {
+                validarIdentificador("esquema", fuente.getEsquema());
+            }
+            fuentes.add(crearFuente(institucion, fuente, dataSourceProperties, environment, meterRegistry));
+        });
+        instituciones.getDominios().forEach((dominio, institucion) -> {
+            if (!declaradas.containsKey(institucion)) {
+                throw new IllegalStateException("El dominio " + dominio + " apunta a una institución no declarada: " + institucion);
+            }
+        });
+        
+        log.info("Instituciones configuradas: {}", declaradas.keySet());
+        return new RegistroInstituciones(fuentes);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(RegistroInstituciones registroInstituciones) {
+        return new InstitucionRoutingDataSource(registroInstituciones);
+    }
+    
+    private FuenteInstitucion crearFuente(String institucion, InstitucionesProperties.Fuente fuente,
+                                          DataSourceProperties dataSourceProperties, Environment environment,
+                                          MeterRegistry meterRegistry) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        
+        if (StringUtils.hasText(fuente.getUrl())) {
+            pool.setJdbcUrl(fuente.getUrl());
+        }
+        if (StringUtils.hasText(fuente.getUsername())) {
+            pool.setUsername(fuente.getUsername());
+        }
+        if (StringUtils.hasText(fuente.getPassword())) {
+            pool.setPassword(fuente.getPassword());
+        }
+        if (fuente.getMaximoPool() != null) {
+            pool.setMaximumPoolSize(fuente.getMaximoPool());
+            pool.setMinimumIdle(Math.min(pool.getMinimumIdle(), fuente.getMaximoPool()));
+        }
+        String esquema = StringUtils.hasText(fuente.getEsquema()) ? fuente.getEsquema() : null;
+        if (esquema != null) {
+            pool.setConnectionInitSql("SET search_path TO " + esquema + ", public");
+        }
+        pool.setPoolName("hikari-" + institucion);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new FuenteInstitucion(institucion, pool, esquema);
+    }
+    
+    // Los identificadores acaban en nombres de pool, etiquetas de métricas y en SQL (search_path)
+    private static void validarIdentificador(String tipo, String valor) {
+        if (!IDENTIFICADOR.matcher(valor).matches()) {
+            throw new IllegalStateException("Identificador de " + tipo + " inválido: '" + valor
+                    + "' (minúsculas, dígitos y '_', empezando por letra)");
+        }
+    }
+}
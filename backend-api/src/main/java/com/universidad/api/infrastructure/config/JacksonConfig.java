@@ -0,0 +1,32 @@
+package com.universidad.api.infrastructure.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Configuración del ObjectMapper de la aplicación.
+ * Sigue el principio SRP - configuración específica de serialización JSON.
+ * - Blackbird sustituye la reflexión por accesores generados en tiempo de ejecución
+ *   (no disponible en la imagen nativa, donde no se pueden definir clases nuevas)
+ * - Las fechas de las respuestas usan FechaHoraSerializer en lugar de @JsonFormat
+ */
+@Slf4j
+@Configuration
+public class JacksonConfig {
+    
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer blackbirdCustomizer() {
+        // postConfigurer registra el módulo sin sustituir los módulos detectados por Spring Boot
+        return builder -> builder.postConfigurer(objectMapper -> {
+            if (NativeDetector.inNativeImage()) {
+                log.info("Imagen nativa: Jackson sin Blackbird");
+                return;
+            }
+            objectMapper.registerModule(new BlackbirdModule());
+        });
+    }
+}
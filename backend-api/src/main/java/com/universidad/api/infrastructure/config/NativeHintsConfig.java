@@ -0,0 +1,117 @@
+package com.universidad.api.infrastructure.config;
+
+import com.universidad.api.application.cache.FacultadResumen;
+import com.universidad.api.application.dto.CambioCatalogoDTO;
+import com.universidad.api.application.dto.CarreraNodoDTO;
+import com.universidad.api.application.dto.CarreraRequestDTO;
+import com.universidad.api.application.dto.CarreraResponseDTO;
+import com.universidad.api.application.dto.FacultadNodoDTO;
+import com.universidad.api.application.dto.FacultadRequestDTO;
+import com.universidad.api.application.dto.FacultadResponseDTO;
+import com.universidad.api.application.dto.IdsRequestDTO;
+import com.universidad.api.application.dto.LoteRequestDTO;
+import com.universidad.api.application.dto.OperacionLoteDTO;
+import com.universidad.api.application.dto.PaginaBusquedaDTO;
+import com.universidad.api.application.dto.PaginaCambiosDTO;
+import com.universidad.api.application.dto.PanelDTO;
+import com.universidad.api.application.dto.ResultadoBusquedaDTO;
+import com.universidad.api.application.dto.ResultadoLoteDTO;
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
+import com.universidad.api.application.dto.ResultadoOperacionDTO;
+import com.universidad.api.application.dto.TipoOperacionLote;
+import com.universidad.api.application.events.CatalogoEvento;
+import com.universidad.api.application.events.TipoCambio;
+import com.universidad.api.application.events.TipoRecurso;
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+import com.universidad.api.domain.entities.Carrera;
+import com.universidad.api.domain.entities.Facultad;
+import com.universidad.api.infrastructure.web.exceptions.ErrorResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Pistas de alcanzabilidad para la imagen nativa de GraalVM (perfil native).
+ * Complementa lo que Spring AOT deduce por sí mismo: tipos que Jackson y springdoc
+ * introspeccionan por reflexión, entidades, mappers generados, proxies JDK y recursos del classpath.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.UniversidadRuntimeHints.class)
+public class NativeHintsConfig {
+    
+    static class UniversidadRuntimeHints implements RuntimeHintsRegistrar {
+        
+        // Tipos (de)serializados por Jackson y descritos por springdoc
+        private static final Class<?>[] TIPOS_JSON = {
+                CarreraRequestDTO.class, CarreraResponseDTO.class,
+                FacultadRequestDTO.class, FacultadResponseDTO.class,
+                IdsRequestDTO.class, ResultadoMultipleDTO.class,
+                LoteRequestDTO.class, OperacionLoteDTO.class, TipoOperacionLote.class,
+                ResultadoLoteDTO.class, ResultadoOperacionDTO.class,
+                PaginaBusquedaDTO.class, ResultadoBusquedaDTO.class, TipoCoincidencia.class,
+                PaginaCambiosDTO.class, CambioCatalogoDTO.class, PanelDTO.class,
+                ErrorResponse.class, CatalogoEvento.class, TipoCambio.class, TipoRecurso.class,
+                FacultadResumen.class
+        };
+        
+        // Vistas del endpoint GraphQL (PropertyDataFetcher lee sus accesores por reflexión)
+        private static final Class<?>[] TIPOS_GRAPHQL = {
+                FacultadNodoDTO.class, CarreraNodoDTO.class
+        };
+        
+        // Implementaciones generadas por MapStruct (se resuelven por nombre)
+        private static final List<String> MAPPERS = List.of(
+                "com.universidad.api.application.mappers.CarreraMapperImpl",
+                "com.universidad.api.application.mappers.FacultadMapperImpl",
+                "com.universidad.api.application.mappers.BusquedaMapperImpl",
+                "com.universidad.api.application.mappers.CatalogoNodoMapperImpl"
+        );
+        
+        // Interfaces JDBC que SentenciasObservadas envuelve con java.lang.reflect.Proxy (una interfaz por proxy)
+        private static final Class<?>[] PROXIES_JDBC = {
+                DataSource.class, Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class
+        };
+        
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), TIPOS_JSON);
+            for (Class<?> tipo : TIPOS_GRAPHQL) {
+                hints.reflection().registerType(tipo,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+            }
+            
+            // Hibernate accede a campos y constructores de las entidades por reflexión
+            for (Class<?> entidad : List.of(Carrera.class, Facultad.class)) {
+                hints.reflection().registerType(entidad, MemberCategory.values());
+            }
+            
+            for (String mapper : MAPPERS) {
+                hints.reflection().registerType(TypeReference.of(mapper),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            
+            // El manejador de los proxies reenvía cada llamada con Method.invoke sobre el objeto real
+            for (Class<?> interfaz : PROXIES_JDBC) {
+                hints.proxies().registerJdkProxy(interfaz);
+                hints.reflection().registerType(interfaz, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            
+            // Migraciones Flyway, esquema GraphQL, información de build y recursos estáticos de Swagger UI
+            hints.resources().registerPattern("db/migration/*.sql");
+            hints.resources().registerPattern("graphql/*.graphqls");
+            hints.resources().registerPattern("META-INF/build-info.properties");
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.universidad.api.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas de la aplicación.
+ * Sigue el principio SRP - configuración específica para tareas periódicas.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,32 @@
+package com.universidad.api.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.infrastructure.trazas.ConvertidorJsonObservado;
+import com.universidad.api.infrastructure.trazas.MuestreoTrazasProperties;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Configuración de trazas distribuidas.
+ * Sigue el principio SRP - configuración específica de observabilidad de solicitudes.
+ * - La instrumentación (controlador, servicio, mapeo, JDBC, serialización) usa la API de
+ *   observaciones de Micrometer: sin el puente de trazas solo produce timers
+ * - Con el perfil Maven trazas, Spring Boot convierte las observaciones en spans OpenTelemetry,
+ *   propaga el contexto W3C (traceparent) y los exporta por OTLP (management.otlp.tracing.*)
+ */
+@Configuration
+@EnableConfigurationProperties(MuestreoTrazasProperties.class)
+public class TrazasConfig {
+    
+    /**
+     * Sustituye al conversor JSON de Spring Boot (mismo ObjectMapper) para observar la serialización.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   ObservationRegistry observationRegistry) {
+        return new ConvertidorJsonObservado(objectMapper, observationRegistry);
+    }
+}
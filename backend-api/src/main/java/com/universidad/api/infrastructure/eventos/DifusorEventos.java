@@ -0,0 +1,207 @@
+package com.universidad.api.infrastructure.eventos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.application.events.CatalogoEvento;
+import com.universidad.api.application.instituciones.InstitucionActual;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Difusor de cambios del catálogo vía Server-Sent Events.
+ * - Recibe los {@link CatalogoEvento} después del commit de la transacción
+ * - Serializa cada evento una sola vez y lo reparte a todos los suscriptores
+ * - Conserva los últimos eventos en un buffer circular para reanudar con Last-Event-ID
+ * - Envía latidos periódicos para mantener vivas las conexiones a través de proxies
+ *
+ * Los IDs de evento tienen la forma {@code <arranque>-<secuencia>}: si el cliente
+ * presenta un ID de otra instancia o ya fuera del buffer, recibe un evento
+ * {@code resincronizar} y debe recargar los listados completos.
+ *
+ * Cada institución tiene su propio canal (buffer, secuencia y suscriptores): un cliente solo
+ * recibe los cambios de la institución con la que se suscribió.
+ */
+@Slf4j
+@Component
+public class DifusorEventos {
+    
+    static final String EVENTO_CAMBIO = "cambio";
+    static final String EVENTO_RESINCRONIZAR = "resincronizar";
+    
+    private final ObjectMapper objectMapper;
+    private final int capacidadBuffer;
+    private final int capacidadCola;
+    private final long timeoutMs;
+    private final long arranque = System.currentTimeMillis();
+    
+    private final Map<String, Canal> canales = new ConcurrentHashMap<>();
+    private final ExecutorService despachador;
+    private final Set<DataWithMediaType> latido = SseEmitter.event().comment("latido").build();
+    
+    public DifusorEventos(ObjectMapper objectMapper,
+                          @Value("${universidad.eventos.buffer-capacidad:1024}") int capacidadBuffer,
+                          @Value("${universidad.eventos.cola-suscriptor:256}") int capacidadCola,
+                          @Value("${universidad.eventos.timeout-ms:1800000}") long timeoutMs,
+                          @Value("${universidad.eventos.hilos-despacho:4}") int hilosDespacho) {
+        this.objectMapper = objectMapper;
+        this.capacidadBuffer = capacidadBuffer;
+        this.capacidadCola = capacidadCola;
+        this.timeoutMs = timeoutMs;
+        
+        AtomicInteger contador = new AtomicInteger();
+        this.despachador = Executors.newFixedThreadPool(hilosDespacho, tarea -> {
+            Thread hilo = new Thread(tarea, "sse-despacho-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+    
+    /**
+     * Registra un nuevo suscriptor, reenviando los eventos posteriores a {@code ultimoId} si aún están en el buffer.
+     * @param ultimoId Último ID de evento recibido por el cliente (puede ser null)
+     * @return Emisor SSE asociado a la conexión
+     */
+    public SseEmitter suscribir(String ultimoId) {
+        Canal canal = canal();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SuscriptorEventos suscriptor = new SuscriptorEventos(emitter, capacidadCola, despachador, canal.suscriptores::remove);
+        
+        emitter.onCompletion(suscriptor::cerrar);
+        emitter.onTimeout(suscriptor::cerrar);
+        emitter.onError(ex -> suscriptor.cerrar());
+        
+        synchronized (canal) {
+            suscriptor.encolar(SseEmitter.event().reconnectTime(3000).comment("conectado").build());
+            reanudar(canal, suscriptor, ultimoId);
+            canal.suscriptores.add(suscriptor);
+        }
+        
+        log.debug("Nuevo suscriptor SSE (Last-Event-ID: {}), total: {}", ultimoId, canal.suscriptores.size());
+        return emitter;
+    }
+    
+    /**
+     * Difunde un cambio confirmado a los suscriptores de la institución en curso (la del cambio).
+     * fallbackExecution permite publicar también cambios realizados fuera de una transacción.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alConfirmarCambio(CatalogoEvento evento) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException ex) {
+            log.error("No se pudo serializar el evento {} {} {}", evento.getRecurso(), evento.getTipo(), evento.getId(), ex);
+            return;
+        }
+        
+        Canal canal = canal();
+        synchronized (canal) {
+            long id = ++canal.secuencia;
+            Set<DataWithMediaType> serializado = SseEmitter.event()
+                    .id(arranque + "-" + id)
+                    .name(EVENTO_CAMBIO)
+                    .data(json)
+                    .build();
+            canal.buffer[(int) (id % canal.buffer.length)] = serializado;
+            canal.suscriptores.forEach(suscriptor -> suscriptor.encolar(serializado));
+        }
+    }
+    
+    /**
+     * Envía un comentario de latido a todas las conexiones abiertas.
+     */
+    @Scheduled(fixedDelayString = "${universidad.eventos.latido-ms:15000}")
+    public void enviarLatido() {
+        canales.values().forEach(canal -> canal.suscriptores.forEach(suscriptor -> suscriptor.encolar(latido)));
+    }
+    
+    /**
+     * Número de conexiones SSE abiertas.
+     */
+    public int getSuscriptoresActivos() {
+        return canales.values().stream().mapToInt(canal -> canal.suscriptores.size()).sum();
+    }
+    
+    @PreDestroy
+    public void cerrar() {
+        canales.values().forEach(canal -> canal.suscriptores.forEach(SuscriptorEventos::cerrar));
+        despachador.shutdownNow();
+    }
+    
+    private Canal canal() {
+        return canales.computeIfAbsent(InstitucionActual.obtener(), institucion -> new Canal(capacidadBuffer));
+    }
+    
+    // Debe invocarse con el monitor del canal tomado
+    private void reanudar(Canal canal, SuscriptorEventos suscriptor, String ultimoId) {
+        if (ultimoId == null || ultimoId.isBlank()) {
+            return;
+        }
+        
+        long desde = parsearSecuencia(ultimoId);
+        long pendientes = canal.secuencia - desde;
+        boolean disponible = desde >= 0
+                && pendientes >= 0
+                && pendientes <= canal.buffer.length
+                && pendientes < suscriptor.capacidadCola();
+        
+        if (!disponible) {
+            suscriptor.encolar(SseEmitter.event()
+                    .name(EVENTO_RESINCRONIZAR)
+                    .data("{\"motivo\":\"eventos no disponibles\"}")
+                    .build());
+            return;
+        }
+        
+        for (long id = desde + 1; id <= canal.secuencia; id++) {
+            suscriptor.encolar(canal.buffer[(int) (id % canal.buffer.length)]);
+        }
+    }
+    
+    /**
+     * Extrae la secuencia de un ID de evento; -1 si es de otra instancia o no es válido.
+     */
+    private long parsearSecuencia(String ultimoId) {
+        int separador = ultimoId.indexOf('-');
+        if (separador <= 0) {
+            return -1;
+        }
+        try {
+            long arranqueCliente = Long.parseLong(ultimoId.substring(0, separador));
+            long secuenciaCliente = Long.parseLong(ultimoId.substring(separador + 1));
+            return arranqueCliente == arranque ? secuenciaCliente : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+    
+    /**
+     * Estado de difusión de una institución: buffer circular de eventos ya serializados y su
+     * secuencia (protegidos por el monitor del canal) y suscriptores abiertos.
+     */
+    private static final class Canal {
+        
+        private final Set<DataWithMediaType>[] buffer;
+        private long secuencia;
+        private final Set<SuscriptorEventos> suscriptores = ConcurrentHashMap.newKeySet();
+        
+        @SuppressWarnings("unchecked")
+        Canal(int capacidadBuffer) {
+            this.buffer = new Set[capacidadBuffer];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.universidad.api.infrastructure.eventos;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Conexión SSE de un cliente con su propia cola acotada de eventos pendientes.
+ * El envío se hace en el pool de despacho, nunca en el hilo que publica el cambio:
+ * si el cliente no consume a tiempo y la cola se llena, la conexión se cierra y el
+ * cliente reanuda con Last-Event-ID desde el buffer del difusor.
+ */
+@Slf4j
+class SuscriptorEventos {
+    
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> cola;
+    private final Executor despachador;
+    private final AtomicBoolean drenando = new AtomicBoolean();
+    private final AtomicBoolean cerrado = new AtomicBoolean();
+    private final Consumer<SuscriptorEventos> alCerrar;
+    
+    SuscriptorEventos(SseEmitter emitter, int capacidadCola, Executor despachador,
+                      Consumer<SuscriptorEventos> alCerrar) {
+        this.emitter = emitter;
+        this.cola = new ArrayBlockingQueue<>(capacidadCola);
+        this.despachador = despachador;
+        this.alCerrar = alCerrar;
+    }
+    
+    int capacidadCola() {
+        return cola.remainingCapacity() + cola.size();
+    }
+    
+    /**
+     * Encola un evento ya serializado sin bloquear al publicador.
+     * @return false si el suscriptor está cerrado o se acaba de cerrar por lentitud
+     */
+    boolean encolar(Set<DataWithMediaType> evento) {
+        if (cerrado.get()) {
+            return false;
+        }
+        if (!cola.offer(evento)) {
+            log.warn("Suscriptor SSE lento: cola llena ({} eventos), se cierra la conexión", cola.size());
+            cerrar();
+            return false;
+        }
+        programarDrenado();
+        return true;
+    }
+    
+    /**
+     * Cierra la conexión y descarta los eventos pendientes.
+     */
+    void cerrar() {
+        if (cerrado.compareAndSet(false, true)) {
+            cola.clear();
+            alCerrar.accept(this);
+            emitter.complete();
+        }
+    }
+    
+    private void programarDrenado() {
+        if (drenando.compareAndSet(false, true)) {
+            try {
+                despachador.execute(this::drenar);
+            } catch (RejectedExecutionException ex) {
+                drenando.set(false);
+                cerrar();
+            }
+        }
+    }
+    
+    private void drenar() {
+        try {
+            Set<DataWithMediaType> evento;
+            while (!cerrado.get() && (evento = cola.poll()) != null) {
+                emitter.send(evento);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Conexión SSE interrumpida: {}", ex.getMessage());
+            cerrar();
+        } finally {
+            drenando.set(false);
+        }
+        
+        // Un evento pudo encolarse entre el último poll y la liberación del indicador
+        if (!cerrado.get() && !cola.isEmpty()) {
+            programarDrenado();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.universidad.api.infrastructure.idempotencia;
+
+import com.universidad.api.application.auditoria.UsuarioActual;
+import com.universidad.api.application.instituciones.InstitucionActual;
+import com.universidad.api.infrastructure.idempotencia.ReservaIdempotencia.Estado;
+import com.universidad.api.infrastructure.instituciones.FuenteInstitucion;
+import com.universidad.api.infrastructure.instituciones.RegistroInstituciones;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Almacén de claves de idempotencia (cabecera Idempotency-Key) con dos niveles.
+ * - Memoria: las solicitudes en curso de esta instancia (los duplicados esperan su resultado
+ *   sin tocar la base de datos) y una caché LRU de las respuestas recientes
+ * - Base de datos (tabla clave_idempotencia de cada institución): la reserva es un único
+ *   upsert, así que solo una instancia ejecuta la solicitud; las demás leen la respuesta guardada
+ *   o sondean la fila hasta que la original termina
+ * - Las claves son por usuario y caducan a las universidad.idempotencia.ttl-horas; una reserva
+ *   en curso más antigua que universidad.idempotencia.abandono-ms (la instancia cayó) se reutiliza
+ *
+ * Métrica: universidad.idempotencia.solicitudes{resultado=ejecutada|repetida|distinta|en_curso}.
+ */
+@Slf4j
+@Component
+public class AlmacenIdempotencia {
+    
+    private static final String RESERVAR = """
+            INSERT INTO clave_idempotencia (usuario, clave, metodo, ruta, huella, expira)
+            VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP + ? * INTERVAL '1 hour')
+            ON CONFLICT (usuario, clave) DO UPDATE
+            SET metodo = EXCLUDED.metodo, ruta = EXCLUDED.ruta, huella = EXCLUDED.huella, estado = NULL,
+                tipo_contenido = NULL, cuerpo = NULL, creada = CURRENT_TIMESTAMP, expira = EXCLUDED.expira
+            WHERE clave_idempotencia.expira < CURRENT_TIMESTAMP
+               OR (clave_idempotencia.estado IS NULL
+                   AND clave_idempotencia.creada < CURRENT_TIMESTAMP - ? * INTERVAL '1 millisecond')
+            """;
+    private static final String LEER = """
+            SELECT huella, estado, tipo_contenido, cuerpo
+            FROM clave_idempotencia
+            WHERE usuario = ? AND clave = ?
+            """;
+    private static final String COMPLETAR = """
+            UPDATE clave_idempotencia SET estado = ?, tipo_contenido = ?, cuerpo = ?
+            WHERE usuario = ? AND clave = ? AND estado IS NULL
+            """;
+    private static final String LIBERAR = """
+            DELETE FROM clave_idempotencia WHERE usuario = ? AND clave = ? AND estado IS NULL
+            """;
+    private static final String LIMPIAR = "DELETE FROM clave_idempotencia WHERE expira < CURRENT_TIMESTAMP";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final RegistroInstituciones registroInstituciones;
+    private final long ttlHoras;
+    private final long esperaMaximaMs;
+    private final long abandonoMs;
+    private final long sondeoMs;
+    private final Map<Estado, Counter> solicitudes = new EnumMap<>(Estado.class);
+    
+    // institucion|usuario|clave → resultado de la solicitud en curso en esta instancia (null si se liberó)
+    private final Map<String, CompletableFuture<RespuestaIdempotente>> enCurso = new ConcurrentHashMap<>();
+    private final RespuestasRecientes recientes;
+    
+    public AlmacenIdempotencia(JdbcTemplate jdbcTemplate,
+                               RegistroInstituciones registroInstituciones,
+                               MeterRegistry meterRegistry,
+                               @Value("${universidad.idempotencia.ttl-horas:24}") long ttlHoras,
+                               @Value("${universidad.idempotencia.espera-maxima-ms:10000}") long esperaMaximaMs,
+                               @Value("${universidad.idempotencia.abandono-ms:60000}") long abandonoMs,
+                               @Value("${universidad.idempotencia.sondeo-ms:100}") long sondeoMs,
+                               @Value("${universidad.idempotencia.maximo-memoria:10000}") int maximoMemoria) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.registroInstituciones = registroInstituciones;
+        this.ttlHoras = ttlHoras;
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.abandonoMs = abandonoMs;
+        this.sondeoMs = sondeoMs;
+        this.recientes = new RespuestasRecientes(maximoMemoria, TimeUnit.HOURS.toMillis(ttlHoras));
+        this.solicitudes.put(Estado.PROPIA, solicitudes(meterRegistry, "ejecutada"));
+        this.solicitudes.put(Estado.REPETIDA, solicitudes(meterRegistry, "repetida"));
+        this.solicitudes.put(Estado.DISTINTA, solicitudes(meterRegistry, "distinta"));
+        this.solicitudes.put(Estado.EN_CURSO, solicitudes(meterRegistry, "en_curso"));
+    }
+    
+    /**
+     * Reserva la clave para el usuario y la institución en curso. Si otra solicitud con la misma
+     * clave está en curso, espera su resultado como mucho universidad.idempotencia.espera-maxima-ms.
+     *
+     * @param huella SHA-256 (hex) del método, la ruta y el cuerpo de la solicitud
+     */
+    public ReservaIdempotencia reservar(String clave, String metodo, String ruta, String huella) {
+        String usuario = UsuarioActual.obtener();
+        String llave = InstitucionActual.obtener() + '|' + usuario + '|' + clave;
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMaximaMs);
+        ReservaIdempotencia reserva;
+        do {
+            reserva = intentar(usuario, clave, metodo, ruta, huella, llave, limite);
+        } while (reserva == null);
+        solicitudes.get(reserva.getEstado()).increment();
+        return reserva;
+    }
+    
+    /**
+     * Guarda la respuesta de una solicitud reservada. Los errores del servidor (5xx) no se guardan:
+     * la clave se libera para que el cliente pueda reintentar.
+     */
+    public void completar(ReservaIdempotencia reserva, int estado, String tipoContenido, byte[] cuerpo) {
+        if (estado >= 500) {
+            liberar(reserva);
+            return;
+        }
+        RespuestaIdempotente respuesta = null;
+        try {
+            jdbcTemplate.update(COMPLETAR, estado, tipoContenido, cuerpo, reserva.usuario, reserva.clave);
+            respuesta = new RespuestaIdempotente(reserva.huella, estado, tipoContenido, cuerpo);
+            recientes.guardar(reserva.llave, respuesta);
+        } catch (DataAccessException ex) {
+            // La reserva queda en curso: los reintentos reciben 409 hasta universidad.idempotencia.abandono-ms
+            log.warn("No se pudo guardar la respuesta de la clave de idempotencia: {}", ex.getMessage());
+        } finally {
+            terminar(reserva, respuesta);
+        }
+    }
+    
+    /**
+     * Descarta una reserva sin respuesta (error o excepción): la clave vuelve a estar libre.
+     */
+    public void liberar(ReservaIdempotencia reserva) {
+        try {
+            jdbcTemplate.update(LIBERAR, reserva.usuario, reserva.clave);
+        } catch (DataAccessException ex) {
+            // La fila queda en curso hasta universidad.idempotencia.abandono-ms
+            log.warn("No se pudo liberar la clave de idempotencia: {}", ex.getMessage());
+        } finally {
+            terminar(reserva, null);
+        }
+    }
+    
+    @Scheduled(initialDelayString = "${universidad.idempotencia.limpieza-ms:3600000}",
+               fixedDelayString = "${universidad.idempotencia.limpieza-ms:3600000}")
+    public void limpiar() {
+        recientes.purgar();
+        for (FuenteInstitucion fuente : registroInstituciones.getFuentes()) {
+            InstitucionActual.establecer(fuente.institucion());
+            try {
+                int borradas = jdbcTemplate.update(LIMPIAR);
+                if (borradas > 0) {
+                    log.info("Claves de idempotencia caducadas eliminadas en {}: {}", fuente.institucion(), borradas);
+                }
+            } catch (DataAccessException ex) {
+                log.warn("No se pudieron limpiar las claves de idempotencia de {}: {}",
+                        fuente.institucion(), ex.getMessage());
+            } finally {
+                InstitucionActual.limpiar();
+            }
+        }
+    }
+    
+    // null: la reserva que se esperaba se liberó y hay que volver a intentarlo
+    private ReservaIdempotencia intentar(String usuario, String clave, String metodo, String ruta, String huella,
+                                         String llave, long limite) {
+        RespuestaIdempotente reciente = recientes.obtener(llave);
+        if (reciente != null) {
+            return repetida(reciente, huella, usuario, clave, llave);
+        }
+    
+        CompletableFuture<RespuestaIdempotente> propia = new CompletableFuture<>();
+        CompletableFuture<RespuestaIdempotente> original = enCurso.putIfAbsent(llave, propia);
+        if (original != null) {
+            // Duplicado en esta instancia: espera a la solicitud original sin consultar la base de datos
+            RespuestaIdempotente respuesta = esperar(original, limite);
+            if (respuesta == null) {
+                return original.isDone() ? null : resultado(Estado.EN_CURSO, null, usuario, clave, llave, null);
+            }
+            return repetida(respuesta, huella, usuario, clave, llave);
+        }
+    
+        ReservaIdempotencia reserva = null;
+        try {
+            reserva = reservarEnBaseDatos(usuario, clave, metodo, ruta, huella, llave, propia, limite);
+            return reserva;
+        } finally {
+            if (reserva == null || reserva.getEstado() != Estado.PROPIA) {
+                enCurso.remove(llave, propia);
+                propia.complete(reserva != null ? reserva.getRespuesta() : null);
+            }
+        }
+    }
+    
+    private ReservaIdempotencia reservarEnBaseDatos(String usuario, String clave, String metodo, String ruta,
+                                                    String huella, String llave,
+                                                    CompletableFuture<RespuestaIdempotente> propia, long limite) {
+        while (true) {
+            if (jdbcTemplate.update(RESERVAR, usuario, clave, metodo, ruta, huella, ttlHoras, abandonoMs) == 1) {
+                return new ReservaIdempotencia(Estado.PROPIA, null, usuario, clave, huella, llave, propia);
+            }
+            // estado 0 (NULL en la tabla): la solicitud original sigue en curso
+            List<RespuestaIdempotente> filas = jdbcTemplate.query(LEER, (fila, i) -> new RespuestaIdempotente(
+                    fila.getString("huella"), fila.getInt("estado"), fila.getString("tipo_contenido"),
+                    fila.getBytes("cuerpo")), usuario, clave);
+            if (filas.isEmpty()) {
+                // Liberada entre el upsert y la lectura: se vuelve a reservar
+                continue;
+            }
+            RespuestaIdempotente guardada = filas.get(0);
+            if (guardada.estado() != 0) {
+                recientes.guardar(llave, guardada);
+                return repetida(guardada, huella, usuario, clave, llave);
+            }
+            long restante = limite - System.nanoTime();
+            if (restante <= 0) {
+                return resultado(Estado.EN_CURSO, null, usuario, clave, llave, null);
+            }
+            dormir(Math.min(sondeoMs, TimeUnit.NANOSECONDS.toMillis(restante) + 1));
+        }
+    }
+    
+    private static RespuestaIdempotente esperar(CompletableFuture<RespuestaIdempotente> original, long limite) {
+        try {
+            return original.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Espera de la clave de idempotencia interrumpida", ex);
+        }
+    }
+    
+    private static void dormir(long milisegundos) {
+        try {
+            Thread.sleep(milisegundos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Espera de la clave de idempotencia interrumpida", ex);
+        }
+    }
+    
+    private void terminar(ReservaIdempotencia reserva, RespuestaIdempotente respuesta) {
+        enCurso.remove(reserva.llave, reserva.enCurso);
+        reserva.enCurso.complete(respuesta);
+    }
+    
+    private static ReservaIdempotencia repetida(RespuestaIdempotente respuesta, String huella,
+                                                String usuario, String clave, String llave) {
+        Estado estado = respuesta.huella().equals(huella) ? Estado.REPETIDA : Estado.DISTINTA;
+        return resultado(estado, estado == Estado.REPETIDA ? respuesta : null, usuario, clave, llave, null);
+    }
+    
+    private static ReservaIdempotencia resultado(Estado estado, RespuestaIdempotente respuesta, String usuario,
+                                                 String clave, String llave,
+                                                 CompletableFuture<RespuestaIdempotente> enCurso) {
+        return new ReservaIdempotencia(estado, respuesta, usuario, clave, null, llave, enCurso);
+    }
+    
+    private static Counter solicitudes(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("universidad.idempotencia.solicitudes")
+                .description("Solicitudes con Idempotency-Key según se ejecutaron o se respondieron con la original")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Respuestas terminadas recientemente (LRU acotada con caducidad): los reintentos habituales,
+     * segundos después de la original, se responden sin consultar la base de datos.
+     */
+    private static final class RespuestasRecientes {
+    
+        private final long ttlMs;
+        private final Map<String, Entrada> entradas;
+    
+        RespuestasRecientes(int maximo, long ttlMs) {
+            this.ttlMs = ttlMs;
+            this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entrada> mayor) {
+                    return size() > maximo;
+                }
+            };
+        }
+    
+        synchronized RespuestaIdempotente obtener(String llave) {
+            Entrada entrada = entradas.get(llave);
+            if (entrada == null) {
+                return null;
+            }
+            if (entrada.expira() < System.currentTimeMillis()) {
+                entradas.remove(llave);
+                return null;
+            }
+            return entrada.respuesta();
+        }
+    
+        synchronized void guardar(String llave, RespuestaIdempotente respuesta) {
+            entradas.put(llave, new Entrada(respuesta, System.currentTimeMillis() + ttlMs));
+        }
+    
+        synchronized void purgar() {
+            long ahora = System.currentTimeMillis();
+            entradas.values().removeIf(entrada -> entrada.expira() < ahora);
+        }
+    
+        private record Entrada(RespuestaIdempotente respuesta, long expira) {
+        }
+    }
+}
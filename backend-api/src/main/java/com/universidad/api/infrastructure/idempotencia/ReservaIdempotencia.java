@@ -0,0 +1,52 @@
+package com.universidad.api.infrastructure.idempotencia;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resultado de reservar una clave de idempotencia en {@link AlmacenIdempotencia}.
+ * Con {@link Estado#PROPIA} la solicitud se ejecuta y debe terminar con
+ * {@link AlmacenIdempotencia#completar} o {@link AlmacenIdempotencia#liberar}.
+ */
+public final class ReservaIdempotencia {
+    
+    public enum Estado {
+        /** La clave es nueva (o caducó): la solicitud se ejecuta */
+        PROPIA,
+        /** La solicitud original ya terminó: se devuelve su respuesta */
+        REPETIDA,
+        /** La clave ya se usó con otra solicitud (distinto método, ruta o cuerpo) */
+        DISTINTA,
+        /** La solicitud original sigue en curso tras la espera máxima */
+        EN_CURSO
+    }
+    
+    private final Estado estado;
+    private final RespuestaIdempotente respuesta;
+    final String usuario;
+    final String clave;
+    final String huella;
+    final String llave;
+    final CompletableFuture<RespuestaIdempotente> enCurso;
+    
+    ReservaIdempotencia(Estado estado, RespuestaIdempotente respuesta, String usuario, String clave,
+                        String huella, String llave, CompletableFuture<RespuestaIdempotente> enCurso) {
+        this.estado = estado;
+        this.respuesta = respuesta;
+        this.usuario = usuario;
+        this.clave = clave;
+        this.huella = huella;
+        this.llave = llave;
+        this.enCurso = enCurso;
+    }
+    
+    public Estado getEstado() {
+        return estado;
+    }
+    
+    /**
+     * Respuesta original; solo con {@link Estado#REPETIDA}.
+     */
+    public RespuestaIdempotente getRespuesta() {
+        return respuesta;
+    }
+}
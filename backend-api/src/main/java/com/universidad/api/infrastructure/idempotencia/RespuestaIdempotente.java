@@ -0,0 +1,9 @@
+package com.universidad.api.infrastructure.idempotencia;
+
+/**
+ * Respuesta guardada de la solicitud original de una clave de idempotencia.
+ *
+ * @param huella SHA-256 (hex) del método, la ruta y el cuerpo de la solicitud original
+ */
+public record RespuestaIdempotente(String huella, int estado, String tipoContenido, byte[] cuerpo) {
+}
@@ -0,0 +1,139 @@
+package com.universidad.api.infrastructure.instantanea;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escribe un archivo con el formato de {@link InstantaneaCatalogo} en una sola pasada.
+ * Las carreras deben llegar agrupadas por facultad y antes que las facultades; los índices
+ * se ordenan en memoria (12 bytes por registro) y la cabecera se completa al terminar.
+ */
+final class EscritorInstantanea implements Closeable {
+    
+    // Las posiciones son int: el mapeo de un MappedByteBuffer no puede superar 2 GB
+    private static final int TAMANIO_MAXIMO = Integer.MAX_VALUE - 64;
+    
+    private final Path archivo;
+    private final DataOutputStream salida;
+    private final List<Entrada> indiceFacultades = new ArrayList<>();
+    private final List<Entrada> indiceCarreras = new ArrayList<>();
+    // facultadId → {posición de su primera carrera, número de carreras}
+    private final Map<Long, int[]> carrerasPorFacultad = new HashMap<>();
+    
+    EscritorInstantanea(Path archivo) throws IOException {
+        this.archivo = archivo;
+        this.salida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archivo), 64 * 1024));
+        salida.write(new byte[InstantaneaCatalogo.LONGITUD_CABECERA]);
+    }
+    
+    void carrera(long id, long facultadId, String nombreFacultad, String nombre, String descripcion,
+                 Integer duracion, String titulo, LocalDateTime fechaRegistro, boolean activo) throws IOException {
+        int posicion = posicion();
+        indiceCarreras.add(new Entrada(id, posicion));
+        int[] rango = carrerasPorFacultad.computeIfAbsent(facultadId, f -> new int[]{posicion, 0});
+        rango[1]++;
+        salida.writeLong(id);
+        salida.writeLong(facultadId);
+        texto(nombreFacultad);
+        texto(nombre);
+        texto(descripcion);
+        salida.writeInt(duracion != null ? duracion : -1);
+        texto(titulo);
+        fecha(fechaRegistro);
+        salida.writeByte(activo ? 1 : 0);
+    }
+    
+    void facultad(long id, String nombre, String descripcion, String ubicacion, String decano,
+                  LocalDateTime fechaRegistro) throws IOException {
+        indiceFacultades.add(new Entrada(id, posicion()));
+        int[] rango = carrerasPorFacultad.getOrDefault(id, new int[]{0, 0});
+        salida.writeLong(id);
+        texto(nombre);
+        texto(descripcion);
+        texto(ubicacion);
+        texto(decano);
+        fecha(fechaRegistro);
+        salida.writeInt(rango[0]);
+        salida.writeInt(rango[1]);
+    }
+    
+    /**
+     * Escribe los índices y la cabecera. El archivo queda completo y listo para mapearse.
+     */
+    void terminar(Instant fecha) throws IOException {
+        int posicionFacultades = escribirIndice(indiceFacultades);
+        int posicionCarreras = escribirIndice(indiceCarreras);
+        posicion();
+        salida.close();
+    
+        ByteBuffer cabecera = ByteBuffer.allocate(InstantaneaCatalogo.LONGITUD_CABECERA)
+                .putInt(InstantaneaCatalogo.MAGIA)
+                .putInt(InstantaneaCatalogo.VERSION)
+                .putLong(fecha.toEpochMilli())
+                .putInt(indiceFacultades.size())
+                .putInt(indiceCarreras.size())
+                .putInt(posicionFacultades)
+                .putInt(posicionCarreras)
+                .flip();
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(cabecera, 0);
+            canal.force(true);
+        }
+    }
+    
+    private int escribirIndice(List<Entrada> indice) throws IOException {
+        indice.sort(Comparator.comparingLong(Entrada::id));
+        int posicion = posicion();
+        for (Entrada entrada : indice) {
+            salida.writeLong(entrada.id());
+            salida.writeInt(entrada.posicion());
+        }
+        return posicion;
+    }
+    
+    private int posicion() throws IOException {
+        int posicion = salida.size();
+        if (posicion >= TAMANIO_MAXIMO) {
+            throw new IOException("La instantánea supera el tamaño máximo mapeable (2 GB)");
+        }
+        return posicion;
+    }
+    
+    private void texto(String valor) throws IOException {
+        if (valor == null) {
+            salida.writeInt(-1);
+            return;
+        }
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        salida.writeInt(bytes.length);
+        salida.write(bytes);
+    }
+    
+    private void fecha(LocalDateTime valor) throws IOException {
+        salida.writeLong(valor != null ? valor.toEpochSecond(ZoneOffset.UTC) : InstantaneaCatalogo.SIN_FECHA);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        salida.close();
+    }
+    
+    private record Entrada(long id, int posicion) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.universidad.api.infrastructure.instantanea;
+
+import com.universidad.api.application.instituciones.InstitucionActual;
+import com.universidad.api.infrastructure.instituciones.FuenteInstitucion;
+import com.universidad.api.infrastructure.instituciones.RegistroInstituciones;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mantiene una instantánea en disco del catálogo de cada institución (directorio/institucion.cat).
+ * - Al arrancar mapea las instantáneas que ya existan: las lecturas degradadas están disponibles
+ *   desde la primera solicitud, aunque la base de datos aún no responda
+ * - Periódicamente la regenera en un archivo temporal, en una transacción de solo lectura con
+ *   lectura por cursor, y la sustituye con un movimiento atómico; si falla se conserva la anterior
+ *
+ * Métricas: universidad.instantanea.edad{institucion} (segundos) y universidad.instantanea.generacion.
+ */
+@Slf4j
+@Component
+public class GestorInstantaneas {
+    
+    private static final String CARRERAS = """
+            SELECT c.carrera_id, c.facultad_id, f.nombre AS nombre_facultad, c.nombre, c.descripcion,
+                   c.duracion_semestres, c.titulo_otorgado, c.fecha_registro, c.activo
+            FROM carrera c JOIN facultad f ON f.facultad_id = c.facultad_id
+            WHERE c.activo OR f.activo
+            ORDER BY c.facultad_id, c.carrera_id
+            """;
+    private static final String FACULTADES = """
+            SELECT facultad_id, nombre, descripcion, ubicacion, decano, fecha_registro
+            FROM facultad
+            WHERE activo
+            """;
+    private static final String EXTENSION = ".cat";
+    
+    private final RegistroInstituciones registroInstituciones;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaccionLectura;
+    private final MeterRegistry meterRegistry;
+    private final Path directorio;
+    private final boolean habilitada;
+    private final Timer generacion;
+    
+    private final Map<String, InstantaneaCatalogo> instantaneas = new ConcurrentHashMap<>();
+    
+    public GestorInstantaneas(RegistroInstituciones registroInstituciones,
+                              DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${universidad.instantanea.directorio:instantaneas}") String directorio,
+                              @Value("${universidad.instantanea.habilitada:true}") boolean habilitada) {
+        this.registroInstituciones = registroInstituciones;
+        // PostgreSQL solo lee por cursor (fetchSize) dentro de una transacción
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.transaccionLectura = new TransactionTemplate(transactionManager);
+        this.transaccionLectura.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.directorio = Paths.get(directorio);
+        this.habilitada = habilitada;
+        this.generacion = Timer.builder("universidad.instantanea.generacion")
+                .description("Tiempo de generación de la instantánea del catálogo")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Instantánea de la institución en curso, o null si no hay ninguna.
+     */
+    public InstantaneaCatalogo actual() {
+        return instantaneas.get(InstitucionActual.obtener());
+    }
+    
+    @PostConstruct
+    void cargar() {
+        if (!habilitada) {
+            return;
+        }
+        for (FuenteInstitucion fuente : registroInstituciones.getFuentes()) {
+            Path archivo = archivo(fuente.institucion());
+            if (!Files.isRegularFile(archivo)) {
+                continue;
+            }
+            try {
+                publicar(fuente.institucion(), InstantaneaCatalogo.abrir(archivo));
+            } catch (IOException e) {
+                log.warn("Instantánea de {} ilegible, se regenerará: {}", fuente.institucion(), e.getMessage());
+            }
+        }
+    }
+    
+    @Scheduled(initialDelayString = "${universidad.instantanea.retraso-inicial-ms:30000}",
+               fixedDelayString = "${universidad.instantanea.intervalo-ms:300000}")
+    public void regenerar() {
+        if (!habilitada) {
+            return;
+        }
+        for (FuenteInstitucion fuente : registroInstituciones.getFuentes()) {
+            InstitucionActual.establecer(fuente.institucion());
+            try {
+                regenerar(fuente.institucion());
+            } catch (RuntimeException | IOException e) {
+                log.warn("No se pudo regenerar la instantánea de {}: {}", fuente.institucion(), e.getMessage());
+            } finally {
+                InstitucionActual.limpiar();
+            }
+        }
+    }
+    
+    private void regenerar(String institucion) throws IOException {
+        Files.createDirectories(directorio);
+        Path temporal = Files.createTempFile(directorio, institucion, ".tmp");
+        try {
+            Instant fecha = Instant.now();
+            long inicio = System.nanoTime();
+            try (EscritorInstantanea escritor = new EscritorInstantanea(temporal)) {
+                transaccionLectura.executeWithoutResult(estado -> escribir(escritor));
+                escritor.terminar(fecha);
+            }
+            Path archivo = archivo(institucion);
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            InstantaneaCatalogo instantanea = InstantaneaCatalogo.abrir(archivo);
+            generacion.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            publicar(institucion, instantanea);
+            log.info("Instantánea de {} regenerada: {} facultades, {} carreras, {} KB",
+                    institucion, instantanea.getFacultades(), instantanea.getCarreras(), Files.size(archivo) / 1024);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+    
+    private void escribir(EscritorInstantanea escritor) {
+        jdbcTemplate.query(CARRERAS, fila -> {
+            try {
+                escritor.carrera(fila.getLong("carrera_id"), fila.getLong("facultad_id"),
+                        fila.getString("nombre_facultad"), fila.getString("nombre"), fila.getString("descripcion"),
+                        (Integer) fila.getObject("duracion_semestres"), fila.getString("titulo_otorgado"),
+                        fecha(fila), fila.getBoolean("activo"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        jdbcTemplate.query(FACULTADES, fila -> {
+            try {
+                escritor.facultad(fila.getLong("facultad_id"), fila.getString("nombre"), fila.getString("descripcion"),
+                        fila.getString("ubicacion"), fila.getString("decano"), fecha(fila));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    private void publicar(String institucion, InstantaneaCatalogo instantanea) {
+        if (instantaneas.put(institucion, instantanea) == null) {
+            Gauge.builder("universidad.instantanea.edad", instantaneas,
+                            mapa -> edad(mapa.get(institucion)))
+                    .description("Antigüedad de la instantánea del catálogo en segundos")
+                    .tags(Tags.of("institucion", institucion))
+                    .register(meterRegistry);
+        }
+    }
+    
+    private static double edad(InstantaneaCatalogo instantanea) {
+        return instantanea == null ? Double.NaN : Duration.between(instantanea.getFecha(), Instant.now()).toSeconds();
+    }
+    
+    private Path archivo(String institucion) {
+        return directorio.resolve(institucion + EXTENSION);
+    }
+    
+    private static LocalDateTime fecha(ResultSet fila) throws SQLException {
+        Timestamp fecha = fila.getTimestamp("fecha_registro");
+        return fecha != null ? fecha.toLocalDateTime() : null;
+    }
+}
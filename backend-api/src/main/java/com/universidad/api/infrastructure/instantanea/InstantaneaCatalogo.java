@@ -0,0 +1,232 @@
+package com.universidad.api.infrastructure.instantanea;
+
+import com.universidad.api.application.dto.CarreraResponseDTO;
+import com.universidad.api.application.dto.FacultadResponseDTO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Instantánea del catálogo de una institución, mapeada en memoria y de solo lectura.
+ * Abrirla no lee los registros: el sistema operativo carga las páginas al consultarlas, así que
+ * está disponible desde el arranque aunque tenga millones de carreras. Contiene las facultades
+ * activas con todas sus carreras y las carreras activas de cualquier facultad.
+ * <p>
+ * Formato (big-endian, cadenas como longitud int + UTF-8, -1 = null):
+ * <pre>
+ * cabecera  int MAGIA, int VERSION, long fecha (epoch ms), int facultades, int carreras,
+ *           int posición índice facultades, int posición índice carreras
+ * carreras  agrupadas por facultad: long id, long facultadId, str nombreFacultad, str nombre,
+ *           str descripcion, int duracion, str titulo, long fechaRegistro, byte activo
+ * facultades  long id, str nombre, str descripcion, str ubicacion, str decano, long fechaRegistro,
+ *           int posición primera carrera, int número de carreras
+ * índices   (long id, int posición) ordenados por id, primero facultades y luego carreras
+ * </pre>
+ */
+public final class InstantaneaCatalogo {
+    
+    static final int MAGIA = 0x55434154;
+    static final int VERSION = 1;
+    static final int LONGITUD_CABECERA = 32;
+    static final int LONGITUD_ENTRADA_INDICE = 12;
+    static final long SIN_FECHA = Long.MIN_VALUE;
+    
+    private final ByteBuffer datos;
+    private final Instant fecha;
+    private final int facultades;
+    private final int carreras;
+    private final int indiceFacultades;
+    private final int indiceCarreras;
+    
+    private InstantaneaCatalogo(ByteBuffer datos) throws IOException {
+        this.datos = datos;
+        if (datos.capacity() < LONGITUD_CABECERA || datos.getInt(0) != MAGIA || datos.getInt(4) != VERSION) {
+            throw new IOException("Formato de instantánea no reconocido");
+        }
+        this.fecha = Instant.ofEpochMilli(datos.getLong(8));
+        this.facultades = datos.getInt(16);
+        this.carreras = datos.getInt(20);
+        this.indiceFacultades = datos.getInt(24);
+        this.indiceCarreras = datos.getInt(28);
+        if ((long) indiceCarreras + (long) carreras * LONGITUD_ENTRADA_INDICE != datos.capacity()) {
+            throw new IOException("Instantánea truncada");
+        }
+    }
+    
+    /**
+     * Mapea un archivo de instantánea. El mapeo sigue siendo válido aunque el archivo se reemplace después.
+     */
+    public static InstantaneaCatalogo abrir(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return new InstantaneaCatalogo(mapa);
+        }
+    }
+    
+    public Instant getFecha() {
+        return fecha;
+    }
+    
+    public int getFacultades() {
+        return facultades;
+    }
+    
+    public int getCarreras() {
+        return carreras;
+    }
+    
+    public Optional<FacultadResponseDTO> facultad(long id) {
+        int posicion = buscar(indiceFacultades, facultades, id);
+        return posicion < 0 ? Optional.empty() : Optional.of(leerFacultad(new Cursor(posicion)));
+    }
+    
+    public List<FacultadResponseDTO> facultadesActivas() {
+        List<FacultadResponseDTO> resultado = new ArrayList<>(facultades);
+        for (int i = 0; i < facultades; i++) {
+            resultado.add(leerFacultad(new Cursor(posicionEnIndice(indiceFacultades, i))));
+        }
+        return resultado;
+    }
+    
+    public Optional<CarreraResponseDTO> carrera(long id) {
+        int posicion = buscar(indiceCarreras, carreras, id);
+        return posicion < 0 ? Optional.empty() : Optional.of(leerCarrera(new Cursor(posicion)));
+    }
+    
+    public List<CarreraResponseDTO> carrerasActivas() {
+        List<CarreraResponseDTO> resultado = new ArrayList<>();
+        for (int i = 0; i < carreras; i++) {
+            CarreraResponseDTO carrera = leerCarrera(new Cursor(posicionEnIndice(indiceCarreras, i)));
+            if (Boolean.TRUE.equals(carrera.activo())) {
+                resultado.add(carrera);
+            }
+        }
+        return resultado;
+    }
+    
+    /**
+     * Carreras de una facultad activa; vacío si la facultad no está en la instantánea
+     * (inactiva o inexistente), en cuyo caso la respuesta solo puede darla la base de datos.
+     */
+    public Optional<List<CarreraResponseDTO>> carrerasDeFacultad(long facultadId, boolean soloActivas) {
+        int posicion = buscar(indiceFacultades, facultades, facultadId);
+        if (posicion < 0) {
+            return Optional.empty();
+        }
+        List<CarreraResponseDTO> resultado = new ArrayList<>();
+        for (CarreraResponseDTO carrera : leerFacultad(new Cursor(posicion)).carreras()) {
+            if (!soloActivas || Boolean.TRUE.equals(carrera.activo())) {
+                resultado.add(carrera);
+            }
+        }
+        return Optional.of(resultado);
+    }
+    
+    private FacultadResponseDTO leerFacultad(Cursor cursor) {
+        long id = cursor.leerLong();
+        String nombre = cursor.leerTexto();
+        String descripcion = cursor.leerTexto();
+        String ubicacion = cursor.leerTexto();
+        String decano = cursor.leerTexto();
+        LocalDateTime fechaRegistro = cursor.leerFecha();
+        int primeraCarrera = cursor.leerInt();
+        int numeroCarreras = cursor.leerInt();
+        List<CarreraResponseDTO> carrerasFacultad = new ArrayList<>(numeroCarreras);
+        Cursor cursorCarreras = new Cursor(primeraCarrera);
+        for (int i = 0; i < numeroCarreras; i++) {
+            carrerasFacultad.add(leerCarrera(cursorCarreras));
+        }
+        return new FacultadResponseDTO(id, nombre, descripcion, ubicacion, decano, fechaRegistro, true, carrerasFacultad);
+    }
+    
+    private CarreraResponseDTO leerCarrera(Cursor cursor) {
+        long id = cursor.leerLong();
+        long facultadId = cursor.leerLong();
+        String nombreFacultad = cursor.leerTexto();
+        String nombre = cursor.leerTexto();
+        String descripcion = cursor.leerTexto();
+        int duracion = cursor.leerInt();
+        String titulo = cursor.leerTexto();
+        LocalDateTime fechaRegistro = cursor.leerFecha();
+        boolean activo = cursor.leerByte() != 0;
+        return new CarreraResponseDTO(id, nombre, descripcion, duracion < 0 ? null : duracion, titulo,
+                fechaRegistro, activo, facultadId, nombreFacultad);
+    }
+    
+    // Búsqueda binaria en un índice (id, posición); -1 si el id no está
+    private int buscar(int indice, int entradas, long id) {
+        int bajo = 0;
+        int alto = entradas - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            long actual = datos.getLong(indice + medio * LONGITUD_ENTRADA_INDICE);
+            if (actual < id) {
+                bajo = medio + 1;
+            } else if (actual > id) {
+                alto = medio - 1;
+            } else {
+                return posicionEnIndice(indice, medio);
+            }
+        }
+        return -1;
+    }
+    
+    private int posicionEnIndice(int indice, int entrada) {
+        return datos.getInt(indice + entrada * LONGITUD_ENTRADA_INDICE + Long.BYTES);
+    }
+    
+    /**
+     * Lectura secuencial con accesos absolutos: el búfer se comparte entre hilos sin copiarlo.
+     */
+    private final class Cursor {
+    
+        private int posicion;
+    
+        Cursor(int posicion) {
+            this.posicion = posicion;
+        }
+    
+        long leerLong() {
+            long valor = datos.getLong(posicion);
+            posicion += Long.BYTES;
+            return valor;
+        }
+    
+        int leerInt() {
+            int valor = datos.getInt(posicion);
+            posicion += Integer.BYTES;
+            return valor;
+        }
+    
+        byte leerByte() {
+            return datos.get(posicion++);
+        }
+    
+        LocalDateTime leerFecha() {
+            long segundos = leerLong();
+            return segundos == SIN_FECHA ? null : LocalDateTime.ofEpochSecond(segundos, 0, ZoneOffset.UTC);
+        }
+    
+        String leerTexto() {
+            int longitud = leerInt();
+            if (longitud < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[longitud];
+            datos.get(posicion, bytes);
+            posicion += longitud;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.universidad.api.infrastructure.instantanea;
+
+import com.universidad.api.application.instituciones.InstitucionActual;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lecturas del catálogo con respaldo en la instantánea en disco (modo degradado).
+ * - La consulta a la base de datos se espera como mucho universidad.instantanea.presupuesto-ms;
+ *   si lo supera o falla por indisponibilidad (sin conexión, pool agotado, timeout) y la
+ *   instantánea tiene la respuesta, se sirve desde ella con la cabecera X-Catalogo-Instantanea
+ *   (fecha de la instantánea) y Age
+ * - Tras un fallo la institución queda degradada durante una ventana corta: las lecturas van
+ *   directamente a la instantánea sin volver a esperar a la base de datos
+ * - Si la instantánea no puede responder (p. ej. una facultad inactiva, que no contiene) se
+ *   espera a la base de datos como siempre
+ * - La consulta corre en un hilo propio porque es la única forma de dejar de esperarla: el
+ *   timeout de sentencia no cubre la espera de una conexión del pool. Si ese ejecutor está lleno
+ *   la consulta se hace en el hilo de la petición, sin presupuesto; la saturación del ejecutor
+ *   no es un fallo de la base de datos y no degrada la institución
+ * - Si se sirve la instantánea por plazo vencido, la consulta se cancela: sale de la cola del
+ *   ejecutor o deja de esperar una conexión del pool (la espera de Hikari atiende la interrupción);
+ *   una sentencia ya enviada sigue hasta terminar, porque el driver no la interrumpe
+ *
+ * Métrica: universidad.instantanea.lecturas{resultado=servida|sin_datos}.
+ */
+@Slf4j
+@Component
+public class LecturaConRespaldo {
+    
+    public static final String CABECERA_INSTANTANEA = "X-Catalogo-Instantanea";
+    
+    private static final ContextSnapshotFactory CONTEXTO = ContextSnapshotFactory.builder().build();
+    
+    private final GestorInstantaneas gestorInstantaneas;
+    private final long presupuestoMs;
+    private final long ventanaDegradadoMs;
+    private final ThreadPoolExecutor ejecutor;
+    private final Counter servidas;
+    private final Counter sinDatos;
+    
+    // Institución → instante (ms) hasta el que se leen directamente de la instantánea
+    private final Map<String, Long> degradadas = new ConcurrentHashMap<>();
+    
+    public LecturaConRespaldo(GestorInstantaneas gestorInstantaneas,
+                              MeterRegistry meterRegistry,
+                              @Value("${universidad.instantanea.presupuesto-ms:1500}") long presupuestoMs,
+                              @Value("${universidad.instantanea.ventana-degradado-ms:5000}") long ventanaDegradadoMs,
+                              @Value("${universidad.instantanea.hilos:16}") int hilos) {
+        this.gestorInstantaneas = gestorInstantaneas;
+        this.presupuestoMs = presupuestoMs;
+        this.ventanaDegradadoMs = ventanaDegradadoMs;
+        AtomicInteger contador = new AtomicInteger();
+        // Cola acotada: lo que no cabe se ejecuta en el hilo de la petición, no se acumula aquí
+        this.ejecutor = new ThreadPoolExecutor(hilos, hilos, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(hilos * 4),
+                tarea -> {
+                    Thread hilo = new Thread(tarea, "lectura-bd-" + contador.incrementAndGet());
+                    hilo.setDaemon(true);
+                    return hilo;
+                });
+        this.ejecutor.allowCoreThreadTimeOut(true);
+        this.servidas = lecturas(meterRegistry, "servida");
+        this.sinDatos = lecturas(meterRegistry, "sin_datos");
+    }
+    
+    /**
+     * @param baseDatos lectura normal (servicio transaccional)
+     * @param respaldo  la misma lectura sobre la instantánea; vacío si la instantánea no tiene la respuesta
+     */
+    public <T> T leer(Supplier<T> baseDatos, Function<InstantaneaCatalogo, Optional<T>> respaldo) {
+        InstantaneaCatalogo instantanea = gestorInstantaneas.actual();
+        if (instantanea == null) {
+            return baseDatos.get();
+        }
+        String institucion = InstitucionActual.obtener();
+        if (degradada(institucion)) {
+            Optional<T> valor = respaldo.apply(instantanea);
+            if (valor.isPresent()) {
+                return servir(instantanea, valor.get());
+            }
+        }
+    
+        if (presupuestoMs <= 0) {
+            return leerEnLinea(baseDatos, institucion, instantanea, respaldo);
+        }
+    
+        Future<T> consulta;
+        try {
+            consulta = ejecutor.submit(CONTEXTO.captureAll().wrap(baseDatos::get));
+        } catch (RejectedExecutionException ex) {
+            return leerEnLinea(baseDatos, institucion, instantanea, respaldo);
+        }
+        try {
+            return esperar(consulta, presupuestoMs);
+        } catch (TimeoutException ex) {
+            Optional<T> valor = respaldo.apply(instantanea);
+            if (valor.isPresent()) {
+                consulta.cancel(true);
+                degradar(institucion, "la lectura superó " + presupuestoMs + " ms");
+                return servir(instantanea, valor.get());
+            }
+            sinDatos.increment();
+            // La instantánea no tiene la respuesta: solo queda esperar a la base de datos
+            try {
+                return esperar(consulta, Long.MAX_VALUE);
+            } catch (TimeoutException imposible) {
+                throw new IllegalStateException(imposible);
+            }
+        } catch (RuntimeException ex) {
+            return respaldar(ex, institucion, instantanea, respaldo);
+        }
+    }
+    
+    private <T> T leerEnLinea(Supplier<T> baseDatos, String institucion, InstantaneaCatalogo instantanea,
+                              Function<InstantaneaCatalogo, Optional<T>> respaldo) {
+        try {
+            return baseDatos.get();
+        } catch (RuntimeException ex) {
+            return respaldar(ex, institucion, instantanea, respaldo);
+        }
+    }
+    
+    private <T> T respaldar(RuntimeException ex, String institucion, InstantaneaCatalogo instantanea,
+                            Function<InstantaneaCatalogo, Optional<T>> respaldo) {
+        if (!indisponible(ex)) {
+            throw ex;
+        }
+        degradar(institucion, ex.getMessage());
+        Optional<T> valor = respaldo.apply(instantanea);
+        if (valor.isEmpty()) {
+            sinDatos.increment();
+            throw ex;
+        }
+        return servir(instantanea, valor.get());
+    }
+    
+    private static <T> T esperar(Future<T> consulta, long milisegundos) throws TimeoutException {
+        try {
+            return consulta.get(milisegundos, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            consulta.cancel(true);
+            throw new DataAccessResourceFailureException("Lectura interrumpida", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    private <T> T servir(InstantaneaCatalogo instantanea, T valor) {
+        servidas.increment();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos
+                && atributos.getResponse() != null) {
+            HttpServletResponse response = atributos.getResponse();
+            response.setHeader(CABECERA_INSTANTANEA, instantanea.getFecha().toString());
+            response.setHeader(HttpHeaders.AGE,
+                    String.valueOf(Math.max(0, Duration.between(instantanea.getFecha(), Instant.now()).toSeconds())));
+        }
+        return valor;
+    }
+    
+    private boolean degradada(String institucion) {
+        Long hasta = degradadas.get(institucion);
+        return hasta != null && hasta > System.currentTimeMillis();
+    }
+    
+    private void degradar(String institucion, String motivo) {
+        Long anterior = degradadas.put(institucion, System.currentTimeMillis() + ventanaDegradadoMs);
+        if (anterior == null || anterior < System.currentTimeMillis()) {
+            log.warn("Catálogo de {} en modo degradado (instantánea): {}", institucion, motivo);
+        }
+    }
+    
+    // Solo la indisponibilidad de la base de datos activa el respaldo; los errores de negocio se propagan
+    private static boolean indisponible(RuntimeException ex) {
+        return ex instanceof CannotCreateTransactionException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof TransientDataAccessException;
+    }
+    
+    private static Counter lecturas(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("universidad.instantanea.lecturas")
+                .description("Lecturas del catálogo resueltas con la instantánea en disco")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    void cerrar() {
+        ejecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,9 @@
+package com.universidad.api.infrastructure.instituciones;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Pool de conexiones de una institución y el esquema en el que viven sus tablas (null: el por defecto).
+ */
+public record FuenteInstitucion(String institucion, HikariDataSource pool, String esquema) {
+}
@@ -0,0 +1,29 @@
+package com.universidad.api.infrastructure.instituciones;
+
+import com.universidad.api.application.instituciones.InstitucionActual;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource que entrega conexiones del pool de la institución en curso ({@link InstitucionActual}).
+ * Cada institución tiene su propio pool de Hikari, de modo que una institución con mucha carga
+ * no agota las conexiones de las demás. Una institución no declarada es un error, nunca
+ * se recurre a la principal en su lugar.
+ */
+public class InstitucionRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public InstitucionRoutingDataSource(RegistroInstituciones registro) {
+        Map<Object, Object> destinos = new HashMap<>();
+        registro.getFuentes().forEach(fuente -> destinos.put(fuente.institucion(), fuente.pool()));
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(destinos.get(InstitucionActual.PRINCIPAL));
+        setLenientFallback(false);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return InstitucionActual.obtener();
+    }
+}
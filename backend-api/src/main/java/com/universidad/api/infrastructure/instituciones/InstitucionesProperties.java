@@ -0,0 +1,48 @@
+package com.universidad.api.infrastructure.instituciones;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Instituciones alojadas en el despliegue y cómo se resuelven y enrutan.
+ * La principal usa siempre spring.datasource.*; las demás se declaran en "fuentes" con su
+ * propia base de datos (url) o su propio esquema dentro de la misma base. Mover una
+ * institución grande a un nodo PostgreSQL dedicado es cambiar su url y reiniciar.
+ */
+@Data
+@ConfigurationProperties(prefix = "universidad.instituciones")
+public class InstitucionesProperties {
+    
+    /**
+     * Cabecera HTTP con el identificador de la institución (tiene prioridad sobre el host).
+     */
+    private String cabecera = "X-Institucion";
+    
+    /**
+     * Host de la solicitud (sin puerto) → institución, p. ej. catalogo.unsa.edu.pe=unsa.
+     */
+    private Map<String, String> dominios = new LinkedHashMap<>();
+    
+    /**
+     * Fuente de datos de cada institución; los campos vacíos heredan de spring.datasource.*.
+     */
+    private Map<String, Fuente> fuentes = new LinkedHashMap<>();
+    
+    @Data
+    public static class Fuente {
+        private String url;
+        private String username;
+        private String password;
+        /**
+         * Esquema propio dentro de la base de datos (vacío: el esquema por defecto).
+         */
+        private String esquema;
+        /**
+         * Tamaño máximo del pool de esta institución (vacío: spring.datasource.hikari.maximum-pool-size).
+         */
+        private Integer maximoPool;
+    }
+}
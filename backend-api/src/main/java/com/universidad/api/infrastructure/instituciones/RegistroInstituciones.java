@@ -0,0 +1,40 @@
+package com.universidad.api.infrastructure.instituciones;
+
+import com.universidad.api.application.instituciones.InstitucionActual;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Instituciones alojadas y su fuente de datos.
+ * Los componentes que necesitan recorrer todas las instituciones (migraciones, near-cache) o
+ * validar una solicitud dependen de este registro y no del DataSource, que puede estar envuelto.
+ */
+public class RegistroInstituciones implements AutoCloseable {
+    
+    private final Map<String, FuenteInstitucion> fuentes = new LinkedHashMap<>();
+    
+    public RegistroInstituciones(Collection<FuenteInstitucion> fuentes) {
+        fuentes.forEach(fuente -> this.fuentes.put(fuente.institucion(), fuente));
+        if (!this.fuentes.containsKey(InstitucionActual.PRINCIPAL)) {
+            throw new IllegalStateException("Falta la fuente de datos de la institución principal");
+        }
+    }
+    
+    public boolean existe(String institucion) {
+        return fuentes.containsKey(institucion);
+    }
+    
+    /**
+     * Fuentes de todas las instituciones, en el orden de declaración (la principal primero).
+     */
+    public Collection<FuenteInstitucion> getFuentes() {
+        return fuentes.values();
+    }
+    
+    @Override
+    public void close() {
+        fuentes.values().forEach(fuente -> fuente.pool().close());
+    }
+}
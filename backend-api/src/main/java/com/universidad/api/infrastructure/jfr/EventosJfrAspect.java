@@ -0,0 +1,158 @@
+package com.universidad.api.infrastructure.jfr;
+
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
+import com.universidad.api.application.instituciones.InstitucionActual;
+import com.universidad.api.domain.busqueda.PaginaCoincidencias;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Emite eventos JFR alrededor de cada método de servicio y de cada llamada a repositorio.
+ * - Con JFR sin grabar (o por debajo del umbral) solo se paga begin/end: los campos
+ *   (argumentos, resultados) se calculan únicamente si el evento se va a registrar
+ * - Los eventos no llevan traza de pila; se relacionan con los muestreos de CPU de la misma
+ *   grabación por hilo y marca de tiempo
+ */
+@Aspect
+@Component
+public class EventosJfrAspect {
+    
+    private static final int LONGITUD_ARGUMENTOS = 200;
+    
+    // Interfaz de repositorio del dominio que implementa cada proxy
+    private static final ClassValue<String> REPOSITORIOS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> tipo) {
+            for (Class<?> interfaz : tipo.getInterfaces()) {
+                if (interfaz.getPackageName().equals("com.universidad.api.domain.repositories")) {
+                    return interfaz.getSimpleName();
+                }
+            }
+            return tipo.getSimpleName();
+        }
+    };
+    
+    @Around("execution(public * com.universidad.api.application.services.CarreraService+.*(..))"
+            + " || execution(public * com.universidad.api.application.services.FacultadService+.*(..))")
+    public Object servicio(ProceedingJoinPoint punto) throws Throwable {
+        OperacionServicioEvento evento = new OperacionServicioEvento();
+        evento.begin();
+        Object resultado = null;
+        Throwable error = null;
+        try {
+            resultado = punto.proceed();
+            return resultado;
+        } catch (Throwable ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                evento.operacion = punto.getSignature().getDeclaringType().getSimpleName()
+                        + "." + punto.getSignature().getName();
+                evento.institucion = InstitucionActual.obtener();
+                evento.argumentos = argumentos(punto.getArgs());
+                evento.resultados = error == null ? contar(resultado) : -1;
+                evento.error = error != null ? error.getClass().getSimpleName() : "";
+                evento.commit();
+            }
+        }
+    }
+    
+    @Around("this(com.universidad.api.domain.repositories.CarreraRepository)"
+            + " || this(com.universidad.api.domain.repositories.FacultadRepository)"
+            + " || this(com.universidad.api.domain.repositories.BusquedaRepository)")
+    public Object repositorio(ProceedingJoinPoint punto) throws Throwable {
+        if (punto.getSignature().getDeclaringType() == Object.class) {
+            return punto.proceed();
+        }
+        OperacionRepositorioEvento evento = new OperacionRepositorioEvento();
+        evento.begin();
+        Object resultado = null;
+        Throwable error = null;
+        try {
+            resultado = punto.proceed();
+            return resultado;
+        } catch (Throwable ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                evento.repositorio = REPOSITORIOS.get(punto.getThis().getClass());
+                evento.metodo = punto.getSignature().getName();
+                evento.institucion = InstitucionActual.obtener();
+                evento.argumentos = argumentos(punto.getArgs());
+                evento.filas = error == null ? contar(resultado) : -1;
+                evento.error = error != null ? error.getClass().getSimpleName() : "";
+                evento.commit();
+            }
+        }
+    }
+    
+    /**
+     * Resumen legible de los argumentos: valores simples tal cual, colecciones por su tamaño y
+     * DTOs por su tipo (sin volcar su contenido).
+     */
+    static String argumentos(Object[] args) {
+        if (args.length == 0) {
+            return "";
+        }
+        StringBuilder resumen = new StringBuilder();
+        for (Object arg : args) {
+            if (!resumen.isEmpty()) {
+                resumen.append(", ");
+            }
+            if (arg == null || arg instanceof Number || arg instanceof CharSequence
+                    || arg instanceof Boolean || arg instanceof Enum<?>) {
+                resumen.append(arg);
+            } else if (arg instanceof Collection<?> coleccion) {
+                resumen.append(coleccion.size()).append(" elementos");
+            } else {
+                resumen.append(arg.getClass().getSimpleName());
+            }
+            if (resumen.length() >= LONGITUD_ARGUMENTOS) {
+                return resumen.substring(0, LONGITUD_ARGUMENTOS);
+            }
+        }
+        return resumen.toString();
+    }
+    
+    /**
+     * Elementos devueltos por una operación; -1 para resultados que no son filas (conteos, booleanos, void).
+     */
+    static int contar(Object resultado) {
+        if (resultado == null) {
+            return 0;
+        }
+        if (resultado instanceof Collection<?> coleccion) {
+            return coleccion.size();
+        }
+        if (resultado instanceof Map<?, ?> mapa) {
+            return mapa.size();
+        }
+        if (resultado instanceof Optional<?> opcional) {
+            return opcional.isPresent() ? 1 : 0;
+        }
+        if (resultado instanceof Slice<?> pagina) {
+            return pagina.getNumberOfElements();
+        }
+        if (resultado instanceof ResultadoMultipleDTO<?> multiple) {
+            return multiple.getEncontrados().size();
+        }
+        if (resultado instanceof PaginaCoincidencias pagina) {
+            return pagina.coincidencias().size();
+        }
+        if (resultado instanceof Number || resultado instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+}
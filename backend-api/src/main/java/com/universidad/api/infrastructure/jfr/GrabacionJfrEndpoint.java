@@ -0,0 +1,167 @@
+package com.universidad.api.infrastructure.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Endpoint de actuator para grabaciones JFR continuas (/actuator/jfr).
+ * - GET: estado de la grabación
+ * - POST: inicia la grabación continua (en disco, acotada por edad y tamaño)
+ * - POST /actuator/jfr/{nombre}: vuelca lo grabado hasta ahora a {nombre}-{fecha}.jfr y lo descarga
+ * - DELETE: detiene la grabación y descarta sus datos
+ *
+ * Los ajustes son los del perfil "default" del JDK (sobrecarga ~1 %) más jfr/universidad.jfc, que
+ * activa los eventos del catálogo y afina umbrales para dejar la grabación encendida bajo carga real.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class GrabacionJfrEndpoint {
+    
+    private static final Pattern NOMBRE_VOLCADO = Pattern.compile("[A-Za-z0-9_-]{1,60}");
+    private static final DateTimeFormatter FECHA_VOLCADO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    private final Path directorio;
+    private final Duration edadMaxima;
+    private final long tamanioMaximo;
+    private final boolean iniciarAlArrancar;
+    private Recording grabacion;
+    private LocalDateTime inicio;
+    
+    public GrabacionJfrEndpoint(@Value("${universidad.jfr.directorio:${java.io.tmpdir}/universidad-jfr}") Path directorio,
+                                @Value("${universidad.jfr.edad-maxima-minutos:30}") long edadMaximaMinutos,
+                                @Value("${universidad.jfr.tamanio-maximo-mb:250}") long tamanioMaximoMb,
+                                @Value("${universidad.jfr.iniciar-al-arrancar:false}") boolean iniciarAlArrancar) {
+        this.directorio = directorio;
+        this.edadMaxima = Duration.ofMinutes(edadMaximaMinutos);
+        this.tamanioMaximo = tamanioMaximoMb * 1024 * 1024;
+        this.iniciarAlArrancar = iniciarAlArrancar;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        if (iniciarAlArrancar) {
+            iniciar();
+        }
+    }
+    
+    @ReadOperation
+    public synchronized Map<String, Object> estado() {
+        Map<String, Object> estado = new LinkedHashMap<>();
+        boolean activa = grabacion != null && grabacion.getState() == RecordingState.RUNNING;
+        estado.put("activa", activa);
+        if (activa) {
+            estado.put("inicio", inicio.toString());
+            estado.put("edadMaximaMinutos", edadMaxima.toMinutes());
+            estado.put("tamanioMaximoMb", tamanioMaximo / (1024 * 1024));
+            estado.put("tamanioActualBytes", grabacion.getSize());
+        }
+        estado.put("directorio", directorio.toString());
+        return estado;
+    }
+    
+    @WriteOperation
+    public synchronized Map<String, Object> iniciar() {
+        if (grabacion != null && grabacion.getState() == RecordingState.RUNNING) {
+            return estado();
+        }
+        Recording nueva = new Recording(ajustes());
+        nueva.setName("universidad-continua");
+        nueva.setToDisk(true);
+        nueva.setMaxAge(edadMaxima);
+        nueva.setMaxSize(tamanioMaximo);
+        nueva.start();
+        grabacion = nueva;
+        inicio = LocalDateTime.now();
+        log.info("Grabación JFR continua iniciada (edad máxima {}, tamaño máximo {} MB)",
+                edadMaxima, tamanioMaximo / (1024 * 1024));
+        return estado();
+    }
+    
+    /**
+     * Vuelca la ventana grabada a un archivo y lo devuelve para su descarga (jfr print, JMC).
+     * @return null (404) si no hay grabación en curso
+     */
+    @WriteOperation(produces = "application/octet-stream")
+    @Nullable
+    public synchronized Resource volcar(@Selector String nombre) {
+        if (grabacion == null || grabacion.getState() != RecordingState.RUNNING) {
+            return null;
+        }
+        if (!NOMBRE_VOLCADO.matcher(nombre).matches()) {
+            throw new InvalidEndpointRequestException("Nombre de volcado inválido: " + nombre,
+                    "Solo letras, dígitos, '-' y '_' (hasta 60 caracteres)");
+        }
+        try {
+            Files.createDirectories(directorio);
+            Path archivo = directorio.resolve(nombre + "-" + FECHA_VOLCADO.format(LocalDateTime.now()) + ".jfr");
+            grabacion.dump(archivo);
+            log.info("Grabación JFR volcada en {} ({} bytes)", archivo, Files.size(archivo));
+            return new FileSystemResource(archivo);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo volcar la grabación JFR", ex);
+        }
+    }
+    
+    @DeleteOperation
+    public synchronized Map<String, Object> detener() {
+        if (grabacion != null) {
+            grabacion.close();
+            grabacion = null;
+            log.info("Grabación JFR continua detenida");
+        }
+        return estado();
+    }
+    
+    @PreDestroy
+    public void cerrar() {
+        detener();
+    }
+    
+    /**
+     * Ajustes "default" del JDK con los de jfr/universidad.jfc superpuestos.
+     */
+    private static Map<String, String> ajustes() {
+        try (InputStream jfc = GrabacionJfrEndpoint.class.getResourceAsStream("/jfr/universidad.jfc")) {
+            Map<String, String> ajustes = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            if (jfc != null) {
+                ajustes.putAll(Configuration.create(new InputStreamReader(jfc, StandardCharsets.UTF_8)).getSettings());
+            }
+            return ajustes;
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Ajustes JFR inválidos", ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.universidad.api.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR de una llamada a repositorio (Spring Data o JDBC).
+ * Anidado en el tiempo dentro del {@link OperacionServicioEvento} del mismo hilo.
+ */
+@Name("universidad.OperacionRepositorio")
+@Label("Operación de repositorio")
+@Description("Llamada a un repositorio del catálogo con sus argumentos y las filas devueltas")
+@Category({"Universidad", "Persistencia"})
+@StackTrace(false)
+@Threshold("1 ms")
+class OperacionRepositorioEvento extends Event {
+    
+    @Label("Repositorio")
+    String repositorio;
+    
+    @Label("Método")
+    String metodo;
+    
+    @Label("Institución")
+    String institucion;
+    
+    @Label("Argumentos")
+    @Description("IDs, nombres o tamaño de las colecciones recibidas")
+    String argumentos;
+    
+    @Label("Filas")
+    @Description("Entidades o filas devueltas (-1 si no aplica)")
+    int filas;
+    
+    @Label("Error")
+    @Description("Clase de la excepción lanzada, vacío si terminó bien")
+    String error;
+}
@@ -0,0 +1,40 @@
+package com.universidad.api.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR de una operación de CarreraService o FacultadService.
+ * La duración es la del método completo, incluidas las llamadas a repositorios que haga.
+ */
+@Name("universidad.OperacionServicio")
+@Label("Operación de servicio")
+@Description("Método de servicio del catálogo con sus argumentos y el número de resultados")
+@Category({"Universidad", "Servicio"})
+@StackTrace(false)
+@Threshold("1 ms")
+class OperacionServicioEvento extends Event {
+    
+    @Label("Operación")
+    String operacion;
+    
+    @Label("Institución")
+    String institucion;
+    
+    @Label("Argumentos")
+    @Description("IDs, nombres o tamaño de las colecciones recibidas")
+    String argumentos;
+    
+    @Label("Resultados")
+    @Description("Elementos devueltos (-1 si no aplica)")
+    int resultados;
+    
+    @Label("Error")
+    @Description("Clase de la excepción lanzada, vacío si terminó bien")
+    String error;
+}
@@ -0,0 +1,110 @@
+package com.universidad.api.infrastructure.persistence;
+
+import com.universidad.api.domain.busqueda.Coincidencia;
+import com.universidad.api.domain.busqueda.PaginaCoincidencias;
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+import com.universidad.api.domain.repositories.BusquedaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementación JDBC de la búsqueda de texto completo (PostgreSQL).
+ * - Usa la columna generada busqueda (tsvector) y su índice GIN
+ * - websearch_to_tsquery admite la sintaxis habitual de buscadores ("frase", or, -término)
+ * - ts_headline solo se calcula para las filas de la página, no para todas las coincidencias
+ * - El texto se escapa antes de resaltar: el fragmento es HTML seguro con marcas <mark>
+ */
+@Repository
+@RequiredArgsConstructor
+public class BusquedaRepositoryJdbc implements BusquedaRepository {
+    
+    private static final String COINCIDENCIAS_CARRERA = """
+            SELECT 'CARRERA' AS tipo, c.carrera_id AS id, c.nombre, c.descripcion,
+                   ts_rank_cd(c.busqueda, q.consulta, 1) AS relevancia
+            FROM carrera c, q
+            WHERE c.busqueda @@ q.consulta AND (NOT :soloActivos OR c.activo)
+            """;
+    
+    private static final String COINCIDENCIAS_FACULTAD = """
+            SELECT 'FACULTAD' AS tipo, f.facultad_id AS id, f.nombre, f.descripcion,
+                   ts_rank_cd(f.busqueda, q.consulta, 1) AS relevancia
+            FROM facultad f, q
+            WHERE f.busqueda @@ q.consulta AND (NOT :soloActivos OR f.activo)
+            """;
+    
+    private static final String CONSULTA = """
+            WITH q AS (SELECT websearch_to_tsquery('espanol', :consulta) AS consulta),
+            coincidencias AS (%s),
+            pagina AS (
+                SELECT tipo, id, nombre, descripcion, relevancia, count(*) OVER () AS total
+                FROM coincidencias
+                ORDER BY relevancia DESC, nombre, id
+                LIMIT :limite OFFSET :desplazamiento
+            )
+            SELECT p.tipo, p.id, p.nombre, p.relevancia, p.total,
+                   ts_headline('espanol',
+                               replace(replace(replace(coalesce(p.descripcion, p.nombre),
+                                   '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                               q.consulta,
+                               'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2, FragmentDelimiter=" … "')
+                       AS fragmento
+            FROM pagina p, q
+            ORDER BY p.relevancia DESC, p.nombre, p.id
+            """;
+    
+    private static final String CONTEO = """
+            WITH q AS (SELECT websearch_to_tsquery('espanol', :consulta) AS consulta),
+            coincidencias AS (%s)
+            SELECT count(*) FROM coincidencias
+            """;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public PaginaCoincidencias buscar(String consulta, Set<TipoCoincidencia> tipos, boolean soloActivos,
+                                      int desplazamiento, int limite) {
+        String coincidencias = coincidencias(tipos);
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("consulta", consulta)
+                .addValue("soloActivos", soloActivos)
+                .addValue("desplazamiento", desplazamiento)
+                .addValue("limite", limite);
+        
+        long[] total = {0};
+        List<Coincidencia> resultado = jdbcTemplate.query(CONSULTA.formatted(coincidencias), parametros,
+                (rs, fila) -> {
+                    total[0] = rs.getLong("total");
+                    return new Coincidencia(
+                            TipoCoincidencia.valueOf(rs.getString("tipo")),
+                            rs.getLong("id"),
+                            rs.getString("nombre"),
+                            rs.getString("fragmento"),
+                            rs.getDouble("relevancia"));
+                });
+        
+        // Página fuera de rango: el total no viene en las filas y se cuenta aparte
+        if (resultado.isEmpty() && desplazamiento > 0) {
+            Long conteo = jdbcTemplate.queryForObject(CONTEO.formatted(coincidencias), parametros, Long.class);
+            total[0] = conteo != null ? conteo : 0;
+        }
+        
+        return new PaginaCoincidencias(resultado, total[0]);
+    }
+    
+    private static String coincidencias(Set<TipoCoincidencia> tipos) {
+        List<String> partes = new ArrayList<>();
+        if (tipos.contains(TipoCoincidencia.CARRERA)) {
+            partes.add(COINCIDENCIAS_CARRERA);
+        }
+        if (tipos.contains(TipoCoincidencia.FACULTAD)) {
+            partes.add(COINCIDENCIAS_FACULTAD);
+        }
+        return String.join(" UNION ALL ", partes);
+    }
+}
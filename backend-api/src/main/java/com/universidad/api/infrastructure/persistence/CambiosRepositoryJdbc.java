@@ -0,0 +1,120 @@
+package com.universidad.api.infrastructure.persistence;
+
+import com.universidad.api.domain.cambios.CambioCatalogo;
+import com.universidad.api.domain.cambios.MarcaCambios;
+import com.universidad.api.domain.entities.Carrera;
+import com.universidad.api.domain.entities.Facultad;
+import com.universidad.api.domain.repositories.CambiosRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementación JDBC del recorrido de cambios (PostgreSQL, columnas e índices de V10).
+ * - Cada tabla se recorre por su índice (cambio, id) desde la marca, con LIMIT: el coste depende
+ *   del tamaño de la página, no del catálogo
+ * - Solo se leen filas de transacciones anteriores al xmin de la instantánea (ya terminadas):
+ *   una transacción más antigua que confirma tarde no puede aparecer por detrás de una marca entregada
+ * - Una sola sentencia: ambas tablas usan el mismo límite superior
+ */
+@Repository
+@RequiredArgsConstructor
+public class CambiosRepositoryJdbc implements CambiosRepository {
+    
+    private static final String CONSULTA = """
+            WITH hasta AS (SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint AS xmin),
+            facultades AS (
+                SELECT f.cambio, f.cambio_creacion, 1 AS orden, f.facultad_id AS id, f.nombre, f.descripcion,
+                       f.ubicacion, f.decano, NULL::integer AS duracion_semestres,
+                       NULL::varchar AS titulo_otorgado, NULL::integer AS facultad_id,
+                       NULL::varchar AS nombre_facultad, f.fecha_registro, f.activo
+                FROM facultad f
+                WHERE (f.cambio, f.facultad_id) > (:cambio, :desdeFacultad)
+                  AND f.cambio < (SELECT xmin FROM hasta)
+                ORDER BY f.cambio, f.facultad_id
+                LIMIT :limite
+            ),
+            carreras AS (
+                SELECT c.cambio, c.cambio_creacion, 2 AS orden, c.carrera_id AS id, c.nombre, c.descripcion,
+                       NULL::varchar AS ubicacion, NULL::varchar AS decano, c.duracion_semestres,
+                       c.titulo_otorgado, c.facultad_id, fa.nombre AS nombre_facultad, c.fecha_registro, c.activo
+                FROM carrera c
+                JOIN facultad fa ON fa.facultad_id = c.facultad_id
+                WHERE (c.cambio, c.carrera_id) > (:cambio, :desdeCarrera)
+                  AND c.cambio < (SELECT xmin FROM hasta)
+                ORDER BY c.cambio, c.carrera_id
+                LIMIT :limite
+            )
+            SELECT * FROM facultades
+            UNION ALL
+            SELECT * FROM carreras
+            ORDER BY cambio, orden, id
+            LIMIT :limite
+            """;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<CambioCatalogo> buscarDesde(MarcaCambios desde, int limite) {
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("cambio", desde.cambio())
+                .addValue("desdeFacultad", idDesde(desde, MarcaCambios.ORDEN_FACULTAD))
+                .addValue("desdeCarrera", idDesde(desde, MarcaCambios.ORDEN_CARRERA))
+                .addValue("limite", limite);
+        
+        return jdbcTemplate.query(CONSULTA, parametros, (rs, fila) -> {
+            MarcaCambios marca = new MarcaCambios(rs.getLong("cambio"), rs.getInt("orden"), rs.getLong("id"));
+            return marca.orden() == MarcaCambios.ORDEN_FACULTAD
+                    ? new CambioCatalogo(marca, rs.getLong("cambio_creacion"), facultad(rs), null)
+                    : new CambioCatalogo(marca, rs.getLong("cambio_creacion"), null, carrera(rs));
+        });
+    }
+    
+    // Dentro de la transacción de la marca, un recurso con orden anterior ya se entregó entero
+    private static long idDesde(MarcaCambios desde, int orden) {
+        if (desde.orden() < orden) {
+            return 0;
+        }
+        return desde.orden() == orden ? desde.id() : Long.MAX_VALUE;
+    }
+    
+    private static Facultad facultad(ResultSet rs) throws SQLException {
+        return Facultad.builder()
+                .facultadId(rs.getLong("id"))
+                .nombre(rs.getString("nombre"))
+                .descripcion(rs.getString("descripcion"))
+                .ubicacion(rs.getString("ubicacion"))
+                .decano(rs.getString("decano"))
+                .fechaRegistro(fecha(rs.getTimestamp("fecha_registro")))
+                .activo(rs.getBoolean("activo"))
+                .build();
+    }
+    
+    private static Carrera carrera(ResultSet rs) throws SQLException {
+        Facultad facultad = Facultad.builder()
+                .facultadId(rs.getLong("facultad_id"))
+                .nombre(rs.getString("nombre_facultad"))
+                .build();
+        return Carrera.builder()
+                .carreraId(rs.getLong("id"))
+                .nombre(rs.getString("nombre"))
+                .descripcion(rs.getString("descripcion"))
+                .duracionSemestres(rs.getInt("duracion_semestres"))
+                .tituloOtorgado(rs.getString("titulo_otorgado"))
+                .fechaRegistro(fecha(rs.getTimestamp("fecha_registro")))
+                .activo(rs.getBoolean("activo"))
+                .facultad(facultad)
+                .build();
+    }
+    
+    private static LocalDateTime fecha(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.universidad.api.infrastructure.trazas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor JSON de Spring MVC que observa la serialización de cada respuesta
+ * ("universidad.serializacion", etiquetada con el tipo devuelto). Las carreras lazy que
+ * Jackson aún tuviera que cargar aparecen como spans JDBC bajo este.
+ * Fuera de una solicitud (p. ej. eventos SSE enviados desde los hilos de despacho) escribe sin observar.
+ */
+public class ConvertidorJsonObservado extends MappingJackson2HttpMessageConverter {
+    
+    private final ObservationRegistry observationRegistry;
+    
+    public ConvertidorJsonObservado(ObjectMapper objectMapper, ObservationRegistry observationRegistry) {
+        super(objectMapper);
+        this.observationRegistry = observationRegistry;
+    }
+    
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (observationRegistry.getCurrentObservation() == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        String tipo = object.getClass().getSimpleName();
+        Observation.createNotStarted("universidad.serializacion", observationRegistry)
+                .contextualName("serializar " + tipo)
+                .lowCardinalityKeyValue("tipo", tipo)
+                .observeChecked(() -> {
+                    super.writeInternal(object, type, outputMessage);
+                    return null;
+                });
+    }
+}
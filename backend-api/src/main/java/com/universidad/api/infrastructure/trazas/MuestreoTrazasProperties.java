@@ -0,0 +1,27 @@
+package com.universidad.api.infrastructure.trazas;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Probabilidad de muestreo de trazas por ruta.
+ * Las rutas son patrones Ant evaluados en el orden declarado (gana el primero que coincide);
+ * el resto de solicitudes usa la probabilidad por defecto.
+ */
+@Data
+@ConfigurationProperties(prefix = "universidad.trazas.muestreo")
+public class MuestreoTrazasProperties {
+    
+    /**
+     * Probabilidad (0..1) para las rutas sin regla propia.
+     */
+    private double probabilidad = 1.0;
+    
+    /**
+     * Patrón de ruta → probabilidad (0..1), p. ej. /actuator/**=0.
+     */
+    private Map<String, Double> rutas = new LinkedHashMap<>();
+}
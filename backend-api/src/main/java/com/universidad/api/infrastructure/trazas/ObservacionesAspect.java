@@ -0,0 +1,54 @@
+package com.universidad.api.infrastructure.trazas;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observa las capas de una solicitud: controlador, servicio y mapeo MapStruct.
+ * Con el puente de trazas (perfil Maven trazas) cada observación es un span hijo del de la
+ * solicitud HTTP; sin él, solo se registran como timers en /actuator/prometheus.
+ * El mapeo solo se observa dentro de una solicitud: las consultas lazy que dispara
+ * (p. ej. las carreras de cada facultad) quedan como spans JDBC anidados bajo él.
+ */
+@Aspect
+@Component
+public class ObservacionesAspect {
+    
+    private final ObservationRegistry observationRegistry;
+    
+    public ObservacionesAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+    
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object controlador(ProceedingJoinPoint punto) throws Throwable {
+        return observar("universidad.controlador", punto);
+    }
+    
+    @Around("execution(public * com.universidad.api.application.services..*(..))")
+    public Object servicio(ProceedingJoinPoint punto) throws Throwable {
+        return observar("universidad.servicio", punto);
+    }
+    
+    @Around("execution(public * com.universidad.api.application.mappers..*(..))")
+    public Object mapeo(ProceedingJoinPoint punto) throws Throwable {
+        if (observationRegistry.getCurrentObservation() == null) {
+            return punto.proceed();
+        }
+        return observar("universidad.mapeo", punto);
+    }
+    
+    private Object observar(String nombre, ProceedingJoinPoint punto) throws Throwable {
+        String clase = punto.getSignature().getDeclaringType().getSimpleName();
+        String metodo = punto.getSignature().getName();
+        return Observation.createNotStarted(nombre, observationRegistry)
+                .contextualName(clase + "." + metodo)
+                .lowCardinalityKeyValue("clase", clase)
+                .lowCardinalityKeyValue("metodo", metodo)
+                .observeChecked(() -> punto.proceed());
+    }
+}
@@ -0,0 +1,138 @@
+package com.universidad.api.infrastructure.trazas;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Observa cada sentencia SQL que ejecutan JPA, Spring Data y JdbcTemplate.
+ * Envuelve el DataSource de la aplicación con proxies JDBC (como el arnés de planes): cada
+ * execute*() es una observación "universidad.jdbc" con la operación como etiqueta y el SQL
+ * (sin valores de parámetros) como atributo db.statement del span.
+ * Solo se observan las sentencias con una observación en curso (solicitud, tarea programada):
+ * las migraciones de arranque y los hilos propios no generan trazas sueltas.
+ */
+@Component
+public class SentenciasObservadas implements BeanPostProcessor {
+    
+    private static final Set<String> EJECUCIONES = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    
+    // Perezoso: un BeanPostProcessor no debe adelantar la creación del registro de observaciones
+    private final ObjectProvider<ObservationRegistry> observationRegistryProvider;
+    private volatile ObservationRegistry observationRegistry;
+    
+    public SentenciasObservadas(ObjectProvider<ObservationRegistry> observationRegistryProvider) {
+        this.observationRegistryProvider = observationRegistryProvider;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (objetivo, metodo, args) -> {
+                Object resultado = invocar(objetivo, metodo, args);
+                return resultado instanceof Connection conexion ? envolverConexion(conexion) : resultado;
+            });
+        }
+        return bean;
+    }
+    
+    private Connection envolverConexion(Connection conexion) {
+        return proxy(Connection.class, conexion, (objetivo, metodo, args) -> {
+            Object resultado = invocar(objetivo, metodo, args);
+            return switch (metodo.getName()) {
+                case "prepareCall" -> envolverSentencia(CallableStatement.class, (CallableStatement) resultado, (String) args[0]);
+                case "prepareStatement" -> envolverSentencia(PreparedStatement.class, (PreparedStatement) resultado, (String) args[0]);
+                case "createStatement" -> envolverSentencia(Statement.class, (Statement) resultado, null);
+                default -> resultado;
+            };
+        });
+    }
+    
+    /**
+     * @param sqlPreparado SQL de la sentencia preparada; null en un Statement simple, que lo recibe al ejecutarse
+     */
+    private <T extends Statement> T envolverSentencia(Class<T> tipo, T sentencia, String sqlPreparado) {
+        return proxy(tipo, sentencia, (objetivo, metodo, args) -> {
+            ObservationRegistry registro = registro();
+            if (!EJECUCIONES.contains(metodo.getName()) || registro.getCurrentObservation() == null) {
+                return invocar(objetivo, metodo, args);
+            }
+            String sql = sqlPreparado != null ? sqlPreparado
+                    : args != null && args.length > 0 && args[0] instanceof String texto ? texto : "batch";
+            String operacion = operacion(sql);
+            return Observation.createNotStarted("universidad.jdbc", registro)
+                    .contextualName("sql " + operacion.toLowerCase(Locale.ROOT))
+                    .lowCardinalityKeyValue("operacion", operacion)
+                    .lowCardinalityKeyValue("db.system", "postgresql")
+                    .highCardinalityKeyValue("db.statement", sql)
+                    .observeChecked(() -> invocar(objetivo, metodo, args));
+        });
+    }
+    
+    private ObservationRegistry registro() {
+        ObservationRegistry registro = observationRegistry;
+        if (registro == null) {
+            registro = observationRegistryProvider.getIfAvailable(() -> ObservationRegistry.NOOP);
+            observationRegistry = registro;
+        }
+        return registro;
+    }
+    
+    /**
+     * Primera palabra del SQL (SELECT, INSERT, UPDATE...); "OTRA" para lo demás, acotando la cardinalidad.
+     */
+    static String operacion(String sql) {
+        int inicio = 0;
+        while (inicio < sql.length() && !Character.isLetter(sql.charAt(inicio))) {
+            inicio++;
+        }
+        int fin = inicio;
+        while (fin < sql.length() && Character.isLetter(sql.charAt(fin))) {
+            fin++;
+        }
+        String palabra = sql.substring(inicio, fin).toUpperCase(Locale.ROOT);
+        return switch (palabra) {
+            case "SELECT", "INSERT", "UPDATE", "DELETE", "WITH", "CALL", "LISTEN", "NOTIFY" -> palabra;
+            default -> "OTRA";
+        };
+    }
+    
+    private static Object invocar(Object objetivo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(objetivo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, T objetivo, Interceptor interceptor) {
+        // La identidad es la del proxy: Spring usa DataSource y Connection como claves de sincronización
+        InvocationHandler manejador = (p, metodo, args) -> switch (metodo.getName()) {
+            case "equals" -> args[0] == p;
+            case "hashCode" -> System.identityHashCode(p);
+            default -> interceptor.invocar(objetivo, metodo, args);
+        };
+        return (T) Proxy.newProxyInstance(SentenciasObservadas.class.getClassLoader(), new Class<?>[]{tipo}, manejador);
+    }
+    
+    @FunctionalInterface
+    private interface Interceptor {
+        Object invocar(Object objetivo, Method metodo, Object[] args) throws Throwable;
+    }
+}
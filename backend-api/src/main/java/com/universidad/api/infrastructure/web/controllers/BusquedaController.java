@@ -0,0 +1,63 @@
+package com.universidad.api.infrastructure.web.controllers;
+
+import com.universidad.api.application.dto.PaginaBusquedaDTO;
+import com.universidad.api.application.services.BusquedaService;
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para la búsqueda de texto completo sobre el catálogo.
+ * Sigue los principios SOLID:
+ * - SRP: Solo maneja operaciones HTTP de búsqueda
+ * - DIP: Depende de la abstracción BusquedaService
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/buscar")
+@RequiredArgsConstructor
+@Tag(name = "Búsqueda", description = "Búsqueda de texto completo en carreras y facultades")
+public class BusquedaController {
+    
+    private final BusquedaService busquedaService;
+    
+    @Operation(summary = "Buscar en el catálogo",
+               description = "Busca en nombre, título otorgado y descripción de carreras y facultades. "
+                       + "Resultados ordenados por relevancia, paginados y con fragmentos resaltados. "
+                       + "Admite \"frases exactas\", or y -exclusiones; ignora acentos")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de resultados"),
+        @ApiResponse(responseCode = "400", description = "Parámetros de búsqueda inválidos")
+    })
+    @GetMapping
+    public ResponseEntity<PaginaBusquedaDTO> buscar(
+            @Parameter(description = "Texto a buscar", example = "ingenieria software")
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @Parameter(description = "Tipo de recurso (por defecto ambos)")
+            @RequestParam(required = false) TipoCoincidencia tipo,
+            @Parameter(description = "Buscar solo recursos activos")
+            @RequestParam(required = false, defaultValue = "true") boolean soloActivos,
+            @Parameter(description = "Número de página (desde 0)")
+            @RequestParam(required = false, defaultValue = "0") @Min(0) @Max(1000) int pagina,
+            @Parameter(description = "Tamaño de página")
+            @RequestParam(required = false, defaultValue = "20") @Min(1) @Max(50) int tamanio) {
+        
+        log.info("REST: Buscando '{}' (tipo: {}, página: {})", q, tipo, pagina);
+        PaginaBusquedaDTO response = busquedaService.buscar(q, tipo, soloActivos, pagina, tamanio);
+        return ResponseEntity.ok(response);
+    }
+}
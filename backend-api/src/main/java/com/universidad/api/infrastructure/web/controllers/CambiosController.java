@@ -0,0 +1,54 @@
+package com.universidad.api.infrastructure.web.controllers;
+
+import com.universidad.api.application.dto.PaginaCambiosDTO;
+import com.universidad.api.application.services.CambiosService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para la sincronización incremental del catálogo.
+ * Las réplicas externas piden solo lo que cambió desde su última marca en lugar de descargar
+ * el catálogo completo.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/cambios")
+@RequiredArgsConstructor
+@Tag(name = "Sincronización", description = "Cambios de carreras y facultades desde una marca")
+public class CambiosController {
+    
+    private final CambiosService cambiosService;
+    
+    @Operation(summary = "Obtener cambios desde una marca",
+               description = "Devuelve las facultades y carreras creadas, actualizadas o desactivadas después de "
+                       + "la marca, con su estado actual. Sin marca recorre todo el catálogo. Se continúa con la "
+                       + "marca 'siguiente' mientras hayMas sea true; después, en la próxima sincronización")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de cambios"),
+        @ApiResponse(responseCode = "400", description = "Marca o tamaño de página inválidos")
+    })
+    @GetMapping
+    public ResponseEntity<PaginaCambiosDTO> obtenerDesde(
+            @Parameter(description = "Marca 'siguiente' de la respuesta anterior")
+            @RequestParam(required = false) @Size(max = 100) String desde,
+            @Parameter(description = "Número máximo de cambios")
+            @RequestParam(required = false, defaultValue = "500") @Min(1) @Max(1000) int tamanio) {
+        
+        log.info("REST: Obteniendo cambios desde '{}'", desde);
+        PaginaCambiosDTO response = cambiosService.obtenerDesde(desde, tamanio);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -2,13 +2,19 @@ package com.universidad.api.infrastructure.web.controllers;
 
 import com.universidad.api.application.dto.CarreraRequestDTO;
 import com.universidad.api.application.dto.CarreraResponseDTO;
+import com.universidad.api.application.dto.IdsRequestDTO;
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
+import com.universidad.api.application.exceptions.RecursoNoEncontradoException;
 import com.universidad.api.application.services.CarreraService;
+import com.universidad.api.infrastructure.instantanea.LecturaConRespaldo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -16,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controlador REST para Carreras.
@@ -32,6 +39,8 @@ import java.util.List;
 public class CarreraController {
     
     private final CarreraService carreraService;
+    // Respaldo en la instantánea en disco si la base de datos no responde
+    private final LecturaConRespaldo lecturaConRespaldo;
     
     @Operation(summary = "Crear nueva carrera", description = "Crea una nueva carrera en el sistema")
     @ApiResponses(value = {
@@ -61,7 +70,42 @@ public class CarreraController {
             @PathVariable Long id) {
         
         log.info("REST: Obteniendo carrera por ID: {}", id);
-        CarreraResponseDTO response = carreraService.obtenerPorId(id);
+        return lecturaConRespaldo.leer(() -> carreraService.obtenerPorId(id),
+                instantanea -> instantanea.carrera(id).map(Optional::of))
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new RecursoNoEncontradoException("carrera", "ID", id));
+    }
+    
+    @Operation(summary = "Obtener varias carreras por ID",
+               description = "Resuelve hasta " + IdsRequestDTO.MAXIMO_IDS_URL + " IDs en una sola consulta. "
+                       + "Respeta el orden solicitado e informa los IDs inexistentes sin fallar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Carreras encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<ResultadoMultipleDTO<CarreraResponseDTO>> obtenerPorIds(
+            @Parameter(description = "IDs separados por comas", example = "3,1,2")
+            @RequestParam @NotEmpty @Size(max = IdsRequestDTO.MAXIMO_IDS_URL) List<Long> ids) {
+        
+        log.info("REST: Obteniendo {} carreras por ID", ids.size());
+        ResultadoMultipleDTO<CarreraResponseDTO> response = carreraService.obtenerPorIds(ids);
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Obtener varias carreras por ID (lote)",
+               description = "Variante POST para conjuntos grandes: hasta " + IdsRequestDTO.MAXIMO_IDS + " IDs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Carreras encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoMultipleDTO<CarreraResponseDTO>> obtenerPorIdsLote(
+            @Parameter(description = "IDs solicitados")
+            @Valid @RequestBody IdsRequestDTO requestDTO) {
+        
+        log.info("REST: Obteniendo {} carreras por ID (lote)", requestDTO.getIds().size());
+        ResultadoMultipleDTO<CarreraResponseDTO> response = carreraService.obtenerPorIds(requestDTO.getIds());
         return ResponseEntity.ok(response);
     }
     
@@ -75,7 +119,8 @@ public class CarreraController {
         log.info("REST: Obteniendo todas las carreras (soloActivas: {})", soloActivas);
         
         List<CarreraResponseDTO> response = soloActivas 
-            ? carreraService.obtenerActivas()
+            ? lecturaConRespaldo.leer(carreraService::obtenerActivas,
+                instantanea -> Optional.of(instantanea.carrerasActivas()))
             : carreraService.obtenerTodas();
             
         return ResponseEntity.ok(response);
@@ -96,9 +141,11 @@ public class CarreraController {
         log.info("REST: Obteniendo carreras de facultad ID: {} (soloActivas: {})", 
                 facultadId, soloActivas);
         
-        List<CarreraResponseDTO> response = soloActivas 
-            ? carreraService.obtenerActivasPorFacultad(facultadId)
-            : carreraService.obtenerPorFacultad(facultadId);
+        List<CarreraResponseDTO> response = lecturaConRespaldo.leer(
+            () -> soloActivas 
+                ? carreraService.obtenerActivasPorFacultad(facultadId)
+                : carreraService.obtenerPorFacultad(facultadId),
+            instantanea -> instantanea.carrerasDeFacultad(facultadId, soloActivas));
             
         return ResponseEntity.ok(response);
     }
@@ -148,8 +195,9 @@ public class CarreraController {
             @PathVariable String nombre) {
         
         log.info("REST: Buscando carrera por nombre: {}", nombre);
-        CarreraResponseDTO response = carreraService.buscarPorNombre(nombre);
-        return ResponseEntity.ok(response);
+        return carreraService.buscarPorNombre(nombre)
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new RecursoNoEncontradoException("carrera", "nombre", nombre));
     }
     
     @Operation(summary = "Buscar carreras por duración", description = "Busca carreras por su duración en semestres")
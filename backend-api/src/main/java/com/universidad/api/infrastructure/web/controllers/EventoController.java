@@ -0,0 +1,52 @@
+package com.universidad.api.infrastructure.web.controllers;
+
+import com.universidad.api.infrastructure.eventos.DifusorEventos;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controlador de eventos del catálogo (Server-Sent Events).
+ * Permite a los clientes mantenerse actualizados sin volver a descargar los listados.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/eventos")
+@RequiredArgsConstructor
+@Tag(name = "Eventos", description = "Flujo de cambios del catálogo de carreras y facultades")
+public class EventoController {
+    
+    private final DifusorEventos difusorEventos;
+    
+    @Operation(summary = "Suscribirse a cambios del catálogo",
+               description = "Abre un flujo SSE con eventos 'cambio' (creado, actualizado, desactivado). " +
+                             "Si el cliente envía Last-Event-ID se reenvían los eventos perdidos; " +
+                             "si ya no están disponibles se emite un evento 'resincronizar'.")
+    @ApiResponse(responseCode = "200", description = "Flujo de eventos abierto")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> suscribir(
+            @Parameter(description = "ID del último evento recibido (reconexión automática del navegador)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "Alternativa a Last-Event-ID para la primera conexión")
+            @RequestParam(required = false) String desde) {
+        
+        String ultimoId = lastEventId != null ? lastEventId : desde;
+        log.info("REST: Nueva suscripción a eventos (desde: {})", ultimoId);
+        
+        return ResponseEntity.ok()
+                .header("Cache-Control", "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(difusorEventos.suscribir(ultimoId));
+    }
+}
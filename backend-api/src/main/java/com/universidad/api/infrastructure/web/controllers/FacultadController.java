@@ -2,13 +2,19 @@ package com.universidad.api.infrastructure.web.controllers;
 
 import com.universidad.api.application.dto.FacultadRequestDTO;
 import com.universidad.api.application.dto.FacultadResponseDTO;
+import com.universidad.api.application.dto.IdsRequestDTO;
+import com.universidad.api.application.dto.ResultadoMultipleDTO;
+import com.universidad.api.application.exceptions.RecursoNoEncontradoException;
 import com.universidad.api.application.services.FacultadService;
+import com.universidad.api.infrastructure.instantanea.LecturaConRespaldo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -16,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controlador REST para Facultades - Patrón MVC.
@@ -34,6 +41,8 @@ public class FacultadController {
     
     // Inyección de dependencia del Service (parte del Model en MVC)
     private final FacultadService facultadService;
+    // Respaldo en la instantánea en disco si la base de datos no responde
+    private final LecturaConRespaldo lecturaConRespaldo;
     
     @Operation(summary = "Crear nueva facultad", description = "Crea una nueva facultad en el sistema")
     @ApiResponses(value = {
@@ -62,7 +71,42 @@ public class FacultadController {
             @PathVariable Long id) {
         
         log.info("Obteniendo facultad por ID: {}", id);
-        FacultadResponseDTO response = facultadService.obtenerPorId(id);
+        return lecturaConRespaldo.leer(() -> facultadService.obtenerPorId(id),
+                instantanea -> instantanea.facultad(id).map(Optional::of))
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new RecursoNoEncontradoException("facultad", "ID", id));
+    }
+    
+    @Operation(summary = "Obtener varias facultades por ID",
+               description = "Resuelve hasta " + IdsRequestDTO.MAXIMO_IDS_URL + " IDs en una sola consulta. "
+                       + "Respeta el orden solicitado e informa los IDs inexistentes sin fallar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Facultades encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<ResultadoMultipleDTO<FacultadResponseDTO>> obtenerPorIds(
+            @Parameter(description = "IDs separados por comas", example = "3,1,2")
+            @RequestParam @NotEmpty @Size(max = IdsRequestDTO.MAXIMO_IDS_URL) List<Long> ids) {
+        
+        log.info("REST: Obteniendo {} facultades por ID", ids.size());
+        ResultadoMultipleDTO<FacultadResponseDTO> response = facultadService.obtenerPorIds(ids);
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Obtener varias facultades por ID (lote)",
+               description = "Variante POST para conjuntos grandes: hasta " + IdsRequestDTO.MAXIMO_IDS + " IDs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Facultades encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoMultipleDTO<FacultadResponseDTO>> obtenerPorIdsLote(
+            @Parameter(description = "IDs solicitados")
+            @Valid @RequestBody IdsRequestDTO requestDTO) {
+        
+        log.info("REST: Obteniendo {} facultades por ID (lote)", requestDTO.getIds().size());
+        ResultadoMultipleDTO<FacultadResponseDTO> response = facultadService.obtenerPorIds(requestDTO.getIds());
         return ResponseEntity.ok(response);
     }
     
@@ -76,7 +120,8 @@ public class FacultadController {
         log.info("Obteniendo todas las facultades (soloActivas: {})", soloActivas);
         
         List<FacultadResponseDTO> response = soloActivas 
-            ? facultadService.obtenerActivas()
+            ? lecturaConRespaldo.leer(facultadService::obtenerActivas,
+                instantanea -> Optional.of(instantanea.facultadesActivas()))
             : facultadService.obtenerTodas();
             
         return ResponseEntity.ok(response);
@@ -127,8 +172,9 @@ public class FacultadController {
             @PathVariable String nombre) {
         
         log.info("Buscando facultad por nombre: {}", nombre);
-        FacultadResponseDTO response = facultadService.buscarPorNombre(nombre);
-        return ResponseEntity.ok(response);
+        return facultadService.buscarPorNombre(nombre)
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new RecursoNoEncontradoException("facultad", "nombre", nombre));
     }
     
     @Operation(summary = "Buscar facultades por decano", description = "Busca facultades que contengan el nombre del decano")
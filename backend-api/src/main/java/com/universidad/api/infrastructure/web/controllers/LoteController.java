@@ -0,0 +1,53 @@
+package com.universidad.api.infrastructure.web.controllers;
+
+import com.universidad.api.application.dto.LoteRequestDTO;
+import com.universidad.api.application.dto.ResultadoLoteDTO;
+import com.universidad.api.application.services.LoteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para lotes de escritura.
+ * Una ráfaga de operaciones (crear una facultad, añadirle carreras, desactivar otras) viaja en
+ * una sola solicitud y se confirma en una sola transacción.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/batch")
+@RequiredArgsConstructor
+@Tag(name = "Lotes", description = "Varias operaciones sobre facultades y carreras en una sola transacción")
+public class LoteController {
+    
+    private final LoteService loteService;
+    
+    @Operation(summary = "Ejecutar lote de operaciones",
+               description = "Ejecuta en orden hasta " + LoteRequestDTO.MAXIMO_OPERACIONES + " operaciones "
+                       + "CREAR, ACTUALIZAR y DESACTIVAR. Una operación puede usar el ID de un recurso creado antes "
+                       + "en el lote con idRef o facultadRef. Si una falla, no se aplica ninguna")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote aplicado; resultado de cada operación"),
+        @ApiResponse(responseCode = "400", description = "Lote u operación inválidos (datos, referencias)"),
+        @ApiResponse(responseCode = "404", description = "Una operación se refiere a un recurso inexistente"),
+        @ApiResponse(responseCode = "409", description = "Una operación entra en conflicto con el catálogo")
+    })
+    @PostMapping
+    public ResponseEntity<ResultadoLoteDTO> ejecutar(
+            @Parameter(description = "Operaciones del lote")
+            @Valid @RequestBody LoteRequestDTO requestDTO) {
+        
+        log.info("REST: Ejecutando lote de {} operaciones", requestDTO.getOperaciones().size());
+        ResultadoLoteDTO response = loteService.ejecutar(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,49 @@
+package com.universidad.api.infrastructure.web.controllers;
+
+import com.universidad.api.application.dto.PanelDTO;
+import com.universidad.api.application.services.PanelService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST del panel del frontend.
+ * Reemplaza las solicitudes sucesivas de las páginas de inicio y de carreras por una sola,
+ * cuyas consultas se ejecutan a la vez.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/panel")
+@RequiredArgsConstructor
+@Tag(name = "Panel", description = "Facultades, carreras y conteos en una sola solicitud")
+public class PanelController {
+    
+    private final PanelService panelService;
+    
+    @Operation(summary = "Obtener panel",
+               description = "Devuelve el resumen de facultades, los conteos de facultades y carreras y, si se piden, "
+                       + "todas las carreras. Las consultas se ejecutan a la vez con un plazo común: las secciones "
+                       + "que no terminan a tiempo se omiten y se listan en 'incompleto'")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Panel, completo o con secciones pendientes"),
+        @ApiResponse(responseCode = "503", description = "Base de datos o consultas paralelas no disponibles")
+    })
+    @GetMapping
+    public ResponseEntity<PanelDTO> obtener(
+            @Parameter(description = "Incluir el listado completo de carreras")
+            @RequestParam(required = false, defaultValue = "false") boolean carreras) {
+        
+        log.info("REST: Obteniendo panel (carreras: {})", carreras);
+        PanelDTO response = panelService.obtener(carreras);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,34 +1,67 @@
 package com.universidad.api.infrastructure.web.exceptions;
 
+import com.universidad.api.application.dto.ResultadoLoteDTO;
+import com.universidad.api.application.dto.ResultadoOperacionDTO;
+import com.universidad.api.application.exceptions.ConflictoException;
+import com.universidad.api.application.exceptions.MarcaInvalidaException;
+import com.universidad.api.application.exceptions.OperacionLoteException;
+import com.universidad.api.application.exceptions.RecursoNoEncontradoException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Manejador global de excepciones.
  * Sigue el principio SRP - manejo centralizado de errores.
+ *
+ * Los errores esperados (validación, 404, 409) son frecuentes con rastreadores y clientes
+ * obsoletos: se registran con límite de frecuencia y el mensaje del log solo se compone si se emite.
  */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
+    private final LogLimitado logValidacion;
+    private final LogLimitado logNoEncontrado;
+    private final LogLimitado logConflicto;
+    
+    public GlobalExceptionHandler(MeterRegistry meterRegistry,
+                                  @Value("${universidad.errores.log-maximo:20}") int logMaximo,
+                                  @Value("${universidad.errores.log-intervalo-ms:10000}") long logIntervaloMs) {
+        this.logValidacion = new LogLimitado(log, "validacion", logMaximo, logIntervaloMs, meterRegistry);
+        this.logNoEncontrado = new LogLimitado(log, "no_encontrado", logMaximo, logIntervaloMs, meterRegistry);
+        this.logConflicto = new LogLimitado(log, "conflicto", logMaximo, logIntervaloMs, meterRegistry);
+    }
+    
     /**
      * Maneja errores de validación de datos de entrada.
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
-        log.warn("Error de validación: {}", ex.getMessage());
+        if (logValidacion.permitir()) {
+            log.warn("Error de validación: {}", ex.getMessage());
+        }
         
-        Map<String, String> errors = new HashMap<>();
+        Map<String, String> errors = new HashMap<>(ex.getBindingResult().getErrorCount() * 2);
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
@@ -48,23 +81,202 @@ public class GlobalExceptionHandler {
     }
     
     /**
-     * Maneja errores de entidad no encontrada.
+     * Maneja errores de validación de parámetros de la solicitud (query y path).
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleParameterValidationErrors(HandlerMethodValidationException ex) {
+        if (logValidacion.permitir()) {
+            log.warn("Error de validación de parámetros: {}", ex.getMessage());
+        }
+        
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach(result -> {
+            String parameterName = result.getMethodParameter().getParameterName();
+            result.getResolvableErrors().forEach(error -> errors.put(parameterName, error.getDefaultMessage()));
+        });
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Error")
+                .message("Parámetros de la solicitud inválidos")
+                .details(errors)
+                .path("/api/validation-error")
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Maneja parámetros que no pueden convertirse al tipo esperado (p. ej. un ID no numérico).
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        if (logValidacion.permitir()) {
+            log.warn("Parámetro con tipo inválido: {}", ex.getMessage());
+        }
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Error")
+                .message("Parámetros de la solicitud inválidos")
+                .details(Map.of(ex.getName(), "Valor inválido: " + ex.getValue()))
+                .path("/api/validation-error")
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Maneja marcas de sincronización que la API no emitió (GET /api/v1/cambios).
+     */
+    @ExceptionHandler(MarcaInvalidaException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSyncToken(MarcaInvalidaException ex) {
+        if (logValidacion.permitir()) {
+            log.warn("Marca de sincronización inválida: {}", ex.getMessage());
+        }
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Error")
+                .message("Parámetros de la solicitud inválidos")
+                .details(Map.of("desde", "Marca inválida: use la marca 'siguiente' de una respuesta anterior"))
+                .path("/api/validation-error")
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Maneja recursos no encontrados (excepción de dominio sin traza) y entidades que JPA no encuentra.
      */
-    @ExceptionHandler(EntityNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleEntityNotFound(EntityNotFoundException ex) {
-        log.warn("Entidad no encontrada: {}", ex.getMessage());
+    @ExceptionHandler({RecursoNoEncontradoException.class, EntityNotFoundException.class})
+    public ResponseEntity<ErrorResponse> handleEntityNotFound(RuntimeException ex) {
+        String mensaje = ex.getMessage();
+        if (logNoEncontrado.permitir()) {
+            log.warn("Entidad no encontrada: {}", mensaje);
+        }
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.NOT_FOUND.value())
                 .error("Entity Not Found")
-                .message(ex.getMessage())
+                .message(mensaje)
                 .path("/api/entity-not-found")
                 .build();
         
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
     
+    /**
+     * Maneja conflictos con el estado del catálogo (nombre duplicado, facultad inactiva).
+     */
+    @ExceptionHandler(ConflictoException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ConflictoException ex) {
+        if (logConflicto.permitir()) {
+            log.warn("Conflicto: {}", ex.getMessage());
+        }
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .path("/api/conflict")
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+    
+    /**
+     * Maneja restricciones violadas en la base de datos: dos escrituras concurrentes con el mismo
+     * nombre pasan ambas la comprobación del servicio y la segunda choca con la restricción única.
+     * Es un conflicto, no un error interno; el detalle de la restricción no se devuelve.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (logConflicto.permitir()) {
+            log.warn("Restricción de integridad violada: {}", ex.getMostSpecificCause().getMessage());
+        }
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("La operación entra en conflicto con el estado actual del catálogo")
+                .path("/api/conflict")
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+    
+    /**
+     * Maneja el fallo de una operación de un lote (POST /api/v1/batch). El lote se revirtió:
+     * la operación fallida lleva el estado de su error y las demás 424 (no aplicadas).
+     */
+    @ExceptionHandler(OperacionLoteException.class)
+    public ResponseEntity<ResultadoLoteDTO> handleBatchOperationError(OperacionLoteException ex) {
+        Throwable causa = ex.getCause();
+        HttpStatus estado;
+        String mensaje = causa.getMessage();
+        if (causa instanceof RecursoNoEncontradoException || causa instanceof EntityNotFoundException) {
+            estado = HttpStatus.NOT_FOUND;
+        } else if (causa instanceof DataIntegrityViolationException) {
+            estado = HttpStatus.CONFLICT;
+            mensaje = "La operación entra en conflicto con el estado actual del catálogo";
+        } else if (causa instanceof ConflictoException) {
+            estado = HttpStatus.CONFLICT;
+        } else {
+            estado = HttpStatus.BAD_REQUEST;
+        }
+        LogLimitado logLote = estado == HttpStatus.BAD_REQUEST ? logValidacion
+                : estado == HttpStatus.NOT_FOUND ? logNoEncontrado : logConflicto;
+        if (logLote.permitir()) {
+            log.warn("Lote revertido en la operación {}: {}", ex.getIndice(), mensaje);
+        }
+        
+        List<ResultadoOperacionDTO> resultados = new ArrayList<>(ex.getOperaciones());
+        for (int i = 0; i < ex.getOperaciones(); i++) {
+            boolean fallida = i == ex.getIndice();
+            resultados.add(ResultadoOperacionDTO.builder()
+                    .indice(i)
+                    .estado(fallida ? estado.value() : HttpStatus.FAILED_DEPENDENCY.value())
+                    .error(fallida ? mensaje : "No aplicada: el lote se revirtió")
+                    .build());
+        }
+        
+        ResultadoLoteDTO resultado = ResultadoLoteDTO.builder()
+                .aplicado(false)
+                .resultados(resultados)
+                .error(ex.getIndice() < 0 ? mensaje : null)
+                .build();
+        
+        return new ResponseEntity<>(resultado, estado);
+    }
+    
+    /**
+     * Maneja la falta de conexiones disponibles (pool agotado o base de datos inaccesible).
+     * Se responde 503 con Retry-After en lugar de un 500 genérico.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleResourceUnavailable(RuntimeException ex) {
+        log.warn("Base de datos no disponible: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("El servicio no está disponible temporalmente, reintente más tarde")
+                .path("/api/service-unavailable")
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+    
     /**
      * Maneja errores generales no contemplados.
      */
@@ -0,0 +1,61 @@
+package com.universidad.api.infrastructure.web.exceptions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Límite de frecuencia para los logs de errores esperados de una categoría (404, 409, validación).
+ * - En cada intervalo se registran como mucho {@code maximo} mensajes; el resto solo se cuenta
+ *   y se resume en una línea al abrir el intervalo siguiente
+ * - Quien llama compone el mensaje solo si {@link #permitir()} devuelve true
+ * - El contador universidad.errores{tipo} registra todos, se registren o no en el log
+ */
+final class LogLimitado {
+    
+    private final Logger log;
+    private final String categoria;
+    private final int maximo;
+    private final long intervaloNanos;
+    private final Counter total;
+    
+    private final AtomicLong inicioIntervalo = new AtomicLong(System.nanoTime());
+    private final AtomicInteger emitidos = new AtomicInteger();
+    private final AtomicInteger omitidos = new AtomicInteger();
+    
+    LogLimitado(Logger log, String categoria, int maximo, long intervaloMs, MeterRegistry meterRegistry) {
+        this.log = log;
+        this.categoria = categoria;
+        this.maximo = maximo;
+        this.intervaloNanos = intervaloMs * 1_000_000;
+        this.total = Counter.builder("universidad.errores")
+                .description("Respuestas de error esperadas por tipo")
+                .tag("tipo", categoria)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Cuenta el error y decide si se registra en el log.
+     * @return true si aún quedan mensajes disponibles en el intervalo actual
+     */
+    boolean permitir() {
+        total.increment();
+        long ahora = System.nanoTime();
+        long inicio = inicioIntervalo.get();
+        if (ahora - inicio >= intervaloNanos && inicioIntervalo.compareAndSet(inicio, ahora)) {
+            int omitidosIntervalo = omitidos.getAndSet(0);
+            emitidos.set(0);
+            if (omitidosIntervalo > 0) {
+                log.warn("{}: {} mensajes similares omitidos en el último intervalo", categoria, omitidosIntervalo);
+            }
+        }
+        if (emitidos.incrementAndGet() <= maximo) {
+            return true;
+        }
+        omitidos.incrementAndGet();
+        return false;
+    }
+}
@@ -0,0 +1,141 @@
+package com.universidad.api.infrastructure.web.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.infrastructure.web.exceptions.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Filtro de control de admisión delante del pool de conexiones.
+ * Aplica un límite de concurrencia adaptativo y rechaza rápidamente con 503 + Retry-After
+ * el exceso de carga, en lugar de dejar que las solicitudes esperen conexión hasta el
+ * connection-timeout de Hikari. Las escrituras tienen prioridad sobre las lecturas y los
+ * health checks nunca se rechazan.
+ *
+ * Métricas: universidad.admision.limite, universidad.admision.en_curso y
+ * universidad.admision.rechazos (por prioridad).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ControlAdmisionFilter extends OncePerRequestFilter {
+    
+    private final LimiteConcurrenciaAdaptativo limite;
+    private final ObjectMapper objectMapper;
+    private final boolean habilitado;
+    private final String reintentarSegundos;
+    private final Map<PrioridadSolicitud, Counter> rechazos = new EnumMap<>(PrioridadSolicitud.class);
+    
+    public ControlAdmisionFilter(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${universidad.admision.habilitado:true}") boolean habilitado,
+                                 @Value("${universidad.admision.limite-inicial:20}") int limiteInicial,
+                                 @Value("${universidad.admision.limite-minimo:4}") int limiteMinimo,
+                                 @Value("${universidad.admision.limite-maximo:200}") int limiteMaximo,
+                                 @Value("${universidad.admision.reserva-escrituras:4}") int reservaEscrituras,
+                                 @Value("${universidad.admision.latencia-objetivo-ms:500}") long latenciaObjetivoMs,
+                                 @Value("${universidad.admision.reintentar-segundos:1}") int reintentarSegundos) {
+        this.objectMapper = objectMapper;
+        this.habilitado = habilitado;
+        this.reintentarSegundos = String.valueOf(reintentarSegundos);
+        this.limite = new LimiteConcurrenciaAdaptativo(
+                limiteInicial, limiteMinimo, limiteMaximo, reservaEscrituras, latenciaObjetivoMs);
+        
+        Gauge.builder("universidad.admision.limite", limite, LimiteConcurrenciaAdaptativo::getLimite)
+                .description("Límite de concurrencia adaptativo actual")
+                .register(meterRegistry);
+        Gauge.builder("universidad.admision.en_curso", limite, LimiteConcurrenciaAdaptativo::getEnCurso)
+                .description("Solicitudes admitidas en curso")
+                .register(meterRegistry);
+        for (PrioridadSolicitud prioridad : PrioridadSolicitud.values()) {
+            rechazos.put(prioridad, Counter.builder("universidad.admision.rechazos")
+                    .description("Solicitudes rechazadas por sobrecarga")
+                    .tag("prioridad", prioridad.name())
+                    .register(meterRegistry));
+        }
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitado;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        PrioridadSolicitud prioridad = clasificar(request);
+        if (prioridad == PrioridadSolicitud.CRITICA) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        if (!limite.adquirir(prioridad)) {
+            rechazos.get(prioridad).increment();
+            log.debug("Solicitud rechazada por sobrecarga: {} {} (límite: {})",
+                    request.getMethod(), request.getRequestURI(), limite.getLimite());
+            rechazar(request, response);
+            return;
+        }
+        
+        long inicio = System.nanoTime();
+        boolean sobrecarga = false;
+        try {
+            filterChain.doFilter(request, response);
+            sobrecarga = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            limite.liberar(System.nanoTime() - inicio, sobrecarga);
+        }
+    }
+    
+    private PrioridadSolicitud clasificar(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/actuator/health") || uri.startsWith("/api/v1/eventos")) {
+            return PrioridadSolicitud.CRITICA;
+        }
+        // El esquema GraphQL es de solo lectura aunque las consultas lleguen por POST
+        // Igual que las búsquedas por lote: POST solo porque la lista de IDs no cabe en la URL
+        if (uri.startsWith("/graphql") || uri.equals("/api/v1/carreras/lote")
+                || uri.equals("/api/v1/facultades/lote")) {
+            return PrioridadSolicitud.NORMAL;
+        }
+        return switch (request.getMethod()) {
+            case "POST", "PUT", "DELETE", "PATCH" -> PrioridadSolicitud.ALTA;
+            default -> PrioridadSolicitud.NORMAL;
+        };
+    }
+    
+    private void rechazar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("El servidor está sobrecargado, reintente más tarde")
+                .path(request.getRequestURI())
+                .build();
+        
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, reintentarSegundos);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
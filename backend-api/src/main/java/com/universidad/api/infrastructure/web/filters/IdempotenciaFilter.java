@@ -0,0 +1,237 @@
+package com.universidad.api.infrastructure.web.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.infrastructure.idempotencia.AlmacenIdempotencia;
+import com.universidad.api.infrastructure.idempotencia.ReservaIdempotencia;
+import com.universidad.api.infrastructure.idempotencia.RespuestaIdempotente;
+import com.universidad.api.infrastructure.web.exceptions.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Soporte de la cabecera Idempotency-Key en las escrituras (POST, PUT y PATCH).
+ * - La primera solicitud con una clave se ejecuta y su respuesta se guarda en
+ *   {@link AlmacenIdempotencia}; los reintentos con la misma clave reciben esa respuesta
+ *   (con la cabecera Idempotent-Replayed) sin llegar a los controladores ni a las tablas del catálogo
+ * - Un duplicado que llega mientras la original sigue en curso espera su resultado;
+ *   si no termina a tiempo se responde 409 con Retry-After
+ * - Reutilizar una clave con otro método, ruta o cuerpo se rechaza con 422
+ * - Los errores del servidor (5xx) no se guardan: el reintento vuelve a ejecutarse
+ *
+ * Va después de InstitucionFilter y UsuarioFilter: las claves son por institución y usuario.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 35)
+public class IdempotenciaFilter extends OncePerRequestFilter {
+    
+    static final String CABECERA_CLAVE = "Idempotency-Key";
+    static final String CABECERA_REPETIDA = "Idempotent-Replayed";
+    private static final int LONGITUD_MAXIMA = 255;
+    private static final Set<String> METODOS = Set.of("POST", "PUT", "PATCH");
+    
+    private final AlmacenIdempotencia almacen;
+    private final ObjectMapper objectMapper;
+    private final boolean habilitada;
+    
+    public IdempotenciaFilter(AlmacenIdempotencia almacen,
+                              ObjectMapper objectMapper,
+                              @Value("${universidad.idempotencia.habilitada:true}") boolean habilitada) {
+        this.almacen = almacen;
+        this.objectMapper = objectMapper;
+        this.habilitada = habilitada;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitada || !METODOS.contains(request.getMethod()) || request.getHeader(CABECERA_CLAVE) == null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clave = request.getHeader(CABECERA_CLAVE).strip();
+        if (clave.isEmpty() || clave.length() > LONGITUD_MAXIMA || !clave.chars().allMatch(c -> c > 0x20 && c < 0x7f)) {
+            rechazar(request, response, HttpStatus.BAD_REQUEST, "Bad Request",
+                    "Idempotency-Key debe tener entre 1 y " + LONGITUD_MAXIMA + " caracteres ASCII visibles");
+            return;
+        }
+    
+        CuerpoLeido solicitud = new CuerpoLeido(request);
+        String ruta = request.getRequestURI();
+        ReservaIdempotencia reserva;
+        try {
+            reserva = almacen.reservar(clave, request.getMethod(), ruta, huella(solicitud));
+        } catch (DataAccessException ex) {
+            log.warn("No se pudo reservar la clave de idempotencia: {}", ex.getMessage());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            rechazar(request, response, HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                    "El servicio no está disponible temporalmente, reintente más tarde");
+            return;
+        }
+    
+        switch (reserva.getEstado()) {
+            case REPETIDA -> repetir(reserva.getRespuesta(), response);
+            case DISTINTA -> rechazar(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity",
+                    "La clave de idempotencia ya se usó con otra solicitud");
+            case EN_CURSO -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                rechazar(request, response, HttpStatus.CONFLICT, "Conflict",
+                        "Una solicitud con la misma clave de idempotencia sigue en curso");
+            }
+            case PROPIA -> ejecutar(reserva, solicitud, response, filterChain);
+        }
+    }
+    
+    private void ejecutar(ReservaIdempotencia reserva, CuerpoLeido solicitud, HttpServletResponse response,
+                          FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper respuesta = new ContentCachingResponseWrapper(response);
+        boolean completada = false;
+        try {
+            filterChain.doFilter(solicitud, respuesta);
+            almacen.completar(reserva, respuesta.getStatus(), respuesta.getContentType(),
+                    respuesta.getContentAsByteArray());
+            completada = true;
+        } finally {
+            if (!completada) {
+                almacen.liberar(reserva);
+            }
+            respuesta.copyBodyToResponse();
+        }
+    }
+    
+    private static void repetir(RespuestaIdempotente original, HttpServletResponse response) throws IOException {
+        response.setStatus(original.estado());
+        response.setHeader(CABECERA_REPETIDA, "true");
+        if (original.tipoContenido() != null) {
+            response.setContentType(original.tipoContenido());
+        }
+        if (original.cuerpo() != null) {
+            response.setContentLength(original.cuerpo().length);
+            response.getOutputStream().write(original.cuerpo());
+        }
+    }
+    
+    // Mismo método, ruta, consulta y cuerpo: un reintento legítimo
+    private static String huella(CuerpoLeido solicitud) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(solicitud.getMethod().getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) ' ');
+            sha256.update(solicitud.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (solicitud.getQueryString() != null) {
+                sha256.update((byte) '?');
+                sha256.update(solicitud.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            sha256.update((byte) '\n');
+            sha256.update(solicitud.cuerpo);
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private void rechazar(HttpServletRequest request, HttpServletResponse response, HttpStatus estado,
+                          String error, String mensaje) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(estado.value())
+                .error(error)
+                .message(mensaje)
+                .path(request.getRequestURI())
+                .build();
+    
+        response.setStatus(estado.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+    
+    /**
+     * Solicitud con el cuerpo ya leído: se calcula la huella y después se entrega intacto al controlador.
+     */
+    private static final class CuerpoLeido extends HttpServletRequestWrapper {
+    
+        private final byte[] cuerpo;
+    
+        CuerpoLeido(HttpServletRequest request) throws IOException {
+            super(request);
+            this.cuerpo = request.getInputStream().readAllBytes();
+        }
+    
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(cuerpo);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+    
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+    
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+    
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+    
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+            };
+        }
+    
+        @Override
+        public BufferedReader getReader() {
+            String codificacion = getCharacterEncoding();
+            Charset charset = codificacion != null ? Charset.forName(codificacion) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    
+        @Override
+        public int getContentLength() {
+            return cuerpo.length;
+        }
+    
+        @Override
+        public long getContentLengthLong() {
+            return cuerpo.length;
+        }
+    }
+}
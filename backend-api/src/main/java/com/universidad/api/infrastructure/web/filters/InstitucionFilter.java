@@ -0,0 +1,88 @@
+package com.universidad.api.infrastructure.web.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.application.instituciones.InstitucionActual;
+import com.universidad.api.infrastructure.instituciones.InstitucionesProperties;
+import com.universidad.api.infrastructure.instituciones.RegistroInstituciones;
+import com.universidad.api.infrastructure.web.exceptions.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Resuelve la institución de cada solicitud y la deja en {@link InstitucionActual} mientras dura.
+ * - Primero la cabecera configurada (X-Institucion por defecto), después el host de la solicitud
+ *   según universidad.instituciones.dominios; sin ninguna de las dos, la institución principal
+ * - Una institución no declarada se rechaza con 404 antes de llegar a los controladores
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 25)
+public class InstitucionFilter extends OncePerRequestFilter {
+    
+    private final RegistroInstituciones registroInstituciones;
+    private final InstitucionesProperties instituciones;
+    private final ObjectMapper objectMapper;
+    
+    public InstitucionFilter(RegistroInstituciones registroInstituciones,
+                             InstitucionesProperties instituciones,
+                             ObjectMapper objectMapper) {
+        this.registroInstituciones = registroInstituciones;
+        this.instituciones = instituciones;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String institucion = resolver(request);
+        if (!registroInstituciones.existe(institucion)) {
+            log.debug("Solicitud para institución desconocida '{}': {}", institucion, request.getRequestURI());
+            rechazar(request, response);
+            return;
+        }
+        
+        InstitucionActual.establecer(institucion);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            InstitucionActual.limpiar();
+        }
+    }
+    
+    private String resolver(HttpServletRequest request) {
+        String cabecera = request.getHeader(instituciones.getCabecera());
+        if (cabecera != null && !cabecera.isBlank()) {
+            return cabecera.strip().toLowerCase(Locale.ROOT);
+        }
+        String porDominio = instituciones.getDominios().get(request.getServerName().toLowerCase(Locale.ROOT));
+        return porDominio != null ? porDominio : InstitucionActual.PRINCIPAL;
+    }
+    
+    private void rechazar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // El identificador recibido no se devuelve: solo se informa de que no existe
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Institution Not Found")
+                .message("La institución indicada no está alojada en este servicio")
+                .path(request.getRequestURI())
+                .build();
+        
+        response.setStatus(HttpStatus.NOT_FOUND.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,93 @@
+package com.universidad.api.infrastructure.web.filters;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite de concurrencia adaptativo AIMD (additive increase, multiplicative decrease).
+ * - Si una solicitud supera la latencia objetivo o falla por sobrecarga, el límite se
+ *   reduce multiplicativamente (como mucho una vez por ventana, para no colapsar ante una ráfaga)
+ * - Si las solicitudes terminan dentro del objetivo con el límite bien aprovechado,
+ *   el límite crece de forma aditiva (aprox. +1 por cada "límite" solicitudes completadas)
+ * Las escrituras disponen de una reserva adicional sobre el límite de lecturas.
+ */
+public class LimiteConcurrenciaAdaptativo {
+    
+    private static final double FACTOR_REDUCCION = 0.9;
+    
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final int reservaEscrituras;
+    private final long latenciaObjetivoNanos;
+    
+    private final AtomicInteger enCurso = new AtomicInteger();
+    private volatile double limite;
+    private long ultimaReduccionNanos;
+    
+    public LimiteConcurrenciaAdaptativo(int limiteInicial, int limiteMinimo, int limiteMaximo,
+                                        int reservaEscrituras, long latenciaObjetivoMs) {
+        this.limite = limiteInicial;
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.reservaEscrituras = reservaEscrituras;
+        this.latenciaObjetivoNanos = latenciaObjetivoMs * 1_000_000L;
+    }
+    
+    /**
+     * Intenta admitir una solicitud con la prioridad dada.
+     * @return true si se admite; en ese caso debe llamarse a {@link #liberar} al terminar
+     */
+    public boolean adquirir(PrioridadSolicitud prioridad) {
+        int maximo = switch (prioridad) {
+            case CRITICA -> Integer.MAX_VALUE;
+            case ALTA -> (int) limite + reservaEscrituras;
+            case NORMAL -> (int) limite;
+        };
+        
+        while (true) {
+            int actual = enCurso.get();
+            if (actual >= maximo) {
+                return false;
+            }
+            if (enCurso.compareAndSet(actual, actual + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Libera una solicitud admitida y ajusta el límite según su resultado.
+     * @param latenciaNanos Duración de la solicitud
+     * @param sobrecarga true si la solicitud falló por falta de recursos (p. ej. pool agotado)
+     */
+    public void liberar(long latenciaNanos, boolean sobrecarga) {
+        int enCursoAlTerminar = enCurso.getAndDecrement();
+        
+        if (sobrecarga || latenciaNanos > latenciaObjetivoNanos) {
+            reducir();
+        } else if (enCursoAlTerminar * 2 >= limite) {
+            aumentar();
+        }
+    }
+    
+    public int getLimite() {
+        return (int) limite;
+    }
+    
+    public int getEnCurso() {
+        return enCurso.get();
+    }
+    
+    private synchronized void aumentar() {
+        limite = Math.min(limiteMaximo, limite + 1.0 / limite);
+    }
+    
+    private synchronized void reducir() {
+        long ahora = System.nanoTime();
+        // Una sola reducción por ventana de latencia objetivo
+        if (ahora - ultimaReduccionNanos < latenciaObjetivoNanos) {
+            return;
+        }
+        ultimaReduccionNanos = ahora;
+        limite = Math.max(limiteMinimo, limite * FACTOR_REDUCCION);
+    }
+}
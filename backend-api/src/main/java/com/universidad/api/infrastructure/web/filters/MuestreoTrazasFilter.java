@@ -0,0 +1,102 @@
+package com.universidad.api.infrastructure.web.filters;
+
+import com.universidad.api.infrastructure.trazas.MuestreoTrazasProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Muestreo de trazas por ruta (universidad.trazas.muestreo.*).
+ * Se decide antes de que la observación HTTP abra el span raíz: si la solicitud queda fuera
+ * de la muestra se le añade un traceparent W3C con la marca "no muestreado", que el muestreador
+ * basado en el padre respeta en toda la traza. Las métricas HTTP se siguen registrando igual.
+ * Una solicitud que ya trae traceparent conserva la decisión de quien la originó.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MuestreoTrazasFilter extends OncePerRequestFilter {
+    
+    static final String TRACEPARENT = "traceparent";
+    
+    private final AntPathMatcher rutas = new AntPathMatcher();
+    private final List<Map.Entry<String, Double>> reglas;
+    private final double probabilidad;
+    
+    public MuestreoTrazasFilter(MuestreoTrazasProperties properties) {
+        this.reglas = new ArrayList<>(properties.getRutas().entrySet());
+        this.probabilidad = properties.getProbabilidad();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (request.getHeader(TRACEPARENT) != null || muestreada(request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        filterChain.doFilter(new SinMuestrear(request, traceparentNoMuestreado()), response);
+    }
+    
+    private boolean muestreada(String ruta) {
+        double p = probabilidad;
+        for (Map.Entry<String, Double> regla : reglas) {
+            if (rutas.match(regla.getKey(), ruta)) {
+                p = regla.getValue();
+                break;
+            }
+        }
+        return p >= 1.0 || (p > 0.0 && ThreadLocalRandom.current().nextDouble() < p);
+    }
+    
+    // version-traceId(16 bytes)-parentId(8 bytes)-flags; flags 00 = no muestreado
+    private static String traceparentNoMuestreado() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        HexFormat hex = HexFormat.of();
+        return "00-" + hex.toHexDigits(aleatorio.nextLong() | 1L) + hex.toHexDigits(aleatorio.nextLong())
+                + "-" + hex.toHexDigits(aleatorio.nextLong() | 1L) + "-00";
+    }
+    
+    private static final class SinMuestrear extends HttpServletRequestWrapper {
+    
+        private final String traceparent;
+    
+        SinMuestrear(HttpServletRequest request, String traceparent) {
+            super(request);
+            this.traceparent = traceparent;
+        }
+    
+        @Override
+        public String getHeader(String name) {
+            return TRACEPARENT.equalsIgnoreCase(name) ? traceparent : super.getHeader(name);
+        }
+    
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return TRACEPARENT.equalsIgnoreCase(name)
+                    ? Collections.enumeration(List.of(traceparent)) : super.getHeaders(name);
+        }
+    
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> nombres = Collections.list(super.getHeaderNames());
+            nombres.add(TRACEPARENT);
+            return Collections.enumeration(nombres);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.universidad.api.infrastructure.web.filters;
+
+/**
+ * Prioridad de admisión de una solicitud HTTP.
+ */
+public enum PrioridadSolicitud {
+    /** Health checks y flujos de larga duración: nunca se rechazan */
+    CRITICA,
+    /** Escrituras: disponen de un margen adicional sobre el límite */
+    ALTA,
+    /** Lecturas: se rechazan primero ante sobrecarga */
+    NORMAL
+}
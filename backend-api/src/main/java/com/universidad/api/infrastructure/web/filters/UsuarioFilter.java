@@ -0,0 +1,52 @@
+package com.universidad.api.infrastructure.web.filters;
+
+import com.universidad.api.application.auditoria.UsuarioActual;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Toma el usuario de la cabecera X-Usuario (la fija el gateway o el frontend) y lo deja
+ * disponible en {@link UsuarioActual} durante la solicitud para la auditoría de cambios.
+ * Sin cabecera, los cambios se atribuyen a "anonimo".
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class UsuarioFilter extends OncePerRequestFilter {
+    
+    static final String CABECERA_USUARIO = "X-Usuario";
+    private static final int LONGITUD_MAXIMA = 100;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String usuario = normalizar(request.getHeader(CABECERA_USUARIO));
+        if (usuario != null) {
+            UsuarioActual.establecer(usuario);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            UsuarioActual.limpiar();
+        }
+    }
+    
+    // Sin caracteres de control (inyección en logs) y dentro del VARCHAR de la tabla de auditoría
+    private static String normalizar(String cabecera) {
+        if (cabecera == null) {
+            return null;
+        }
+        String usuario = cabecera.replaceAll("\\p{Cntrl}", "").strip();
+        if (usuario.isEmpty()) {
+            return null;
+        }
+        return usuario.length() > LONGITUD_MAXIMA ? usuario.substring(0, LONGITUD_MAXIMA) : usuario;
+    }
+}
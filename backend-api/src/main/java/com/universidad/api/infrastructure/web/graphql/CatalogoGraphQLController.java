@@ -0,0 +1,91 @@
+package com.universidad.api.infrastructure.web.graphql;
+
+import com.universidad.api.application.dto.CarreraNodoDTO;
+import com.universidad.api.application.dto.FacultadNodoDTO;
+import com.universidad.api.application.services.CatalogoGrafoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Controlador GraphQL de solo lectura sobre el catálogo (esquema en graphql/schema.graphqls).
+ * Las relaciones se resuelven con @BatchMapping: el DataLoader reúne todas las facultades
+ * (o carreras) de un nivel y las resuelve con una sola consulta, evitando el N+1.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class CatalogoGraphQLController {
+    
+    private final CatalogoGrafoService catalogoGrafoService;
+    
+    @QueryMapping
+    public List<FacultadNodoDTO> facultades(@Argument boolean soloActivas) {
+        log.info("GraphQL: Listando facultades (soloActivas: {})", soloActivas);
+        return catalogoGrafoService.listarFacultades(soloActivas);
+    }
+    
+    @QueryMapping
+    public FacultadNodoDTO facultad(@Argument Long id) {
+        log.info("GraphQL: Obteniendo facultad ID: {}", id);
+        return catalogoGrafoService.obtenerFacultad(id).orElse(null);
+    }
+    
+    @QueryMapping
+    public List<CarreraNodoDTO> carreras(@Argument boolean soloActivas, @Argument Long facultadId) {
+        log.info("GraphQL: Listando carreras (soloActivas: {}, facultad: {})", soloActivas, facultadId);
+        return catalogoGrafoService.listarCarreras(soloActivas, facultadId);
+    }
+    
+    @QueryMapping
+    public CarreraNodoDTO carrera(@Argument Long id) {
+        log.info("GraphQL: Obteniendo carrera ID: {}", id);
+        return catalogoGrafoService.obtenerCarrera(id).orElse(null);
+    }
+    
+    @BatchMapping(typeName = "Facultad", field = "carreras")
+    public Map<FacultadNodoDTO, List<CarreraNodoDTO>> carreras(List<FacultadNodoDTO> facultades) {
+        return carrerasPorFacultad(facultades, false);
+    }
+    
+    @BatchMapping(typeName = "Facultad", field = "carrerasActivas")
+    public Map<FacultadNodoDTO, List<CarreraNodoDTO>> carrerasActivas(List<FacultadNodoDTO> facultades) {
+        return carrerasPorFacultad(facultades, true);
+    }
+    
+    @BatchMapping(typeName = "Carrera", field = "facultad")
+    public Map<CarreraNodoDTO, FacultadNodoDTO> facultad(List<CarreraNodoDTO> carreras) {
+        Set<Long> ids = carreras.stream().map(CarreraNodoDTO::facultadId).collect(Collectors.toSet());
+        Map<Long, FacultadNodoDTO> facultades = catalogoGrafoService.facultadesPorIds(ids);
+        
+        Map<CarreraNodoDTO, FacultadNodoDTO> resultado = new LinkedHashMap<>();
+        for (CarreraNodoDTO carrera : carreras) {
+            resultado.put(carrera, facultades.get(carrera.facultadId()));
+        }
+        return resultado;
+    }
+    
+    /**
+     * Una consulta para todas las facultades del nivel; las que no tienen carreras reciben lista vacía.
+     */
+    private Map<FacultadNodoDTO, List<CarreraNodoDTO>> carrerasPorFacultad(List<FacultadNodoDTO> facultades,
+                                                                          boolean soloActivas) {
+        Set<Long> ids = facultades.stream().map(FacultadNodoDTO::facultadId).collect(Collectors.toSet());
+        Map<Long, List<CarreraNodoDTO>> carreras = catalogoGrafoService.carrerasPorFacultades(ids, soloActivas);
+        
+        Map<FacultadNodoDTO, List<CarreraNodoDTO>> resultado = new LinkedHashMap<>();
+        for (FacultadNodoDTO facultad : facultades) {
+            resultado.put(facultad, carreras.getOrDefault(facultad.facultadId(), List.of()));
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,45 @@
+-- =====================================
+-- V10: MARCAS DE CAMBIO PARA LA SINCRONIZACIÓN INCREMENTAL
+-- Cada escritura en facultad y carrera guarda el ID de la transacción que la hizo (cambio) y,
+-- al insertar, también en cambio_creacion. GET /api/v1/cambios recorre el índice (cambio, id)
+-- desde la marca del cliente y solo devuelve filas de transacciones ya terminadas (anteriores al
+-- xmin de la instantánea): una transacción que confirma tarde nunca queda detrás de la marca.
+-- Las filas existentes quedan con marca 0: la primera sincronización las devuelve todas.
+-- =====================================
+
+ALTER TABLE facultad ADD COLUMN IF NOT EXISTS cambio BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE facultad ADD COLUMN IF NOT EXISTS cambio_creacion BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE carrera ADD COLUMN IF NOT EXISTS cambio BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE carrera ADD COLUMN IF NOT EXISTS cambio_creacion BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN facultad.cambio IS 'ID de la transacción de la última escritura (pg_current_xact_id)';
+COMMENT ON COLUMN facultad.cambio_creacion IS 'ID de la transacción que creó la fila';
+COMMENT ON COLUMN carrera.cambio IS 'ID de la transacción de la última escritura (pg_current_xact_id)';
+COMMENT ON COLUMN carrera.cambio_creacion IS 'ID de la transacción que creó la fila';
+
+-- Lo mantiene la base de datos: cubre también las escrituras que no pasan por la API
+CREATE OR REPLACE FUNCTION marcar_cambio_catalogo() RETURNS trigger AS $$
+BEGIN
+    NEW.cambio := pg_current_xact_id()::text::bigint;
+    IF TG_OP = 'INSERT' THEN
+        NEW.cambio_creacion := NEW.cambio;
+    ELSE
+        NEW.cambio_creacion := OLD.cambio_creacion;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_facultad_marca_cambio ON facultad;
+CREATE TRIGGER trg_facultad_marca_cambio
+    BEFORE INSERT OR UPDATE ON facultad
+    FOR EACH ROW EXECUTE FUNCTION marcar_cambio_catalogo();
+
+DROP TRIGGER IF EXISTS trg_carrera_marca_cambio ON carrera;
+CREATE TRIGGER trg_carrera_marca_cambio
+    BEFORE INSERT OR UPDATE ON carrera
+    FOR EACH ROW EXECUTE FUNCTION marcar_cambio_catalogo();
+
+-- Recorrido paginado desde una marca: (cambio, id) > (:cambio, :id) ORDER BY cambio, id
+CREATE INDEX IF NOT EXISTS idx_facultad_cambio ON facultad (cambio, facultad_id);
+CREATE INDEX IF NOT EXISTS idx_carrera_cambio ON carrera (cambio, carrera_id);
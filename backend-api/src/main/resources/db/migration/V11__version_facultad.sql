@@ -0,0 +1,36 @@
+-- =====================================
+-- V11: VERSIÓN DE FILA DE FACULTAD PARA LA NEAR-CACHE
+-- Cada UPDATE incrementa version. Las escrituras de una misma fila se serializan por su bloqueo,
+-- así que la versión crece en el orden de confirmación (el xid de V10 no: se asigna cuando la
+-- transacción empieza a escribir, no cuando confirma). La notificación incluye la versión y la
+-- near-cache de cada réplica descarta los estados más antiguos que el que ya tiene.
+-- =====================================
+
+ALTER TABLE facultad ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN facultad.version IS 'Versión de la fila: 0 al insertar, +1 en cada UPDATE';
+
+CREATE OR REPLACE FUNCTION incrementar_version_facultad() RETURNS trigger AS $$
+BEGIN
+    NEW.version := OLD.version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_facultad_version ON facultad;
+CREATE TRIGGER trg_facultad_version
+    BEFORE UPDATE ON facultad
+    FOR EACH ROW EXECUTE FUNCTION incrementar_version_facultad();
+
+CREATE OR REPLACE FUNCTION notificar_cambio_facultad() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('facultad_cambios', json_build_object(
+        'esquema', TG_TABLE_SCHEMA,
+        'id', NEW.facultad_id,
+        'nombre', NEW.nombre,
+        'activo', NEW.activo,
+        'version', NEW.version
+    )::text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
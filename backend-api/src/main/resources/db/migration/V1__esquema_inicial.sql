@@ -1,6 +1,7 @@
 -- =====================================
--- SCRIPT DE INICIALIZACIÓN DE BASE DE DATOS
+-- V1: ESQUEMA INICIAL
 -- Universidad API - PostgreSQL
+-- Idempotente: puede aplicarse sobre bases creadas con el antiguo database/init.sql
 -- =====================================
 
 -- Crear extensiones necesarias
@@ -72,51 +73,3 @@ CREATE INDEX IF NOT EXISTS idx_carrera_facultad_id ON carrera(facultad_id);
 CREATE INDEX IF NOT EXISTS idx_carrera_activo ON carrera(activo);
 CREATE INDEX IF NOT EXISTS idx_carrera_duracion ON carrera(duracion_semestres);
 CREATE INDEX IF NOT EXISTS idx_carrera_facultad_activo ON carrera(facultad_id, activo);
-
--- =====================================
--- DATOS DE PRUEBA (OPCIONAL)
--- =====================================
-
--- Insertar facultades de ejemplo
-INSERT INTO facultad (nombre, descripcion, ubicacion, decano, activo) 
-VALUES 
-    ('Facultad de Ingeniería', 'Facultad dedicada a las ciencias exactas y aplicadas', 'Edificio Central - Piso 3', 'Dr. Carlos Rodríguez', true),
-    ('Facultad de Medicina', 'Facultad de ciencias de la salud', 'Edificio de Medicina', 'Dra. Ana García', true),
-    ('Facultad de Derecho', 'Facultad de ciencias jurídicas y sociales', 'Edificio de Humanidades', 'Dr. Luis Martínez', true),
-    ('Facultad de Administración', 'Facultad de ciencias económicas y administrativas', 'Edificio de Administración', 'Mg. María Fernández', true),
-    ('Facultad de Educación', 'Facultad de ciencias de la educación', 'Edificio de Educación', 'Dr. Pedro Sánchez', true)
-ON CONFLICT (nombre) DO NOTHING;
-
--- Insertar carreras de ejemplo
-INSERT INTO carrera (facultad_id, nombre, descripcion, duracion_semestres, titulo_otorgado, activo)
-VALUES 
-    -- Carreras de Ingeniería
-    (1, 'Ingeniería de Sistemas', 'Carrera enfocada en el desarrollo de software y sistemas', 10, 'Ingeniero de Sistemas', true),
-    (1, 'Ingeniería Civil', 'Carrera enfocada en la construcción y diseño de infraestructuras', 10, 'Ingeniero Civil', true),
-    (1, 'Ingeniería Industrial', 'Carrera enfocada en la optimización de procesos', 10, 'Ingeniero Industrial', true),
-    
-    -- Carreras de Medicina
-    (2, 'Medicina', 'Carrera de ciencias médicas', 12, 'Médico Cirujano', true),
-    (2, 'Enfermería', 'Carrera de enfermería profesional', 8, 'Enfermero Profesional', true),
-    
-    -- Carreras de Derecho
-    (3, 'Derecho', 'Carrera de ciencias jurídicas', 10, 'Abogado', true),
-    
-    -- Carreras de Administración
-    (4, 'Administración de Empresas', 'Carrera enfocada en la gestión empresarial', 8, 'Administrador de Empresas', true),
-    (4, 'Contaduría Pública', 'Carrera enfocada en ciencias contables', 8, 'Contador Público', true),
-    
-    -- Carreras de Educación
-    (5, 'Licenciatura en Educación Básica', 'Formación de educadores para primaria', 8, 'Licenciado en Educación Básica', true),
-    (5, 'Licenciatura en Educación Infantil', 'Formación de educadores para preescolar', 8, 'Licenciado en Educación Infantil', true)
-ON CONFLICT (nombre) DO NOTHING;
-
--- =====================================
--- MENSAJE DE CONFIRMACIÓN
--- =====================================
-DO $$
-BEGIN
-    RAISE NOTICE 'Base de datos Universidad inicializada correctamente';
-    RAISE NOTICE 'Facultades creadas: %', (SELECT COUNT(*) FROM facultad);
-    RAISE NOTICE 'Carreras creadas: %', (SELECT COUNT(*) FROM carrera);
-END $$;
\ No newline at end of file
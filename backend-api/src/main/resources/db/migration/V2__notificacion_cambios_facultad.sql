@@ -0,0 +1,21 @@
+-- =====================================
+-- V2: NOTIFICACIÓN DE CAMBIOS DE FACULTAD
+-- =====================================
+
+-- Alimenta la near-cache de facultades de cada réplica de la API (LISTEN facultad_cambios).
+-- NOTIFY se entrega solo al confirmar la transacción.
+CREATE OR REPLACE FUNCTION notificar_cambio_facultad() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('facultad_cambios', json_build_object(
+        'id', NEW.facultad_id,
+        'nombre', NEW.nombre,
+        'activo', NEW.activo
+    )::text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_facultad_notificar ON facultad;
+CREATE TRIGGER trg_facultad_notificar
+    AFTER INSERT OR UPDATE ON facultad
+    FOR EACH ROW EXECUTE FUNCTION notificar_cambio_facultad();
@@ -0,0 +1,41 @@
+-- =====================================
+-- V3: DATOS DE PRUEBA
+-- Las carreras referencian la facultad por nombre: en bases existentes los IDs pueden diferir
+-- =====================================
+
+-- Insertar facultades de ejemplo
+INSERT INTO facultad (nombre, descripcion, ubicacion, decano, activo) 
+VALUES 
+    ('Facultad de Ingeniería', 'Facultad dedicada a las ciencias exactas y aplicadas', 'Edificio Central - Piso 3', 'Dr. Carlos Rodríguez', true),
+    ('Facultad de Medicina', 'Facultad de ciencias de la salud', 'Edificio de Medicina', 'Dra. Ana García', true),
+    ('Facultad de Derecho', 'Facultad de ciencias jurídicas y sociales', 'Edificio de Humanidades', 'Dr. Luis Martínez', true),
+    ('Facultad de Administración', 'Facultad de ciencias económicas y administrativas', 'Edificio de Administración', 'Mg. María Fernández', true),
+    ('Facultad de Educación', 'Facultad de ciencias de la educación', 'Edificio de Educación', 'Dr. Pedro Sánchez', true)
+ON CONFLICT (nombre) DO NOTHING;
+
+-- Insertar carreras de ejemplo
+INSERT INTO carrera (facultad_id, nombre, descripcion, duracion_semestres, titulo_otorgado, activo)
+SELECT f.facultad_id, c.nombre, c.descripcion, c.duracion_semestres, c.titulo_otorgado, true
+FROM (VALUES 
+    -- Carreras de Ingeniería
+    ('Facultad de Ingeniería', 'Ingeniería de Sistemas', 'Carrera enfocada en el desarrollo de software y sistemas', 10, 'Ingeniero de Sistemas'),
+    ('Facultad de Ingeniería', 'Ingeniería Civil', 'Carrera enfocada en la construcción y diseño de infraestructuras', 10, 'Ingeniero Civil'),
+    ('Facultad de Ingeniería', 'Ingeniería Industrial', 'Carrera enfocada en la optimización de procesos', 10, 'Ingeniero Industrial'),
+    
+    -- Carreras de Medicina
+    ('Facultad de Medicina', 'Medicina', 'Carrera de ciencias médicas', 12, 'Médico Cirujano'),
+    ('Facultad de Medicina', 'Enfermería', 'Carrera de enfermería profesional', 8, 'Enfermero Profesional'),
+    
+    -- Carreras de Derecho
+    ('Facultad de Derecho', 'Derecho', 'Carrera de ciencias jurídicas', 10, 'Abogado'),
+    
+    -- Carreras de Administración
+    ('Facultad de Administración', 'Administración de Empresas', 'Carrera enfocada en la gestión empresarial', 8, 'Administrador de Empresas'),
+    ('Facultad de Administración', 'Contaduría Pública', 'Carrera enfocada en ciencias contables', 8, 'Contador Público'),
+    
+    -- Carreras de Educación
+    ('Facultad de Educación', 'Licenciatura en Educación Básica', 'Formación de educadores para primaria', 8, 'Licenciado en Educación Básica'),
+    ('Facultad de Educación', 'Licenciatura en Educación Infantil', 'Formación de educadores para preescolar', 8, 'Licenciado en Educación Infantil')
+) AS c (facultad, nombre, descripcion, duracion_semestres, titulo_otorgado)
+JOIN facultad f ON f.nombre = c.facultad
+ON CONFLICT (nombre) DO NOTHING;
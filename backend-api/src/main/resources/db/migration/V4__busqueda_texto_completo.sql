@@ -0,0 +1,36 @@
+-- =====================================
+-- V4: BÚSQUEDA DE TEXTO COMPLETO
+-- Columna tsvector generada (nombre + título + descripción) con índice GIN
+-- =====================================
+
+-- Configuración de búsqueda en español que ignora acentos ("ingenieria" encuentra "Ingeniería")
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'espanol') THEN
+        CREATE TEXT SEARCH CONFIGURATION espanol (COPY = pg_catalog.spanish);
+        ALTER TEXT SEARCH CONFIGURATION espanol
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, spanish_stem;
+    END IF;
+END $$;
+
+-- Pesos: A = nombre, B = título otorgado, C = descripción
+ALTER TABLE carrera ADD COLUMN IF NOT EXISTS busqueda tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('espanol', coalesce(nombre, '')), 'A') ||
+        setweight(to_tsvector('espanol', coalesce(titulo_otorgado, '')), 'B') ||
+        setweight(to_tsvector('espanol', coalesce(descripcion, '')), 'C')
+    ) STORED;
+
+ALTER TABLE facultad ADD COLUMN IF NOT EXISTS busqueda tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('espanol', coalesce(nombre, '')), 'A') ||
+        setweight(to_tsvector('espanol', coalesce(descripcion, '')), 'C')
+    ) STORED;
+
+COMMENT ON COLUMN carrera.busqueda IS 'Documento de búsqueda de texto completo (generado)';
+COMMENT ON COLUMN facultad.busqueda IS 'Documento de búsqueda de texto completo (generado)';
+
+CREATE INDEX IF NOT EXISTS idx_carrera_busqueda ON carrera USING GIN (busqueda);
+CREATE INDEX IF NOT EXISTS idx_facultad_busqueda ON facultad USING GIN (busqueda);
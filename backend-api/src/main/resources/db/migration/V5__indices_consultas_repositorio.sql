@@ -0,0 +1,16 @@
+-- =====================================
+-- V5: ÍNDICES PARA LAS CONSULTAS DE LOS REPOSITORIOS
+-- Detectados por el arnés de planes (mvn -Pplanes): las búsquedas sin distinción de
+-- mayúsculas comparan UPPER(columna) y los índices B-tree simples de V1 no sirven para ellas
+-- =====================================
+
+-- findByNombreIgnoreCase / existsByNombreIgnoreCase*: UPPER(nombre) = UPPER(:nombre)
+CREATE INDEX IF NOT EXISTS idx_facultad_nombre_upper ON facultad (UPPER(nombre));
+CREATE INDEX IF NOT EXISTS idx_carrera_nombre_upper ON carrera (UPPER(nombre));
+
+-- *ContainingIgnoreCase: UPPER(columna) LIKE UPPER('%texto%') solo puede usar índices de trigramas
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_facultad_decano_trgm ON facultad USING GIN (UPPER(decano) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_facultad_ubicacion_trgm ON facultad USING GIN (UPPER(ubicacion) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_carrera_titulo_trgm ON carrera USING GIN (UPPER(titulo_otorgado) gin_trgm_ops);
@@ -0,0 +1,39 @@
+-- =====================================
+-- V6: REGISTRO DE AUDITORÍA DEL CATÁLOGO
+-- Una fila por campo modificado; la escribe la API en lotes, después del commit de cada cambio
+-- =====================================
+
+CREATE TABLE IF NOT EXISTS auditoria_catalogo (
+    auditoria_id BIGSERIAL PRIMARY KEY,
+    recurso VARCHAR(20) NOT NULL,
+    recurso_id BIGINT NOT NULL,
+    operacion VARCHAR(20) NOT NULL,
+    campo VARCHAR(50) NOT NULL,
+    valor_anterior TEXT,
+    valor_nuevo TEXT,
+    usuario VARCHAR(100) NOT NULL,
+    fecha TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT chk_auditoria_recurso CHECK (recurso IN ('CARRERA', 'FACULTAD')),
+    CONSTRAINT chk_auditoria_operacion CHECK (operacion IN ('CREADO', 'ACTUALIZADO', 'DESACTIVADO'))
+);
+
+-- Historial de un recurso y cambios de un usuario, del más reciente al más antiguo
+CREATE INDEX IF NOT EXISTS idx_auditoria_recurso ON auditoria_catalogo (recurso, recurso_id, fecha DESC);
+CREATE INDEX IF NOT EXISTS idx_auditoria_usuario ON auditoria_catalogo (usuario, fecha DESC);
+
+-- Solo se añaden filas: modificar o borrar el historial se rechaza
+CREATE OR REPLACE FUNCTION rechazar_modificacion_auditoria() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'auditoria_catalogo es de solo inserción (% rechazado)', TG_OP;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_auditoria_solo_insercion ON auditoria_catalogo;
+CREATE TRIGGER trg_auditoria_solo_insercion
+    BEFORE UPDATE OR DELETE ON auditoria_catalogo
+    FOR EACH ROW EXECUTE FUNCTION rechazar_modificacion_auditoria();
+
+DROP TRIGGER IF EXISTS trg_auditoria_sin_truncate ON auditoria_catalogo;
+CREATE TRIGGER trg_auditoria_sin_truncate
+    BEFORE TRUNCATE ON auditoria_catalogo
+    FOR EACH STATEMENT EXECUTE FUNCTION rechazar_modificacion_auditoria();
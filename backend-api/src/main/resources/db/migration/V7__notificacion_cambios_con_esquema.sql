@@ -0,0 +1,17 @@
+-- =====================================
+-- V7: NOTIFICACIÓN DE CAMBIOS DE FACULTAD CON ESQUEMA DE ORIGEN
+-- Varias instituciones pueden alojarse en esquemas de una misma base de datos y comparten
+-- el canal facultad_cambios: la near-cache de cada una descarta los cambios de otro esquema
+-- =====================================
+
+CREATE OR REPLACE FUNCTION notificar_cambio_facultad() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('facultad_cambios', json_build_object(
+        'esquema', TG_TABLE_SCHEMA,
+        'id', NEW.facultad_id,
+        'nombre', NEW.nombre,
+        'activo', NEW.activo
+    )::text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
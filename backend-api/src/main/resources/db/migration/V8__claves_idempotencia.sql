@@ -0,0 +1,22 @@
+-- =====================================
+-- V8: CLAVES DE IDEMPOTENCIA
+-- Respuesta de cada POST/PUT con cabecera Idempotency-Key, para devolverla en los reintentos
+-- =====================================
+
+CREATE TABLE IF NOT EXISTS clave_idempotencia (
+    usuario VARCHAR(100) NOT NULL,
+    clave VARCHAR(255) NOT NULL,
+    metodo VARCHAR(10) NOT NULL,
+    ruta VARCHAR(255) NOT NULL,
+    huella CHAR(64) NOT NULL,
+    -- NULL mientras la solicitud original sigue en curso
+    estado SMALLINT,
+    tipo_contenido VARCHAR(100),
+    cuerpo BYTEA,
+    creada TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expira TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_clave_idempotencia PRIMARY KEY (usuario, clave)
+);
+
+-- Limpieza periódica de las claves caducadas
+CREATE INDEX IF NOT EXISTS idx_clave_idempotencia_expira ON clave_idempotencia (expira);
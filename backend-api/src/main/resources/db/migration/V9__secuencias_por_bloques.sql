@@ -0,0 +1,9 @@
+-- =====================================
+-- V9: SECUENCIAS DE IDENTIFICADORES POR BLOQUES
+-- La API reserva los IDs de 50 en 50 (optimizador pooled de Hibernate): conoce el ID antes
+-- del INSERT y puede agrupar las inserciones en lotes JDBC. Los INSERT directos con el valor
+-- por defecto de la columna siguen funcionando; solo dejan huecos en la numeración.
+-- =====================================
+
+ALTER SEQUENCE facultad_facultad_id_seq INCREMENT BY 50;
+ALTER SEQUENCE carrera_carrera_id_seq INCREMENT BY 50;
@@ -0,0 +1,134 @@
+package com.universidad.api.planes;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Captura el SQL (con sus parámetros) que ejecutan los repositorios.
+ * Envuelve el DataSource con proxies JDBC: las sentencias preparadas recuerdan los valores
+ * asignados con setXxx(índice, valor) y se registran al ejecutarse mientras la captura está activa.
+ * Así se obtiene exactamente lo que generan Hibernate y Spring Data, sin reconstruirlo a mano.
+ */
+@Component
+@Profile("planes")
+public class CapturaSentencias implements BeanPostProcessor {
+    
+    private static final Set<String> EJECUCIONES = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    
+    private final List<SentenciaCapturada> capturadas = new ArrayList<>();
+    private volatile boolean activa;
+    
+    public void iniciar() {
+        synchronized (capturadas) {
+            capturadas.clear();
+        }
+        activa = true;
+    }
+    
+    public List<SentenciaCapturada> detener() {
+        activa = false;
+        synchronized (capturadas) {
+            return List.copyOf(capturadas);
+        }
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (objetivo, metodo, args) -> {
+                Object resultado = invocar(objetivo, metodo, args);
+                return resultado instanceof Connection conexion ? envolverConexion(conexion) : resultado;
+            });
+        }
+        return bean;
+    }
+    
+    private Connection envolverConexion(Connection conexion) {
+        return proxy(Connection.class, conexion, (objetivo, metodo, args) -> {
+            Object resultado = invocar(objetivo, metodo, args);
+            if (resultado instanceof PreparedStatement sentencia && metodo.getName().equals("prepareStatement")) {
+                return envolverPreparada(sentencia, (String) args[0]);
+            }
+            if (resultado instanceof Statement sentencia && metodo.getName().equals("createStatement")) {
+                return envolverSimple(sentencia);
+            }
+            return resultado;
+        });
+    }
+    
+    private PreparedStatement envolverPreparada(PreparedStatement sentencia, String sql) {
+        TreeMap<Integer, Object> parametros = new TreeMap<>();
+        return proxy(PreparedStatement.class, sentencia, (objetivo, metodo, args) -> {
+            String nombre = metodo.getName();
+            if (nombre.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                parametros.put(indice, nombre.equals("setNull") ? null : args[1]);
+            } else if (nombre.equals("clearParameters")) {
+                parametros.clear();
+            } else if (EJECUCIONES.contains(nombre) && (args == null || args.length == 0)) {
+                registrar(sql, new ArrayList<>(parametros.values()));
+            }
+            return invocar(objetivo, metodo, args);
+        });
+    }
+    
+    private Statement envolverSimple(Statement sentencia) {
+        return proxy(Statement.class, sentencia, (objetivo, metodo, args) -> {
+            if (EJECUCIONES.contains(metodo.getName()) && args != null && args[0] instanceof String sql) {
+                registrar(sql, List.of());
+            }
+            return invocar(objetivo, metodo, args);
+        });
+    }
+    
+    private void registrar(String sql, List<Object> parametros) {
+        if (activa) {
+            synchronized (capturadas) {
+                capturadas.add(new SentenciaCapturada(sql, parametros));
+            }
+        }
+    }
+    
+    private static Object invocar(Object objetivo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(objetivo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, T objetivo, Interceptor interceptor) {
+        // La identidad es la del proxy: Spring usa DataSource y Connection como claves de sincronización
+        InvocationHandler manejador = (p, metodo, args) -> switch (metodo.getName()) {
+            case "equals" -> args[0] == p;
+            case "hashCode" -> System.identityHashCode(p);
+            default -> interceptor.invocar(objetivo, metodo, args);
+        };
+        return (T) Proxy.newProxyInstance(CapturaSentencias.class.getClassLoader(), new Class<?>[]{tipo}, manejador);
+    }
+    
+    @FunctionalInterface
+    private interface Interceptor {
+        Object invocar(Object objetivo, Method metodo, Object[] args) throws Throwable;
+    }
+    
+    /**
+     * Sentencia ejecutada por un repositorio, con los parámetros en orden posicional.
+     */
+    public record SentenciaCapturada(String sql, List<Object> parametros) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.universidad.api.planes;
+
+/**
+ * Invocación de un método de repositorio cuyo plan se verifica.
+ * @param nombre Repositorio.método (también nombre del fichero de instantánea)
+ * @param invocacion Llamada al repositorio con valores existentes en los datos sembrados
+ * @param permitirSecuencial Si es true se admite Seq Scan (listados completos o de baja selectividad)
+ * @param costeMaximo Coste estimado máximo del plan; null para usar el umbral general
+ */
+public record CasoPlan(String nombre, Runnable invocacion, boolean permitirSecuencial, Double costeMaximo) {
+    
+    /**
+     * Consulta selectiva: debe resolverse con índices y dentro del umbral general de coste.
+     */
+    public static CasoPlan indexado(String nombre, Runnable invocacion) {
+        return new CasoPlan(nombre, invocacion, false, null);
+    }
+    
+    /**
+     * Consulta selectiva que devuelve filas dispersas por muchas páginas: usa índices, pero el
+     * acceso a la tabla supera el umbral general.
+     */
+    public static CasoPlan indexado(String nombre, Runnable invocacion, double costeMaximo) {
+        return new CasoPlan(nombre, invocacion, false, costeMaximo);
+    }
+    
+    /**
+     * Consulta que recorre gran parte de la tabla: el recorrido secuencial es el plan correcto.
+     */
+    public static CasoPlan listado(String nombre, Runnable invocacion, double costeMaximo) {
+        return new CasoPlan(nombre, invocacion, true, costeMaximo);
+    }
+}
@@ -0,0 +1,117 @@
+package com.universidad.api.planes;
+
+import com.universidad.api.domain.busqueda.TipoCoincidencia;
+import com.universidad.api.domain.cambios.MarcaCambios;
+import com.universidad.api.domain.repositories.BusquedaRepository;
+import com.universidad.api.domain.repositories.CambiosRepository;
+import com.universidad.api.domain.repositories.CarreraRepository;
+import com.universidad.api.domain.repositories.FacultadRepository;
+import com.universidad.api.planes.SemillaPlanes.DatosSemilla;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Un caso por método de repositorio (más findById/findAll heredados, que usan los servicios).
+ * Los métodos default que solo adaptan argumentos quedan cubiertos por el método al que delegan.
+ * El arnés comprueba que todo método declarado en REPOSITORIOS tiene su caso.
+ */
+@Component
+@Profile("planes")
+@RequiredArgsConstructor
+public class CatalogoCasosPlan {
+    
+    static final List<Class<?>> REPOSITORIOS = List.of(
+            CarreraRepository.class, FacultadRepository.class, BusquedaRepository.class,
+            CambiosRepository.class);
+    
+    private static final double COSTE_LISTADO_CARRERAS = 10000;
+    private static final double COSTE_LISTADO_FACULTADES = 500;
+    private static final double COSTE_DISPERSO = 3000;
+    
+    private final CarreraRepository carreraRepository;
+    private final FacultadRepository facultadRepository;
+    private final BusquedaRepository busquedaRepository;
+    private final CambiosRepository cambiosRepository;
+    
+    public List<CasoPlan> casos(DatosSemilla d) {
+        Long facultadId = d.facultadId();
+        List<Long> facultades = List.of(facultadId, facultadId + 1, facultadId + 2);
+        List<Long> carreras = List.of(d.carreraId(), d.carreraId() + 1, d.carreraId() + 2);
+        return List.of(
+                CasoPlan.indexado("CarreraRepository.findById",
+                        () -> carreraRepository.findById(d.carreraId())),
+                CasoPlan.listado("CarreraRepository.findAll",
+                        carreraRepository::findAll, COSTE_LISTADO_CARRERAS),
+                CasoPlan.indexado("CarreraRepository.findAllByIdArreglo",
+                        () -> carreraRepository.findAllByIdAny(carreras)),
+                CasoPlan.indexado("CarreraRepository.findAllByFacultadIdArreglo",
+                        () -> carreraRepository.findAllByFacultadIdAny(facultades, true)),
+                CasoPlan.listado("CarreraRepository.findByActivoTrue",
+                        carreraRepository::findByActivoTrue, COSTE_LISTADO_CARRERAS),
+                CasoPlan.listado("CarreraRepository.count",
+                        carreraRepository::count, COSTE_LISTADO_CARRERAS),
+                CasoPlan.listado("CarreraRepository.countByActivoTrue",
+                        carreraRepository::countByActivoTrue, COSTE_LISTADO_CARRERAS),
+                CasoPlan.indexado("CarreraRepository.findByFacultad_FacultadId",
+                        () -> carreraRepository.findByFacultad_FacultadId(facultadId)),
+                CasoPlan.indexado("CarreraRepository.findByFacultad_FacultadIdAndActivoTrue",
+                        () -> carreraRepository.findByFacultad_FacultadIdAndActivoTrue(facultadId)),
+                CasoPlan.indexado("CarreraRepository.findByNombreIgnoreCase",
+                        () -> carreraRepository.findByNombreIgnoreCase(d.nombreCarrera())),
+                // Pocas duraciones distintas: cada valor abarca una fracción grande de la tabla
+                CasoPlan.listado("CarreraRepository.findByDuracionSemestres",
+                        () -> carreraRepository.findByDuracionSemestres(10), COSTE_LISTADO_CARRERAS),
+                // El título se repite en ~200 carreras repartidas por la tabla: índice de trigramas y una
+                // lectura de página por fila
+                CasoPlan.indexado("CarreraRepository.findByTituloOtorgadoContainingIgnoreCase",
+                        () -> carreraRepository.findByTituloOtorgadoContainingIgnoreCase(d.tituloOtorgado()),
+                        COSTE_DISPERSO),
+                CasoPlan.indexado("CarreraRepository.existsByNombreIgnoreCase",
+                        () -> carreraRepository.existsByNombreIgnoreCase(d.nombreCarrera())),
+                CasoPlan.indexado("CarreraRepository.existsByNombreIgnoreCaseAndCarreraIdNot",
+                        () -> carreraRepository.existsByNombreIgnoreCaseAndCarreraIdNot(d.nombreCarrera(), d.carreraId())),
+                CasoPlan.indexado("CarreraRepository.countByFacultadId",
+                        () -> carreraRepository.countByFacultadId(facultadId)),
+    
+                CasoPlan.indexado("FacultadRepository.findById",
+                        () -> facultadRepository.findById(facultadId)),
+                CasoPlan.listado("FacultadRepository.findAll",
+                        facultadRepository::findAll, COSTE_LISTADO_FACULTADES),
+                CasoPlan.indexado("FacultadRepository.findAllByIdArreglo",
+                        () -> facultadRepository.findAllByIdAny(facultades)),
+                CasoPlan.listado("FacultadRepository.findByActivoTrue",
+                        facultadRepository::findByActivoTrue, COSTE_LISTADO_FACULTADES),
+                CasoPlan.listado("FacultadRepository.count",
+                        facultadRepository::count, COSTE_LISTADO_FACULTADES),
+                CasoPlan.listado("FacultadRepository.countByActivoTrue",
+                        facultadRepository::countByActivoTrue, COSTE_LISTADO_FACULTADES),
+                CasoPlan.indexado("FacultadRepository.findByNombreIgnoreCase",
+                        () -> facultadRepository.findByNombreIgnoreCase(d.nombreFacultad())),
+                // Incluso con 2000 facultades la tabla ocupa ~50 páginas: recorrerla cuesta menos que
+                // el índice de trigramas, que solo compensa en tablas grandes
+                CasoPlan.listado("FacultadRepository.findByDecanoContainingIgnoreCase",
+                        () -> facultadRepository.findByDecanoContainingIgnoreCase(d.decano()), COSTE_LISTADO_FACULTADES),
+                CasoPlan.listado("FacultadRepository.findByUbicacionContainingIgnoreCase",
+                        () -> facultadRepository.findByUbicacionContainingIgnoreCase(d.ubicacion()), COSTE_LISTADO_FACULTADES),
+                CasoPlan.indexado("FacultadRepository.existsByNombreIgnoreCase",
+                        () -> facultadRepository.existsByNombreIgnoreCase(d.nombreFacultad())),
+                CasoPlan.indexado("FacultadRepository.existsByNombreIgnoreCaseAndFacultadIdNot",
+                        () -> facultadRepository.existsByNombreIgnoreCaseAndFacultadIdNot(d.nombreFacultad(), facultadId)),
+    
+                // La rama de facultades recorre su tabla pequeña; que la de carreras use
+                // idx_carrera_busqueda lo vigila la instantánea
+                new CasoPlan("BusquedaRepository.buscar",
+                        () -> busquedaRepository.buscar(d.textoBusqueda(),
+                                EnumSet.allOf(TipoCoincidencia.class), true, 0, 20),
+                        true, COSTE_DISPERSO),
+    
+                // Desde el inicio: el recorrido por los índices (cambio, id) se corta en el LIMIT
+                CasoPlan.indexado("CambiosRepository.buscarDesde",
+                        () -> cambiosRepository.buscarDesde(MarcaCambios.INICIO, 500))
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.universidad.api.planes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) para una sentencia.
+ * La forma del plan (tipos de nodo, índices y relaciones, sin costes ni tiempos) es estable
+ * entre ejecuciones con los mismos datos y es lo que se guarda como instantánea.
+ * @param forma Árbol del plan normalizado, un nodo por línea
+ * @param costeTotal Coste estimado del nodo raíz
+ * @param tiempoMs Tiempo de ejecución medido
+ * @param bloquesCompartidos Bloques leídos de shared buffers (aciertos + lecturas)
+ * @param recorridosSecuenciales Relaciones leídas con Seq Scan
+ */
+public record PlanConsulta(String forma, double costeTotal, double tiempoMs, long bloquesCompartidos,
+                           List<String> recorridosSecuenciales) {
+    
+    public static PlanConsulta desdeExplain(JsonNode explain) {
+        JsonNode raiz = explain.get(0);
+        JsonNode plan = raiz.get("Plan");
+        StringBuilder forma = new StringBuilder();
+        List<String> secuenciales = new ArrayList<>();
+        recorrer(plan, 0, forma, secuenciales);
+        return new PlanConsulta(forma.toString(),
+                plan.path("Total Cost").asDouble(),
+                raiz.path("Execution Time").asDouble(),
+                plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong(),
+                List.copyOf(secuenciales));
+    }
+    
+    private static void recorrer(JsonNode nodo, int nivel, StringBuilder forma, List<String> secuenciales) {
+        String tipo = nodo.path("Node Type").asText();
+        forma.append("  ".repeat(nivel)).append(tipo);
+        anexar(forma, " ", nodo.path("Strategy").asText(null));
+        anexar(forma, " ", nodo.path("Join Type").asText(null));
+        anexar(forma, " [", nodo.path("Subplan Name").asText(null), "]");
+        anexar(forma, " using ", nodo.path("Index Name").asText(null));
+        anexar(forma, " on ", nodo.path("Relation Name").asText(null));
+        forma.append('\n');
+    
+        if ("Seq Scan".equals(tipo)) {
+            secuenciales.add(nodo.path("Relation Name").asText());
+        }
+        for (JsonNode hijo : nodo.path("Plans")) {
+            recorrer(hijo, nivel + 1, forma, secuenciales);
+        }
+    }
+    
+    private static void anexar(StringBuilder forma, String prefijo, String valor) {
+        anexar(forma, prefijo, valor, "");
+    }
+    
+    private static void anexar(StringBuilder forma, String prefijo, String valor, String sufijo) {
+        if (valor != null) {
+            forma.append(prefijo).append(valor).append(sufijo);
+        }
+    }
+}
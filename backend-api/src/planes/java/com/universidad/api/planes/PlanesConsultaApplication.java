@@ -0,0 +1,48 @@
+package com.universidad.api.planes;
+
+import com.universidad.api.UniversidadApiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Punto de entrada del arnés de planes: mvn -Pplanes test-compile exec:exec
+ * Sin SPRING_DATASOURCE_URL arranca un PostgreSQL desechable con Testcontainers, de la misma
+ * imagen que docker-compose, para que las instantáneas no dependan de la versión local.
+ * Con SPRING_DATASOURCE_URL usa esa base (los datos sembrados se deshacen al terminar).
+ */
+public final class PlanesConsultaApplication {
+    
+    private static final String IMAGEN_POSTGRES = "postgres:15-alpine";
+    
+    private PlanesConsultaApplication() {
+    }
+    
+    public static void main(String[] args) {
+        PostgreSQLContainer<?> postgres = null;
+        if (System.getenv("SPRING_DATASOURCE_URL") == null && System.getProperty("spring.datasource.url") == null) {
+            postgres = new PostgreSQLContainer<>(IMAGEN_POSTGRES)
+                    .withDatabaseName("universidad_db")
+                    .withUsername("universidad_user")
+                    .withPassword("universidad_password");
+            postgres.start();
+            System.setProperty("spring.datasource.url", postgres.getJdbcUrl());
+        }
+    
+        int codigo;
+        try {
+            ConfigurableApplicationContext contexto = new SpringApplicationBuilder(UniversidadApiApplication.class)
+                    .profiles("planes")
+                    .web(WebApplicationType.NONE)
+                    .run(args);
+            codigo = SpringApplication.exit(contexto);
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+        System.exit(codigo);
+    }
+}
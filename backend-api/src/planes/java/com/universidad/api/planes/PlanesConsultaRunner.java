@@ -0,0 +1,215 @@
+package com.universidad.api.planes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.planes.CapturaSentencias.SentenciaCapturada;
+import com.universidad.api.planes.SemillaPlanes.DatosSemilla;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Arnés de regresión de planes de consulta (perfil planes).
+ * 1. Siembra un volumen grande de datos en una transacción que termina en rollback
+ * 2. Invoca cada método de repositorio y captura el SQL que genera, con sus parámetros
+ * 3. Ejecuta EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) sobre cada sentencia
+ * 4. Falla si hay Seq Scan no permitido, si se supera el umbral de coste o si la forma del plan
+ *    difiere de la instantánea guardada (src/planes/snapshots), de modo que el cambio se vea en revisión
+ * El código de salida es 1 si hay alguna violación.
+ */
+@Slf4j
+@Component
+@Profile("planes")
+public class PlanesConsultaRunner implements ApplicationRunner, ExitCodeGenerator {
+    
+    private static final String EXPLAIN = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ";
+    
+    private final SemillaPlanes semilla;
+    private final CatalogoCasosPlan catalogo;
+    private final CapturaSentencias captura;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final double costeMaximo;
+    private final boolean actualizarInstantaneas;
+    private final Path directorioInstantaneas;
+    private final Path directorioInforme;
+    
+    private final List<String> violaciones = new ArrayList<>();
+    
+    public PlanesConsultaRunner(SemillaPlanes semilla,
+                                CatalogoCasosPlan catalogo,
+                                CapturaSentencias captura,
+                                JdbcTemplate jdbcTemplate,
+                                EntityManager entityManager,
+                                TransactionTemplate transactionTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${universidad.planes.coste-maximo:1000}") double costeMaximo,
+                                @Value("${universidad.planes.actualizar-instantaneas:false}") boolean actualizarInstantaneas,
+                                @Value("${universidad.planes.directorio-instantaneas:src/planes/snapshots}") Path directorioInstantaneas,
+                                @Value("${universidad.planes.directorio-informe:target/planes}") Path directorioInforme) {
+        this.semilla = semilla;
+        this.catalogo = catalogo;
+        this.captura = captura;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.costeMaximo = costeMaximo;
+        this.actualizarInstantaneas = actualizarInstantaneas;
+        this.directorioInstantaneas = directorioInstantaneas;
+        this.directorioInforme = directorioInforme;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Files.createDirectories(directorioInstantaneas);
+        Files.createDirectories(directorioInforme);
+    
+        transactionTemplate.executeWithoutResult(estado -> {
+            estado.setRollbackOnly();
+            DatosSemilla datos = semilla.sembrar();
+            List<CasoPlan> casos = catalogo.casos(datos);
+            verificarCobertura(casos);
+            log.info(String.format("%-58s %10s %10s %9s  %s", "CASO", "COSTE", "TIEMPO ms", "BLOQUES", "RAÍZ"));
+            for (CasoPlan caso : casos) {
+                analizar(caso);
+            }
+        });
+    
+        if (violaciones.isEmpty()) {
+            log.info("Planes de consulta correctos");
+        } else {
+            violaciones.forEach(v -> log.error("PLAN: {}", v));
+            log.error("{} violaciones en los planes de consulta (informe completo en {})",
+                    violaciones.size(), directorioInforme.toAbsolutePath());
+        }
+    }
+    
+    @Override
+    public int getExitCode() {
+        return violaciones.isEmpty() ? 0 : 1;
+    }
+    
+    private void analizar(CasoPlan caso) {
+        // Sin primer nivel de caché: cada caso debe llegar a la base de datos
+        entityManager.clear();
+        captura.iniciar();
+        caso.invocacion().run();
+        List<SentenciaCapturada> sentencias = captura.detener();
+        if (sentencias.isEmpty()) {
+            violaciones.add(caso.nombre() + ": no ejecutó ninguna sentencia");
+            return;
+        }
+    
+        double umbral = caso.costeMaximo() != null ? caso.costeMaximo() : costeMaximo;
+        StringBuilder instantanea = new StringBuilder();
+        for (int i = 0; i < sentencias.size(); i++) {
+            SentenciaCapturada sentencia = sentencias.get(i);
+            String json = jdbcTemplate.queryForObject(EXPLAIN + sentencia.sql(), String.class,
+                    sentencia.parametros().toArray());
+            PlanConsulta plan = PlanConsulta.desdeExplain(leer(json));
+            escribir(directorioInforme.resolve(caso.nombre() + "-" + (i + 1) + ".json"),
+                    "-- " + sentencia.sql().replaceAll("\\s+", " ") + "\n-- " + sentencia.parametros() + "\n" + json);
+    
+            String etiqueta = sentencias.size() > 1 ? caso.nombre() + " #" + (i + 1) : caso.nombre();
+            log.info(String.format("%-58s %10.1f %10.3f %9d  %s", etiqueta, plan.costeTotal(), plan.tiempoMs(),
+                    plan.bloquesCompartidos(), plan.forma().lines().findFirst().orElse("")));
+    
+            if (!caso.permitirSecuencial() && !plan.recorridosSecuenciales().isEmpty()) {
+                violaciones.add(etiqueta + ": Seq Scan sobre " + plan.recorridosSecuenciales());
+            }
+            if (plan.costeTotal() > umbral) {
+                violaciones.add(String.format("%s: coste %.1f supera el umbral %.1f", etiqueta, plan.costeTotal(), umbral));
+            }
+            instantanea.append("-- sentencia ").append(i + 1).append('\n').append(plan.forma());
+        }
+        compararInstantanea(caso.nombre(), instantanea.toString());
+    }
+    
+    private void compararInstantanea(String nombre, String actual) {
+        Path fichero = directorioInstantaneas.resolve(nombre + ".plan");
+        if (!Files.exists(fichero)) {
+            if (actualizarInstantaneas) {
+                escribir(fichero, actual);
+                log.warn("{}: instantánea nueva en {}", nombre, fichero);
+            } else {
+                // Sin línea base el plan no se compara contra nada: un caso nuevo debe traer su instantánea
+                violaciones.add(nombre + ": falta la instantánea " + fichero + "\n+++ actual\n" + actual
+                        + "(ejecutar con -Duniversidad.planes.actualizar-instantaneas=true y versionar el fichero)");
+            }
+            return;
+        }
+        String guardada = leerFichero(fichero);
+        if (guardada.equals(actual)) {
+            return;
+        }
+        if (actualizarInstantaneas) {
+            escribir(fichero, actual);
+            log.warn("{}: instantánea actualizada", nombre);
+        } else {
+            violaciones.add(nombre + ": el plan cambió\n--- guardado\n" + guardada + "+++ actual\n" + actual
+                    + "(revisar y ejecutar con -Duniversidad.planes.actualizar-instantaneas=true si es intencionado)");
+        }
+    }
+    
+    /**
+     * Todo método abstracto declarado en los repositorios debe tener un caso con su nombre.
+     */
+    private void verificarCobertura(List<CasoPlan> casos) {
+        Set<String> cubiertos = casos.stream().map(CasoPlan::nombre).collect(Collectors.toSet());
+        for (Class<?> repositorio : CatalogoCasosPlan.REPOSITORIOS) {
+            Arrays.stream(repositorio.getDeclaredMethods())
+                    .filter(m -> Modifier.isAbstract(m.getModifiers()))
+                    .map(Method::getName)
+                    .map(metodo -> repositorio.getSimpleName() + "." + metodo)
+                    .filter(nombre -> !cubiertos.contains(nombre))
+                    .distinct()
+                    .forEach(nombre -> violaciones.add(nombre + ": método sin caso en CatalogoCasosPlan"));
+        }
+    }
+    
+    private JsonNode leer(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static String leerFichero(Path fichero) {
+        try {
+            return Files.readString(fichero);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void escribir(Path fichero, String contenido) {
+        try {
+            Files.writeString(fichero, contenido);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.universidad.api.planes;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carga un volumen de datos con el que los planes son representativos de producción.
+ * - Se ejecuta dentro de la transacción del arnés, que termina en rollback: no deja rastro
+ * - setseed hace reproducibles los datos y, con ellos, las estadísticas y los planes
+ * - La distribución de carreras por facultad es sesgada (unas pocas facultades concentran muchas)
+ * - ANALYZE dentro de la transacción actualiza las estadísticas que ve el planificador
+ */
+@Slf4j
+@Component
+@Profile("planes")
+public class SemillaPlanes {
+    
+    private static final String FACULTADES = """
+            INSERT INTO facultad (nombre, descripcion, ubicacion, decano, activo)
+            SELECT 'Plan Facultad ' || g, 'Facultad sintética ' || g,
+                   'Campus ' || (g % 7) || ', edificio ' || g, 'Decano ' || g, g % 10 <> 0
+            FROM generate_series(1, ?) g
+            """;
+    
+    private static final String CARRERAS = """
+            INSERT INTO carrera (facultad_id, nombre, descripcion, duracion_semestres, titulo_otorgado, activo)
+            SELECT f.ids[1 + floor(power(random(), 3) * array_length(f.ids, 1))::int],
+                   'Plan Carrera ' || g, 'Carrera sintética número ' || g,
+                   6 + (g % 7), 'Titulado ' || (g % 500), g % 10 <> 0
+            FROM generate_series(1, ?) g,
+                 (SELECT array_agg(facultad_id ORDER BY facultad_id) AS ids
+                  FROM facultad WHERE nombre LIKE 'Plan Facultad %') f
+            """;
+    
+    // Facultad con el número mediano de carreras: valor típico, ni la más poblada ni una vacía
+    private static final String FACULTAD_MEDIANA = """
+            SELECT facultad_id FROM (
+                SELECT facultad_id, row_number() OVER (ORDER BY count(*), facultad_id) AS posicion,
+                       count(*) OVER () AS total
+                FROM carrera WHERE nombre LIKE 'Plan Carrera %'
+                GROUP BY facultad_id
+            ) t
+            WHERE posicion = (total + 1) / 2
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int facultades;
+    private final int carreras;
+    
+    public SemillaPlanes(JdbcTemplate jdbcTemplate,
+                         @Value("${universidad.planes.facultades:2000}") int facultades,
+                         @Value("${universidad.planes.carreras:100000}") int carreras) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.facultades = facultades;
+        this.carreras = carreras;
+    }
+    
+    /**
+     * Inserta los datos sintéticos y actualiza las estadísticas.
+     * Debe llamarse dentro de una transacción que se deshace al terminar.
+     * @return Valores representativos con los que invocar los repositorios
+     */
+    public DatosSemilla sembrar() {
+        log.info("Sembrando {} facultades y {} carreras", facultades, carreras);
+        jdbcTemplate.execute("SELECT setseed(0.42)");
+        jdbcTemplate.update(FACULTADES, facultades);
+        jdbcTemplate.update(CARRERAS, carreras);
+        jdbcTemplate.execute("ANALYZE facultad");
+        jdbcTemplate.execute("ANALYZE carrera");
+    
+        Long facultadId = jdbcTemplate.queryForObject(FACULTAD_MEDIANA, Long.class);
+        Long carreraId = jdbcTemplate.queryForObject(
+                "SELECT carrera_id FROM carrera WHERE nombre = ?", Long.class, "Plan Carrera " + (carreras / 2));
+        return new DatosSemilla(
+                facultadId,
+                "plan facultad " + (facultades / 2),
+                "decano " + (facultades / 3),
+                "edificio " + (facultades / 4),
+                carreraId,
+                "plan carrera " + (carreras / 2),
+                "titulado 417",
+                "sintética " + (carreras / 3));
+    }
+    
+    /**
+     * Valores existentes en los datos sembrados, en minúsculas para ejercitar las búsquedas IgnoreCase.
+     */
+    public record DatosSemilla(Long facultadId, String nombreFacultad, String decano, String ubicacion,
+                               Long carreraId, String nombreCarrera, String tituloOtorgado,
+                               String textoBusqueda) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.universidad.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.api.application.cache.FacultadCache;
+import com.universidad.api.application.cache.FacultadResumen;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Base de las pruebas de integración: la aplicación completa (filtros incluidos) sobre PostgreSQL.
+ * - Sin SPRING_DATASOURCE_URL arranca un PostgreSQL desechable con Testcontainers, de la misma
+ *   imagen que docker-compose; el contenedor se comparte entre todas las clases de prueba
+ * - Con SPRING_DATASOURCE_URL usa esa base, que debería ser una base vacía dedicada a las pruebas
+ * - Sin Docker ni SPRING_DATASOURCE_URL las pruebas se omiten
+ * Las pruebas crean sus propios datos con nombres únicos y no dependen de los datos iniciales (V3);
+ * los ayudantes de abajo crean facultades y carreras a través de la API.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("pruebas")
+public abstract class IntegracionPostgres {
+    
+    private static final String IMAGEN_POSTGRES = "postgres:15-alpine";
+    private static final boolean BASE_EXTERNA =
+            System.getenv("SPRING_DATASOURCE_URL") != null || System.getProperty("spring.datasource.url") != null;
+    
+    private static PostgreSQLContainer<?> postgres;
+    
+    @Autowired
+    protected MockMvc mockMvc;
+    
+    @Autowired
+    protected ObjectMapper objectMapper;
+    
+    @Autowired
+    protected FacultadCache facultadCache;
+    
+    @BeforeAll
+    static void requerirBaseDatos() {
+        Assumptions.assumeTrue(BASE_EXTERNA || DockerClientFactory.instance().isDockerAvailable(),
+                "Se necesita Docker o SPRING_DATASOURCE_URL para las pruebas de integración");
+    }
+    
+    @DynamicPropertySource
+    static void baseDatos(DynamicPropertyRegistry registry) {
+        if (BASE_EXTERNA) {
+            return;
+        }
+        iniciarContenedor();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+    
+    private static synchronized void iniciarContenedor() {
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>(IMAGEN_POSTGRES)
+                    .withDatabaseName("universidad_db")
+                    .withUsername("universidad_user")
+                    .withPassword("universidad_password");
+            postgres.start();
+        }
+    }
+    
+    protected long crearFacultad() throws Exception {
+        return crearFacultad(nombreUnico("Facultad"));
+    }
+    
+    protected long crearFacultad(String nombre) throws Exception {
+        String respuesta = mockMvc.perform(post("/api/v1/facultades").contentType(MediaType.APPLICATION_JSON)
+                        .content(cuerpoFacultad(nombre)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(respuesta).get("facultadId").asLong();
+    }
+    
+    protected long crearCarrera(String nombre, long facultadId) throws Exception {
+        String respuesta = mockMvc.perform(post("/api/v1/carreras").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nombre": "%s", "duracionSemestres": 10, "facultadId": %d}
+                                """.formatted(nombre, facultadId)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(respuesta).get("carreraId").asLong();
+    }
+    
+    /**
+     * Espera hasta 10 s a que la near-cache tenga la facultad en un estado que cumpla la condición.
+     */
+    protected void esperarEnCache(long facultadId, Predicate<FacultadResumen> condicion) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        Optional<FacultadResumen> enCache = facultadCache.obtener(facultadId);
+        while (enCache.filter(condicion).isEmpty() && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+            enCache = facultadCache.obtener(facultadId);
+        }
+        assertThat(enCache).as("facultad %d en la near-cache", facultadId).get().matches(condicion);
+    }
+    
+    protected static String cuerpoFacultad(String nombre) {
+        return """
+                {"nombre": "%s"}
+                """.formatted(nombre);
+    }
+    
+    protected static String nombreUnico(String prefijo) {
+        return prefijo + " " + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
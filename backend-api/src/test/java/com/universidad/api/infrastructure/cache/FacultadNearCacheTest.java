@@ -0,0 +1,75 @@
+package com.universidad.api.infrastructure.cache;
+
+import com.universidad.api.IntegracionPostgres;
+import com.universidad.api.application.cache.FacultadResumen;
+import com.universidad.api.application.dto.FacultadRequestDTO;
+import com.universidad.api.application.services.FacultadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orden de los estados que recibe la near-cache: notificaciones de la base y aplicación local tras el commit.
+ * Las notificaciones "de otra réplica" se simulan con pg_notify en el canal de la caché.
+ */
+class FacultadNearCacheTest extends IntegracionPostgres {
+    
+    @Autowired
+    private FacultadService facultadService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void laEscrituraSeVeEnLaCacheAlTerminarLaTransaccion() throws InterruptedException {
+        long facultadId = crear();
+        esperarEnCache(facultadId, FacultadResumen::activo);
+    
+        facultadService.eliminar(facultadId);
+    
+        // Sin esperar a la notificación
+        assertThat(facultadCache.obtener(facultadId)).hasValueSatisfying(f -> assertThat(f.activo()).isFalse());
+    }
+    
+    @Test
+    void notificacionAntiguaNoPisaUnEstadoMasNuevo() throws InterruptedException {
+        long facultadId = crear();
+        long centinelaId = crear();
+        esperarEnCache(facultadId, FacultadResumen::activo);
+        facultadService.eliminar(facultadId);
+    
+        // Estado de la versión 0 (activa) que llega después de la desactivación (versión 1)
+        notificar(facultadId, "Antigua", true, 0);
+        // Las notificaciones se entregan en orden: cuando llega la del centinela, la anterior ya se procesó
+        notificar(centinelaId, "Centinela", true, 99);
+        esperarEnCache(centinelaId, f -> f.nombre().equals("Centinela"));
+    
+        assertThat(facultadCache.obtener(facultadId)).hasValueSatisfying(f -> assertThat(f.activo()).isFalse());
+    }
+    
+    @Test
+    void aplicacionLocalNoPisaLaNotificacionDeUnCommitPosterior() throws InterruptedException {
+        long facultadId = crear();
+        esperarEnCache(facultadId, FacultadResumen::activo);
+        // Otra réplica ya desactivó la facultad (versión 5) y este nodo recibió la notificación
+        notificar(facultadId, "Remota", false, 5);
+        esperarEnCache(facultadId, f -> f.nombre().equals("Remota"));
+    
+        // Escritura local de una versión anterior (1) que se aplica después
+        facultadService.actualizar(facultadId, FacultadRequestDTO.builder().nombre(nombreUnico("Facultad")).build());
+    
+        assertThat(facultadCache.obtener(facultadId)).contains(new FacultadResumen(facultadId, "Remota", false));
+    }
+    
+    private long crear() {
+        return facultadService.crear(FacultadRequestDTO.builder().nombre(nombreUnico("Facultad")).build()).facultadId();
+    }
+    
+    private void notificar(long facultadId, String nombre, boolean activo, long version) {
+        jdbcTemplate.queryForObject("SELECT pg_notify('facultad_cambios', json_build_object("
+                        + "'id', ?, 'nombre', ?, 'activo', ?, 'version', ?)::text)::text",
+                String.class, facultadId, nombre, activo, version);
+    }
+}
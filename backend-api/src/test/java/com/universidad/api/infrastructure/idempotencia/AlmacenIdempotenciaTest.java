@@ -0,0 +1,165 @@
+package com.universidad.api.infrastructure.idempotencia;
+
+import com.universidad.api.IntegracionPostgres;
+import com.universidad.api.application.auditoria.UsuarioActual;
+import com.universidad.api.infrastructure.idempotencia.ReservaIdempotencia.Estado;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reserva, espera y liberación de claves contra la tabla clave_idempotencia real.
+ * El usuario es el anónimo, como en una solicitud sin X-Usuario; cada prueba usa una clave nueva.
+ */
+class AlmacenIdempotenciaTest extends IntegracionPostgres {
+    
+    private static final String METODO = "POST";
+    private static final String RUTA = "/api/v1/facultades";
+    private static final String HUELLA = "a".repeat(64);
+    private static final byte[] CUERPO = "{\"facultadId\":1}".getBytes(StandardCharsets.UTF_8);
+    
+    @Autowired
+    private AlmacenIdempotencia almacen;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${universidad.idempotencia.espera-maxima-ms}")
+    private long esperaMaximaMs;
+    
+    @Value("${universidad.idempotencia.abandono-ms}")
+    private long abandonoMs;
+    
+    private final ExecutorService otroHilo = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void cerrar() {
+        otroHilo.shutdownNow();
+    }
+    
+    @Test
+    void duplicadoConcurrenteEsperaYRecibeLaRespuestaOriginal() throws Exception {
+        String clave = claveNueva();
+        ReservaIdempotencia original = almacen.reservar(clave, METODO, RUTA, HUELLA);
+        assertThat(original.getEstado()).isEqualTo(Estado.PROPIA);
+    
+        Future<ReservaIdempotencia> duplicado = otroHilo.submit(() -> almacen.reservar(clave, METODO, RUTA, HUELLA));
+        Thread.sleep(esperaMaximaMs / 5);
+        assertThat(duplicado).isNotDone();
+        almacen.completar(original, 201, "application/json", CUERPO);
+    
+        ReservaIdempotencia repetida = duplicado.get(5, TimeUnit.SECONDS);
+        assertThat(repetida.getEstado()).isEqualTo(Estado.REPETIDA);
+        assertThat(repetida.getRespuesta().estado()).isEqualTo(201);
+        assertThat(repetida.getRespuesta().cuerpo()).isEqualTo(CUERPO);
+    }
+    
+    @Test
+    void duplicadoConcurrenteEsperaYDevuelveEnCursoSiLaOriginalNoTermina() throws Exception {
+        String clave = claveNueva();
+        ReservaIdempotencia original = almacen.reservar(clave, METODO, RUTA, HUELLA);
+    
+        long inicio = System.nanoTime();
+        ReservaIdempotencia duplicado = otroHilo.submit(() -> almacen.reservar(clave, METODO, RUTA, HUELLA))
+                .get(5, TimeUnit.SECONDS);
+        long esperaMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+    
+        assertThat(duplicado.getEstado()).isEqualTo(Estado.EN_CURSO);
+        assertThat(esperaMs).isGreaterThanOrEqualTo(esperaMaximaMs);
+        almacen.liberar(original);
+    }
+    
+    @Test
+    void duplicadoDeOtraInstanciaEsperaYDevuelveEnCurso() {
+        String clave = claveNueva();
+        // Reserva en curso de otra instancia: solo existe la fila, no la espera en memoria
+        insertarReservaEnCurso(clave, 0);
+    
+        long inicio = System.nanoTime();
+        ReservaIdempotencia duplicado = almacen.reservar(clave, METODO, RUTA, HUELLA);
+        long esperaMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+    
+        assertThat(duplicado.getEstado()).isEqualTo(Estado.EN_CURSO);
+        assertThat(esperaMs).isGreaterThanOrEqualTo(esperaMaximaMs);
+    }
+    
+    @Test
+    void errorDelServidorLiberaLaClave() throws Exception {
+        String clave = claveNueva();
+        ReservaIdempotencia original = almacen.reservar(clave, METODO, RUTA, HUELLA);
+        Future<ReservaIdempotencia> duplicado = otroHilo.submit(() -> almacen.reservar(clave, METODO, RUTA, HUELLA));
+        Thread.sleep(esperaMaximaMs / 5);
+    
+        almacen.completar(original, 503, "application/json", CUERPO);
+    
+        // El duplicado que esperaba no recibe el 503: vuelve a reservar y ejecuta la solicitud
+        ReservaIdempotencia reintento = duplicado.get(5, TimeUnit.SECONDS);
+        assertThat(reintento.getEstado()).isEqualTo(Estado.PROPIA);
+        assertThat(estadoGuardado(clave)).isNull();
+        almacen.liberar(reintento);
+        assertThat(filas(clave)).isZero();
+    }
+    
+    @Test
+    void errorDelServidorSinDuplicadosBorraLaReserva() {
+        String clave = claveNueva();
+        almacen.completar(almacen.reservar(clave, METODO, RUTA, HUELLA), 500, "application/json", CUERPO);
+    
+        assertThat(filas(clave)).isZero();
+        assertThat(almacen.reservar(clave, METODO, RUTA, HUELLA).getEstado()).isEqualTo(Estado.PROPIA);
+    }
+    
+    @Test
+    void reservaAbandonadaSeRecupera() {
+        String clave = claveNueva();
+        // La instancia que la reservó cayó hace más de abandono-ms
+        insertarReservaEnCurso(clave, abandonoMs + 1000);
+    
+        ReservaIdempotencia reserva = almacen.reservar(clave, METODO, RUTA, HUELLA);
+    
+        assertThat(reserva.getEstado()).isEqualTo(Estado.PROPIA);
+        almacen.completar(reserva, 201, "application/json", CUERPO);
+        assertThat(estadoGuardado(clave)).isEqualTo(201);
+    }
+    
+    @Test
+    void mismaClaveConOtraSolicitudEsDistinta() {
+        String clave = claveNueva();
+        almacen.completar(almacen.reservar(clave, METODO, RUTA, HUELLA), 201, "application/json", CUERPO);
+    
+        assertThat(almacen.reservar(clave, METODO, RUTA, "b".repeat(64)).getEstado()).isEqualTo(Estado.DISTINTA);
+    }
+    
+    private void insertarReservaEnCurso(String clave, long antiguedadMs) {
+        jdbcTemplate.update("""
+                INSERT INTO clave_idempotencia (usuario, clave, metodo, ruta, huella, creada, expira)
+                VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP - ? * INTERVAL '1 millisecond',
+                        CURRENT_TIMESTAMP + INTERVAL '1 hour')
+                """, UsuarioActual.ANONIMO, clave, METODO, RUTA, HUELLA, antiguedadMs);
+    }
+    
+    private Integer estadoGuardado(String clave) {
+        return jdbcTemplate.queryForObject("SELECT estado FROM clave_idempotencia WHERE usuario = ? AND clave = ?",
+                Integer.class, UsuarioActual.ANONIMO, clave);
+    }
+    
+    private int filas(String clave) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM clave_idempotencia WHERE usuario = ? AND clave = ?",
+                Integer.class, UsuarioActual.ANONIMO, clave);
+    }
+    
+    private static String claveNueva() {
+        return UUID.randomUUID().toString();
+    }
+}
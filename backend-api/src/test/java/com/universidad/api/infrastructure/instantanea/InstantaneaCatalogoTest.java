@@ -0,0 +1,135 @@
+package com.universidad.api.infrastructure.instantanea;
+
+import com.universidad.api.application.dto.CarreraResponseDTO;
+import com.universidad.api.application.dto.FacultadResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Ida y vuelta del formato: lo que escribe {@link EscritorInstantanea} se lee igual con
+ * {@link InstantaneaCatalogo}.
+ */
+class InstantaneaCatalogoTest {
+    
+    private static final Instant FECHA = Instant.parse("2024-05-02T10:15:00Z");
+    private static final LocalDateTime REGISTRO = LocalDateTime.of(2024, 3, 1, 8, 30, 15);
+    
+    @TempDir
+    Path directorio;
+    
+    @Test
+    void catalogoVacio() throws IOException {
+        InstantaneaCatalogo instantanea = escribir(escritor -> { });
+    
+        assertThat(instantanea.getFecha()).isEqualTo(FECHA);
+        assertThat(instantanea.getFacultades()).isZero();
+        assertThat(instantanea.getCarreras()).isZero();
+        assertThat(instantanea.facultadesActivas()).isEmpty();
+        assertThat(instantanea.carrerasActivas()).isEmpty();
+        assertThat(instantanea.facultad(1)).isEmpty();
+        assertThat(instantanea.carrera(1)).isEmpty();
+        assertThat(instantanea.carrerasDeFacultad(1, false)).isEmpty();
+    }
+    
+    @Test
+    void facultadConCarrerasYFacultadSinCarreras() throws IOException {
+        InstantaneaCatalogo instantanea = escribir(escritor -> {
+            escritor.carrera(11, 1, "Ingeniería", "Civil", "Obras", 10, "Ingeniero Civil", REGISTRO, true);
+            escritor.carrera(12, 1, "Ingeniería", "Minas", null, 10, null, REGISTRO, false);
+            escritor.facultad(1, "Ingeniería", "Ciencias aplicadas", "Edificio A", "Dra. Ruiz", REGISTRO);
+            escritor.facultad(2, "Derecho", "Ciencias jurídicas", "Edificio B", "Dr. Soto", REGISTRO);
+        });
+    
+        CarreraResponseDTO civil = new CarreraResponseDTO(11L, "Civil", "Obras", 10, "Ingeniero Civil",
+                REGISTRO, true, 1L, "Ingeniería");
+        CarreraResponseDTO minas = new CarreraResponseDTO(12L, "Minas", null, 10, null,
+                REGISTRO, false, 1L, "Ingeniería");
+        assertThat(instantanea.facultad(1)).contains(new FacultadResponseDTO(1L, "Ingeniería", "Ciencias aplicadas",
+                "Edificio A", "Dra. Ruiz", REGISTRO, true, List.of(civil, minas)));
+        assertThat(instantanea.facultad(2)).contains(new FacultadResponseDTO(2L, "Derecho", "Ciencias jurídicas",
+                "Edificio B", "Dr. Soto", REGISTRO, true, List.of()));
+        assertThat(instantanea.carrera(12)).contains(minas);
+        assertThat(instantanea.carrerasActivas()).containsExactly(civil);
+        assertThat(instantanea.carrerasDeFacultad(1, true)).contains(List.of(civil));
+        assertThat(instantanea.carrerasDeFacultad(1, false)).contains(List.of(civil, minas));
+        assertThat(instantanea.carrerasDeFacultad(2, false)).contains(List.of());
+    }
+    
+    @Test
+    void camposNulos() throws IOException {
+        InstantaneaCatalogo instantanea = escribir(escritor -> {
+            escritor.carrera(21, 3, null, "Sin datos", null, null, null, null, true);
+            escritor.facultad(3, "Mínima", null, null, null, null);
+        });
+    
+        CarreraResponseDTO carrera = new CarreraResponseDTO(21L, "Sin datos", null, null, null,
+                null, true, 3L, null);
+        assertThat(instantanea.carrera(21)).contains(carrera);
+        assertThat(instantanea.facultad(3)).contains(new FacultadResponseDTO(3L, "Mínima", null, null, null,
+                null, true, List.of(carrera)));
+    }
+    
+    @Test
+    void idsInexistentes() throws IOException {
+        InstantaneaCatalogo instantanea = escribir(escritor -> {
+            // Carrera activa de una facultad inactiva: la carrera está, la facultad no
+            escritor.carrera(31, 4, "Inactiva", "Huérfana", null, 8, null, REGISTRO, true);
+            escritor.carrera(51, 5, "Artes", "Música", null, 8, null, REGISTRO, true);
+            escritor.facultad(5, "Artes", null, null, null, REGISTRO);
+            escritor.facultad(9, "Ciencias", null, null, null, REGISTRO);
+        });
+    
+        assertThat(instantanea.carrera(31)).isPresent();
+        assertThat(instantanea.facultad(4)).isEmpty();
+        assertThat(instantanea.carrerasDeFacultad(4, true)).isEmpty();
+        // Antes del primero, entre dos y después del último en cada índice
+        assertThat(instantanea.facultad(1)).isEmpty();
+        assertThat(instantanea.facultad(7)).isEmpty();
+        assertThat(instantanea.facultad(10)).isEmpty();
+        assertThat(instantanea.carrera(30)).isEmpty();
+        assertThat(instantanea.carrera(40)).isEmpty();
+        assertThat(instantanea.carrera(52)).isEmpty();
+    }
+    
+    @Test
+    void instantaneaTruncadaSeRechaza() throws IOException {
+        Path archivo = directorio.resolve("truncada.bin");
+        try (EscritorInstantanea escritor = new EscritorInstantanea(archivo)) {
+            escritor.carrera(11, 1, "Ingeniería", "Civil", null, 10, null, REGISTRO, true);
+            escritor.facultad(1, "Ingeniería", null, null, null, REGISTRO);
+            escritor.terminar(FECHA);
+        }
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.truncate(canal.size() - 1);
+        }
+    
+        assertThatThrownBy(() -> InstantaneaCatalogo.abrir(archivo))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Instantánea truncada");
+    }
+    
+    private InstantaneaCatalogo escribir(Contenido contenido) throws IOException {
+        Path archivo = directorio.resolve("principal.bin");
+        try (EscritorInstantanea escritor = new EscritorInstantanea(archivo)) {
+            contenido.escribir(escritor);
+            escritor.terminar(FECHA);
+        }
+        return InstantaneaCatalogo.abrir(archivo);
+    }
+    
+    @FunctionalInterface
+    private interface Contenido {
+        void escribir(EscritorInstantanea escritor) throws IOException;
+    }
+}
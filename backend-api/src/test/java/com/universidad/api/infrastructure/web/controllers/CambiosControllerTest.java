@@ -0,0 +1,230 @@
+package com.universidad.api.infrastructure.web.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.universidad.api.IntegracionPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Recorrido de GET /api/v1/cambios a través de una transacción que escribe facultades y carreras.
+ * Otras pruebas escriben en la misma base: las comprobaciones se limitan a los recursos creados aquí.
+ */
+class CambiosControllerTest extends IntegracionPostgres {
+    
+    private static final String RUTA = "/api/v1/cambios";
+    
+    @Test
+    void paginasPequeniasRecorrenLaTransaccionSinSaltosNiRepetidos() throws Exception {
+        Escenario escenario = prepararLote();
+    
+        // Páginas de 2 sobre 5 cambios: al menos una marca cae dentro de la transacción
+        List<String> cambios = new ArrayList<>();
+        String marca = escenario.marcaAntes();
+        JsonNode pagina;
+        do {
+            pagina = pedir(marca, 2);
+            pagina.get("cambios").forEach(cambio -> cambios.add(describir(cambio)));
+            marca = pagina.get("siguiente").asText();
+        } while (pagina.get("hayMas").asBoolean());
+    
+        assertThat(cambios).doesNotHaveDuplicates();
+        assertThat(cambios.stream().filter(escenario.esperados()::contains))
+                .containsExactlyElementsOf(escenario.esperados());
+        // Al final del recorrido la marca se mantiene
+        assertThat(pedir(marca, 2).get("siguiente").asText()).isEqualTo(marca);
+    }
+    
+    @Test
+    void marcaDentroDeLaTransaccionContinuaDetrasDeElla() throws Exception {
+        Escenario escenario = prepararLote();
+    
+        // Primera facultad del lote: la marca queda entre las facultades de la transacción
+        JsonNode primera = pedirHasta(escenario.marcaAntes(), escenario.esperados().get(0));
+        JsonNode resto = pedir(primera.get("siguiente").asText(), 1000);
+        assertThat(lista(resto).stream().filter(escenario.esperados()::contains))
+                .containsExactlyElementsOf(escenario.esperados().subList(1, 5));
+    
+        // Primera carrera del lote: la marca queda entre las carreras; las facultades ya se entregaron
+        JsonNode hastaCarrera = pedirHasta(escenario.marcaAntes(), escenario.esperados().get(2));
+        JsonNode carreras = pedir(hastaCarrera.get("siguiente").asText(), 1000);
+        assertThat(lista(carreras).stream().filter(escenario.esperados()::contains))
+                .containsExactlyElementsOf(escenario.esperados().subList(3, 5));
+    }
+    
+    @Test
+    void tipoDeCambioSegunLaMarca() throws Exception {
+        Escenario escenario = prepararLote();
+    
+        // Desde antes del lote: creados, actualizados y desactivados respecto de lo ya entregado
+        assertThat(lista(pedir(escenario.marcaAntes(), 1000)).stream().filter(escenario.esperados()::contains))
+                .containsExactly(
+                        "FACULTAD " + escenario.facultadExistente() + " ACTUALIZADO",
+                        "FACULTAD " + escenario.facultadNueva() + " CREADO",
+                        "CARRERA " + escenario.carreraExistente() + " DESACTIVADO",
+                        "CARRERA " + escenario.carrerasNuevas().get(0) + " CREADO",
+                        "CARRERA " + escenario.carrerasNuevas().get(1) + " CREADO");
+    
+        // Desde una marca dentro del lote, lo creado en el lote detrás de la marca sigue siendo CREADO
+        JsonNode primera = pedirHasta(escenario.marcaAntes(), escenario.esperados().get(0));
+        assertThat(lista(pedir(primera.get("siguiente").asText(), 1000)))
+                .contains("FACULTAD " + escenario.facultadNueva() + " CREADO",
+                        "CARRERA " + escenario.carrerasNuevas().get(1) + " CREADO");
+    
+        // Desde el inicio todo lo activo es CREADO
+        List<String> desdeInicio = new ArrayList<>();
+        String marca = "";
+        JsonNode pagina;
+        do {
+            pagina = pedir(marca, 1000);
+            desdeInicio.addAll(lista(pagina));
+            marca = pagina.get("siguiente").asText();
+        } while (pagina.get("hayMas").asBoolean());
+        assertThat(desdeInicio).contains(
+                "FACULTAD " + escenario.facultadExistente() + " CREADO",
+                "CARRERA " + escenario.carreraExistente() + " DESACTIVADO");
+    }
+    
+    @Test
+    void marcasMalFormadasDevuelven400() throws Exception {
+        List<String> invalidas = List.of(
+                "no es base64!",
+                codificar("12.1"),
+                codificar("12.1.7.3"),
+                codificar("a.b.c"),
+                codificar("12.3.7"),
+                codificar("12.-1.7"),
+                codificar("-5.1.7"),
+                codificar("12.1.-7"),
+                "A".repeat(101));
+    
+        for (String marca : invalidas) {
+            mockMvc.perform(get(RUTA).param("desde", marca))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+        mockMvc.perform(get(RUTA).param("tamanio", "0"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    /**
+     * Crea una facultad con una carrera, espera a que el recorrido las entregue y, en un solo lote,
+     * actualiza la facultad, crea otra, desactiva la carrera y crea dos carreras más.
+     */
+    private Escenario prepararLote() throws Exception {
+        long facultadExistente = crearFacultad();
+        long carreraExistente = crearCarrera(nombreUnico("Carrera"), facultadExistente);
+        String marcaAntes = marcaTrasEntregar(Set.of(
+                "FACULTAD " + facultadExistente + " CREADO", "CARRERA " + carreraExistente + " CREADO"));
+    
+        String lote = """
+                {"operaciones": [
+                  {"operacion": "CREAR", "recurso": "FACULTAD", "facultad": {"nombre": "%s"}},
+                  {"operacion": "ACTUALIZAR", "recurso": "FACULTAD", "id": %d, "facultad": {"nombre": "%s"}},
+                  {"operacion": "CREAR", "recurso": "CARRERA",
+                   "carrera": {"nombre": "%s", "duracionSemestres": 10, "facultadId": %d}},
+                  {"operacion": "DESACTIVAR", "recurso": "CARRERA", "id": %d},
+                  {"operacion": "CREAR", "recurso": "CARRERA",
+                   "carrera": {"nombre": "%s", "duracionSemestres": 8, "facultadId": %d}}
+                ]}
+                """.formatted(nombreUnico("Facultad"), facultadExistente, nombreUnico("Facultad"),
+                nombreUnico("Carrera"), facultadExistente, carreraExistente, nombreUnico("Carrera"), facultadExistente);
+        String respuesta = mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aplicado").value(true))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode resultados = objectMapper.readTree(respuesta).get("resultados");
+    
+        Escenario escenario = new Escenario(marcaAntes, facultadExistente,
+                resultados.get(0).get("datos").get("facultadId").asLong(), carreraExistente,
+                List.of(resultados.get(2).get("datos").get("carreraId").asLong(),
+                        resultados.get(4).get("datos").get("carreraId").asLong()));
+        // El lote es visible en el recorrido cuando terminan las transacciones anteriores a él
+        marcaTrasEntregarDesde(marcaAntes, new HashSet<>(escenario.esperados()));
+        return escenario;
+    }
+    
+    private String marcaTrasEntregar(Set<String> pendientes) throws Exception {
+        return marcaTrasEntregarDesde("", new HashSet<>(pendientes));
+    }
+    
+    // Recorre hasta el final y repite hasta que se hayan entregado todos los cambios pendientes
+    private String marcaTrasEntregarDesde(String marca, Set<String> pendientes) throws Exception {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (true) {
+            JsonNode pagina = pedir(marca, 1000);
+            lista(pagina).forEach(pendientes::remove);
+            marca = pagina.get("siguiente").asText();
+            if (pendientes.isEmpty() && !pagina.get("hayMas").asBoolean()) {
+                return marca;
+            }
+            if (!pagina.get("hayMas").asBoolean()) {
+                assertThat(System.currentTimeMillis()).as("cambios sin entregar: %s", pendientes).isLessThan(limite);
+                Thread.sleep(50);
+            }
+        }
+    }
+    
+    // Página de un cambio en un cambio desde la marca hasta entregar el cambio indicado
+    private JsonNode pedirHasta(String marca, String cambio) throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            JsonNode pagina = pedir(marca, 1);
+            if (lista(pagina).contains(cambio)) {
+                return pagina;
+            }
+            assertThat(pagina.get("cambios")).as("cambio %s no entregado", cambio).isNotEmpty();
+            marca = pagina.get("siguiente").asText();
+        }
+        throw new AssertionError("Cambio " + cambio + " no entregado en 1000 páginas");
+    }
+    
+    private JsonNode pedir(String desde, int tamanio) throws Exception {
+        String respuesta = mockMvc.perform(get(RUTA).param("desde", desde).param("tamanio", String.valueOf(tamanio)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(respuesta);
+    }
+    
+    private static List<String> lista(JsonNode pagina) {
+        List<String> cambios = new ArrayList<>();
+        pagina.get("cambios").forEach(cambio -> cambios.add(describir(cambio)));
+        return cambios;
+    }
+    
+    private static String describir(JsonNode cambio) {
+        return cambio.get("recurso").asText() + " " + cambio.get("id").asLong() + " " + cambio.get("tipo").asText();
+    }
+    
+    private static String codificar(String marca) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(marca.getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    /**
+     * Recursos del lote y la marca de justo antes de él.
+     * esperados: los cambios del lote en el orden del recorrido (facultades y luego carreras, por ID)
+     */
+    private record Escenario(String marcaAntes, long facultadExistente, long facultadNueva,
+                             long carreraExistente, List<Long> carrerasNuevas) {
+    
+        List<String> esperados() {
+            return List.of(
+                    "FACULTAD " + facultadExistente + " ACTUALIZADO",
+                    "FACULTAD " + facultadNueva + " CREADO",
+                    "CARRERA " + carreraExistente + " DESACTIVADO",
+                    "CARRERA " + carrerasNuevas.get(0) + " CREADO",
+                    "CARRERA " + carrerasNuevas.get(1) + " CREADO");
+        }
+    }
+}
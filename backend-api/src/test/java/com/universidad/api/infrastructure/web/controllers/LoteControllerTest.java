@@ -0,0 +1,146 @@
+package com.universidad.api.infrastructure.web.controllers;
+
+import com.universidad.api.IntegracionPostgres;
+import com.universidad.api.application.cache.FacultadResumen;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Un lote debe dar el mismo resultado que sus operaciones enviadas una a una.
+ */
+class LoteControllerTest extends IntegracionPostgres {
+    
+    @Test
+    void carreraEnFacultadDesactivadaAntesEnElLoteDevuelve409() throws Exception {
+        long facultadId = crearFacultad();
+        // La near-cache tiene la facultad como activa: es la que el lote no debe creer
+        esperarEnCache(facultadId, FacultadResumen::activo);
+    
+        String lote = """
+                {"operaciones": [
+                  {"operacion": "DESACTIVAR", "recurso": "FACULTAD", "id": %d},
+                  {"operacion": "CREAR", "recurso": "CARRERA",
+                   "carrera": {"nombre": "%s", "duracionSemestres": 10, "facultadId": %d}}
+                ]}
+                """.formatted(facultadId, nombreUnico("Carrera"), facultadId);
+    
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.aplicado").value(false))
+                .andExpect(jsonPath("$.resultados[0].estado").value(424))
+                .andExpect(jsonPath("$.resultados[1].estado").value(409))
+                .andExpect(jsonPath("$.resultados[1].error").value("No se puede crear una carrera en una facultad inactiva"));
+    
+        // Nada se aplicó: la facultad sigue activa
+        mockMvc.perform(get("/api/v1/facultades/{id}", facultadId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.activo").value(true));
+    }
+    
+    @Test
+    void carreraEnFacultadDesactivadaPorSeparadoDevuelve409() throws Exception {
+        long facultadId = crearFacultad();
+        esperarEnCache(facultadId, FacultadResumen::activo);
+    
+        mockMvc.perform(delete("/api/v1/facultades/{id}", facultadId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/carreras").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nombre": "%s", "duracionSemestres": 10, "facultadId": %d}
+                                """.formatted(nombreUnico("Carrera"), facultadId)))
+                .andExpect(status().isConflict());
+    }
+    
+    @Test
+    void carreraEnFacultadActualizadaAntesEnElLoteUsaElNombreNuevo() throws Exception {
+        long facultadId = crearFacultad();
+        esperarEnCache(facultadId, FacultadResumen::activo);
+        String nombreNuevo = nombreUnico("Facultad renombrada");
+    
+        String lote = """
+                {"operaciones": [
+                  {"operacion": "ACTUALIZAR", "recurso": "FACULTAD", "id": %d, "facultad": {"nombre": "%s"}},
+                  {"operacion": "CREAR", "recurso": "CARRERA",
+                   "carrera": {"nombre": "%s", "duracionSemestres": 10, "facultadId": %d}}
+                ]}
+                """.formatted(facultadId, nombreNuevo, nombreUnico("Carrera"), facultadId);
+    
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aplicado").value(true))
+                .andExpect(jsonPath("$.resultados[1].datos.nombreFacultad").value(nombreNuevo));
+    }
+    
+    @Test
+    void nombreLiberadoAntesEnElLoteSePuedeReutilizar() throws Exception {
+        String nombre = nombreUnico("Facultad");
+        long facultadId = crearFacultad(nombre);
+        String nombreNuevo = nombreUnico("Facultad");
+    
+        String lote = """
+                {"operaciones": [
+                  {"operacion": "ACTUALIZAR", "recurso": "FACULTAD", "id": %d, "facultad": {"nombre": "%s"}},
+                  {"operacion": "CREAR", "recurso": "FACULTAD", "facultad": {"nombre": "%s"}}
+                ]}
+                """.formatted(facultadId, nombreNuevo, nombre);
+    
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aplicado").value(true))
+                .andExpect(jsonPath("$.resultados[1].datos.nombre").value(nombre));
+        mockMvc.perform(get("/api/v1/facultades/{id}", facultadId))
+                .andExpect(jsonPath("$.nombre").value(nombreNuevo));
+    }
+    
+    @Test
+    void intercambioDeNombresConNombreTemporal() throws Exception {
+        long facultadId = crearFacultad(nombreUnico("Facultad"));
+        String nombreA = nombreUnico("Carrera");
+        String nombreB = nombreUnico("Carrera");
+        long carreraA = crearCarrera(nombreA, facultadId);
+        long carreraB = crearCarrera(nombreB, facultadId);
+    
+        String lote = """
+                {"operaciones": [
+                  {"operacion": "ACTUALIZAR", "recurso": "CARRERA", "id": %1$d,
+                   "carrera": {"nombre": "%3$s temporal", "duracionSemestres": 10, "facultadId": %5$d}},
+                  {"operacion": "ACTUALIZAR", "recurso": "CARRERA", "id": %2$d,
+                   "carrera": {"nombre": "%3$s", "duracionSemestres": 10, "facultadId": %5$d}},
+                  {"operacion": "ACTUALIZAR", "recurso": "CARRERA", "id": %1$d,
+                   "carrera": {"nombre": "%4$s", "duracionSemestres": 10, "facultadId": %5$d}}
+                ]}
+                """.formatted(carreraA, carreraB, nombreA, nombreB, facultadId);
+    
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aplicado").value(true));
+        mockMvc.perform(get("/api/v1/carreras/{id}", carreraA))
+                .andExpect(jsonPath("$.nombre").value(nombreB));
+        mockMvc.perform(get("/api/v1/carreras/{id}", carreraB))
+                .andExpect(jsonPath("$.nombre").value(nombreA));
+    }
+    
+    @Test
+    void nombreOcupadoFueraDelLoteSigueSiendoConflicto() throws Exception {
+        String ocupado = nombreUnico("Facultad");
+        crearFacultad(ocupado);
+        long facultadId = crearFacultad(nombreUnico("Facultad"));
+    
+        String lote = """
+                {"operaciones": [
+                  {"operacion": "ACTUALIZAR", "recurso": "FACULTAD", "id": %d, "facultad": {"nombre": "%s"}},
+                  {"operacion": "CREAR", "recurso": "FACULTAD", "facultad": {"nombre": "%s"}}
+                ]}
+                """.formatted(facultadId, nombreUnico("Facultad"), ocupado);
+    
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.resultados[1].estado").value(409));
+    }
+}
@@ -0,0 +1,103 @@
+package com.universidad.api.infrastructure.web.filters;
+
+import com.universidad.api.IntegracionPostgres;
+import com.universidad.api.infrastructure.idempotencia.AlmacenIdempotencia;
+import com.universidad.api.infrastructure.idempotencia.ReservaIdempotencia;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key de punta a punta: filtro, almacén y controlador sobre la base de datos.
+ */
+class IdempotenciaFilterTest extends IntegracionPostgres {
+    
+    private static final String RUTA = "/api/v1/facultades";
+    
+    @Autowired
+    private AlmacenIdempotencia almacen;
+    
+    @Test
+    void reintentoDevuelveLaRespuestaGuardada() throws Exception {
+        String clave = UUID.randomUUID().toString();
+        String nombre = nombreUnico("Facultad");
+    
+        MockHttpServletResponse original = crearConClave(clave, nombre);
+        assertThat(original.getStatus()).isEqualTo(201);
+        assertThat(original.getHeader(IdempotenciaFilter.CABECERA_REPETIDA)).isNull();
+    
+        MockHttpServletResponse repetida = crearConClave(clave, nombre);
+        assertThat(repetida.getStatus()).isEqualTo(201);
+        assertThat(repetida.getHeader(IdempotenciaFilter.CABECERA_REPETIDA)).isEqualTo("true");
+        assertThat(repetida.getContentType()).isEqualTo(original.getContentType());
+        assertThat(repetida.getContentAsString()).isEqualTo(original.getContentAsString());
+    
+        // Sin la clave la misma solicitud sí llega al controlador: la facultad ya existe
+        mockMvc.perform(post(RUTA).contentType(MediaType.APPLICATION_JSON).content(cuerpoFacultad(nombre)))
+                .andExpect(status().isConflict());
+    }
+    
+    @Test
+    void mismaClaveConOtroCuerpoDevuelve422() throws Exception {
+        String clave = UUID.randomUUID().toString();
+        String nombre = nombreUnico("Facultad");
+        assertThat(crearConClave(clave, nombre).getStatus()).isEqualTo(201);
+    
+        String otroNombre = nombreUnico("Facultad");
+        mockMvc.perform(post(RUTA).header(IdempotenciaFilter.CABECERA_CLAVE, clave)
+                        .contentType(MediaType.APPLICATION_JSON).content(cuerpoFacultad(otroNombre)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("La clave de idempotencia ya se usó con otra solicitud"));
+    
+        // La segunda solicitud no se ejecutó
+        mockMvc.perform(get(RUTA + "/buscar/nombre/{nombre}", otroNombre))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    void duplicadoConcurrenteEsperaYDevuelve409() throws Exception {
+        String clave = UUID.randomUUID().toString();
+        String nombre = nombreUnico("Facultad");
+        // La solicitud original sigue en curso (misma institución y usuario que la petición sin cabeceras)
+        ReservaIdempotencia original = almacen.reservar(clave, "POST", RUTA, "0".repeat(64));
+    
+        long inicio = System.nanoTime();
+        mockMvc.perform(post(RUTA).header(IdempotenciaFilter.CABECERA_CLAVE, clave)
+                        .contentType(MediaType.APPLICATION_JSON).content(cuerpoFacultad(nombre)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        assertThat(System.nanoTime() - inicio).isGreaterThanOrEqualTo(500_000_000L);
+    
+        // Cuando la original se libera, el reintento se ejecuta
+        almacen.liberar(original);
+        assertThat(crearConClave(clave, nombre).getStatus()).isEqualTo(201);
+    }
+    
+    @Test
+    void clavesDeUsuariosDistintosNoSeMezclan() throws Exception {
+        String clave = UUID.randomUUID().toString();
+        assertThat(crearConClave(clave, nombreUnico("Facultad")).getStatus()).isEqualTo(201);
+    
+        mockMvc.perform(post(RUTA).header(IdempotenciaFilter.CABECERA_CLAVE, clave).header("X-Usuario", "otro")
+                        .contentType(MediaType.APPLICATION_JSON).content(cuerpoFacultad(nombreUnico("Facultad"))))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotenciaFilter.CABECERA_REPETIDA));
+    }
+    
+    private MockHttpServletResponse crearConClave(String clave, String nombre) throws Exception {
+        return mockMvc.perform(post(RUTA).header(IdempotenciaFilter.CABECERA_CLAVE, clave)
+                        .contentType(MediaType.APPLICATION_JSON).content(cuerpoFacultad(nombre)))
+                .andReturn().getResponse();
+    }
+}
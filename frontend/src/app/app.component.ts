@@ -42,6 +42,12 @@ import { NotificationsComponent } from './components/notifications/notifications
                 Carreras
               </a>
             </li>
+            <li class="nav-item">
+              <a class="nav-link" routerLink="/buscar" routerLinkActive="active">
+                <i class="material-icons me-1">search</i>
+                Buscar
+              </a>
+            </li>
           </ul>
         </div>
       </div>
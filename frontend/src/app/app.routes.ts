@@ -13,6 +13,10 @@ export const routes: Routes = [
     path: 'carreras',
     loadComponent: () => import('./pages/carreras/carreras.component').then(m => m.CarrerasComponent)
   },
+  {
+    path: 'buscar',
+    loadComponent: () => import('./pages/buscar/buscar.component').then(m => m.BuscarComponent)
+  },
   {
     path: '**',
     redirectTo: ''
@@ -0,0 +1,18 @@
+import { TipoRecurso } from './evento.model';
+
+export interface ResultadoBusqueda {
+  tipo: TipoRecurso;
+  id: number;
+  nombre: string;
+  fragmento: string;
+  relevancia: number;
+}
+
+export interface PaginaBusqueda {
+  consulta: string;
+  pagina: number;
+  tamanio: number;
+  total: number;
+  totalPaginas: number;
+  resultados: ResultadoBusqueda[];
+}
@@ -0,0 +1,10 @@
+export type TipoRecurso = 'CARRERA' | 'FACULTAD';
+export type TipoCambio = 'CREADO' | 'ACTUALIZADO' | 'DESACTIVADO';
+
+export interface EventoCatalogo<T = unknown> {
+  recurso: TipoRecurso;
+  tipo: TipoCambio;
+  id: number;
+  datos?: T;
+  fecha: string;
+}
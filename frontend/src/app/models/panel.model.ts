@@ -0,0 +1,18 @@
+import { Carrera } from './carrera.model';
+
+export interface FacultadResumen {
+  facultadId: number;
+  nombre: string;
+  activo: boolean;
+}
+
+// Las secciones que no respondieron a tiempo faltan y se listan en incompleto
+export interface Panel {
+  facultades?: FacultadResumen[];
+  carreras?: Carrera[];
+  totalFacultades?: number;
+  facultadesActivas?: number;
+  totalCarreras?: number;
+  carrerasActivas?: number;
+  incompleto: string[];
+}
@@ -0,0 +1,184 @@
+import { Component, OnDestroy, OnInit } from '@angular/core';
+import { CommonModule } from '@angular/common';
+import { FormsModule } from '@angular/forms';
+import { RouterLink } from '@angular/router';
+import { Subject, Subscription, debounceTime, distinctUntilChanged, switchMap, of, catchError } from 'rxjs';
+import { BusquedaService } from '../../services/busqueda.service';
+import { PaginaBusqueda } from '../../models/busqueda.model';
+import { TipoRecurso } from '../../models/evento.model';
+
+interface CriteriosBusqueda {
+  q: string;
+  tipo: TipoRecurso | '';
+  pagina: number;
+}
+
+@Component({
+  selector: 'app-buscar',
+  standalone: true,
+  imports: [CommonModule, FormsModule, RouterLink],
+  template: `
+    <div class="container">
+      <div class="row justify-content-center">
+        <div class="col-lg-10">
+
+          <!-- Header -->
+          <div class="mb-4">
+            <h2 class="text-primary-custom mb-1">
+              <i class="material-icons me-2">search</i>
+              Buscar en el Catálogo
+            </h2>
+            <p class="text-muted mb-0">
+              Busca en nombres, títulos y descripciones. Admite "frases exactas", or y -exclusiones.
+            </p>
+          </div>
+
+          <!-- Filters -->
+          <div class="card card-custom mb-4">
+            <div class="card-body">
+              <div class="row g-3">
+                <div class="col-md-9">
+                  <div class="form-floating">
+                    <input
+                      type="text"
+                      class="form-control"
+                      id="consultaInput"
+                      [(ngModel)]="consulta"
+                      (input)="onCriteriosChange()"
+                      placeholder="Buscar...">
+                    <label for="consultaInput">¿Qué estás buscando?</label>
+                  </div>
+                </div>
+                <div class="col-md-3">
+                  <div class="form-floating">
+                    <select
+                      class="form-select"
+                      id="tipoFilter"
+                      [(ngModel)]="tipo"
+                      (change)="onCriteriosChange()">
+                      <option value="">Carreras y facultades</option>
+                      <option value="CARRERA">Solo carreras</option>
+                      <option value="FACULTAD">Solo facultades</option>
+                    </select>
+                    <label for="tipoFilter">Buscar en</label>
+                  </div>
+                </div>
+              </div>
+            </div>
+          </div>
+
+          <!-- Loading -->
+          <div *ngIf="loading" class="text-center py-5">
+            <div class="spinner-custom mx-auto"></div>
+            <p class="mt-3 text-muted">Buscando...</p>
+          </div>
+
+          <!-- Error Message -->
+          <div *ngIf="error" class="alert alert-danger" role="alert">
+            <i class="material-icons me-2">error</i>
+            {{error}}
+          </div>
+
+          <!-- Resultados -->
+          <div *ngIf="!loading && resultado" class="card card-custom">
+            <div class="card-header">
+              <h5 class="mb-0">
+                <i class="material-icons me-2">list</i>
+                {{resultado.total}} resultado(s) para "{{resultado.consulta}}"
+              </h5>
+            </div>
+            <ul class="list-group list-group-flush">
+              <li *ngFor="let item of resultado.resultados" class="list-group-item py-3">
+                <div class="d-flex align-items-center mb-1">
+                  <span class="badge me-2" [class.bg-primary]="item.tipo === 'CARRERA'" [class.bg-secondary]="item.tipo === 'FACULTAD'">
+                    {{item.tipo === 'CARRERA' ? 'Carrera' : 'Facultad'}}
+                  </span>
+                  <a class="fw-semibold text-decoration-none" [routerLink]="item.tipo === 'CARRERA' ? '/carreras' : '/facultades'">
+                    {{item.nombre}}
+                  </a>
+                </div>
+                <!-- El fragmento llega con el HTML escapado y solo marcas <mark> -->
+                <p class="text-muted small mb-0" [innerHTML]="item.fragmento"></p>
+              </li>
+              <li *ngIf="resultado.resultados.length === 0" class="list-group-item text-center text-muted py-4">
+                No se encontraron resultados
+              </li>
+            </ul>
+            <div *ngIf="resultado.totalPaginas > 1" class="card-footer d-flex justify-content-between align-items-center">
+              <button class="btn btn-outline-secondary btn-sm" (click)="irAPagina(pagina - 1)" [disabled]="pagina === 0">
+                <i class="material-icons">chevron_left</i>
+              </button>
+              <span class="text-muted small">Página {{pagina + 1}} de {{resultado.totalPaginas}}</span>
+              <button class="btn btn-outline-secondary btn-sm" (click)="irAPagina(pagina + 1)" [disabled]="pagina + 1 >= resultado.totalPaginas">
+                <i class="material-icons">chevron_right</i>
+              </button>
+            </div>
+          </div>
+
+        </div>
+      </div>
+    </div>
+  `,
+  styles: [`
+    :host ::ng-deep mark {
+      padding: 0 2px;
+      background-color: #fff3cd;
+    }
+  `]
+})
+export class BuscarComponent implements OnInit, OnDestroy {
+  consulta = '';
+  tipo: TipoRecurso | '' = '';
+  pagina = 0;
+  resultado: PaginaBusqueda | null = null;
+  loading = false;
+  error: string | null = null;
+
+  private readonly criterios$ = new Subject<CriteriosBusqueda>();
+  private subscription?: Subscription;
+
+  constructor(private busquedaService: BusquedaService) {}
+
+  ngOnInit(): void {
+    // Una búsqueda por pausa de escritura; las respuestas obsoletas se descartan
+    this.subscription = this.criterios$.pipe(
+      debounceTime(300),
+      distinctUntilChanged((a, b) => a.q === b.q && a.tipo === b.tipo && a.pagina === b.pagina),
+      switchMap(criterios => {
+        if (!criterios.q) {
+          this.loading = false;
+          return of(null);
+        }
+        this.loading = true;
+        this.error = null;
+        return this.busquedaService.buscar(criterios.q, criterios.tipo || undefined, criterios.pagina).pipe(
+          catchError(() => {
+            this.error = 'Error al realizar la búsqueda';
+            return of(null);
+          })
+        );
+      })
+    ).subscribe(resultado => {
+      this.resultado = resultado;
+      this.loading = false;
+    });
+  }
+
+  ngOnDestroy(): void {
+    this.subscription?.unsubscribe();
+  }
+
+  onCriteriosChange(): void {
+    this.pagina = 0;
+    this.emitir();
+  }
+
+  irAPagina(pagina: number): void {
+    this.pagina = pagina;
+    this.emitir();
+  }
+
+  private emitir(): void {
+    this.criterios$.next({ q: this.consulta.trim(), tipo: this.tipo, pagina: this.pagina });
+  }
+}
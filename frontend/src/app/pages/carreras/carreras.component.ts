@@ -1,11 +1,14 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
+import { Subscription } from 'rxjs';
 import { CommonModule } from '@angular/common';
 import { ReactiveFormsModule, FormBuilder, FormGroup, Validators, FormsModule } from '@angular/forms';
 import { CarreraService } from '../../services/carrera.service';
-import { FacultadService } from '../../services/facultad.service';
+import { PanelService } from '../../services/panel.service';
+import { EventosService } from '../../services/eventos.service';
 import { Carrera } from '../../models/carrera.model';
-import { Facultad } from '../../models/facultad.model';
+import { FacultadResumen, Panel } from '../../models/panel.model';
 import { CarreraRequest } from '../../models/carrera-request.model';
+import { EventoCatalogo } from '../../models/evento.model';
 
 @Component({
   selector: 'app-carreras',
@@ -340,11 +343,11 @@ import { CarreraRequest } from '../../models/carrera-request.model';
     }
   `]
 })
-export class CarrerasComponent implements OnInit {
+export class CarrerasComponent implements OnInit, OnDestroy {
   carreras: Carrera[] = [];
   filteredCarreras: Carrera[] = [];
-  facultades: Facultad[] = [];
-  facultadesActivas: Facultad[] = [];
+  facultades: FacultadResumen[] = [];
+  facultadesActivas: FacultadResumen[] = [];
   
   searchTerm = '';
   statusFilter = 'all';
@@ -363,17 +366,51 @@ export class CarrerasComponent implements OnInit {
   // Form
   carreraForm: FormGroup;
 
+  private eventosSub?: Subscription;
+
   constructor(
     private carreraService: CarreraService,
-    private facultadService: FacultadService,
+    private panelService: PanelService,
+    private eventosService: EventosService,
     private fb: FormBuilder
   ) {
     this.carreraForm = this.createForm();
   }
 
   ngOnInit() {
-    this.loadFacultades();
-    this.loadCarreras();
+    this.loadPanel();
+
+    // Mantener la lista al día con los cambios publicados por la API
+    this.eventosSub = this.eventosService.getCambios().subscribe(evento => {
+      if (evento === 'resincronizar') {
+        this.loadPanel();
+      } else if (evento.recurso === 'CARRERA') {
+        this.applyCambio(evento as EventoCatalogo<Carrera>);
+      } else {
+        this.loadFacultades();
+      }
+    });
+  }
+
+  ngOnDestroy() {
+    this.eventosSub?.unsubscribe();
+  }
+
+  applyCambio(evento: EventoCatalogo<Carrera>) {
+    const index = this.carreras.findIndex(c => c.carreraId === evento.id);
+
+    if (evento.tipo === 'DESACTIVADO') {
+      if (index >= 0) {
+        this.carreras[index] = { ...this.carreras[index], activo: false };
+      }
+    } else if (evento.datos) {
+      if (index >= 0) {
+        this.carreras[index] = evento.datos;
+      } else {
+        this.carreras = [...this.carreras, evento.datos];
+      }
+    }
+    this.applyFilters();
   }
 
   createForm(): FormGroup {
@@ -387,18 +424,49 @@ export class CarrerasComponent implements OnInit {
     });
   }
 
-  loadFacultades() {
-    this.facultadService.getFacultades().subscribe({
-      next: (facultades) => {
-        this.facultades = facultades;
-        this.facultadesActivas = facultades.filter(f => f.activo);
+  // Facultades y carreras en una sola solicitud; lo que no llegue a tiempo se pide aparte
+  loadPanel() {
+    this.loading = true;
+    this.error = '';
+
+    this.panelService.getPanel(true).subscribe({
+      next: (panel) => {
+        this.setFacultades(panel);
+        if (!panel.facultades) {
+          this.loadFacultades();
+        }
+        if (panel.carreras) {
+          this.carreras = panel.carreras;
+          this.applyFilters();
+          this.loading = false;
+        } else {
+          this.loadCarreras();
+        }
       },
+      error: (err) => {
+        this.error = 'Error al cargar las carreras: ' + (err.error?.message || err.message);
+        this.loading = false;
+      }
+    });
+  }
+
+  // Para los desplegables basta el resumen de facultades, sin sus carreras
+  loadFacultades() {
+    this.panelService.getPanel().subscribe({
+      next: (panel) => this.setFacultades(panel),
       error: (err) => {
         console.error('Error al cargar facultades:', err);
       }
     });
   }
 
+  setFacultades(panel: Panel) {
+    if (panel.facultades) {
+      this.facultades = panel.facultades;
+      this.facultadesActivas = panel.facultades.filter(f => f.activo);
+    }
+  }
+
   loadCarreras() {
     this.loading = true;
     this.error = '';
@@ -1,7 +1,10 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
+import { Subscription } from 'rxjs';
 import { CommonModule } from '@angular/common';
 import { ReactiveFormsModule, FormBuilder, FormGroup, Validators, FormsModule } from '@angular/forms';
 import { FacultadService } from '../../services/facultad.service';
+import { EventosService } from '../../services/eventos.service';
+import { EventoCatalogo } from '../../models/evento.model';
 import { Facultad } from '../../models/facultad.model';
 import { FacultadRequest } from '../../models/facultad-request.model';
 
@@ -268,7 +271,7 @@ import { FacultadRequest } from '../../models/facultad-request.model';
     }
   `]
 })
-export class FacultadesComponent implements OnInit {
+export class FacultadesComponent implements OnInit, OnDestroy {
   facultades: Facultad[] = [];
   filteredFacultades: Facultad[] = [];
   searchTerm = '';
@@ -285,8 +288,11 @@ export class FacultadesComponent implements OnInit {
   // Form
   facultadForm: FormGroup;
 
+  private eventosSub?: Subscription;
+
   constructor(
     private facultadService: FacultadService,
+    private eventosService: EventosService,
     private fb: FormBuilder
   ) {
     this.facultadForm = this.createForm();
@@ -294,6 +300,36 @@ export class FacultadesComponent implements OnInit {
 
   ngOnInit() {
     this.loadFacultades();
+
+    // Mantener la lista al día con los cambios publicados por la API
+    this.eventosSub = this.eventosService.getCambios().subscribe(evento => {
+      if (evento === 'resincronizar') {
+        this.loadFacultades();
+      } else if (evento.recurso === 'FACULTAD') {
+        this.applyCambio(evento as EventoCatalogo<Facultad>);
+      }
+    });
+  }
+
+  ngOnDestroy() {
+    this.eventosSub?.unsubscribe();
+  }
+
+  applyCambio(evento: EventoCatalogo<Facultad>) {
+    const index = this.facultades.findIndex(f => f.facultadId === evento.id);
+
+    if (evento.tipo === 'DESACTIVADO') {
+      if (index >= 0) {
+        this.facultades[index] = { ...this.facultades[index], activo: false };
+      }
+    } else if (evento.datos) {
+      if (index >= 0) {
+        this.facultades[index] = evento.datos;
+      } else {
+        this.facultades = [...this.facultades, evento.datos];
+      }
+    }
+    this.applyFilters();
   }
 
   createForm(): FormGroup {
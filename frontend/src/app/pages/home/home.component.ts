@@ -1,6 +1,7 @@
-import { Component } from '@angular/core';
+import { Component, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { RouterLink } from '@angular/router';
+import { PanelService } from '../../services/panel.service';
 
 @Component({
   selector: 'app-home',
@@ -78,28 +79,28 @@ import { RouterLink } from '@angular/router';
                     <div class="col-md-3">
                       <div class="p-3">
                         <i class="material-icons text-primary-custom mb-2" style="font-size: 2rem;">business</i>
-                        <h4 class="text-primary-custom">{{stats.facultades}}</h4>
+                        <h4 class="text-primary-custom">{{stats.facultades ?? '—'}}</h4>
                         <p class="text-muted mb-0">Facultades Registradas</p>
                       </div>
                     </div>
                     <div class="col-md-3">
                       <div class="p-3">
                         <i class="material-icons text-success mb-2" style="font-size: 2rem;">check_circle</i>
-                        <h4 class="text-success">{{stats.facultadesActivas}}</h4>
+                        <h4 class="text-success">{{stats.facultadesActivas ?? '—'}}</h4>
                         <p class="text-muted mb-0">Facultades Activas</p>
                       </div>
                     </div>
                     <div class="col-md-3">
                       <div class="p-3">
                         <i class="material-icons text-primary-custom mb-2" style="font-size: 2rem;">book</i>
-                        <h4 class="text-primary-custom">{{stats.carreras}}</h4>
+                        <h4 class="text-primary-custom">{{stats.carreras ?? '—'}}</h4>
                         <p class="text-muted mb-0">Carreras Disponibles</p>
                       </div>
                     </div>
                     <div class="col-md-3">
                       <div class="p-3">
                         <i class="material-icons text-success mb-2" style="font-size: 2rem;">trending_up</i>
-                        <h4 class="text-success">{{stats.carrerasActivas}}</h4>
+                        <h4 class="text-success">{{stats.carrerasActivas ?? '—'}}</h4>
                         <p class="text-muted mb-0">Carreras Activas</p>
                       </div>
                     </div>
@@ -159,15 +160,30 @@ import { RouterLink } from '@angular/router';
     }
   `]
 })
-export class HomeComponent {
-  stats = {
-    facultades: 5,
-    facultadesActivas: 5,
-    carreras: 10,
-    carrerasActivas: 10
-  };
+export class HomeComponent implements OnInit {
+  stats: {
+    facultades?: number;
+    facultadesActivas?: number;
+    carreras?: number;
+    carrerasActivas?: number;
+  } = {};
 
-  constructor() {
-    // Aquí podrías cargar estadísticas reales de la API
+  constructor(private panelService: PanelService) {}
+
+  ngOnInit() {
+    // Los cuatro conteos llegan en una sola solicitud
+    this.panelService.getPanel().subscribe({
+      next: (panel) => {
+        this.stats = {
+          facultades: panel.totalFacultades,
+          facultadesActivas: panel.facultadesActivas,
+          carreras: panel.totalCarreras,
+          carrerasActivas: panel.carrerasActivas
+        };
+      },
+      error: (err) => {
+        console.error('Error al cargar el resumen:', err);
+      }
+    });
   }
 }
\ No newline at end of file
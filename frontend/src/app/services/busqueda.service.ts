@@ -0,0 +1,27 @@
+import { Injectable } from '@angular/core';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { PaginaBusqueda } from '../models/busqueda.model';
+import { TipoRecurso } from '../models/evento.model';
+import { environment } from '../../environments/environment';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class BusquedaService {
+  private readonly apiUrl = `${environment.apiUrl}/buscar`;
+
+  constructor(private http: HttpClient) {}
+
+  // Búsqueda de texto completo en carreras y facultades (resultados por relevancia)
+  buscar(q: string, tipo?: TipoRecurso, pagina = 0, tamanio = 20): Observable<PaginaBusqueda> {
+    let params = new HttpParams()
+      .set('q', q)
+      .set('pagina', pagina.toString())
+      .set('tamanio', tamanio.toString());
+    if (tipo) {
+      params = params.set('tipo', tipo);
+    }
+    return this.http.get<PaginaBusqueda>(this.apiUrl, { params });
+  }
+}
@@ -0,0 +1,35 @@
+import { Injectable, NgZone } from '@angular/core';
+import { Observable, Subject, share } from 'rxjs';
+import { EventoCatalogo } from '../models/evento.model';
+import { environment } from '../../environments/environment';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class EventosService {
+  private readonly apiUrl = `${environment.apiUrl}/eventos`;
+
+  // Un único EventSource compartido por todos los componentes suscritos
+  private readonly cambios$: Observable<EventoCatalogo | 'resincronizar'>;
+
+  constructor(private zone: NgZone) {
+    this.cambios$ = new Observable<EventoCatalogo | 'resincronizar'>(subscriber => {
+      // EventSource reconecta solo y reenvía Last-Event-ID
+      const source = new EventSource(this.apiUrl);
+
+      source.addEventListener('cambio', (event: MessageEvent) => {
+        this.zone.run(() => subscriber.next(JSON.parse(event.data) as EventoCatalogo));
+      });
+      source.addEventListener('resincronizar', () => {
+        this.zone.run(() => subscriber.next('resincronizar'));
+      });
+
+      return () => source.close();
+    }).pipe(share({ resetOnRefCountZero: true }));
+  }
+
+  // Cambios del catálogo; 'resincronizar' indica que hay que recargar los listados
+  getCambios(): Observable<EventoCatalogo | 'resincronizar'> {
+    return this.cambios$;
+  }
+}
@@ -0,0 +1,20 @@
+import { Injectable } from '@angular/core';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { Panel } from '../models/panel.model';
+import { environment } from '../../environments/environment';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class PanelService {
+  private readonly apiUrl = `${environment.apiUrl}/panel`;
+
+  constructor(private http: HttpClient) {}
+
+  // Facultades (resumen), conteos y opcionalmente carreras en una sola solicitud
+  getPanel(incluirCarreras = false): Observable<Panel> {
+    const params = new HttpParams().set('carreras', incluirCarreras.toString());
+    return this.http.get<Panel>(this.apiUrl, { params });
+  }
+}
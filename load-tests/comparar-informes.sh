@@ -0,0 +1,51 @@
+#!/bin/bash
+
+# =============================================
+# Compara dos informes de Gatling (p. ej. de dos commits)
+# Uso: ./comparar-informes.sh <informe-base> <informe-nuevo>
+#      donde cada informe es un directorio target/gatling/<simulacion>-<fecha>
+# =============================================
+
+set -e
+
+if [ $# -ne 2 ]; then
+    echo "Uso: $0 <informe-base> <informe-nuevo>"
+    exit 1
+fi
+
+if ! command -v jq > /dev/null 2>&1; then
+    echo "Se requiere jq para comparar los informes"
+    exit 1
+fi
+
+BASE="$1/js/stats.json"
+NUEVO="$2/js/stats.json"
+
+for f in "$BASE" "$NUEVO"; do
+    if [ ! -f "$f" ]; then
+        echo "No se encontró $f"
+        exit 1
+    fi
+done
+
+# Una fila por petición (y el total): nombre, solicitudes/s, p50, p95, p99, % errores
+resumen() {
+    jq -r '
+        def fila(n; s): [n,
+            (s.meanNumberOfRequestsPerSecond.total | tostring),
+            (s.percentiles1.total | tostring),
+            (s.percentiles3.total | tostring),
+            (s.percentiles4.total | tostring),
+            (if s.numberOfRequests.total == 0 then "0"
+             else (s.numberOfRequests.ko * 10000 / s.numberOfRequests.total | floor / 100 | tostring) end)]
+            | join("\t");
+        fila("TOTAL"; .stats),
+        (.contents[] | fila(.name; .stats))' "$1" | sort
+}
+
+printf "%-40s %21s %21s %21s %21s %17s\n" "Petición" "req/s (base→nuevo)" "p50 ms" "p95 ms" "p99 ms" "% KO"
+join -t $'\t' <(resumen "$BASE") <(resumen "$NUEVO") | \
+    awk -F '\t' '{
+        printf "%-40s %9s → %-9s %9s → %-9s %9s → %-9s %9s → %-9s %7s → %-7s\n",
+            $1, $2, $7, $3, $8, $4, $9, $5, $10, $6, $11
+    }'
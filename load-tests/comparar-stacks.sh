@@ -0,0 +1,72 @@
+#!/bin/bash
+
+# =============================================
+# Compara la pila bloqueante (backend-api, MVC + JDBC) con la reactiva
+# (read-api, WebFlux + R2DBC) con la misma carga de solo lectura, el mismo
+# catálogo y el mismo hardware.
+#
+# Uso: ./comparar-stacks.sh [propiedades Gatling adicionales]
+#      p. ej. ./comparar-stacks.sh -DusuariosConcurrentes=500 -DduracionSegundos=180
+#
+# Variables de entorno:
+#   MVC_URL        URL de backend-api   (por defecto http://localhost:8080)
+#   REACTIVO_URL   URL de read-api      (por defecto http://localhost:8081)
+#   CPUS           Si se indica, limita ambos contenedores a esas CPUs (docker update)
+# =============================================
+
+set -e
+
+MVC_URL="${MVC_URL:-http://localhost:8080}"
+REACTIVO_URL="${REACTIVO_URL:-http://localhost:8081}"
+SIMULACION="com.universidad.loadtest.LecturaSimulation"
+CONTENEDORES="universidad-api universidad-lectura"
+
+cd "$(dirname "$0")"
+
+for url in "$MVC_URL" "$REACTIVO_URL"; do
+    if ! curl -f -s "$url/actuator/health" > /dev/null 2>&1; then
+        echo "No responde $url/actuator/health (¿docker-compose --profile reactivo up -d?)"
+        exit 1
+    fi
+done
+
+# Mismos recursos para ambas pilas
+if [ -n "${CPUS:-}" ]; then
+    echo "Limitando $CONTENEDORES a $CPUS CPUs"
+    docker update --cpus "$CPUS" $CONTENEDORES > /dev/null
+fi
+
+# ejecutar <etiqueta> <url> [propiedades]: deja en INFORME el directorio del informe generado
+ejecutar() {
+    local etiqueta="$1" url="$2"
+    shift 2
+    echo "=== $etiqueta ($url) ==="
+    mvn -B -q gatling:test -Dgatling.simulationClass="$SIMULACION" -DbaseUrl="$url" "$@" \
+        || echo "Aviso: $etiqueta no cumplió las aserciones de la simulación"
+    INFORME=$(ls -td target/gatling/lecturasimulation-* | head -1)
+}
+
+recursos() {
+    if command -v docker > /dev/null 2>&1; then
+        docker stats --no-stream --format "table {{.Name}}\t{{.CPUPerc}}\t{{.MemUsage}}\t{{.PIDs}}" \
+            $CONTENEDORES 2>/dev/null || true
+    fi
+}
+
+# 1. Siembra y calentamiento (JIT y caché de PostgreSQL) a través de la API de escritura;
+#    las dos mediciones parten así del mismo catálogo y de la base de datos caliente
+ejecutar "Calentamiento" "$MVC_URL" -Dsembrar=true -DrampaSegundos=5 -DduracionSegundos=30 -Dp99MaximoMs=60000 "$@"
+ejecutar "Calentamiento reactivo" "$REACTIVO_URL" -Dsembrar=false -DrampaSegundos=5 -DduracionSegundos=30 -Dp99MaximoMs=60000 "$@"
+
+# 2. Mediciones
+ejecutar "Bloqueante (MVC + JDBC)" "$MVC_URL" -Dsembrar=false "$@"
+INFORME_MVC="$INFORME"
+recursos
+
+ejecutar "Reactiva (WebFlux + R2DBC)" "$REACTIVO_URL" -Dsembrar=false "$@"
+INFORME_REACTIVO="$INFORME"
+recursos
+
+echo
+echo "Base: $INFORME_MVC (bloqueante)  →  Nuevo: $INFORME_REACTIVO (reactiva)"
+./comparar-informes.sh "$INFORME_MVC" "$INFORME_REACTIVO"
@@ -0,0 +1,155 @@
+package com.universidad.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Catálogo sobre el que trabajan las simulaciones.
+ * Siembra (opcionalmente) facultades con tamaños sesgados y carreras a través de la propia API,
+ * y después expone claves "calientes" según una distribución de Zipf.
+ */
+final class Catalogo {
+    
+    /**
+     * ID y nombre de un recurso del catálogo.
+     */
+    record Clave(long id, String nombre) {
+    }
+    
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final int CONCURRENCIA_SIEMBRA = 16;
+    
+    private final List<Clave> facultades;
+    private final List<Clave> carreras;
+    private final Zipf zipfFacultades;
+    private final Zipf zipfCarreras;
+    
+    private Catalogo(List<Clave> facultades, List<Clave> carreras, double sesgo) {
+        // Se barajan para que las claves calientes no sean siempre los IDs más bajos
+        Collections.shuffle(facultades);
+        Collections.shuffle(carreras);
+        this.facultades = facultades;
+        this.carreras = carreras;
+        this.zipfFacultades = new Zipf(facultades.size(), sesgo);
+        this.zipfCarreras = new Zipf(carreras.size(), sesgo);
+    }
+    
+    static Catalogo preparar(Configuracion cfg) {
+        HttpClient cliente = HttpClient.newHttpClient();
+        if (cfg.sembrar()) {
+            sembrar(cliente, cfg);
+        }
+        
+        if (!cfg.descubrir()) {
+            // Catálogos muy grandes (generador de datos): se asumen IDs consecutivos sin descargar listados
+            List<Clave> facultades = new ArrayList<>();
+            for (long id = 1; id <= cfg.facultades(); id++) {
+                facultades.add(new Clave(id, null));
+            }
+            List<Clave> carreras = new ArrayList<>();
+            for (long id = 1; id <= cfg.carreras(); id++) {
+                carreras.add(new Clave(id, null));
+            }
+            return new Catalogo(facultades, carreras, cfg.sesgo());
+        }
+        
+        List<Clave> facultades = claves(get(cliente, cfg.baseUrl() + "/api/v1/facultades?soloActivas=true"), "facultadId");
+        List<Clave> carreras = claves(get(cliente, cfg.baseUrl() + "/api/v1/carreras?soloActivas=true"), "carreraId");
+        if (facultades.isEmpty() || carreras.isEmpty()) {
+            throw new IllegalStateException("El catálogo está vacío: ejecute con -Dsembrar=true");
+        }
+        System.out.printf("Catálogo: %d facultades, %d carreras activas%n", facultades.size(), carreras.size());
+        return new Catalogo(facultades, carreras, cfg.sesgo());
+    }
+    
+    Clave facultadCaliente() {
+        return facultades.get(zipfFacultades.siguiente());
+    }
+    
+    Clave carreraCaliente() {
+        return carreras.get(zipfCarreras.siguiente());
+    }
+    
+    private static void sembrar(HttpClient cliente, Configuracion cfg) {
+        long inicio = System.nanoTime();
+        List<Long> facultades = crearEnParalelo(cliente, cfg, cfg.facultades(), i -> """
+                {"nombre":"%s Facultad %d","descripcion":"Facultad sembrada para pruebas de carga",
+                 "ubicacion":"Campus %d","decano":"Decano %d","activo":true}"""
+                .formatted(cfg.prefijo(), i, i % 7, i), "/api/v1/facultades", "facultadId");
+        
+        // Tamaños de facultad sesgados: unas pocas facultades concentran la mayoría de carreras
+        Zipf tamanios = new Zipf(facultades.size(), 1.0);
+        crearEnParalelo(cliente, cfg, cfg.carreras(), i -> """
+                {"nombre":"%s Carrera %d","descripcion":"Carrera sembrada para pruebas de carga número %d",
+                 "duracionSemestres":%d,"tituloOtorgado":"Titulado %d","activo":true,"facultadId":%d}"""
+                .formatted(cfg.prefijo(), i, i, 6 + ThreadLocalRandom.current().nextInt(7), i,
+                        facultades.get(tamanios.siguiente())), "/api/v1/carreras", "carreraId");
+        
+        System.out.printf("Siembra completada: %d facultades, %d carreras en %d ms%n",
+                cfg.facultades(), cfg.carreras(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+    
+    private static List<Long> crearEnParalelo(HttpClient cliente, Configuracion cfg, int total,
+                                              IntFunction<String> cuerpo, String ruta, String campoId) {
+        List<Long> ids = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger siguiente = new AtomicInteger();
+        List<CompletableFuture<Void>> trabajadores = new ArrayList<>();
+        for (int t = 0; t < CONCURRENCIA_SIEMBRA; t++) {
+            trabajadores.add(CompletableFuture.runAsync(() -> {
+                int i;
+                while ((i = siguiente.getAndIncrement()) < total) {
+                    JsonNode creado = post(cliente, cfg.baseUrl() + ruta, cuerpo.apply(i));
+                    ids.add(creado.get(campoId).asLong());
+                }
+            }));
+        }
+        CompletableFuture.allOf(trabajadores.toArray(CompletableFuture[]::new)).join();
+        return new ArrayList<>(ids);
+    }
+    
+    private static List<Clave> claves(JsonNode lista, String campoId) {
+        List<Clave> claves = new ArrayList<>();
+        lista.forEach(nodo -> claves.add(new Clave(nodo.get(campoId).asLong(), nodo.get("nombre").asText())));
+        return claves;
+    }
+    
+    private static JsonNode get(HttpClient cliente, String url) {
+        return enviar(cliente, HttpRequest.newBuilder(URI.create(url)).GET().build(), 200);
+    }
+    
+    private static JsonNode post(HttpClient cliente, String url, String cuerpo) {
+        return enviar(cliente, HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                .build(), 201);
+    }
+    
+    private static JsonNode enviar(HttpClient cliente, HttpRequest request, int estadoEsperado) {
+        try {
+            HttpResponse<String> response = cliente.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != estadoEsperado) {
+                throw new IllegalStateException(request.method() + " " + request.uri()
+                        + " respondió " + response.statusCode() + ": " + response.body());
+            }
+            return JSON.readTree(response.body());
+        } catch (IOException ex) {
+            throw new IllegalStateException("No se pudo contactar la API en " + request.uri(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Siembra interrumpida", ex);
+        }
+    }
+}
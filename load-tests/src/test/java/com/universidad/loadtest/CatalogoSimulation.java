@@ -0,0 +1,144 @@
+package com.universidad.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Carga mixta de lectura/escritura sobre todos los endpoints de CarreraController y FacultadController.
+ * - Modelo abierto: cada usuario virtual ejecuta una operación (la tasa es el throughput objetivo)
+ * - Las claves leídas siguen una distribución de Zipf (claves calientes) configurable con -Dsesgo
+ * - Las escrituras crean sus propios recursos, de modo que el catálogo sembrado se mantiene estable
+ *
+ * Ejemplo: mvn gatling:test -DbaseUrl=http://localhost:8080 -Dtasa=100 -DproporcionEscritura=20
+ */
+public class CatalogoSimulation extends Simulation {
+    
+    private final Configuracion cfg = Configuracion.desdeSistema();
+    private final Catalogo catalogo = Catalogo.preparar(cfg);
+    private final AtomicLong secuencia = new AtomicLong();
+    
+    private final HttpProtocolBuilder protocolo = http
+            .baseUrl(cfg.baseUrl())
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .shareConnections();
+    
+    private final Iterator<Map<String, Object>> claves = Stream.generate(this::siguientesClaves).iterator();
+    
+    // ---------- Lecturas ----------
+    
+    private final ChainBuilder lecturas = randomSwitch().on(
+            percent(30.0).then(exec(http("carreras: por id")
+                    .get("/api/v1/carreras/#{carreraId}").check(status().is(200)))),
+            percent(15.0).then(exec(http("carreras: por nombre")
+                    .get("/api/v1/carreras/buscar/nombre/#{carreraNombre}").check(status().in(200, 404)))),
+            percent(10.0).then(exec(http("facultades: por id")
+                    .get("/api/v1/facultades/#{facultadId}").check(status().is(200)))),
+            percent(5.0).then(exec(http("facultades: por nombre")
+                    .get("/api/v1/facultades/buscar/nombre/#{facultadNombre}").check(status().in(200, 404)))),
+            percent(10.0).then(exec(http("carreras: por facultad (activas)")
+                    .get("/api/v1/carreras/facultad/#{facultadId}?soloActivas=true").check(status().is(200)))),
+            percent(5.0).then(exec(http("carreras: por facultad")
+                    .get("/api/v1/carreras/facultad/#{facultadId}").check(status().is(200)))),
+            percent(5.0).then(exec(http("carreras: por duración")
+                    .get("/api/v1/carreras/buscar/duracion/#{duracion}").check(status().is(200)))),
+            percent(5.0).then(exec(http("facultades: por decano")
+                    .get("/api/v1/facultades/buscar/decano?decano=Decano%20#{decano}").check(status().is(200)))),
+            percent(5.0).then(exec(http("facultades: activas")
+                    .get("/api/v1/facultades?soloActivas=true").check(status().is(200)))),
+            percent(5.0).then(exec(http("carreras: activas")
+                    .get("/api/v1/carreras?soloActivas=true").check(status().is(200)))),
+            percent(3.0).then(exec(http("facultades: todas")
+                    .get("/api/v1/facultades").check(status().is(200)))),
+            percent(2.0).then(exec(http("carreras: todas")
+                    .get("/api/v1/carreras").check(status().is(200))))
+    );
+    
+    // ---------- Escrituras ----------
+    
+    private final ChainBuilder crearCarrera = exec(http("carreras: crear")
+            .post("/api/v1/carreras")
+            .body(StringBody("""
+                    {"nombre":"#{prefijo} Nueva #{sufijo}","descripcion":"Creada por la prueba de carga",
+                     "duracionSemestres":#{duracion},"tituloOtorgado":"Titulado #{sufijo}",
+                     "activo":true,"facultadId":#{facultadId}}"""))
+            .check(status().is(201), jsonPath("$.carreraId").saveAs("nuevaCarreraId")));
+    
+    private final ChainBuilder actualizarCarrera = exec(http("carreras: actualizar")
+            .put("/api/v1/carreras/#{nuevaCarreraId}")
+            .body(StringBody("""
+                    {"nombre":"#{prefijo} Nueva #{sufijo}","descripcion":"Actualizada por la prueba de carga",
+                     "duracionSemestres":#{duracion},"tituloOtorgado":"Titulado #{sufijo}",
+                     "activo":true,"facultadId":#{facultadId}}"""))
+            .check(status().is(200)));
+    
+    private final ChainBuilder eliminarCarrera = exec(http("carreras: eliminar")
+            .delete("/api/v1/carreras/#{nuevaCarreraId}")
+            .check(status().is(204)));
+    
+    private final ChainBuilder cicloFacultad = exec(http("facultades: crear")
+            .post("/api/v1/facultades")
+            .body(StringBody("""
+                    {"nombre":"#{prefijo} Facultad nueva #{sufijo}","descripcion":"Creada por la prueba de carga",
+                     "ubicacion":"Campus LT","decano":"Decano LT","activo":true}"""))
+            .check(status().is(201), jsonPath("$.facultadId").saveAs("nuevaFacultadId")))
+            .exec(http("facultades: actualizar")
+                    .put("/api/v1/facultades/#{nuevaFacultadId}")
+                    .body(StringBody("""
+                            {"nombre":"#{prefijo} Facultad nueva #{sufijo}","descripcion":"Actualizada",
+                             "ubicacion":"Campus LT","decano":"Decano LT","activo":true}"""))
+                    .check(status().is(200)))
+            .exec(http("facultades: eliminar")
+                    .delete("/api/v1/facultades/#{nuevaFacultadId}")
+                    .check(status().is(204)));
+    
+    private final ChainBuilder escrituras = randomSwitch().on(
+            percent(50.0).then(crearCarrera),
+            percent(30.0).then(crearCarrera.exec(actualizarCarrera)),
+            percent(10.0).then(crearCarrera.exec(eliminarCarrera)),
+            percent(10.0).then(cicloFacultad)
+    );
+    
+    private final ScenarioBuilder mixto = scenario("Catálogo mixto")
+            .feed(claves)
+            .randomSwitch().on(
+                    percent(100.0 - cfg.proporcionEscritura()).then(lecturas),
+                    percent(cfg.proporcionEscritura()).then(escrituras));
+    
+    {
+        setUp(mixto.injectOpen(
+                rampUsersPerSec(1).to(cfg.tasa()).during(cfg.rampa()),
+                constantUsersPerSec(cfg.tasa()).during(cfg.duracion())))
+                .protocols(protocolo)
+                .assertions(
+                        global().responseTime().percentile(99.0).lt(cfg.p99MaximoMs()),
+                        global().failedRequests().percent().lt(1.0));
+    }
+    
+    private Map<String, Object> siguientesClaves() {
+        Catalogo.Clave carrera = catalogo.carreraCaliente();
+        Catalogo.Clave facultad = catalogo.facultadCaliente();
+        Map<String, Object> valores = new HashMap<>();
+        valores.put("prefijo", cfg.prefijo());
+        valores.put("sufijo", secuencia.incrementAndGet());
+        valores.put("carreraId", carrera.id());
+        valores.put("carreraNombre", carrera.nombre() != null ? carrera.nombre() : "inexistente");
+        valores.put("facultadId", facultad.id());
+        valores.put("facultadNombre", facultad.nombre() != null ? facultad.nombre() : "inexistente");
+        valores.put("duracion", 6 + ThreadLocalRandom.current().nextInt(7));
+        valores.put("decano", ThreadLocalRandom.current().nextInt(cfg.facultades()));
+        return valores;
+    }
+}
@@ -0,0 +1,61 @@
+package com.universidad.loadtest;
+
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Estampida sobre unas pocas claves: ráfagas de cientos de lecturas simultáneas de la
+ * misma carrera (por ID y por nombre), como cuando se publica una carrera popular.
+ * Útil para medir la coalescencia de lecturas (métricas universidad.lecturas.*).
+ *
+ * Ejemplo: mvn gatling:test -Dgatling.simulationClass=com.universidad.loadtest.ClaveCalienteSimulation
+ *          -Drafaga=500 -Drafagas=10 -Dsesgo=3
+ */
+public class ClaveCalienteSimulation extends Simulation {
+    
+    private final Configuracion cfg = Configuracion.desdeSistema();
+    private final Catalogo catalogo = Catalogo.preparar(cfg);
+    private final int rafaga = Integer.getInteger("rafaga", 300);
+    private final int rafagas = Integer.getInteger("rafagas", 10);
+    
+    private final HttpProtocolBuilder protocolo = http
+            .baseUrl(cfg.baseUrl())
+            .acceptHeader("application/json");
+    
+    private final Iterator<Map<String, Object>> claves = Stream.generate(() -> {
+        Catalogo.Clave carrera = catalogo.carreraCaliente();
+        return Map.<String, Object>of("carreraId", carrera.id(),
+                "carreraNombre", carrera.nombre() != null ? carrera.nombre() : "inexistente");
+    }).iterator();
+    
+    private final ScenarioBuilder estampida = scenario("Clave caliente")
+            .feed(claves)
+            .randomSwitch().on(
+                    percent(70.0).then(exec(http("carreras: por id (caliente)")
+                            .get("/api/v1/carreras/#{carreraId}").check(status().is(200)))),
+                    percent(30.0).then(exec(http("carreras: por nombre (caliente)")
+                            .get("/api/v1/carreras/buscar/nombre/#{carreraNombre}").check(status().in(200, 404)))));
+    
+    {
+        // Ráfagas de "rafaga" usuarios simultáneos separadas por pausas de 5 segundos
+        OpenInjectionStep[] pasos = new OpenInjectionStep[rafagas * 2];
+        for (int i = 0; i < rafagas; i++) {
+            pasos[i * 2] = atOnceUsers(rafaga);
+            pasos[i * 2 + 1] = nothingFor(5);
+        }
+        setUp(estampida.injectOpen(pasos))
+                .protocols(protocolo)
+                .assertions(
+                        global().responseTime().percentile(99.0).lt(cfg.p99MaximoMs()),
+                        global().failedRequests().percent().lt(1.0));
+    }
+}
@@ -0,0 +1,51 @@
+package com.universidad.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Parámetros de las simulaciones, leídos de propiedades de sistema (-Dclave=valor).
+ * Los valores por defecto permiten una ejecución corta contra docker-compose local.
+ *
+ * @param baseUrl URL base de la API
+ * @param prefijo Prefijo de los nombres creados, único por ejecución
+ * @param tasa Usuarios nuevos por segundo en la meseta (modelo abierto, una operación por usuario)
+ * @param rampa Duración de la rampa hasta la tasa objetivo
+ * @param duracion Duración de la meseta
+ * @param proporcionEscritura Porcentaje de operaciones de escritura (0-100)
+ * @param sesgo Exponente de Zipf para la selección de claves (0 = uniforme)
+ * @param sembrar Si es true se crea el catálogo antes de la carga
+ * @param facultades Facultades a sembrar
+ * @param carreras Carreras a sembrar
+ * @param descubrir Si es true se leen los IDs existentes de la API; si no, se asumen 1..N
+ * @param p99MaximoMs Aserción sobre el percentil 99 global
+ */
+public record Configuracion(
+        String baseUrl,
+        String prefijo,
+        double tasa,
+        Duration rampa,
+        Duration duracion,
+        double proporcionEscritura,
+        double sesgo,
+        boolean sembrar,
+        int facultades,
+        int carreras,
+        boolean descubrir,
+        int p99MaximoMs) {
+    
+    public static Configuracion desdeSistema() {
+        return new Configuracion(
+                System.getProperty("baseUrl", "http://localhost:8080"),
+                System.getProperty("prefijo", "LT" + Long.toString(System.currentTimeMillis(), 36)),
+                Double.parseDouble(System.getProperty("tasa", "50")),
+                Duration.ofSeconds(Long.getLong("rampaSegundos", 30)),
+                Duration.ofSeconds(Long.getLong("duracionSegundos", 120)),
+                Double.parseDouble(System.getProperty("proporcionEscritura", "10")),
+                Double.parseDouble(System.getProperty("sesgo", "1.1")),
+                Boolean.parseBoolean(System.getProperty("sembrar", "true")),
+                Integer.getInteger("facultades", 50),
+                Integer.getInteger("carreras", 2000),
+                Boolean.parseBoolean(System.getProperty("descubrir", "true")),
+                Integer.getInteger("p99MaximoMs", 1000));
+    }
+}
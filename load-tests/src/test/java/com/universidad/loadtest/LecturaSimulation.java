@@ -0,0 +1,106 @@
+package com.universidad.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Solo lecturas, con las mismas rutas en backend-api (MVC + JDBC) y en read-api (WebFlux + R2DBC),
+ * para comparar ambas pilas con la misma carga y el mismo catálogo.
+ * - Por defecto modelo abierto (-Dtasa usuarios/s, una operación por usuario)
+ * - Con -DusuariosConcurrentes=N modelo cerrado: siempre N solicitudes en vuelo (alto fan-in),
+ *   que es donde el hilo por solicitud de la pila bloqueante se convierte en el límite
+ * - La siembra usa la API de escritura: contra read-api ejecutar con -Dsembrar=false
+ *
+ * Ejemplo: mvn gatling:test -Dgatling.simulationClass=com.universidad.loadtest.LecturaSimulation
+ *          -DbaseUrl=http://localhost:8081 -Dsembrar=false -DusuariosConcurrentes=500
+ */
+public class LecturaSimulation extends Simulation {
+    
+    private final Configuracion cfg = Configuracion.desdeSistema();
+    private final Catalogo catalogo = Catalogo.preparar(cfg);
+    private final int usuariosConcurrentes = Integer.getInteger("usuariosConcurrentes", 0);
+    
+    private final HttpProtocolBuilder protocolo = http
+            .baseUrl(cfg.baseUrl())
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .shareConnections();
+    
+    private final Iterator<Map<String, Object>> claves = Stream.generate(this::siguientesClaves).iterator();
+    
+    private final ChainBuilder lecturas = randomSwitch().on(
+            percent(30.0).then(exec(http("carreras: por id")
+                    .get("/api/v1/carreras/#{carreraId}").check(status().is(200)))),
+            percent(10.0).then(exec(http("carreras: por nombre")
+                    .get("/api/v1/carreras/buscar/nombre/#{carreraNombre}").check(status().in(200, 404)))),
+            percent(10.0).then(exec(http("carreras: varias por id")
+                    .get("/api/v1/carreras?ids=#{carreraIds}").check(status().is(200)))),
+            percent(10.0).then(exec(http("facultades: por id")
+                    .get("/api/v1/facultades/#{facultadId}").check(status().is(200)))),
+            percent(5.0).then(exec(http("facultades: por nombre")
+                    .get("/api/v1/facultades/buscar/nombre/#{facultadNombre}").check(status().in(200, 404)))),
+            percent(10.0).then(exec(http("carreras: por facultad (activas)")
+                    .get("/api/v1/carreras/facultad/#{facultadId}?soloActivas=true").check(status().is(200)))),
+            percent(5.0).then(exec(http("carreras: por duración")
+                    .get("/api/v1/carreras/buscar/duracion/#{duracion}").check(status().is(200)))),
+            percent(5.0).then(exec(http("facultades: por decano")
+                    .get("/api/v1/facultades/buscar/decano?decano=Decano%20#{decano}").check(status().is(200)))),
+            percent(5.0).then(exec(http("facultades: lote")
+                    .post("/api/v1/facultades/lote")
+                    .body(StringBody("{\"ids\":[#{facultadIds}]}")).check(status().is(200)))),
+            percent(5.0).then(exec(http("facultades: activas")
+                    .get("/api/v1/facultades?soloActivas=true").check(status().is(200)))),
+            percent(5.0).then(exec(http("carreras: activas")
+                    .get("/api/v1/carreras?soloActivas=true").check(status().is(200))))
+    );
+    
+    private final ScenarioBuilder lectura = scenario("Catálogo solo lectura")
+            .feed(claves)
+            .exec(lecturas);
+    
+    {
+        PopulationBuilder poblacion = usuariosConcurrentes > 0
+                ? lectura.injectClosed(
+                        rampConcurrentUsers(1).to(usuariosConcurrentes).during(cfg.rampa()),
+                        constantConcurrentUsers(usuariosConcurrentes).during(cfg.duracion()))
+                : lectura.injectOpen(
+                        rampUsersPerSec(1).to(cfg.tasa()).during(cfg.rampa()),
+                        constantUsersPerSec(cfg.tasa()).during(cfg.duracion()));
+        
+        setUp(poblacion)
+                .protocols(protocolo)
+                .assertions(
+                        global().responseTime().percentile(99.0).lt(cfg.p99MaximoMs()),
+                        global().failedRequests().percent().lt(1.0));
+    }
+    
+    private Map<String, Object> siguientesClaves() {
+        Catalogo.Clave carrera = catalogo.carreraCaliente();
+        Catalogo.Clave facultad = catalogo.facultadCaliente();
+        Map<String, Object> valores = new HashMap<>();
+        valores.put("carreraId", carrera.id());
+        valores.put("carreraNombre", carrera.nombre() != null ? carrera.nombre() : "inexistente");
+        valores.put("carreraIds", Stream.generate(catalogo::carreraCaliente).limit(20)
+                .map(clave -> String.valueOf(clave.id())).collect(Collectors.joining(",")));
+        valores.put("facultadId", facultad.id());
+        valores.put("facultadNombre", facultad.nombre() != null ? facultad.nombre() : "inexistente");
+        valores.put("facultadIds", Stream.generate(catalogo::facultadCaliente).limit(10)
+                .map(clave -> String.valueOf(clave.id())).collect(Collectors.joining(",")));
+        valores.put("duracion", 6 + ThreadLocalRandom.current().nextInt(7));
+        valores.put("decano", ThreadLocalRandom.current().nextInt(cfg.facultades()));
+        return valores;
+    }
+}
@@ -0,0 +1,33 @@
+package com.universidad.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Muestreador de rangos con distribución de Zipf: el rango 0 es el más frecuente.
+ * Con exponente 0 la distribución es uniforme.
+ */
+final class Zipf {
+    
+    private final double[] acumulada;
+    
+    Zipf(int elementos, double exponente) {
+        if (elementos <= 0) {
+            throw new IllegalArgumentException("Se necesita al menos un elemento");
+        }
+        acumulada = new double[elementos];
+        double total = 0;
+        for (int i = 0; i < elementos; i++) {
+            total += 1.0 / Math.pow(i + 1, exponente);
+            acumulada[i] = total;
+        }
+        for (int i = 0; i < elementos; i++) {
+            acumulada[i] /= total;
+        }
+    }
+    
+    int siguiente() {
+        int posicion = Arrays.binarySearch(acumulada, ThreadLocalRandom.current().nextDouble());
+        return Math.min(posicion >= 0 ? posicion : -posicion - 1, acumulada.length - 1);
+    }
+}
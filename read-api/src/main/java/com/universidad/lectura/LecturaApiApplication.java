@@ -0,0 +1,17 @@
+package com.universidad.lectura;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * API de lectura reactiva del catálogo universitario.
+ * Sirve los GET de carreras y facultades sobre WebFlux y R2DBC, junto a la API MVC (backend-api),
+ * que sigue siendo la dueña de las escrituras y del esquema (migraciones Flyway).
+ */
+@SpringBootApplication
+public class LecturaApiApplication {
+    
+    public static void main(String[] args) {
+        SpringApplication.run(LecturaApiApplication.class, args);
+    }
+}
@@ -0,0 +1,43 @@
+package com.universidad.lectura.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta para Carrera.
+ * Misma representación JSON que el DTO homónimo de backend-api: los clientes pueden
+ * alternar entre ambas APIs sin cambios.
+ */
+@Schema(description = "Respuesta de Carrera")
+public record CarreraResponseDTO(
+        
+        @Schema(description = "ID único de la carrera", example = "1")
+        Long carreraId,
+        
+        @Schema(description = "Nombre de la carrera", example = "Ingeniería de Sistemas")
+        String nombre,
+        
+        @Schema(description = "Descripción detallada de la carrera")
+        String descripcion,
+        
+        @Schema(description = "Duración en semestres", example = "10")
+        Integer duracionSemestres,
+        
+        @Schema(description = "Título que otorga la carrera", example = "Ingeniero de Sistemas")
+        String tituloOtorgado,
+        
+        @Schema(description = "Fecha de registro de la carrera", type = "string", example = "2024-01-15 10:30:00")
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime fechaRegistro,
+        
+        @Schema(description = "Estado activo de la carrera", example = "true")
+        Boolean activo,
+        
+        @Schema(description = "ID de la facultad asociada", example = "1")
+        Long facultadId,
+        
+        @Schema(description = "Nombre de la facultad asociada", example = "Facultad de Ingeniería")
+        String nombreFacultad) {
+}
@@ -0,0 +1,40 @@
+package com.universidad.lectura.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta para Facultad.
+ * Misma representación JSON que el DTO homónimo de backend-api, carreras incluidas.
+ */
+@Schema(description = "Respuesta de Facultad")
+public record FacultadResponseDTO(
+        
+        @Schema(description = "ID único de la facultad", example = "1")
+        Long facultadId,
+        
+        @Schema(description = "Nombre de la facultad", example = "Facultad de Ingeniería")
+        String nombre,
+        
+        @Schema(description = "Descripción detallada de la facultad")
+        String descripcion,
+        
+        @Schema(description = "Ubicación física de la facultad", example = "Edificio Central, Piso 3")
+        String ubicacion,
+        
+        @Schema(description = "Nombre del decano actual", example = "Dr. Juan Pérez")
+        String decano,
+        
+        @Schema(description = "Fecha de registro de la facultad", type = "string", example = "2024-01-15 10:30:00")
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime fechaRegistro,
+        
+        @Schema(description = "Estado activo de la facultad", example = "true")
+        Boolean activo,
+        
+        @Schema(description = "Lista de carreras asociadas a la facultad")
+        List<CarreraResponseDTO> carreras) {
+}
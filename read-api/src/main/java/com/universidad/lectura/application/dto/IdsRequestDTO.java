@@ -0,0 +1,27 @@
+package com.universidad.lectura.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO de solicitud para obtener varios recursos por ID en una sola llamada.
+ * Mismos límites que en backend-api.
+ */
+@Schema(description = "Solicitud de obtención múltiple por ID")
+public record IdsRequestDTO(
+        
+        @NotEmpty(message = "Debe indicar al menos un ID")
+        @Size(max = IdsRequestDTO.MAXIMO_IDS, message = "No se pueden solicitar más de " + IdsRequestDTO.MAXIMO_IDS + " IDs")
+        @Schema(description = "IDs solicitados; la respuesta respeta este orden", example = "[3, 1, 2]", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<@NotNull(message = "Los IDs no pueden ser nulos") Long> ids) {
+    
+    /** Máximo de IDs por solicitud en el cuerpo (POST). */
+    public static final int MAXIMO_IDS = 1000;
+    
+    /** Máximo de IDs por solicitud en la URL (GET), limitado por la longitud de la URL. */
+    public static final int MAXIMO_IDS_URL = 100;
+}
@@ -0,0 +1,20 @@
+package com.universidad.lectura.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para obtenciones múltiples por ID.
+ * Los recursos encontrados se devuelven en el orden solicitado y los IDs inexistentes
+ * se informan aparte, sin que la solicitud falle.
+ */
+@Schema(description = "Resultado de una obtención múltiple por ID")
+public record ResultadoMultipleDTO<T>(
+        
+        @Schema(description = "Recursos encontrados, en el orden de los IDs solicitados")
+        List<T> encontrados,
+        
+        @Schema(description = "IDs solicitados que no existen", example = "[99]")
+        List<Long> noEncontrados) {
+}
@@ -0,0 +1,12 @@
+package com.universidad.lectura.application.exceptions;
+
+/**
+ * El recurso solicitado no existe. Se traduce a 404.
+ * Sin traza de pila: es un resultado esperado de la consulta, no un fallo.
+ */
+public class RecursoNoEncontradoException extends RuntimeException {
+    
+    public RecursoNoEncontradoException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.universidad.lectura.application.mappers;
+
+import com.universidad.lectura.application.dto.CarreraResponseDTO;
+import com.universidad.lectura.domain.entities.Carrera;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapper de carreras a DTOs de respuesta.
+ */
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface CarreraMapper {
+    
+    CarreraResponseDTO toResponseDTO(Carrera carrera);
+    
+    List<CarreraResponseDTO> toResponseDTOList(Collection<Carrera> carreras);
+}
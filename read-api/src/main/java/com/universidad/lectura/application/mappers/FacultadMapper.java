@@ -0,0 +1,22 @@
+package com.universidad.lectura.application.mappers;
+
+import com.universidad.lectura.application.dto.CarreraResponseDTO;
+import com.universidad.lectura.application.dto.FacultadResponseDTO;
+import com.universidad.lectura.domain.entities.Facultad;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Mapper de facultades a DTOs de respuesta.
+ * Las carreras se cargan aparte (por lotes) y se reciben ya mapeadas.
+ */
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface FacultadMapper {
+    
+    FacultadResponseDTO toResponseDTO(Facultad facultad, List<CarreraResponseDTO> carreras);
+}
@@ -0,0 +1,58 @@
+package com.universidad.lectura.application.services;
+
+import com.universidad.lectura.application.dto.CarreraResponseDTO;
+import com.universidad.lectura.application.dto.ResultadoMultipleDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Interfaz del servicio reactivo de lectura de carreras.
+ * Sigue el principio ISP (Interface Segregation Principle) y DIP (Dependency Inversion Principle).
+ */
+public interface CarreraService {
+    
+    /**
+     * Obtiene las carreras en flujo.
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @return Flujo de carreras ordenadas por ID
+     */
+    Flux<CarreraResponseDTO> obtenerTodas(boolean soloActivas);
+    
+    /**
+     * Obtiene una carrera por ID.
+     * @param id ID de la carrera
+     * @return Carrera encontrada; error RecursoNoEncontradoException si no existe
+     */
+    Mono<CarreraResponseDTO> obtenerPorId(Long id);
+    
+    /**
+     * Obtiene varias carreras por ID con una sola consulta.
+     * @param ids IDs solicitados (los duplicados se ignoran)
+     * @return Carreras encontradas en el orden solicitado e IDs inexistentes
+     */
+    Mono<ResultadoMultipleDTO<CarreraResponseDTO>> obtenerPorIds(List<Long> ids);
+    
+    /**
+     * Obtiene las carreras de una facultad.
+     * @param facultadId ID de la facultad
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @return Flujo de carreras; error RecursoNoEncontradoException si la facultad no existe
+     */
+    Flux<CarreraResponseDTO> obtenerPorFacultad(Long facultadId, boolean soloActivas);
+    
+    /**
+     * Busca una carrera por nombre.
+     * @param nombre Nombre a buscar
+     * @return Carrera encontrada; error RecursoNoEncontradoException si no existe
+     */
+    Mono<CarreraResponseDTO> buscarPorNombre(String nombre);
+    
+    /**
+     * Busca carreras por duración en semestres.
+     * @param duracion Duración en semestres
+     * @return Flujo de carreras con esa duración
+     */
+    Flux<CarreraResponseDTO> buscarPorDuracion(Integer duracion);
+}
@@ -0,0 +1,50 @@
+package com.universidad.lectura.application.services;
+
+import com.universidad.lectura.application.dto.FacultadResponseDTO;
+import com.universidad.lectura.application.dto.ResultadoMultipleDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Interfaz del servicio reactivo de lectura de facultades.
+ * Sigue el principio ISP (Interface Segregation Principle) y DIP (Dependency Inversion Principle).
+ */
+public interface FacultadService {
+    
+    /**
+     * Obtiene las facultades con sus carreras, en flujo.
+     * @param soloActivas Si es true solo se devuelven facultades activas
+     * @return Flujo de facultades ordenadas por ID
+     */
+    Flux<FacultadResponseDTO> obtenerTodas(boolean soloActivas);
+    
+    /**
+     * Obtiene una facultad por ID.
+     * @param id ID de la facultad
+     * @return Facultad con sus carreras; error RecursoNoEncontradoException si no existe
+     */
+    Mono<FacultadResponseDTO> obtenerPorId(Long id);
+    
+    /**
+     * Obtiene varias facultades por ID con una consulta para facultades y otra para carreras.
+     * @param ids IDs solicitados (los duplicados se ignoran)
+     * @return Facultades encontradas en el orden solicitado e IDs inexistentes
+     */
+    Mono<ResultadoMultipleDTO<FacultadResponseDTO>> obtenerPorIds(List<Long> ids);
+    
+    /**
+     * Busca una facultad por nombre.
+     * @param nombre Nombre a buscar
+     * @return Facultad encontrada; error RecursoNoEncontradoException si no existe
+     */
+    Mono<FacultadResponseDTO> buscarPorNombre(String nombre);
+    
+    /**
+     * Busca facultades por decano.
+     * @param decano Nombre (o parte) del decano
+     * @return Flujo de facultades
+     */
+    Flux<FacultadResponseDTO> buscarPorDecano(String decano);
+}
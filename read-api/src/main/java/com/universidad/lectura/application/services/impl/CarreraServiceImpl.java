@@ -0,0 +1,97 @@
+package com.universidad.lectura.application.services.impl;
+
+import com.universidad.lectura.application.dto.CarreraResponseDTO;
+import com.universidad.lectura.application.dto.ResultadoMultipleDTO;
+import com.universidad.lectura.application.exceptions.RecursoNoEncontradoException;
+import com.universidad.lectura.application.mappers.CarreraMapper;
+import com.universidad.lectura.application.services.CarreraService;
+import com.universidad.lectura.domain.entities.Carrera;
+import com.universidad.lectura.domain.repositories.CarreraRepository;
+import com.universidad.lectura.domain.repositories.FacultadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación reactiva del servicio de lectura de carreras.
+ * Ninguna operación bloquea: los hilos del event loop solo esperan E/S de forma asíncrona.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CarreraServiceImpl implements CarreraService {
+    
+    private final CarreraRepository carreraRepository;
+    private final FacultadRepository facultadRepository;
+    private final CarreraMapper carreraMapper;
+    
+    @Override
+    public Flux<CarreraResponseDTO> obtenerTodas(boolean soloActivas) {
+        return carreraRepository.findAll(soloActivas).map(carreraMapper::toResponseDTO);
+    }
+    
+    @Override
+    public Mono<CarreraResponseDTO> obtenerPorId(Long id) {
+        return carreraRepository.findById(id)
+                .map(carreraMapper::toResponseDTO)
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException(
+                        "No se encontró carrera con ID: " + id)));
+    }
+    
+    @Override
+    public Mono<ResultadoMultipleDTO<CarreraResponseDTO>> obtenerPorIds(List<Long> ids) {
+        Set<Long> solicitados = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        
+        // Una sola consulta para todos los IDs; el orden se reconstruye a partir de la solicitud
+        return carreraRepository.findAllByIdAny(solicitados)
+                .collectMap(Carrera::carreraId)
+                .map(carreras -> {
+                    List<CarreraResponseDTO> encontradas = new ArrayList<>(carreras.size());
+                    List<Long> noEncontradas = new ArrayList<>();
+                    for (Long id : solicitados) {
+                        Carrera carrera = carreras.get(id);
+                        if (carrera != null) {
+                            encontradas.add(carreraMapper.toResponseDTO(carrera));
+                        } else {
+                            noEncontradas.add(id);
+                        }
+                    }
+                    return new ResultadoMultipleDTO<>(encontradas, noEncontradas);
+                });
+    }
+    
+    @Override
+    public Flux<CarreraResponseDTO> obtenerPorFacultad(Long facultadId, boolean soloActivas) {
+        // La existencia se comprueba antes de emitir: el 404 llega antes del primer elemento
+        return facultadRepository.existsById(facultadId)
+                .flatMapMany(existe -> existe
+                        ? carreraRepository.findByFacultadId(facultadId, soloActivas)
+                        : Flux.<Carrera>error(new RecursoNoEncontradoException(
+                                "No se encontró facultad con ID: " + facultadId)))
+                .map(carreraMapper::toResponseDTO);
+    }
+    
+    @Override
+    public Mono<CarreraResponseDTO> buscarPorNombre(String nombre) {
+        return carreraRepository.findByNombreIgnoreCase(nombre)
+                .map(carreraMapper::toResponseDTO)
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException(
+                        "No se encontró carrera con nombre: " + nombre)));
+    }
+    
+    @Override
+    public Flux<CarreraResponseDTO> buscarPorDuracion(Integer duracion) {
+        return carreraRepository.findByDuracionSemestres(duracion).map(carreraMapper::toResponseDTO);
+    }
+}
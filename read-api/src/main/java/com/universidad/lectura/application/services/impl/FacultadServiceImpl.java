@@ -0,0 +1,126 @@
+package com.universidad.lectura.application.services.impl;
+
+import com.universidad.lectura.application.dto.FacultadResponseDTO;
+import com.universidad.lectura.application.dto.ResultadoMultipleDTO;
+import com.universidad.lectura.application.exceptions.RecursoNoEncontradoException;
+import com.universidad.lectura.application.mappers.CarreraMapper;
+import com.universidad.lectura.application.mappers.FacultadMapper;
+import com.universidad.lectura.application.services.FacultadService;
+import com.universidad.lectura.domain.entities.Carrera;
+import com.universidad.lectura.domain.entities.Facultad;
+import com.universidad.lectura.domain.repositories.CarreraRepository;
+import com.universidad.lectura.domain.repositories.FacultadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación reactiva del servicio de lectura de facultades.
+ * Las carreras de las facultades se cargan por lotes: el flujo de facultades se agrupa en
+ * bloques de tamanio-lote y cada bloque resuelve sus carreras con una sola consulta.
+ * concatMap procesa un bloque cada vez, así que la demanda del cliente sigue regulando
+ * cuántas filas se piden a la base de datos.
+ */
+@Slf4j
+@Service
+public class FacultadServiceImpl implements FacultadService {
+    
+    private final FacultadRepository facultadRepository;
+    private final CarreraRepository carreraRepository;
+    private final FacultadMapper facultadMapper;
+    private final CarreraMapper carreraMapper;
+    private final int tamanioLote;
+    
+    public FacultadServiceImpl(FacultadRepository facultadRepository,
+                               CarreraRepository carreraRepository,
+                               FacultadMapper facultadMapper,
+                               CarreraMapper carreraMapper,
+                               @Value("${universidad.lectura.tamanio-lote:50}") int tamanioLote) {
+        this.facultadRepository = facultadRepository;
+        this.carreraRepository = carreraRepository;
+        this.facultadMapper = facultadMapper;
+        this.carreraMapper = carreraMapper;
+        this.tamanioLote = tamanioLote;
+    }
+    
+    @Override
+    public Flux<FacultadResponseDTO> obtenerTodas(boolean soloActivas) {
+        return conCarreras(facultadRepository.findAll(soloActivas));
+    }
+    
+    @Override
+    public Mono<FacultadResponseDTO> obtenerPorId(Long id) {
+        return conCarreras(facultadRepository.findById(id).flux())
+                .next()
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException(
+                        "No se encontró facultad con ID: " + id)));
+    }
+    
+    @Override
+    public Mono<ResultadoMultipleDTO<FacultadResponseDTO>> obtenerPorIds(List<Long> ids) {
+        Set<Long> solicitados = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        
+        return conCarreras(facultadRepository.findAllByIdAny(solicitados))
+                .collectMap(FacultadResponseDTO::facultadId)
+                .map(facultades -> {
+                    List<FacultadResponseDTO> encontradas = new ArrayList<>(facultades.size());
+                    List<Long> noEncontradas = new ArrayList<>();
+                    for (Long id : solicitados) {
+                        FacultadResponseDTO facultad = facultades.get(id);
+                        if (facultad != null) {
+                            encontradas.add(facultad);
+                        } else {
+                            noEncontradas.add(id);
+                        }
+                    }
+                    return new ResultadoMultipleDTO<>(encontradas, noEncontradas);
+                });
+    }
+    
+    @Override
+    public Mono<FacultadResponseDTO> buscarPorNombre(String nombre) {
+        return conCarreras(facultadRepository.findByNombreIgnoreCase(nombre).flux())
+                .next()
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException(
+                        "No se encontró facultad con nombre: " + nombre)));
+    }
+    
+    @Override
+    public Flux<FacultadResponseDTO> buscarPorDecano(String decano) {
+        return conCarreras(facultadRepository.findByDecanoContainingIgnoreCase(decano));
+    }
+    
+    /**
+     * Completa cada facultad con sus carreras: una consulta de carreras por bloque de facultades.
+     */
+    private Flux<FacultadResponseDTO> conCarreras(Flux<Facultad> facultades) {
+        return facultades
+                .buffer(tamanioLote)
+                .concatMap(lote -> carreraRepository.findAllByFacultadIdAny(
+                                lote.stream().map(Facultad::facultadId).toList())
+                        .collectMultimap(Carrera::facultadId)
+                        .flatMapIterable(carreras -> componer(lote, carreras)));
+    }
+    
+    private List<FacultadResponseDTO> componer(List<Facultad> lote, Map<Long, Collection<Carrera>> carreras) {
+        List<FacultadResponseDTO> resultado = new ArrayList<>(lote.size());
+        for (Facultad facultad : lote) {
+            resultado.add(facultadMapper.toResponseDTO(facultad,
+                    carreraMapper.toResponseDTOList(carreras.getOrDefault(facultad.facultadId(), List.of()))));
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,19 @@
+package com.universidad.lectura.domain.entities;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de la tabla carrera (modelo de lectura inmutable).
+ * El nombre de la facultad se resuelve con un JOIN en la misma consulta.
+ */
+public record Carrera(
+        Long carreraId,
+        String nombre,
+        String descripcion,
+        Integer duracionSemestres,
+        String tituloOtorgado,
+        LocalDateTime fechaRegistro,
+        Boolean activo,
+        Long facultadId,
+        String nombreFacultad) {
+}
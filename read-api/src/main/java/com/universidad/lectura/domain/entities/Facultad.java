@@ -0,0 +1,17 @@
+package com.universidad.lectura.domain.entities;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de la tabla facultad (modelo de lectura inmutable).
+ * El esquema lo gestiona backend-api; este módulo solo lo consulta.
+ */
+public record Facultad(
+        Long facultadId,
+        String nombre,
+        String descripcion,
+        String ubicacion,
+        String decano,
+        LocalDateTime fechaRegistro,
+        Boolean activo) {
+}
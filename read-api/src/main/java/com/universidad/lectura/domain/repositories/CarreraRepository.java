@@ -0,0 +1,64 @@
+package com.universidad.lectura.domain.repositories;
+
+import com.universidad.lectura.domain.entities.Carrera;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Repositorio reactivo de solo lectura para carreras.
+ * Los Flux se emiten bajo demanda: la base de datos entrega filas a medida que el suscriptor las pide.
+ */
+public interface CarreraRepository {
+    
+    /**
+     * Lista carreras ordenadas por ID.
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @return Flujo de carreras
+     */
+    Flux<Carrera> findAll(boolean soloActivas);
+    
+    /**
+     * Busca una carrera por ID.
+     * @param id ID de la carrera
+     * @return Carrera encontrada o vacío
+     */
+    Mono<Carrera> findById(Long id);
+    
+    /**
+     * Busca carreras por ID en una sola consulta (= ANY(array)).
+     * @param ids IDs a buscar
+     * @return Carreras encontradas, sin orden garantizado
+     */
+    Flux<Carrera> findAllByIdAny(Collection<Long> ids);
+    
+    /**
+     * Lista las carreras de una facultad ordenadas por ID.
+     * @param facultadId ID de la facultad
+     * @param soloActivas Si es true solo se devuelven carreras activas
+     * @return Flujo de carreras
+     */
+    Flux<Carrera> findByFacultadId(Long facultadId, boolean soloActivas);
+    
+    /**
+     * Lista las carreras de varias facultades en una sola consulta (= ANY(array)).
+     * @param facultadIds IDs de facultad
+     * @return Carreras de esas facultades ordenadas por ID
+     */
+    Flux<Carrera> findAllByFacultadIdAny(Collection<Long> facultadIds);
+    
+    /**
+     * Busca una carrera por nombre (case-insensitive).
+     * @param nombre Nombre de la carrera
+     * @return Carrera encontrada o vacío
+     */
+    Mono<Carrera> findByNombreIgnoreCase(String nombre);
+    
+    /**
+     * Busca carreras por duración en semestres.
+     * @param duracionSemestres Duración en semestres
+     * @return Flujo de carreras
+     */
+    Flux<Carrera> findByDuracionSemestres(Integer duracionSemestres);
+}
@@ -0,0 +1,56 @@
+package com.universidad.lectura.domain.repositories;
+
+import com.universidad.lectura.domain.entities.Facultad;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Repositorio reactivo de solo lectura para facultades.
+ * Los Flux se emiten bajo demanda: la base de datos entrega filas a medida que el suscriptor las pide.
+ */
+public interface FacultadRepository {
+    
+    /**
+     * Lista facultades ordenadas por ID.
+     * @param soloActivas Si es true solo se devuelven facultades activas
+     * @return Flujo de facultades
+     */
+    Flux<Facultad> findAll(boolean soloActivas);
+    
+    /**
+     * Busca una facultad por ID.
+     * @param id ID de la facultad
+     * @return Facultad encontrada o vacío
+     */
+    Mono<Facultad> findById(Long id);
+    
+    /**
+     * Verifica si existe una facultad.
+     * @param id ID de la facultad
+     * @return true si existe
+     */
+    Mono<Boolean> existsById(Long id);
+    
+    /**
+     * Busca facultades por ID en una sola consulta (= ANY(array)).
+     * @param ids IDs a buscar
+     * @return Facultades encontradas, sin orden garantizado
+     */
+    Flux<Facultad> findAllByIdAny(Collection<Long> ids);
+    
+    /**
+     * Busca una facultad por nombre (case-insensitive).
+     * @param nombre Nombre de la facultad
+     * @return Facultad encontrada o vacío
+     */
+    Mono<Facultad> findByNombreIgnoreCase(String nombre);
+    
+    /**
+     * Busca facultades cuyo decano contenga el texto dado (case-insensitive).
+     * @param decano Texto a buscar
+     * @return Flujo de facultades
+     */
+    Flux<Facultad> findByDecanoContainingIgnoreCase(String decano);
+}
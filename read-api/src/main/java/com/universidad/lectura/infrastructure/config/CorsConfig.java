@@ -0,0 +1,30 @@
+package com.universidad.lectura.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+/**
+ * Configuración CORS equivalente a la de backend-api (cualquier origen, solo lectura).
+ */
+@Configuration
+public class CorsConfig {
+    
+    @Bean
+    public CorsWebFilter corsWebFilter() {
+        CorsConfiguration configuracion = new CorsConfiguration();
+        configuracion.setAllowedOriginPatterns(List.of("*"));
+        configuracion.setAllowedMethods(List.of("GET", "POST", "OPTIONS"));
+        configuracion.setAllowedHeaders(List.of("*"));
+        configuracion.setExposedHeaders(List.of("Retry-After"));
+        configuracion.setMaxAge(3600L);
+        
+        UrlBasedCorsConfigurationSource fuente = new UrlBasedCorsConfigurationSource();
+        fuente.registerCorsConfiguration("/**", configuracion);
+        return new CorsWebFilter(fuente);
+    }
+}
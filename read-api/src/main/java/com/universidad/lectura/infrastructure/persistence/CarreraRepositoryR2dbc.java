@@ -0,0 +1,113 @@
+package com.universidad.lectura.infrastructure.persistence;
+
+import com.universidad.lectura.domain.entities.Carrera;
+import com.universidad.lectura.domain.repositories.CarreraRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Implementación R2DBC del repositorio de carreras (PostgreSQL).
+ * - El nombre de la facultad llega en la misma fila (JOIN), sin consultas adicionales por carrera
+ * - Las consultas de listado fijan un tamaño de fetch para que el driver respete la demanda del suscriptor
+ */
+@Repository
+public class CarreraRepositoryR2dbc implements CarreraRepository {
+    
+    private static final String COLUMNAS = """
+            SELECT c.carrera_id, c.nombre, c.descripcion, c.duracion_semestres, c.titulo_otorgado,
+                   c.fecha_registro, c.activo, c.facultad_id, f.nombre AS nombre_facultad
+            FROM carrera c
+            JOIN facultad f ON f.facultad_id = c.facultad_id
+            """;
+    
+    private final DatabaseClient databaseClient;
+    private final int tamanioFetch;
+    
+    public CarreraRepositoryR2dbc(DatabaseClient databaseClient,
+                                  @Value("${universidad.lectura.tamanio-fetch:250}") int tamanioFetch) {
+        this.databaseClient = databaseClient;
+        this.tamanioFetch = tamanioFetch;
+    }
+    
+    @Override
+    public Flux<Carrera> findAll(boolean soloActivas) {
+        return databaseClient.sql(COLUMNAS + "WHERE (NOT :soloActivas OR c.activo) ORDER BY c.carrera_id")
+                .bind("soloActivas", soloActivas)
+                .filter(statement -> statement.fetchSize(tamanioFetch))
+                .map(CarreraRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    @Override
+    public Mono<Carrera> findById(Long id) {
+        return databaseClient.sql(COLUMNAS + "WHERE c.carrera_id = :id")
+                .bind("id", id)
+                .map(CarreraRepositoryR2dbc::mapear)
+                .one();
+    }
+    
+    @Override
+    public Flux<Carrera> findAllByIdAny(Collection<Long> ids) {
+        return databaseClient.sql(COLUMNAS + "WHERE c.carrera_id = ANY(:ids)")
+                .bind("ids", ids.toArray(Long[]::new))
+                .map(CarreraRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    @Override
+    public Flux<Carrera> findByFacultadId(Long facultadId, boolean soloActivas) {
+        return databaseClient.sql(COLUMNAS
+                        + "WHERE c.facultad_id = :facultadId AND (NOT :soloActivas OR c.activo) ORDER BY c.carrera_id")
+                .bind("facultadId", facultadId)
+                .bind("soloActivas", soloActivas)
+                .filter(statement -> statement.fetchSize(tamanioFetch))
+                .map(CarreraRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    @Override
+    public Flux<Carrera> findAllByFacultadIdAny(Collection<Long> facultadIds) {
+        return databaseClient.sql(COLUMNAS + "WHERE c.facultad_id = ANY(:facultadIds) ORDER BY c.carrera_id")
+                .bind("facultadIds", facultadIds.toArray(Long[]::new))
+                .filter(statement -> statement.fetchSize(tamanioFetch))
+                .map(CarreraRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    @Override
+    public Mono<Carrera> findByNombreIgnoreCase(String nombre) {
+        return databaseClient.sql(COLUMNAS + "WHERE UPPER(c.nombre) = UPPER(:nombre)")
+                .bind("nombre", nombre)
+                .map(CarreraRepositoryR2dbc::mapear)
+                .one();
+    }
+    
+    @Override
+    public Flux<Carrera> findByDuracionSemestres(Integer duracionSemestres) {
+        return databaseClient.sql(COLUMNAS + "WHERE c.duracion_semestres = :duracion ORDER BY c.carrera_id")
+                .bind("duracion", duracionSemestres)
+                .filter(statement -> statement.fetchSize(tamanioFetch))
+                .map(CarreraRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    private static Carrera mapear(Readable fila) {
+        return new Carrera(
+                fila.get("carrera_id", Long.class),
+                fila.get("nombre", String.class),
+                fila.get("descripcion", String.class),
+                fila.get("duracion_semestres", Integer.class),
+                fila.get("titulo_otorgado", String.class),
+                fila.get("fecha_registro", LocalDateTime.class),
+                fila.get("activo", Boolean.class),
+                fila.get("facultad_id", Long.class),
+                fila.get("nombre_facultad", String.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.universidad.lectura.infrastructure.persistence;
+
+import com.universidad.lectura.domain.entities.Facultad;
+import com.universidad.lectura.domain.repositories.FacultadRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Implementación R2DBC del repositorio de facultades (PostgreSQL).
+ * - Las consultas de listado fijan un tamaño de fetch: el driver pide filas al servidor por
+ *   bloques según la demanda del suscriptor, en lugar de cargar el resultado completo en memoria
+ * - Las obtenciones múltiples usan = ANY(array) con un solo parámetro
+ */
+@Repository
+public class FacultadRepositoryR2dbc implements FacultadRepository {
+    
+    private static final String COLUMNAS = """
+            SELECT facultad_id, nombre, descripcion, ubicacion, decano, fecha_registro, activo
+            FROM facultad
+            """;
+    
+    private final DatabaseClient databaseClient;
+    private final int tamanioFetch;
+    
+    public FacultadRepositoryR2dbc(DatabaseClient databaseClient,
+                                   @Value("${universidad.lectura.tamanio-fetch:250}") int tamanioFetch) {
+        this.databaseClient = databaseClient;
+        this.tamanioFetch = tamanioFetch;
+    }
+    
+    @Override
+    public Flux<Facultad> findAll(boolean soloActivas) {
+        return databaseClient.sql(COLUMNAS + "WHERE (NOT :soloActivas OR activo) ORDER BY facultad_id")
+                .bind("soloActivas", soloActivas)
+                .filter(statement -> statement.fetchSize(tamanioFetch))
+                .map(FacultadRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    @Override
+    public Mono<Facultad> findById(Long id) {
+        return databaseClient.sql(COLUMNAS + "WHERE facultad_id = :id")
+                .bind("id", id)
+                .map(FacultadRepositoryR2dbc::mapear)
+                .one();
+    }
+    
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM facultad WHERE facultad_id = :id)")
+                .bind("id", id)
+                .map(fila -> fila.get(0, Boolean.class))
+                .one();
+    }
+    
+    @Override
+    public Flux<Facultad> findAllByIdAny(Collection<Long> ids) {
+        return databaseClient.sql(COLUMNAS + "WHERE facultad_id = ANY(:ids)")
+                .bind("ids", ids.toArray(Long[]::new))
+                .map(FacultadRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    @Override
+    public Mono<Facultad> findByNombreIgnoreCase(String nombre) {
+        return databaseClient.sql(COLUMNAS + "WHERE UPPER(nombre) = UPPER(:nombre)")
+                .bind("nombre", nombre)
+                .map(FacultadRepositoryR2dbc::mapear)
+                .one();
+    }
+    
+    @Override
+    public Flux<Facultad> findByDecanoContainingIgnoreCase(String decano) {
+        return databaseClient.sql(COLUMNAS
+                        + "WHERE UPPER(decano) LIKE '%' || UPPER(:decano) || '%' ESCAPE '\\' ORDER BY facultad_id")
+                .bind("decano", Patrones.escaparLike(decano))
+                .filter(statement -> statement.fetchSize(tamanioFetch))
+                .map(FacultadRepositoryR2dbc::mapear)
+                .all();
+    }
+    
+    private static Facultad mapear(Readable fila) {
+        return new Facultad(
+                fila.get("facultad_id", Long.class),
+                fila.get("nombre", String.class),
+                fila.get("descripcion", String.class),
+                fila.get("ubicacion", String.class),
+                fila.get("decano", String.class),
+                fila.get("fecha_registro", LocalDateTime.class),
+                fila.get("activo", Boolean.class));
+    }
+}
@@ -0,0 +1,17 @@
+package com.universidad.lectura.infrastructure.persistence;
+
+/**
+ * Utilidades para construir patrones LIKE a partir de texto del usuario.
+ */
+final class Patrones {
+    
+    private Patrones() {
+    }
+    
+    /**
+     * Escapa los comodines de LIKE para que el texto se busque literalmente (ESCAPE '\').
+     */
+    static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
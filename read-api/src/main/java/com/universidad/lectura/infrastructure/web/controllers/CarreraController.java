@@ -0,0 +1,137 @@
+package com.universidad.lectura.infrastructure.web.controllers;
+
+import com.universidad.lectura.application.dto.CarreraResponseDTO;
+import com.universidad.lectura.application.dto.IdsRequestDTO;
+import com.universidad.lectura.application.dto.ResultadoMultipleDTO;
+import com.universidad.lectura.application.services.CarreraService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Controlador reactivo de lectura para Carreras.
+ * Mismas rutas y respuestas que los GET de CarreraController en backend-api.
+ * Los listados se escriben en flujo: como arreglo JSON (application/json) o un objeto
+ * por línea (application/x-ndjson), y la escritura en el socket regula la lectura de filas.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/carreras")
+@RequiredArgsConstructor
+@Tag(name = "Carreras", description = "Lectura reactiva de carreras")
+public class CarreraController {
+    
+    private final CarreraService carreraService;
+    
+    @Operation(summary = "Obtener carrera por ID", description = "Obtiene una carrera específica por su ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Carrera encontrada"),
+        @ApiResponse(responseCode = "404", description = "Carrera no encontrada")
+    })
+    @GetMapping("/{id}")
+    public Mono<CarreraResponseDTO> obtenerPorId(
+            @Parameter(description = "ID de la carrera")
+            @PathVariable Long id) {
+        
+        log.debug("REST: Obteniendo carrera por ID: {}", id);
+        return carreraService.obtenerPorId(id);
+    }
+    
+    @Operation(summary = "Obtener varias carreras por ID",
+               description = "Resuelve hasta " + IdsRequestDTO.MAXIMO_IDS_URL + " IDs en una sola consulta. "
+                       + "Respeta el orden solicitado e informa los IDs inexistentes sin fallar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Carreras encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @GetMapping(params = "ids")
+    public Mono<ResultadoMultipleDTO<CarreraResponseDTO>> obtenerPorIds(
+            @Parameter(description = "IDs separados por comas", example = "3,1,2")
+            @RequestParam @NotEmpty @Size(max = IdsRequestDTO.MAXIMO_IDS_URL) List<Long> ids) {
+        
+        log.debug("REST: Obteniendo {} carreras por ID", ids.size());
+        return carreraService.obtenerPorIds(ids);
+    }
+    
+    @Operation(summary = "Obtener varias carreras por ID (lote)",
+               description = "Variante POST para conjuntos grandes: hasta " + IdsRequestDTO.MAXIMO_IDS + " IDs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Carreras encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @PostMapping("/lote")
+    public Mono<ResultadoMultipleDTO<CarreraResponseDTO>> obtenerPorIdsLote(
+            @Parameter(description = "IDs solicitados")
+            @Valid @RequestBody IdsRequestDTO requestDTO) {
+        
+        log.debug("REST: Obteniendo {} carreras por ID (lote)", requestDTO.ids().size());
+        return carreraService.obtenerPorIds(requestDTO.ids());
+    }
+    
+    @Operation(summary = "Listar todas las carreras", description = "Obtiene todas las carreras del sistema en flujo")
+    @ApiResponse(responseCode = "200", description = "Flujo de carreras")
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CarreraResponseDTO> obtenerTodas(
+            @Parameter(description = "Filtrar solo carreras activas")
+            @RequestParam(required = false, defaultValue = "false") boolean soloActivas) {
+        
+        log.debug("REST: Obteniendo todas las carreras (soloActivas: {})", soloActivas);
+        return carreraService.obtenerTodas(soloActivas);
+    }
+    
+    @Operation(summary = "Listar carreras por facultad", description = "Obtiene las carreras de una facultad en flujo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Flujo de carreras"),
+        @ApiResponse(responseCode = "404", description = "Facultad no encontrada")
+    })
+    @GetMapping(value = "/facultad/{facultadId}",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CarreraResponseDTO> obtenerPorFacultad(
+            @Parameter(description = "ID de la facultad")
+            @PathVariable Long facultadId,
+            @Parameter(description = "Filtrar solo carreras activas")
+            @RequestParam(required = false, defaultValue = "false") boolean soloActivas) {
+        
+        log.debug("REST: Obteniendo carreras de facultad ID: {} (soloActivas: {})", facultadId, soloActivas);
+        return carreraService.obtenerPorFacultad(facultadId, soloActivas);
+    }
+    
+    @Operation(summary = "Buscar carrera por nombre", description = "Busca una carrera por su nombre exacto")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Carrera encontrada"),
+        @ApiResponse(responseCode = "404", description = "No se encontró carrera con ese nombre")
+    })
+    @GetMapping("/buscar/nombre/{nombre}")
+    public Mono<CarreraResponseDTO> buscarPorNombre(
+            @Parameter(description = "Nombre de la carrera a buscar")
+            @PathVariable String nombre) {
+        
+        log.debug("REST: Buscando carrera por nombre: {}", nombre);
+        return carreraService.buscarPorNombre(nombre);
+    }
+    
+    @Operation(summary = "Buscar carreras por duración", description = "Busca carreras por su duración en semestres")
+    @ApiResponse(responseCode = "200", description = "Flujo de carreras encontradas")
+    @GetMapping(value = "/buscar/duracion/{duracion}",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CarreraResponseDTO> buscarPorDuracion(
+            @Parameter(description = "Duración en semestres")
+            @PathVariable Integer duracion) {
+        
+        log.debug("REST: Buscando carreras por duración: {} semestres", duracion);
+        return carreraService.buscarPorDuracion(duracion);
+    }
+}
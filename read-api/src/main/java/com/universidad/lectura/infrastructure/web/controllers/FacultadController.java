@@ -0,0 +1,119 @@
+package com.universidad.lectura.infrastructure.web.controllers;
+
+import com.universidad.lectura.application.dto.FacultadResponseDTO;
+import com.universidad.lectura.application.dto.IdsRequestDTO;
+import com.universidad.lectura.application.dto.ResultadoMultipleDTO;
+import com.universidad.lectura.application.services.FacultadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Controlador reactivo de lectura para Facultades.
+ * Mismas rutas y respuestas que los GET de FacultadController en backend-api.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/facultades")
+@RequiredArgsConstructor
+@Tag(name = "Facultades", description = "Lectura reactiva de facultades")
+public class FacultadController {
+    
+    private final FacultadService facultadService;
+    
+    @Operation(summary = "Obtener facultad por ID", description = "Obtiene una facultad específica por su ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Facultad encontrada"),
+        @ApiResponse(responseCode = "404", description = "Facultad no encontrada")
+    })
+    @GetMapping("/{id}")
+    public Mono<FacultadResponseDTO> obtenerPorId(
+            @Parameter(description = "ID de la facultad")
+            @PathVariable Long id) {
+        
+        log.debug("REST: Obteniendo facultad por ID: {}", id);
+        return facultadService.obtenerPorId(id);
+    }
+    
+    @Operation(summary = "Obtener varias facultades por ID",
+               description = "Resuelve hasta " + IdsRequestDTO.MAXIMO_IDS_URL + " IDs con una consulta de facultades "
+                       + "y otra de carreras. Respeta el orden solicitado e informa los IDs inexistentes sin fallar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Facultades encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @GetMapping(params = "ids")
+    public Mono<ResultadoMultipleDTO<FacultadResponseDTO>> obtenerPorIds(
+            @Parameter(description = "IDs separados por comas", example = "3,1,2")
+            @RequestParam @NotEmpty @Size(max = IdsRequestDTO.MAXIMO_IDS_URL) List<Long> ids) {
+        
+        log.debug("REST: Obteniendo {} facultades por ID", ids.size());
+        return facultadService.obtenerPorIds(ids);
+    }
+    
+    @Operation(summary = "Obtener varias facultades por ID (lote)",
+               description = "Variante POST para conjuntos grandes: hasta " + IdsRequestDTO.MAXIMO_IDS + " IDs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Facultades encontradas e IDs inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vacía o demasiado larga")
+    })
+    @PostMapping("/lote")
+    public Mono<ResultadoMultipleDTO<FacultadResponseDTO>> obtenerPorIdsLote(
+            @Parameter(description = "IDs solicitados")
+            @Valid @RequestBody IdsRequestDTO requestDTO) {
+        
+        log.debug("REST: Obteniendo {} facultades por ID (lote)", requestDTO.ids().size());
+        return facultadService.obtenerPorIds(requestDTO.ids());
+    }
+    
+    @Operation(summary = "Listar todas las facultades",
+               description = "Obtiene todas las facultades con sus carreras en flujo")
+    @ApiResponse(responseCode = "200", description = "Flujo de facultades")
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<FacultadResponseDTO> obtenerTodas(
+            @Parameter(description = "Filtrar solo facultades activas")
+            @RequestParam(required = false, defaultValue = "false") boolean soloActivas) {
+        
+        log.debug("REST: Obteniendo todas las facultades (soloActivas: {})", soloActivas);
+        return facultadService.obtenerTodas(soloActivas);
+    }
+    
+    @Operation(summary = "Buscar facultad por nombre", description = "Busca una facultad por su nombre exacto")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Facultad encontrada"),
+        @ApiResponse(responseCode = "404", description = "No se encontró facultad con ese nombre")
+    })
+    @GetMapping("/buscar/nombre/{nombre}")
+    public Mono<FacultadResponseDTO> buscarPorNombre(
+            @Parameter(description = "Nombre de la facultad a buscar")
+            @PathVariable String nombre) {
+        
+        log.debug("REST: Buscando facultad por nombre: {}", nombre);
+        return facultadService.buscarPorNombre(nombre);
+    }
+    
+    @Operation(summary = "Buscar facultades por decano", description = "Busca facultades por el nombre del decano")
+    @ApiResponse(responseCode = "200", description = "Flujo de facultades encontradas")
+    @GetMapping(value = "/buscar/decano",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<FacultadResponseDTO> buscarPorDecano(
+            @Parameter(description = "Nombre del decano a buscar")
+            @RequestParam String decano) {
+        
+        log.debug("REST: Buscando facultades por decano: {}", decano);
+        return facultadService.buscarPorDecano(decano);
+    }
+}
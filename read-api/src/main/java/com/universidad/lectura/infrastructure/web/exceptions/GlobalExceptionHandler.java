@@ -0,0 +1,123 @@
+package com.universidad.lectura.infrastructure.web.exceptions;
+
+import com.universidad.lectura.application.exceptions.RecursoNoEncontradoException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Manejador global de excepciones de la API de lectura.
+ * Sigue el principio SRP - manejo centralizado de errores.
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    
+    /**
+     * Maneja errores de validación del cuerpo de la solicitud.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(WebExchangeBindException ex,
+                                                                ServerWebExchange exchange) {
+        log.warn("Error de validación: {}", ex.getMessage());
+        
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = error instanceof FieldError fieldError ? fieldError.getField() : error.getObjectName();
+            errors.put(fieldName, error.getDefaultMessage());
+        });
+        
+        return respuesta(HttpStatus.BAD_REQUEST, "Validation Error", "Datos de entrada inválidos", errors, exchange);
+    }
+    
+    /**
+     * Maneja errores de validación de parámetros de la solicitud (query y path).
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleParameterValidationErrors(HandlerMethodValidationException ex,
+                                                                         ServerWebExchange exchange) {
+        log.warn("Error de validación de parámetros: {}", ex.getMessage());
+        
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach(result -> {
+            String parameterName = result.getMethodParameter().getParameterName();
+            result.getResolvableErrors().forEach(error -> errors.put(parameterName, error.getDefaultMessage()));
+        });
+        
+        return respuesta(HttpStatus.BAD_REQUEST, "Validation Error", "Parámetros de la solicitud inválidos",
+                errors, exchange);
+    }
+    
+    /**
+     * Maneja parámetros ausentes o que no pueden convertirse al tipo esperado (p. ej. un ID no numérico).
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInputError(ServerWebInputException ex, ServerWebExchange exchange) {
+        log.warn("Parámetro inválido: {}", ex.getMessage());
+        return respuesta(HttpStatus.BAD_REQUEST, "Validation Error", ex.getReason(), null, exchange);
+    }
+    
+    /**
+     * Maneja recursos no encontrados.
+     */
+    @ExceptionHandler(RecursoNoEncontradoException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(RecursoNoEncontradoException ex, ServerWebExchange exchange) {
+        log.debug("Recurso no encontrado: {}", ex.getMessage());
+        return respuesta(HttpStatus.NOT_FOUND, "Entity Not Found", ex.getMessage(), null, exchange);
+    }
+    
+    /**
+     * Maneja la falta de conexiones disponibles (pool agotado o base de datos inaccesible).
+     * Se responde 503 con Retry-After en lugar de un 500 genérico.
+     */
+    @ExceptionHandler({DataAccessResourceFailureException.class,
+                       R2dbcTransientResourceException.class, R2dbcNonTransientResourceException.class})
+    public ResponseEntity<ErrorResponse> handleResourceUnavailable(RuntimeException ex, ServerWebExchange exchange) {
+        log.warn("Base de datos no disponible: {}", ex.getMessage());
+        
+        ResponseEntity<ErrorResponse> respuesta = respuesta(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                "El servicio no está disponible temporalmente, reintente más tarde", null, exchange);
+        return ResponseEntity.status(respuesta.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(respuesta.getBody());
+    }
+    
+    /**
+     * Maneja errores generales no contemplados.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGeneralError(Exception ex, ServerWebExchange exchange) {
+        log.error("Error interno del servidor: ", ex);
+        return respuesta(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "Ha ocurrido un error interno en el servidor", null, exchange);
+    }
+    
+    private ResponseEntity<ErrorResponse> respuesta(HttpStatus status, String error, String message,
+                                                    Map<String, String> details, ServerWebExchange exchange) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .details(details)
+                .path(exchange.getRequest().getPath().value())
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
@@ -39,6 +39,8 @@ show_help() {
     echo "Comandos disponibles:"
     echo "  start         Iniciar todos los servicios"
     echo "  start-dev     Iniciar servicios en modo desarrollo (incluye PgAdmin)"
+    echo "  start-native  Iniciar servicios con la imagen nativa (GraalVM) de la API"
+    echo "  start-reactivo Iniciar servicios junto a la API de lectura reactiva (puerto 8081)"
     echo "  stop          Detener todos los servicios"
     echo "  restart       Reiniciar todos los servicios"
     echo "  logs          Mostrar logs de la API"
@@ -49,6 +51,10 @@ show_help() {
     echo "  status        Mostrar estado de los servicios"
     echo "  test          Ejecutar pruebas"
     echo "  health        Verificar health check de la API"
+    echo "  smoke         Ejecutar pruebas de humo contra la API en marcha"
+    echo "  loadtest      Ejecutar pruebas de carga (Gatling) contra la API en marcha"
+    echo "  loadtest-comparar Comparar con carga de solo lectura la API bloqueante y la reactiva"
+    echo "  generar-datos Cargar un catálogo sintético grande en la base (p. ej. --universidad.generador.carreras=2000000)"
     echo "  help          Mostrar esta ayuda"
     echo ""
 }
@@ -84,10 +90,29 @@ start_dev() {
     print_info "PgAdmin en: http://localhost:5050"
 }
 
+# Iniciar servicios con la imagen nativa de la API
+start_native() {
+    print_info "Iniciando servicios con la imagen nativa de la API..."
+    check_docker
+    docker-compose -f docker-compose.yml -f docker-compose.native.yml up -d --build
+    print_success "Servicios iniciados (API nativa)"
+    print_info "API disponible en: http://localhost:8080"
+}
+
+# Iniciar servicios junto a la API de lectura reactiva
+start_reactivo() {
+    print_info "Iniciando servicios con la API de lectura reactiva..."
+    check_docker
+    docker-compose --profile reactivo up -d --build
+    print_success "Servicios iniciados"
+    print_info "API disponible en: http://localhost:8080"
+    print_info "API de lectura reactiva en: http://localhost:8081"
+}
+
 # Detener servicios
 stop_services() {
     print_info "Deteniendo servicios..."
-    docker-compose down
+    docker-compose --profile reactivo down
     print_success "Servicios detenidos"
 }
 
@@ -151,6 +176,40 @@ run_tests() {
     print_success "Pruebas completadas"
 }
 
+# Ejecutar pruebas de humo
+run_smoke_tests() {
+    print_info "Ejecutando pruebas de humo..."
+    check_health > /dev/null
+    backend-api/scripts/smoke-test.sh http://localhost:8080
+    print_success "Pruebas de humo completadas"
+}
+
+# Ejecutar pruebas de carga
+run_load_tests() {
+    print_info "Ejecutando pruebas de carga..."
+    check_health
+    cd load-tests
+    mvn -B gatling:test "$@"
+    print_success "Pruebas de carga completadas. Informes en load-tests/target/gatling"
+}
+
+# Comparar la pila bloqueante con la reactiva
+run_load_comparison() {
+    print_info "Comparando API bloqueante y reactiva con carga de solo lectura..."
+    check_health
+    load-tests/comparar-stacks.sh "$@"
+    print_success "Comparación completada. Informes en load-tests/target/gatling"
+}
+
+# Cargar catálogo sintético de gran volumen (COPY) en la base expuesta en DATABASE_PORT
+generate_data() {
+    print_info "Generando catálogo sintético..."
+    (cd backend-api && \
+        SPRING_DATASOURCE_URL="${SPRING_DATASOURCE_URL:-jdbc:postgresql://localhost:${DATABASE_PORT:-5432}/universidad_db}" \
+        mvn -B -q -Pgenerador test-compile exec:exec -Dgenerador.args="$*")
+    print_success "Catálogo generado"
+}
+
 # Verificar health check
 check_health() {
     print_info "Verificando health check de la API..."
@@ -183,6 +242,12 @@ case "${1:-help}" in
     "start-dev")
         start_dev
         ;;
+    "start-native")
+        start_native
+        ;;
+    "start-reactivo")
+        start_reactivo
+        ;;
     "stop")
         stop_services
         ;;
@@ -213,6 +278,21 @@ case "${1:-help}" in
     "health")
         check_health
         ;;
+    "smoke")
+        run_smoke_tests
+        ;;
+    "loadtest")
+        shift
+        run_load_tests "$@"
+        ;;
+    "loadtest-comparar")
+        shift
+        run_load_comparison "$@"
+        ;;
+    "generar-datos")
+        shift
+        generate_data "$@"
+        ;;
     "help"|*)
         show_help
         ;;